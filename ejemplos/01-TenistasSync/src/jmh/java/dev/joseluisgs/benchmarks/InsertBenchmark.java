@@ -0,0 +1,67 @@
+package dev.joseluisgs.benchmarks;
+
+import dev.joseluisgs.dao.TenistasDao;
+import dev.joseluisgs.fixtures.TenistasFixtures;
+import dev.joseluisgs.models.Tenista;
+import dev.joseluisgs.repository.TenistasRepository;
+import dev.joseluisgs.repository.TenistasRepositoryImpl;
+import org.jdbi.v3.core.Jdbi;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark que compara la importación fila a fila (un INSERT y un commit por tenista)
+ * frente a la importación por lotes de saveAll, insertando 2000 tenistas en H2 en memoria.
+ *
+ * Ejecución: ./gradlew jmh -Pjmh.includes=InsertBenchmark
+ *
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.repository.TenistasRepository#saveAll(List)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InsertBenchmark {
+
+    private static final int FILAS = 2_000;
+
+    private Jdbi jdbi;
+    private TenistasRepository repository;
+    private List<Tenista> tenistas;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        jdbi = TenistasFixtures.crearBaseDeDatos("tenistas-bench-insert");
+        repository = new TenistasRepositoryImpl(jdbi.onDemand(TenistasDao.class));
+
+        tenistas = TenistasFixtures.generarTenistas(FILAS);
+    }
+
+    @Setup(Level.Invocation)
+    public void vaciarTabla() {
+        // Cada invocación parte de la tabla vacía para que las dos versiones inserten en las mismas condiciones
+        jdbi.useHandle(handle -> handle.execute("TRUNCATE TABLE tenistas"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbi.useHandle(handle -> handle.execute("DROP TABLE IF EXISTS tenistas"));
+    }
+
+    @Benchmark
+    public void porFila(Blackhole bh) {
+        for (Tenista tenista : tenistas) {
+            bh.consume(repository.save(tenista));
+        }
+    }
+
+    @Benchmark
+    public void porLotes(Blackhole bh) {
+        bh.consume(repository.saveAll(tenistas));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+package dev.joseluisgs.benchmarks;
+
+import dev.joseluisgs.dao.TenistaEntity;
+import dev.joseluisgs.dao.TenistasDao;
+import dev.joseluisgs.fixtures.TenistasFixtures;
+import dev.joseluisgs.models.Tenista;
+import org.jdbi.v3.core.Jdbi;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark que compara la lectura de páginas profundas con LIMIT/OFFSET frente a la
+ * paginación por clave (keyset) sobre una base de datos H2 en memoria.
+ * Con OFFSET la base de datos recorre y descarta todas las filas anteriores; con keyset
+ * salta directamente a la página por el índice, así que el coste no depende de la profundidad.
+ *
+ * Ejecución: ./gradlew jmh -Pjmh.includes=PaginationBenchmark
+ *
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.dao.TenistasDao#findAll(int, int)
+ * @see dev.joseluisgs.dao.TenistasDao#findPageById(long, int)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PaginationBenchmark {
+
+    private static final int FILAS = 200_000;
+    private static final int LOTE = 5_000;
+
+    // La más profunda es la última página con datos: FILAS / size - 1. Más allá OFFSET devuelve una página vacía
+    @Param({"10", "1000", "9999"})
+    private int pagina;
+
+    @Param({"20"})
+    private int size;
+
+    private Jdbi jdbi;
+    private TenistasDao dao;
+    private long ultimoIdAnterior;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if (pagina >= FILAS / size) {
+            throw new IllegalStateException("La página " + pagina + " está fuera de la tabla: la última es " + (FILAS / size - 1));
+        }
+        jdbi = TenistasFixtures.crearBaseDeDatos("tenistas-bench-pagination");
+        dao = jdbi.onDemand(TenistasDao.class);
+
+        List<TenistaEntity> lote = new ArrayList<>(LOTE);
+        for (int i = 0; i < FILAS; i++) {
+            lote.add(TenistasFixtures.entidad(i));
+            if (lote.size() == LOTE) {
+                dao.saveAll(lote);
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            dao.saveAll(lote);
+        }
+
+        // Clave de la última fila de la página anterior, como la llevaría el token de continuación
+        List<Tenista> anterior = dao.findAll(1, pagina * size - 1);
+        ultimoIdAnterior = anterior.get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbi.useHandle(handle -> handle.execute("DROP TABLE IF EXISTS tenistas"));
+    }
+
+    @Benchmark
+    public List<Tenista> offset() {
+        return dao.findAll(size, pagina * size);
+    }
+
+    @Benchmark
+    public List<Tenista> keyset() {
+        return dao.findPageById(ultimoIdAnterior, size);
+    }
+}
@@ -0,0 +1,92 @@
+package dev.joseluisgs.benchmarks;
+
+import dev.joseluisgs.dao.TenistaEntity;
+import dev.joseluisgs.dao.TenistasDao;
+import dev.joseluisgs.fixtures.TenistasFixtures;
+import dev.joseluisgs.models.ManoStats;
+import dev.joseluisgs.models.Tenista;
+import dev.joseluisgs.repository.TenistasRepository;
+import dev.joseluisgs.repository.TenistasRepositoryImpl;
+import org.jdbi.v3.core.Jdbi;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmark que compara el top 5 de un país y su agrupación por mano calculados en memoria
+ * con streams sobre findAll (como hacía Main) frente a las consultas ORDER BY ... LIMIT y
+ * GROUP BY en la base de datos, con 1 millón de tenistas en H2 en memoria.
+ *
+ * Ejecución: ./gradlew jmh -Pjmh.includes=RankingBenchmark
+ *
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.repository.TenistasRepository#topByPuntos(String, int)
+ * @see dev.joseluisgs.repository.TenistasRepository#statsByMano(String, int)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class RankingBenchmark {
+
+    private static final int FILAS = 1_000_000;
+    private static final int LOTE = 10_000;
+    private static final String[] PAISES = {"España", "Serbia", "Suiza", "Argentina", "Italia", "Rusia", "Alemania", "Grecia"};
+    private static final String PAIS = "España";
+    private static final int TOP = 5;
+
+    private Jdbi jdbi;
+    private TenistasRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        jdbi = TenistasFixtures.crearBaseDeDatos("tenistas-bench-ranking");
+        TenistasDao dao = jdbi.onDemand(TenistasDao.class);
+
+        List<TenistaEntity> lote = new ArrayList<>(LOTE);
+        for (int i = 0; i < FILAS; i++) {
+            TenistaEntity entidad = TenistasFixtures.entidad(i, PAISES);
+            entidad.setPuntos((int) ((i * 2_654_435_761L) % 12_000));
+            lote.add(entidad);
+            if (lote.size() == LOTE) {
+                dao.saveAll(lote);
+                lote.clear();
+            }
+        }
+        repository = new TenistasRepositoryImpl(dao);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbi.useHandle(handle -> handle.execute("DROP TABLE IF EXISTS tenistas"));
+    }
+
+    @Benchmark
+    public void streams(Blackhole bh) {
+        // Versión anterior de Main: toda la tabla viaja a memoria y se ordena y agrupa allí
+        List<Tenista> top = repository.findAll().stream()
+                .filter(t -> t.getPais().equalsIgnoreCase(PAIS))
+                .sorted((t1, t2) -> Integer.compare(t2.getPuntos(), t1.getPuntos()))
+                .limit(TOP)
+                .toList();
+        Map<Tenista.Mano, Double> stats = top.stream()
+                .collect(Collectors.groupingBy(Tenista::getMano, Collectors.averagingInt(Tenista::getPuntos)));
+        bh.consume(top);
+        bh.consume(stats);
+    }
+
+    @Benchmark
+    public void sql(Blackhole bh) {
+        List<Tenista> top = repository.topByPuntos(PAIS, TOP);
+        List<ManoStats> stats = repository.statsByMano(PAIS, TOP);
+        bh.consume(top);
+        bh.consume(stats);
+    }
+}
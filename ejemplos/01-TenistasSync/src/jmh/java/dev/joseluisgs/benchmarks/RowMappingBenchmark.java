@@ -0,0 +1,69 @@
+package dev.joseluisgs.benchmarks;
+
+import dev.joseluisgs.dao.TenistaEntity;
+import dev.joseluisgs.dao.TenistasDao;
+import dev.joseluisgs.fixtures.TenistasFixtures;
+import dev.joseluisgs.mappers.TenistaMapper;
+import dev.joseluisgs.mappers.TenistaRowMapper;
+import dev.joseluisgs.models.Tenista;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.mapper.reflect.ConstructorMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de asignación de memoria por fila al leer la tabla tenistas de H2.
+ * Compara el camino anterior (SELECT *, TenistaEntity por constructor y TenistaMapper.fromEntity con builder
+ * y toUpperCase de la mano) con TenistaRowMapper, que lee las columnas por posición y crea directamente el Tenista.
+ * Cada operación es una fila, así que con el profiler de GC gc.alloc.rate.norm da los bytes por fila.
+ *
+ * Ejecución: ./gradlew jmh -Pjmh.includes=RowMappingBenchmark -Pjmh.profilers=gc
+ * (o java -jar build/libs/*-jmh.jar RowMappingBenchmark -prof gc)
+ *
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.mappers.TenistaRowMapper
+ * @see dev.joseluisgs.mappers.TenistaMapper#fromEntity(TenistaEntity)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(RowMappingBenchmark.FILAS)
+public class RowMappingBenchmark {
+
+    static final int FILAS = 10_000;
+
+    private Jdbi jdbi;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        jdbi = TenistasFixtures.crearBaseDeDatos("tenistas-bench-mapper");
+        jdbi.onDemand(TenistasDao.class).saveAll(TenistasFixtures.generarTenistas(FILAS).stream()
+                .map(TenistaMapper::toEntity)
+                .toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbi.useHandle(handle -> handle.execute("DROP TABLE IF EXISTS tenistas"));
+    }
+
+    @Benchmark
+    public List<Tenista> entidadYMapper() {
+        return jdbi.withHandle(handle -> handle.createQuery("SELECT * FROM tenistas")
+                .registerRowMapper(ConstructorMapper.factory(TenistaEntity.class))
+                .mapTo(TenistaEntity.class)
+                .map(TenistaMapper::fromEntity)
+                .list());
+    }
+
+    @Benchmark
+    public List<Tenista> rowMapper() {
+        return jdbi.withHandle(handle -> handle.createQuery("SELECT " + TenistaRowMapper.COLUMNAS + " FROM tenistas")
+                .map(new TenistaRowMapper())
+                .list());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package dev.joseluisgs.benchmarks;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.joseluisgs.exceptions.TenistaException;
+import dev.joseluisgs.fixtures.TenistasFixtures;
+import dev.joseluisgs.models.Tenista;
+import dev.joseluisgs.storage.TenistasBinaryStorage;
+import dev.joseluisgs.storage.TenistasStorageImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark que compara la carga de una instantánea completa de tenistas exportada en JSON
+ * (leída con Jackson) frente a la misma instantánea en el formato binario .tbin.
+ * El binario lee números de tamaño fijo del fichero mapeado y comparte los países del diccionario,
+ * mientras que el JSON tiene que analizar cada carácter y convertir números y fechas desde texto.
+ *
+ * Ejecución: ./gradlew jmh -Pjmh.includes=SnapshotLoadBenchmark
+ *
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.storage.TenistasBinaryStorage
+ * @see dev.joseluisgs.storage.TenistasStorageImpl#saveData(List, String)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SnapshotLoadBenchmark {
+
+    @Param({"100000"})
+    private int filas;
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final TenistasBinaryStorage binaryStorage = new TenistasBinaryStorage();
+    private JavaType tipoLista;
+    private Path directorio;
+    private Path json;
+    private Path binario;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, TenistaException.StorageException {
+        List<Tenista> tenistas = TenistasFixtures.generarTenistasConId(filas, "España", "Serbia", "Italia", "Suiza", "Rusia");
+        directorio = Files.createTempDirectory("tenistas-bench-snapshot");
+        json = directorio.resolve("tenistas.json");
+        binario = directorio.resolve("tenistas" + TenistasBinaryStorage.EXTENSION);
+        new TenistasStorageImpl().saveData(tenistas, json.toString());
+        binaryStorage.saveData(tenistas, binario.toString());
+        tipoLista = mapper.getTypeFactory().constructCollectionType(List.class, Tenista.class);
+        System.out.printf("%nTamaño -> JSON: %d KiB, binario: %d KiB%n", Files.size(json) / 1024, Files.size(binario) / 1024);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(json);
+        Files.deleteIfExists(binario);
+        Files.deleteIfExists(directorio);
+    }
+
+    @Benchmark
+    public List<Tenista> cargarJson() throws IOException {
+        return mapper.readValue(json.toFile(), tipoLista);
+    }
+
+    @Benchmark
+    public List<Tenista> cargarBinario() throws TenistaException.StorageException {
+        return binaryStorage.loadData(binario.toString());
+    }
+}
\ No newline at end of file
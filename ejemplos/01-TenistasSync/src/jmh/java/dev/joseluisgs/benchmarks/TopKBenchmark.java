@@ -0,0 +1,63 @@
+package dev.joseluisgs.benchmarks;
+
+import dev.joseluisgs.analytics.TopK;
+import dev.joseluisgs.fixtures.TenistasFixtures;
+import dev.joseluisgs.models.Tenista;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark que compara el ranking de los k primeros tenistas con sorted().limit(k),
+ * que ordena todos los elementos (O(n log n) y una copia completa), frente al collector TopK,
+ * que mantiene un montículo acotado de k elementos (O(n log k)) en secuencial y en paralelo.
+ *
+ * Ejecución: ./gradlew jmh -Pjmh.includes=TopKBenchmark
+ *
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.analytics.TopK
+ * @see dev.joseluisgs.service.TenistasService#topK(Comparator, int, java.util.function.Predicate)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TopKBenchmark {
+
+    private static final Comparator<Tenista> POR_PUNTOS = Comparator.comparingInt(Tenista::getPuntos).reversed();
+
+    @Param({"1000000"})
+    private int filas;
+
+    @Param({"10", "1000"})
+    private int k;
+
+    private List<Tenista> tenistas;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        tenistas = TenistasFixtures.generarTenistasConId(filas);
+        for (Tenista tenista : tenistas) {
+            tenista.setPuntos(random.nextInt(100_000));
+        }
+    }
+
+    @Benchmark
+    public List<Tenista> sortedLimit() {
+        return tenistas.stream().sorted(POR_PUNTOS).limit(k).toList();
+    }
+
+    @Benchmark
+    public List<Tenista> topKSecuencial() {
+        return tenistas.stream().collect(TopK.topK(k, POR_PUNTOS));
+    }
+
+    @Benchmark
+    public List<Tenista> topKParalelo() {
+        return tenistas.parallelStream().collect(TopK.topK(k, POR_PUNTOS));
+    }
+}
\ No newline at end of file
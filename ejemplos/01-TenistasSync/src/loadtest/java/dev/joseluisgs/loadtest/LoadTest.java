@@ -0,0 +1,224 @@
+package dev.joseluisgs.loadtest;
+
+import dev.joseluisgs.database.JdbiManager;
+import dev.joseluisgs.exceptions.TenistaException;
+import dev.joseluisgs.models.Tenista;
+import dev.joseluisgs.repository.TenistasRepositoryImpl;
+import dev.joseluisgs.service.TenistasService;
+import dev.joseluisgs.service.TenistasServiceImpl;
+import dev.joseluisgs.storage.TenistasStorageImpl;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prueba de carga de TenistasService: siembra la base de datos, lanza desde N hilos (de plataforma o virtuales)
+ * una mezcla configurable de findById, findAll, save, update y deleteById, y muestra por operación
+ * el rendimiento y los percentiles p50/p95/p99/máximo de la latencia.
+ * <p>
+ * Cada hilo lanza la siguiente operación en cuanto termina la anterior (modelo cerrado), así que las latencias
+ * son las que ve un cliente que espera la respuesta, no las de un ritmo de llegada fijo.
+ * Se usa la misma configuración, pool de conexiones y caché que la aplicación ({@code config.properties}).
+ * <p>
+ * Ejecución: ./gradlew loadTest -Ploadtest.hilos=64 -Ploadtest.virtuales=true -Ploadtest.duracion=60
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.loadtest.LoadTestOptions
+ * @see dev.joseluisgs.loadtest.OperationMetrics
+ */
+public class LoadTest {
+    private static final AtomicLong SECUENCIA = new AtomicLong();
+
+    private final LoadTestOptions options;
+    private final TenistasService service;
+    private final OperationMetrics metrics = new OperationMetrics();
+    // Pesos acumulados de la mezcla, para elegir la operación con un único número aleatorio
+    private final Operacion[] operaciones;
+    private final int[] pesosAcumulados;
+    private List<Long> idsSembrados;
+
+    public LoadTest(LoadTestOptions options, TenistasService service) {
+        this.options = options;
+        this.service = service;
+        List<Operacion> conPeso = options.mezcla().entrySet().stream()
+                .filter(e -> e.getValue() > 0)
+                .map(Map.Entry::getKey)
+                .toList();
+        this.operaciones = conPeso.toArray(Operacion[]::new);
+        this.pesosAcumulados = new int[operaciones.length];
+        int total = 0;
+        for (int i = 0; i < operaciones.length; i++) {
+            total += options.mezcla().get(operaciones[i]);
+            pesosAcumulados[i] = total;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setOut(new PrintStream(System.out, true, StandardCharsets.UTF_8));
+        LoadTestOptions options = LoadTestOptions.fromArgs(args);
+
+        TenistasService service = new TenistasServiceImpl(
+                new TenistasRepositoryImpl(JdbiManager.getInstance().getTenistasDao()), new TenistasStorageImpl());
+        try (service) {
+            LoadTest loadTest = new LoadTest(options, service);
+            loadTest.sembrar();
+            loadTest.ejecutar();
+            loadTest.informe(System.out);
+        }
+        System.out.println("Pool de conexiones: " + JdbiManager.getInstance().getPoolMetrics());
+    }
+
+    /**
+     * Inserta los tenistas de la prueba. Las operaciones de lectura y update usan solo estos ids,
+     * y deleteById solo borra los que ha insertado el propio hilo, así el conjunto sembrado no cambia.
+     */
+    void sembrar() throws TenistaException.ValidationException {
+        List<Tenista> tenistas = new ArrayList<>(options.filas());
+        for (int i = 0; i < options.filas(); i++) {
+            tenistas.add(nuevoTenista());
+        }
+        idsSembrados = service.upsertAll(tenistas).stream().map(Tenista::getId).toList();
+        System.out.printf("Base de datos sembrada con %d tenistas%n", idsSembrados.size());
+    }
+
+    /**
+     * Lanza los hilos durante el calentamiento y la medición. Solo se registran las operaciones
+     * que empiezan después del calentamiento.
+     */
+    void ejecutar() throws Exception {
+        long inicioMedicion = System.nanoTime() + options.calentamiento().toNanos();
+        long fin = inicioMedicion + options.duracion().toNanos();
+        System.out.printf("Lanzando %d hilos %s: %d s de calentamiento y %d s de medición%n",
+                options.hilos(), options.virtuales() ? "virtuales" : "de plataforma",
+                options.calentamiento().toSeconds(), options.duracion().toSeconds());
+
+        try (ExecutorService executor = options.virtuales()
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(options.hilos())) {
+            List<Future<?>> hilos = new ArrayList<>(options.hilos());
+            for (int i = 0; i < options.hilos(); i++) {
+                hilos.add(executor.submit(() -> trabajar(inicioMedicion, fin)));
+            }
+            for (Future<?> hilo : hilos) {
+                hilo.get();
+            }
+        }
+    }
+
+    /**
+     * Bucle de un hilo: elige una operación según la mezcla, la ejecuta y registra su latencia.
+     */
+    private void trabajar(long inicioMedicion, long fin) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Deque<Long> insertados = new ArrayDeque<>();
+        long ahora;
+        while ((ahora = System.nanoTime()) < fin) {
+            Operacion operacion = elegir(random.nextInt(pesosAcumulados[pesosAcumulados.length - 1]));
+            // deleteById necesita un tenista propio; se inserta fuera de la medición
+            if (operacion == Operacion.DELETE_BY_ID && insertados.isEmpty()) {
+                guardar(insertados);
+                ahora = System.nanoTime();
+            }
+            boolean error = false;
+            try {
+                ejecutar(operacion, random, insertados);
+            } catch (TenistaException | RuntimeException e) {
+                error = true;
+            }
+            long nanos = System.nanoTime() - ahora;
+            if (ahora >= inicioMedicion) {
+                metrics.registrar(operacion, nanos, error);
+            }
+        }
+    }
+
+    private Operacion elegir(int valor) {
+        for (int i = 0; i < pesosAcumulados.length; i++) {
+            if (valor < pesosAcumulados[i]) {
+                return operaciones[i];
+            }
+        }
+        return operaciones[operaciones.length - 1];
+    }
+
+    private void ejecutar(Operacion operacion, ThreadLocalRandom random, Deque<Long> insertados) throws TenistaException {
+        switch (operacion) {
+            case FIND_BY_ID -> service.findById(idAleatorio(random));
+            case FIND_ALL -> service.findAll();
+            case SAVE -> guardar(insertados);
+            case UPDATE -> service.updateWithRetry(idAleatorio(random), t -> {
+                t.setPuntos(t.getPuntos() + 1);
+                return t;
+            });
+            case DELETE_BY_ID -> service.deleteById(insertados.pop());
+        }
+    }
+
+    private void guardar(Deque<Long> insertados) {
+        try {
+            insertados.push(service.save(nuevoTenista()).getId());
+        } catch (TenistaException.ValidationException e) {
+            throw new IllegalStateException("El tenista generado para la prueba no es válido", e);
+        }
+    }
+
+    private long idAleatorio(ThreadLocalRandom random) {
+        return idsSembrados.get(random.nextInt(idsSembrados.size()));
+    }
+
+    private static Tenista nuevoTenista() {
+        long n = SECUENCIA.incrementAndGet();
+        return Tenista.builder()
+                .id(Tenista.NEW_TENISTA_ID)
+                .nombre("Jugador Carga " + n)
+                .pais(n % 2 == 0 ? "España" : "Serbia")
+                .altura(170 + (int) (n % 30))
+                .peso(65 + (int) (n % 25))
+                .puntos((int) (n % 10_000))
+                .mano(n % 3 == 0 ? Tenista.Mano.ZURDO : Tenista.Mano.DIESTRO)
+                .fechaNacimiento(LocalDate.of(1980, 1, 1).plusDays(n % 10_000))
+                .build();
+    }
+
+    /**
+     * Muestra el rendimiento y los percentiles de latencia de cada operación en milisegundos.
+     *
+     * @param out Salida
+     */
+    void informe(PrintStream out) {
+        double segundos = options.duracion().toNanos() / 1e9;
+        out.printf("%-12s %10s %8s %12s %10s %10s %10s %10s%n",
+                "Operación", "Ops", "Errores", "Ops/s", "p50 ms", "p95 ms", "p99 ms", "Máx ms");
+        long totalOps = 0;
+        for (Operacion operacion : Operacion.values()) {
+            OperationMetrics.Resultado resultado = metrics.resultado(operacion);
+            Histogram h = resultado.latencias();
+            if (h.getTotalCount() == 0) {
+                continue;
+            }
+            totalOps += h.getTotalCount();
+            out.printf("%-12s %10d %8d %12.1f %10.3f %10.3f %10.3f %10.3f%n",
+                    operacion.getNombre(), h.getTotalCount(), resultado.errores(), h.getTotalCount() / segundos,
+                    millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(95)),
+                    millis(h.getValueAtPercentile(99)), millis(h.getMaxValue()));
+        }
+        out.printf("Total: %d operaciones, %.1f ops/s%n", totalOps, totalOps / segundos);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
\ No newline at end of file
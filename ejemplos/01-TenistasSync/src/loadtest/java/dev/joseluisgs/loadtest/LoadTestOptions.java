@@ -0,0 +1,97 @@
+package dev.joseluisgs.loadtest;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Opciones de la prueba de carga. Se leen de argumentos {@code clave=valor}; las que no se indican
+ * toman el valor por defecto.
+ * <ul>
+ *     <li>{@code hilos}: hilos que lanzan operaciones a la vez (8)</li>
+ *     <li>{@code virtuales}: usar hilos virtuales en lugar de hilos de plataforma (false)</li>
+ *     <li>{@code calentamiento}: segundos iniciales que no se miden (5)</li>
+ *     <li>{@code duracion}: segundos de medición (30)</li>
+ *     <li>{@code filas}: tenistas con los que se siembra la base de datos (1000)</li>
+ *     <li>{@code mezcla}: peso de cada operación ({@code findById:70,findAll:5,save:10,update:10,deleteById:5})</li>
+ * </ul>
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @param hilos         Hilos concurrentes
+ * @param virtuales     Hilos virtuales o de plataforma
+ * @param calentamiento Tiempo inicial sin medir
+ * @param duracion      Tiempo de medición
+ * @param filas         Tenistas sembrados antes de empezar
+ * @param mezcla        Peso de cada operación
+ * @see dev.joseluisgs.loadtest.LoadTest
+ */
+public record LoadTestOptions(int hilos, boolean virtuales, Duration calentamiento, Duration duracion, int filas,
+                              Map<Operacion, Integer> mezcla) {
+
+    private static final String MEZCLA_POR_DEFECTO = "findById:70,findAll:5,save:10,update:10,deleteById:5";
+
+    public LoadTestOptions {
+        if (hilos <= 0) {
+            throw new IllegalArgumentException("El número de hilos debe ser mayor que 0");
+        }
+        if (calentamiento.isNegative() || duracion.isNegative() || duracion.isZero()) {
+            throw new IllegalArgumentException("El calentamiento no puede ser negativo y la duración debe ser mayor que 0");
+        }
+        if (filas <= 0) {
+            throw new IllegalArgumentException("El número de filas debe ser mayor que 0");
+        }
+        if (mezcla.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("La mezcla debe tener al menos una operación con peso mayor que 0");
+        }
+        mezcla = Collections.unmodifiableMap(new EnumMap<>(mezcla));
+    }
+
+    /**
+     * Lee las opciones de los argumentos de la línea de comandos.
+     *
+     * @param args Argumentos {@code clave=valor}
+     * @return Opciones
+     * @throws IllegalArgumentException si un argumento o un valor no es válido
+     */
+    public static LoadTestOptions fromArgs(String[] args) {
+        Map<String, String> valores = new HashMap<>();
+        for (String arg : args) {
+            int igual = arg.indexOf('=');
+            if (igual <= 0) {
+                throw new IllegalArgumentException("Argumento no válido, se esperaba clave=valor: " + arg);
+            }
+            valores.put(arg.substring(0, igual).trim(), arg.substring(igual + 1).trim());
+        }
+        return new LoadTestOptions(
+                Integer.parseInt(valores.getOrDefault("hilos", "8")),
+                Boolean.parseBoolean(valores.getOrDefault("virtuales", "false")),
+                Duration.ofSeconds(Long.parseLong(valores.getOrDefault("calentamiento", "5"))),
+                Duration.ofSeconds(Long.parseLong(valores.getOrDefault("duracion", "30"))),
+                Integer.parseInt(valores.getOrDefault("filas", "1000")),
+                parsearMezcla(valores.getOrDefault("mezcla", MEZCLA_POR_DEFECTO))
+        );
+    }
+
+    /**
+     * Lee la mezcla de operaciones con el formato {@code operacion:peso,operacion:peso}.
+     * Las operaciones que no aparecen tienen peso 0.
+     */
+    private static Map<Operacion, Integer> parsearMezcla(String texto) {
+        Map<Operacion, Integer> mezcla = new EnumMap<>(Operacion.class);
+        for (String parte : texto.split(",")) {
+            String[] clavePeso = parte.split(":");
+            if (clavePeso.length != 2) {
+                throw new IllegalArgumentException("Mezcla no válida, se esperaba operacion:peso: " + parte);
+            }
+            int peso = Integer.parseInt(clavePeso[1].trim());
+            if (peso < 0) {
+                throw new IllegalArgumentException("El peso de una operación no puede ser negativo: " + parte);
+            }
+            mezcla.put(Operacion.fromNombre(clavePeso[0]), peso);
+        }
+        return mezcla;
+    }
+}
\ No newline at end of file
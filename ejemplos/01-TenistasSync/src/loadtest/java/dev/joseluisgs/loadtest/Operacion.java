@@ -0,0 +1,47 @@
+package dev.joseluisgs.loadtest;
+
+/**
+ * Operaciones del servicio que lanza la prueba de carga. El nombre corto es el que se usa
+ * en la mezcla de la línea de comandos (por ejemplo {@code mezcla=findById:70,update:10}).
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.loadtest.LoadTestOptions
+ * @see dev.joseluisgs.service.TenistasService
+ */
+public enum Operacion {
+    FIND_BY_ID("findById"),
+    FIND_ALL("findAll"),
+    SAVE("save"),
+    UPDATE("update"),
+    DELETE_BY_ID("deleteById");
+
+    private final String nombre;
+
+    Operacion(String nombre) {
+        this.nombre = nombre;
+    }
+
+    /**
+     * @return Nombre corto de la operación
+     */
+    public String getNombre() {
+        return nombre;
+    }
+
+    /**
+     * Busca una operación por su nombre corto, sin distinguir mayúsculas.
+     *
+     * @param nombre Nombre corto
+     * @return Operación
+     * @throws IllegalArgumentException si no hay ninguna con ese nombre
+     */
+    public static Operacion fromNombre(String nombre) {
+        for (Operacion operacion : values()) {
+            if (operacion.nombre.equalsIgnoreCase(nombre.trim())) {
+                return operacion;
+            }
+        }
+        throw new IllegalArgumentException("Operación no válida: " + nombre);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package dev.joseluisgs.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencias y errores de cada operación durante la prueba de carga.
+ * Cada operación tiene un {@link Recorder} de HdrHistogram: los hilos registran sin bloquearse entre sí
+ * y el histograma conserva 3 cifras significativas en todo el rango, así que los percentiles altos
+ * (p99, máximo) no se pierden como pasaría con una media o con un muestreo.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.loadtest.LoadTest
+ */
+public class OperationMetrics {
+    private final Map<Operacion, Recorder> latencias = new EnumMap<>(Operacion.class);
+    private final Map<Operacion, LongAdder> errores = new EnumMap<>(Operacion.class);
+
+    public OperationMetrics() {
+        for (Operacion operacion : Operacion.values()) {
+            latencias.put(operacion, new Recorder(3));
+            errores.put(operacion, new LongAdder());
+        }
+    }
+
+    /**
+     * Registra una operación terminada, con éxito o con error. Los errores cuentan también en la latencia.
+     *
+     * @param operacion Operación
+     * @param nanos     Latencia en nanosegundos
+     * @param error     La operación ha terminado con error
+     */
+    public void registrar(Operacion operacion, long nanos, boolean error) {
+        latencias.get(operacion).recordValue(nanos);
+        if (error) {
+            errores.get(operacion).increment();
+        }
+    }
+
+    /**
+     * Resultado de una operación: el histograma con las latencias registradas y los errores.
+     *
+     * @param operacion Operación
+     * @param latencias Latencias en nanosegundos
+     * @param errores   Operaciones terminadas con error
+     */
+    public record Resultado(Operacion operacion, Histogram latencias, long errores) {
+    }
+
+    /**
+     * Obtiene el resultado de una operación. Se llama una vez al final de la prueba.
+     *
+     * @param operacion Operación
+     * @return Latencias y errores registrados
+     */
+    public Resultado resultado(Operacion operacion) {
+        return new Resultado(operacion, latencias.get(operacion).getIntervalHistogram(), errores.get(operacion).sum());
+    }
+}
\ No newline at end of file
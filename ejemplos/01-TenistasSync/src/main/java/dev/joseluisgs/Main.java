@@ -16,7 +16,8 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.stream.Collectors;
+import java.util.Comparator;
+import java.util.List;
 
 /**
  * Punto de entrada de la aplicación Tenistas.
@@ -35,7 +36,7 @@ public class Main {
      * Método principal de la aplicación.
      * Inicializa la configuración de salida en UTF-8, crea las dependencias del dominio,
      * importa datos desde CSV, realiza operaciones básicas (insertar, actualizar, borrar) y
-     * exporta a JSON, además de mostrar ejemplos de consultas con streams.
+     * exporta a JSON, además de mostrar ejemplos de consultas de ranking y agregación.
      *
      * @param args Argumentos de línea de comandos (no utilizados)
      */
@@ -53,99 +54,98 @@ public class Main {
         TenistasDao dao = JdbiManager.getInstance().getTenistasDao();
         TenistasRepository repository = new TenistasRepositoryImpl(dao);
         TenistasStorage storage = new TenistasStorageImpl();
-        TenistasService service = new TenistasServiceImpl(repository, storage);
-
-        // 1️⃣ Cargar datos desde CSV
-        try {
-            System.out.println("1\uFE0F⃣ Cargando datos del CSV...");
-            var csvPath = Paths.get("data", "data01.csv").toString();
-            service.importFromCsv(csvPath);
-
-            var tenistas = service.findAll();
-            System.out.println("Tenistas cargados: " + tenistas.size());
-            tenistas.forEach(System.out::println);
-        } catch (TenistaException.StorageException | TenistaException.ValidationException e) {
-            System.err.println("Error cargando CSV: " + e.getMessage());
+        // Al salir del bloque se cierra el servicio, aunque falle algo: con escritura diferida vuelca lo pendiente
+        try (TenistasService service = new TenistasServiceImpl(repository, storage)) {
+            // 1️⃣ Cargar datos desde CSV
+            try {
+                System.out.println("1\uFE0F⃣ Cargando datos de los CSV...");
+                // Los archivos se leen en paralelo y los tenistas repetidos se guardan una sola vez
+                var csvPaths = List.of(
+                        Paths.get("data", "data01.csv").toString(),
+                        Paths.get("data", "data02.csv").toString()
+                );
+                service.importFromCsvFiles(csvPaths);
+
+                var tenistas = service.findAll();
+                System.out.println("Tenistas cargados: " + tenistas.size());
+                tenistas.forEach(System.out::println);
+            } catch (TenistaException.StorageException | TenistaException.ValidationException e) {
+                System.err.println("Error cargando CSV: " + e.getMessage());
+            }
+
+            // 2️⃣ Insertar, actualizar y borrar un tenista de prueba
+            System.out.println("2\uFE0F⃣ Manipulando un tenista de prueba...");
+            Tenista nuevoTenista = Tenista.builder()
+                    .nombre("Pepe Tenista")
+                    .pais("España")
+                    .altura(180)
+                    .peso(75)
+                    .puntos(1000)
+                    .mano(Tenista.Mano.ZURDO)
+                    .fechaNacimiento(java.time.LocalDate.of(1990, 1, 1))
+                    .build();
+
+            try {
+                System.out.println("Insertando nuevo tenista: " + nuevoTenista);
+                var creado = service.save(nuevoTenista);
+                System.out.println("Tenista creado con ID: " + creado.getId());
+
+                System.out.println("Actualizando tenista...");
+                creado.setPuntos(1200);
+                var actualizado = service.update(creado);
+                System.out.println("Tenista actualizado: " + actualizado);
+
+                System.out.println("Borrando tenista...");
+                var borrado = service.deleteById(actualizado.getId());
+                System.out.println("Tenista borrado: " + borrado);
+            } catch (TenistaException.NotFoundException | TenistaException.ValidationException | TenistaException.ConflictException e) {
+                System.err.println("Error manipulando tenista de prueba: " + e.getMessage());
+            }
+
+            // 3️⃣ Exportar datos a JSON
+            try {
+                System.out.println("3\uFE0F⃣ Exportando datos a JSON...");
+                var jsonPath = Paths.get("data", "data01.json").toString();
+                service.exportToJson(jsonPath);
+            } catch (TenistaException.StorageException e) {
+                System.err.println("Error exportando a JSON: " + e.getMessage());
+            }
+
+            // 4️⃣ Consultas de ranking y agregación, resueltas en la base de datos
+            System.out.println("4\uFE0F⃣ Consultas de ranking y agregación:");
+
+            try {
+                // Los 5 tenistas de España con más puntos: ORDER BY ... LIMIT en la base de datos
+                var top5 = service.topByPuntos("España", 5);
+
+                System.out.println("Top 5 tenistas de España por puntos:");
+                top5.forEach(System.out::println);
+
+                // Número y media de puntos por mano de esos 5: GROUP BY en la base de datos
+                var grouped = service.statsByMano("España", 5);
+                System.out.println("Top 5 tenistas de España agrupados por mano con número y media de puntos:");
+                grouped.forEach(stats ->
+                        System.out.println("Mano: " + stats.mano() + ", Número de tenistas: " + stats.total() +
+                                ", Media de puntos: " + stats.mediaPuntos())
+                );
+
+                // Los 3 zurdos más altos: orden sin índice, se recorre la tabla con un montículo de 3 elementos
+                var masAltos = service.topK(Comparator.comparingInt(Tenista::getAltura).reversed(), 3,
+                        t -> t.getMano() == Tenista.Mano.ZURDO);
+                System.out.println("Top 3 tenistas zurdos más altos:");
+                masAltos.forEach(System.out::println);
+            } catch (TenistaException.ValidationException e) {
+                System.err.println("Error en las consultas: " + e.getMessage());
+            }
+
+
+            System.out.println("Caché de tenistas: " + service.getCacheStats());
+            System.out.println("Búsquedas de ids inexistentes: " + service.getNegativeLookupStats());
+            System.out.println("Instantánea de findAll: " + service.getSnapshotStats());
+            System.out.println("Escritura diferida: " + service.getWriteBehindStats());
+            System.out.println("Pool de conexiones: " + JdbiManager.getInstance().getPoolMetrics());
         }
 
-        // 2️⃣ Insertar, actualizar y borrar un tenista de prueba
-        System.out.println("2\uFE0F⃣ Manipulando un tenista de prueba...");
-        Tenista nuevoTenista = Tenista.builder()
-                .nombre("Pepe Tenista")
-                .pais("España")
-                .altura(180)
-                .peso(75)
-                .puntos(1000)
-                .mano(Tenista.Mano.ZURDO)
-                .fechaNacimiento(java.time.LocalDate.of(1990, 1, 1))
-                .build();
-
-        try {
-            System.out.println("Insertando nuevo tenista: " + nuevoTenista);
-            var creado = service.save(nuevoTenista);
-            System.out.println("Tenista creado con ID: " + creado.getId());
-
-            System.out.println("Actualizando tenista...");
-            creado.setPuntos(1200);
-            var actualizado = service.update(creado);
-            System.out.println("Tenista actualizado: " + actualizado);
-
-            System.out.println("Borrando tenista...");
-            var borrado = service.deleteById(actualizado.getId());
-            System.out.println("Tenista borrado: " + borrado);
-        } catch (TenistaException.NotFoundException | TenistaException.ValidationException e) {
-            System.err.println("Error manipulando tenista de prueba: " + e.getMessage());
-        }
-
-        // 3️⃣ Exportar datos a JSON
-        try {
-            System.out.println("3\uFE0F⃣ Exportando datos a JSON...");
-            var jsonPath = Paths.get("data", "data01.json").toString();
-            service.exportToJson(jsonPath);
-        } catch (TenistaException.StorageException e) {
-            System.err.println("Error exportando a JSON: " + e.getMessage());
-        }
-
-        // 4️⃣ Consultas con streams
-        System.out.println("4\uFE0F⃣ Consultas con streams:");
-
-
-        // Implementar consultas con streams con la información de tenistas
-
-        var tenistas = service.findAll();
-
-        // Filtrar tenistas de España, ordenar por puntos y obtener los 5 mejores
-        var top5 = tenistas.stream()
-                .filter(t -> t.getPais().equalsIgnoreCase("España"))
-                .sorted((t1, t2) -> Integer.compare(t2.getPuntos(), t1.getPuntos()))
-                .limit(5)
-                .toList();
-
-        System.out.println("Top 5 tenistas de España por puntos:");
-        top5.forEach(System.out::println);
-
-        // Agrupar los top 5 por mano y calcular número y media de puntos
-        var grouped = top5.stream()
-                .collect(Collectors.groupingBy(
-                        Tenista::getMano,
-                        Collectors.collectingAndThen(
-                                Collectors.toList(),
-                                list -> new Object() {
-                                    final int count = list.size();
-                                    final double avgPoints = list.stream()
-                                            .mapToInt(Tenista::getPuntos)
-                                            .average()
-                                            .orElse(0);
-                                }
-                        )
-                ));
-        System.out.println("Top 5 tenistas de España agrupados por mano con número y media de puntos:");
-        grouped.forEach((mano, stats) ->
-                System.out.println("Mano: " + mano + ", Número de tenistas: " + stats.count +
-                        ", Media de puntos: " + stats.avgPoints)
-        );
-
-
         Instant end = Instant.now();
         System.out.println("Tiempo de ejecución: " + Duration.between(start, end).toMillis() + " ms");
 
@@ -0,0 +1,459 @@
+package dev.joseluisgs.analytics;
+
+import dev.joseluisgs.models.ManoStats;
+import dev.joseluisgs.models.Tenista;
+import dev.joseluisgs.repository.TenistasRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IntSummaryStatistics;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Instantánea de solo lectura de los tenistas en formato columnar para analítica en memoria.
+ * <p>
+ * En lugar de un objeto Tenista por fila, cada atributo se guarda en su propio array primitivo:
+ * puntos, altura y peso como int[], el país codificado con un diccionario (int[] de códigos más
+ * la lista de países distintos), la mano como ordinal (byte[]) y la fecha de nacimiento como
+ * días desde la época (int[]). Los operadores recorren estos arrays con bucles primitivos
+ * (o streams paralelos para filtrar muchas filas), sin crear objetos por fila y leyendo memoria contigua.
+ * El nombre y el id se guardan solo para reconstruir los tenistas del resultado con {@link #tenista(int)}.
+ * <p>
+ * Las filas seleccionadas se representan como un int[] de índices de fila, que se obtiene con
+ * {@link #filter(IntPredicate)} y se pasa a los operadores de agrupación y top-N.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.repository.TenistasRepository#streamAll()
+ * @see dev.joseluisgs.models.Tenista
+ */
+public final class TenistasColumnarSnapshot {
+    private static final Logger logger = LoggerFactory.getLogger(TenistasColumnarSnapshot.class);
+    private static final Tenista.Mano[] MANOS = Tenista.Mano.values();
+    private static final int CAPACIDAD_INICIAL = 1024;
+    // A partir de este número de filas el filtrado se reparte entre varios hilos
+    private static final int UMBRAL_PARALELO = 100_000;
+    // Valor de la columna de fechas para los tenistas sin fecha de nacimiento
+    private static final int SIN_FECHA = Integer.MIN_VALUE;
+
+    private final int size;
+    private final long[] ids;
+    private final String[] nombres;
+    private final int[] puntos;
+    private final int[] alturas;
+    private final int[] pesos;
+    private final int[] paisCodigos;
+    private final List<String> paises;
+    private final Map<String, Integer> paisDiccionario;
+    private final byte[] manos;
+    private final int[] fechasNacimiento;
+
+    /**
+     * Columnas numéricas sobre las que se pueden calcular estadísticas.
+     */
+    public enum Columna {
+        PUNTOS,
+        ALTURA,
+        PESO
+    }
+
+    private TenistasColumnarSnapshot(Builder builder) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.nombres = Arrays.copyOf(builder.nombres, size);
+        this.puntos = Arrays.copyOf(builder.puntos, size);
+        this.alturas = Arrays.copyOf(builder.alturas, size);
+        this.pesos = Arrays.copyOf(builder.pesos, size);
+        this.paisCodigos = Arrays.copyOf(builder.paisCodigos, size);
+        this.manos = Arrays.copyOf(builder.manos, size);
+        this.fechasNacimiento = Arrays.copyOf(builder.fechasNacimiento, size);
+        // El país puede ser null en la tabla: no se usan List.copyOf/Map.copyOf, que no lo admiten
+        this.paises = Collections.unmodifiableList(builder.paises);
+        this.paisDiccionario = builder.paisDiccionario;
+    }
+
+    /**
+     * Construye la instantánea recorriendo el repositorio con un cursor, sin cargar antes una lista de tenistas.
+     *
+     * @param repository Repositorio de tenistas
+     * @return Instantánea columnar con todos los tenistas
+     */
+    public static TenistasColumnarSnapshot from(TenistasRepository repository) {
+        try (Stream<Tenista> tenistas = repository.streamAll()) {
+            return of(tenistas);
+        }
+    }
+
+    /**
+     * Construye la instantánea a partir de un stream de tenistas, que no se cierra.
+     *
+     * @param tenistas Tenistas a incluir
+     * @return Instantánea columnar
+     */
+    public static TenistasColumnarSnapshot of(Stream<Tenista> tenistas) {
+        Builder builder = new Builder();
+        Iterator<Tenista> iterator = tenistas.iterator();
+        while (iterator.hasNext()) {
+            builder.add(iterator.next());
+        }
+        TenistasColumnarSnapshot snapshot = new TenistasColumnarSnapshot(builder);
+        logger.info("Instantánea columnar creada con {} tenistas y {} países", snapshot.size, snapshot.paises.size());
+        return snapshot;
+    }
+
+    /**
+     * Número de filas de la instantánea.
+     *
+     * @return Número de tenistas
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Países distintos de la instantánea, en orden de aparición.
+     *
+     * @return Diccionario de países (el índice es el código)
+     */
+    public List<String> paises() {
+        return paises;
+    }
+
+    /**
+     * Selecciona las filas que cumplen una condición.
+     * Con muchas filas la condición se evalúa en paralelo; debe ser por tanto sin estado.
+     *
+     * @param condicion Condición sobre el índice de fila (ver los métodos de condiciones de esta clase)
+     * @return Índices de las filas seleccionadas, en orden creciente
+     */
+    public int[] filter(IntPredicate condicion) {
+        IntStream filas = IntStream.range(0, size);
+        if (size >= UMBRAL_PARALELO) {
+            filas = filas.parallel();
+        }
+        return filas.filter(condicion).toArray();
+    }
+
+    /**
+     * Condición: el tenista es de un país. Compara códigos enteros, no cadenas.
+     *
+     * @param pais País exacto
+     * @return Condición sobre el índice de fila
+     */
+    public IntPredicate porPais(String pais) {
+        Integer codigo = paisDiccionario.get(pais);
+        if (codigo == null) {
+            return fila -> false;
+        }
+        int c = codigo;
+        return fila -> paisCodigos[fila] == c;
+    }
+
+    /**
+     * Condición: el tenista tiene una mano hábil.
+     *
+     * @param mano Mano hábil
+     * @return Condición sobre el índice de fila
+     */
+    public IntPredicate porMano(Tenista.Mano mano) {
+        byte ordinal = (byte) mano.ordinal();
+        return fila -> manos[fila] == ordinal;
+    }
+
+    /**
+     * Condición: los puntos del tenista están en un rango.
+     *
+     * @param min Mínimo incluido
+     * @param max Máximo incluido
+     * @return Condición sobre el índice de fila
+     */
+    public IntPredicate puntosEntre(int min, int max) {
+        return fila -> puntos[fila] >= min && puntos[fila] <= max;
+    }
+
+    /**
+     * Condición: el tenista nació en un rango de fechas.
+     *
+     * @param desde Fecha inicial incluida
+     * @param hasta Fecha final incluida
+     * @return Condición sobre el índice de fila
+     */
+    public IntPredicate nacidoEntre(LocalDate desde, LocalDate hasta) {
+        // Fechas extremas se recortan al rango de la columna (y nunca incluyen SIN_FECHA)
+        int min = (int) Math.max(desde.toEpochDay(), SIN_FECHA + 1L);
+        int max = (int) Math.min(hasta.toEpochDay(), Integer.MAX_VALUE);
+        return fila -> fechasNacimiento[fila] >= min && fechasNacimiento[fila] <= max;
+    }
+
+    /**
+     * Obtiene las n filas con más puntos (desempate por id) de entre todas.
+     *
+     * @param n Número de filas
+     * @return Índices de fila ordenados por puntos descendente
+     */
+    public int[] topByPuntos(int n) {
+        return topByPuntos(n, null);
+    }
+
+    /**
+     * Obtiene las n filas con más puntos (desempate por id) de entre las seleccionadas.
+     * Mantiene un montículo de n índices de fila cuya raíz es la peor de las mejores: cada
+     * fila se compara con ella y solo entra si es mejor, sin ordenar todas las filas.
+     *
+     * @param n     Número de filas
+     * @param filas Filas seleccionadas, o null para todas
+     * @return Índices de fila ordenados por puntos descendente
+     */
+    public int[] topByPuntos(int n, int[] filas) {
+        int total = filas == null ? size : filas.length;
+        int k = Math.min(Math.max(n, 0), total);
+        int[] heap = new int[k];
+        int ocupados = 0;
+        for (int i = 0; i < total && k > 0; i++) {
+            int fila = filas == null ? i : filas[i];
+            if (ocupados < k) {
+                heap[ocupados] = fila;
+                subir(heap, ocupados++);
+            } else if (mejor(fila, heap[0])) {
+                heap[0] = fila;
+                bajar(heap, ocupados);
+            }
+        }
+        // Vaciar el montículo de peor a mejor deja el resultado ordenado de mejor a peor
+        int[] res = new int[k];
+        for (int i = k - 1; i >= 0; i--) {
+            res[i] = heap[0];
+            heap[0] = heap[--ocupados];
+            bajar(heap, ocupados);
+        }
+        return res;
+    }
+
+    /**
+     * Indica si la fila a va antes que la b en el ranking: más puntos y, a igualdad, menor id.
+     */
+    private boolean mejor(int a, int b) {
+        if (puntos[a] != puntos[b]) {
+            return puntos[a] > puntos[b];
+        }
+        return ids[a] < ids[b];
+    }
+
+    private void subir(int[] heap, int i) {
+        while (i > 0) {
+            int padre = (i - 1) >>> 1;
+            if (!mejor(heap[padre], heap[i])) {
+                break;
+            }
+            intercambiar(heap, padre, i);
+            i = padre;
+        }
+    }
+
+    private void bajar(int[] heap, int ocupados) {
+        int i = 0;
+        while (true) {
+            int peor = i;
+            int izq = 2 * i + 1;
+            int der = izq + 1;
+            if (izq < ocupados && mejor(heap[peor], heap[izq])) {
+                peor = izq;
+            }
+            if (der < ocupados && mejor(heap[peor], heap[der])) {
+                peor = der;
+            }
+            if (peor == i) {
+                return;
+            }
+            intercambiar(heap, i, peor);
+            i = peor;
+        }
+    }
+
+    private static void intercambiar(int[] heap, int i, int j) {
+        int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+
+    /**
+     * Agrupa todas las filas por mano con su número y media de puntos.
+     *
+     * @return Estadísticas por mano, en el orden de la enumeración (solo las manos presentes)
+     */
+    public Map<Tenista.Mano, ManoStats> statsByMano() {
+        return statsByMano(null);
+    }
+
+    /**
+     * Agrupa las filas seleccionadas por mano con su número y media de puntos.
+     * Acumula en arrays indexados por ordinal, sin mapas ni objetos por fila.
+     *
+     * @param filas Filas seleccionadas, o null para todas
+     * @return Estadísticas por mano, en el orden de la enumeración (solo las manos presentes)
+     */
+    public Map<Tenista.Mano, ManoStats> statsByMano(int[] filas) {
+        int[] cuentas = new int[MANOS.length];
+        long[] sumas = new long[MANOS.length];
+        int total = filas == null ? size : filas.length;
+        for (int i = 0; i < total; i++) {
+            int fila = filas == null ? i : filas[i];
+            int mano = manos[fila];
+            cuentas[mano]++;
+            sumas[mano] += puntos[fila];
+        }
+        Map<Tenista.Mano, ManoStats> res = new EnumMap<>(Tenista.Mano.class);
+        for (int m = 0; m < MANOS.length; m++) {
+            if (cuentas[m] > 0) {
+                res.put(MANOS[m], new ManoStats(MANOS[m], cuentas[m], (double) sumas[m] / cuentas[m]));
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Agrupa las filas seleccionadas por país con las estadísticas de una columna.
+     * Acumula en arrays indexados por el código de país.
+     *
+     * @param columna Columna numérica
+     * @param filas   Filas seleccionadas, o null para todas
+     * @return Estadísticas por país, en el orden del diccionario (solo los países presentes)
+     */
+    public Map<String, IntSummaryStatistics> statsByPais(Columna columna, int[] filas) {
+        int[] valores = columna(columna);
+        IntSummaryStatistics[] grupos = new IntSummaryStatistics[paises.size()];
+        int total = filas == null ? size : filas.length;
+        for (int i = 0; i < total; i++) {
+            int fila = filas == null ? i : filas[i];
+            int pais = paisCodigos[fila];
+            if (grupos[pais] == null) {
+                grupos[pais] = new IntSummaryStatistics();
+            }
+            grupos[pais].accept(valores[fila]);
+        }
+        Map<String, IntSummaryStatistics> res = new LinkedHashMap<>();
+        for (int p = 0; p < grupos.length; p++) {
+            if (grupos[p] != null) {
+                res.put(paises.get(p), grupos[p]);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Calcula las estadísticas (número, mínimo, máximo, suma y media) de una columna sobre las filas seleccionadas.
+     *
+     * @param columna Columna numérica
+     * @param filas   Filas seleccionadas, o null para todas
+     * @return Estadísticas de la columna
+     */
+    public IntSummaryStatistics stats(Columna columna, int[] filas) {
+        int[] valores = columna(columna);
+        IntStream stream = filas == null ? Arrays.stream(valores) : Arrays.stream(filas).map(fila -> valores[fila]);
+        if ((filas == null ? size : filas.length) >= UMBRAL_PARALELO) {
+            stream = stream.parallel();
+        }
+        return stream.summaryStatistics();
+    }
+
+    private int[] columna(Columna columna) {
+        return switch (columna) {
+            case PUNTOS -> puntos;
+            case ALTURA -> alturas;
+            case PESO -> pesos;
+        };
+    }
+
+    /**
+     * Reconstruye el tenista de una fila. Solo para las filas del resultado, no para recorrer la instantánea.
+     *
+     * @param fila Índice de fila
+     * @return Tenista de la fila
+     */
+    public Tenista tenista(int fila) {
+        return Tenista.builder()
+                .id(ids[fila])
+                .nombre(nombres[fila])
+                .pais(paises.get(paisCodigos[fila]))
+                .altura(alturas[fila])
+                .peso(pesos[fila])
+                .puntos(puntos[fila])
+                .mano(MANOS[manos[fila]])
+                .fechaNacimiento(fechasNacimiento[fila] == SIN_FECHA ? null : LocalDate.ofEpochDay(fechasNacimiento[fila]))
+                .build();
+    }
+
+    /**
+     * Reconstruye los tenistas de varias filas, en el mismo orden.
+     *
+     * @param filas Índices de fila
+     * @return Tenistas de las filas
+     */
+    public List<Tenista> tenistas(int[] filas) {
+        List<Tenista> res = new ArrayList<>(filas.length);
+        for (int fila : filas) {
+            res.add(tenista(fila));
+        }
+        return Collections.unmodifiableList(res);
+    }
+
+    /**
+     * Acumula las columnas en arrays que crecen al doble mientras se recorre el origen.
+     */
+    private static final class Builder {
+        private int size;
+        private long[] ids = new long[CAPACIDAD_INICIAL];
+        private String[] nombres = new String[CAPACIDAD_INICIAL];
+        private int[] puntos = new int[CAPACIDAD_INICIAL];
+        private int[] alturas = new int[CAPACIDAD_INICIAL];
+        private int[] pesos = new int[CAPACIDAD_INICIAL];
+        private int[] paisCodigos = new int[CAPACIDAD_INICIAL];
+        private byte[] manos = new byte[CAPACIDAD_INICIAL];
+        private int[] fechasNacimiento = new int[CAPACIDAD_INICIAL];
+        private final List<String> paises = new ArrayList<>();
+        private final Map<String, Integer> paisDiccionario = new HashMap<>();
+
+        private void add(Tenista tenista) {
+            if (size == ids.length) {
+                crecer();
+            }
+            ids[size] = tenista.getId();
+            nombres[size] = tenista.getNombre();
+            puntos[size] = tenista.getPuntos();
+            alturas[size] = tenista.getAltura();
+            pesos[size] = tenista.getPeso();
+            paisCodigos[size] = paisDiccionario.computeIfAbsent(tenista.getPais(), pais -> {
+                paises.add(pais);
+                return paises.size() - 1;
+            });
+            manos[size] = (byte) tenista.getMano().ordinal();
+            LocalDate fecha = tenista.getFechaNacimiento();
+            fechasNacimiento[size] = fecha == null ? SIN_FECHA : Math.toIntExact(fecha.toEpochDay());
+            size++;
+        }
+
+        private void crecer() {
+            int capacidad = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacidad);
+            nombres = Arrays.copyOf(nombres, capacidad);
+            puntos = Arrays.copyOf(puntos, capacidad);
+            alturas = Arrays.copyOf(alturas, capacidad);
+            pesos = Arrays.copyOf(pesos, capacidad);
+            paisCodigos = Arrays.copyOf(paisCodigos, capacidad);
+            manos = Arrays.copyOf(manos, capacidad);
+            fechasNacimiento = Arrays.copyOf(fechasNacimiento, capacidad);
+        }
+    }
+}
\ No newline at end of file
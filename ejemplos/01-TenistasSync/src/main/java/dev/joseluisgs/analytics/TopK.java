@@ -0,0 +1,119 @@
+package dev.joseluisgs.analytics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.stream.Collector;
+
+/**
+ * Collector que obtiene los k primeros elementos de un Stream según un comparador, equivalente a
+ * {@code sorted(comparator).limit(k)} pero sin ordenar ni guardar todos los elementos.
+ * <p>
+ * Cada tramo del Stream mantiene un montículo acotado a k elementos cuya cima es el peor de los guardados:
+ * cada elemento nuevo se compara solo con la cima y, si no la mejora, se descarta sin más.
+ * El coste es O(n log k) y la memoria O(k), frente a O(n log n) y O(n) de ordenar, así que sirve para
+ * recorrer un cursor de la base de datos. En Streams paralelos los montículos de cada tramo se mezclan.
+ * Los empates se resuelven como en {@code sorted}, que es estable: gana el que aparece antes.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.service.TenistasService#topK(Comparator, int, java.util.function.Predicate)
+ */
+public final class TopK {
+
+    private TopK() {
+        // Evitar instanciación
+    }
+
+    /**
+     * Devuelve un collector con los k primeros elementos según el comparador, ordenados.
+     *
+     * @param k          Número de elementos (0 o más)
+     * @param comparator Orden; los primeros son los menores según el comparador
+     * @param <T>        Tipo de los elementos
+     * @return Collector que produce una lista de como mucho k elementos
+     * @throws IllegalArgumentException si k es negativo
+     */
+    public static <T> Collector<T, ?, List<T>> topK(int k, Comparator<? super T> comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k no puede ser negativo: " + k);
+        }
+        Objects.requireNonNull(comparator, "El comparador no puede ser nulo");
+        return Collector.of(
+                () -> new Acumulador<T>(k, comparator),
+                Acumulador::add,
+                Acumulador::combinar,
+                Acumulador::ordenados);
+    }
+
+    /**
+     * Elemento guardado junto a su posición de llegada, para desempatar como un orden estable.
+     */
+    private record Entrada<T>(T valor, long orden) {
+    }
+
+    /**
+     * Montículo acotado de un tramo del Stream.
+     */
+    private static final class Acumulador<T> {
+        private final int k;
+        private final Comparator<? super T> comparator;
+        // Orden de las entradas: por el comparador y, a igualdad, la que llegó antes
+        private final Comparator<Entrada<T>> orden;
+        // Cima = peor entrada guardada
+        private final PriorityQueue<Entrada<T>> heap;
+        private long siguiente;
+
+        Acumulador(int k, Comparator<? super T> comparator) {
+            this.k = k;
+            this.comparator = comparator;
+            this.orden = Comparator.<Entrada<T>, T>comparing(Entrada::valor, comparator)
+                    .thenComparingLong(Entrada::orden);
+            this.heap = new PriorityQueue<>(Math.max(1, Math.min(k, 1024)), orden.reversed());
+        }
+
+        void add(T valor) {
+            if (heap.size() < k) {
+                heap.add(new Entrada<>(valor, siguiente++));
+            } else if (k > 0 && comparator.compare(valor, heap.peek().valor()) < 0) {
+                // Solo entra si mejora estrictamente al peor: en un empate gana el que llegó antes
+                heap.poll();
+                heap.add(new Entrada<>(valor, siguiente++));
+            } else {
+                siguiente++;
+            }
+        }
+
+        /**
+         * Mezcla este tramo con el siguiente: en un empate gana este, que va antes en el Stream.
+         */
+        Acumulador<T> combinar(Acumulador<T> derecha) {
+            List<T> izquierda = ordenados();
+            List<T> resto = derecha.ordenados();
+            Acumulador<T> mezcla = new Acumulador<>(k, comparator);
+            int i = 0;
+            int j = 0;
+            while (mezcla.heap.size() < k && (i < izquierda.size() || j < resto.size())) {
+                if (j >= resto.size() || (i < izquierda.size() && comparator.compare(izquierda.get(i), resto.get(j)) <= 0)) {
+                    mezcla.add(izquierda.get(i++));
+                } else {
+                    mezcla.add(resto.get(j++));
+                }
+            }
+            return mezcla;
+        }
+
+        List<T> ordenados() {
+            List<Entrada<T>> entradas = new ArrayList<>(heap);
+            entradas.sort(orden);
+            List<T> valores = new ArrayList<>(entradas.size());
+            for (Entrada<T> entrada : entradas) {
+                valores.add(entrada.valor());
+            }
+            return Collections.unmodifiableList(valores);
+        }
+    }
+}
\ No newline at end of file
@@ -94,8 +94,27 @@ public class Config {
         // Aquí podrías añadir más propiedades por defecto si fueran necesarias
         // properties.setProperty("property.name", "default.value");
         properties.setProperty("cache.size", "5");
+        properties.setProperty("cache.expire.after.write", "600");
+        properties.setProperty("cache.refresh.after.write", "300");
+        properties.setProperty("cache.negative.size", "10000");
+        properties.setProperty("cache.negative.expire.after.write", "5");
+        properties.setProperty("cache.bloom.enabled", "true");
+        properties.setProperty("cache.bloom.fpp", "0.01");
+        properties.setProperty("cache.snapshot.enabled", "false");
         properties.setProperty("database.init.tables", "true");
         properties.setProperty("database.init.data", "true");
+        properties.setProperty("database.batch.size", "1000");
+        properties.setProperty("database.update.max.attempts", "10");
+        properties.setProperty("database.write.behind.enabled", "false");
+        properties.setProperty("database.write.behind.interval", "1000");
+        properties.setProperty("database.fetch.size", "500");
+        properties.setProperty("database.pool.size", "10");
+        properties.setProperty("database.pool.min.idle", "2");
+        properties.setProperty("database.pool.connection.timeout", "30000");
+        properties.setProperty("database.pool.idle.timeout", "600000");
+        properties.setProperty("database.pool.max.lifetime", "1800000");
+        properties.setProperty("database.statement.cache.size", "256");
+        properties.setProperty("database.snapshot.path", "");
     }
 
     /**
@@ -116,6 +135,64 @@ public class Config {
         return Integer.parseInt(properties.getProperty("cache.size")); // Valor por defecto
     }
 
+    /**
+     * Obtiene el tiempo que una entrada permanece en la caché desde que se escribe.
+     * @return tiempo de expiración en segundos
+     */
+    public long getCacheExpireAfterWrite() {
+        return Long.parseLong(properties.getProperty("cache.expire.after.write", "600"));
+    }
+
+    /**
+     * Obtiene el tiempo tras el que una entrada de la caché se recarga en segundo plano al leerse.
+     * Mientras se recarga se sigue sirviendo el valor anterior.
+     * @return tiempo de refresco en segundos (0 o negativo para desactivarlo)
+     */
+    public long getCacheRefreshAfterWrite() {
+        return Long.parseLong(properties.getProperty("cache.refresh.after.write", "300"));
+    }
+
+    /**
+     * Obtiene el número máximo de ids inexistentes que se recuerdan en la caché negativa.
+     * @return tamaño de la caché negativa
+     */
+    public int getCacheNegativeSize() {
+        return Integer.parseInt(properties.getProperty("cache.negative.size", "10000"));
+    }
+
+    /**
+     * Obtiene los segundos durante los que se recuerda que un id no existe (caché negativa).
+     * @return tiempo de expiración en segundos (0 o negativo para desactivar la caché negativa)
+     */
+    public long getCacheNegativeExpireAfterWrite() {
+        return Long.parseLong(properties.getProperty("cache.negative.expire.after.write", "5"));
+    }
+
+    /**
+     * Indica si se usa un filtro de Bloom de ids existentes para descartar sin consultar la base de datos
+     * los ids que seguro que no existen.
+     * @return true si el filtro está activado
+     */
+    public boolean isCacheBloomEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("cache.bloom.enabled", "true"));
+    }
+
+    /**
+     * Obtiene la probabilidad de falso positivo objetivo del filtro de Bloom de ids.
+     * @return probabilidad entre 0 y 1
+     */
+    public double getCacheBloomFpp() {
+        return Double.parseDouble(properties.getProperty("cache.bloom.fpp", "0.01"));
+    }
+
+    /**
+     * Indica si findAll se responde desde una instantánea inmutable en memoria en lugar de la base de datos.
+     * @return true si la instantánea está activada
+     */
+    public boolean isCacheSnapshotEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("cache.snapshot.enabled", "false"));
+    }
+
     /**
      * Indica si deben inicializarse las tablas.
      * @return true si se deben crear tablas
@@ -131,4 +208,111 @@ public class Config {
     public boolean isDatabaseInitData() {
         return Boolean.parseBoolean(properties.getProperty("database.init.data"));
     }
+
+    /**
+     * Obtiene el tamaño de lote para las inserciones masivas.
+     * Cada lote se inserta en una única transacción.
+     * @return número de filas por lote
+     */
+    public int getDatabaseBatchSize() {
+        return Integer.parseInt(properties.getProperty("database.batch.size", "1000"));
+    }
+
+    /**
+     * Obtiene el número máximo de intentos de una actualización con recarga cuando hay conflictos de versión.
+     * @return número de intentos
+     */
+    public int getDatabaseUpdateMaxAttempts() {
+        return Integer.parseInt(properties.getProperty("database.update.max.attempts", "10"));
+    }
+
+    /**
+     * Indica si las actualizaciones se escriben de forma diferida: se aplican en la caché al momento y se
+     * vuelcan agrupadas por id a la base de datos en cada intervalo.
+     * @return true si la escritura diferida está activada
+     */
+    public boolean isDatabaseWriteBehindEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("database.write.behind.enabled", "false"));
+    }
+
+    /**
+     * Obtiene el intervalo entre volcados de la escritura diferida.
+     * @return intervalo en milisegundos
+     */
+    public long getDatabaseWriteBehindInterval() {
+        return Long.parseLong(properties.getProperty("database.write.behind.interval", "1000"));
+    }
+
+    /**
+     * Obtiene el número de volcados fallidos seguidos tras los que la escritura diferida descarta los cambios del lote.
+     * @return número máximo de intentos de un volcado
+     */
+    public int getDatabaseWriteBehindMaxAttempts() {
+        return Integer.parseInt(properties.getProperty("database.write.behind.max.attempts", "5"));
+    }
+
+    /**
+     * Obtiene el número de filas que se piden al driver en cada viaje al recorrer cursores.
+     * @return tamaño de fetch
+     */
+    public int getDatabaseFetchSize() {
+        return Integer.parseInt(properties.getProperty("database.fetch.size", "500"));
+    }
+
+    /**
+     * Obtiene el número máximo de conexiones del pool.
+     * @return tamaño máximo del pool
+     */
+    public int getDatabasePoolSize() {
+        return Integer.parseInt(properties.getProperty("database.pool.size", "10"));
+    }
+
+    /**
+     * Obtiene el número mínimo de conexiones ociosas que mantiene el pool.
+     * @return conexiones ociosas mínimas
+     */
+    public int getDatabasePoolMinIdle() {
+        return Integer.parseInt(properties.getProperty("database.pool.min.idle", "2"));
+    }
+
+    /**
+     * Obtiene el tiempo máximo de espera para obtener una conexión del pool.
+     * @return tiempo de espera en milisegundos
+     */
+    public long getDatabasePoolConnectionTimeout() {
+        return Long.parseLong(properties.getProperty("database.pool.connection.timeout", "30000"));
+    }
+
+    /**
+     * Obtiene el tiempo que una conexión puede estar ociosa antes de cerrarse.
+     * @return tiempo ocioso en milisegundos
+     */
+    public long getDatabasePoolIdleTimeout() {
+        return Long.parseLong(properties.getProperty("database.pool.idle.timeout", "600000"));
+    }
+
+    /**
+     * Obtiene la vida máxima de una conexión del pool.
+     * @return vida máxima en milisegundos
+     */
+    public long getDatabasePoolMaxLifetime() {
+        return Long.parseLong(properties.getProperty("database.pool.max.lifetime", "1800000"));
+    }
+
+    /**
+     * Obtiene el número de sentencias preparadas que se guardan en caché en cada conexión (sesión de H2).
+     * @return tamaño de la caché de sentencias
+     */
+    public int getDatabaseStatementCacheSize() {
+        return Integer.parseInt(properties.getProperty("database.statement.cache.size", "256"));
+    }
+
+    /**
+     * Obtiene la ruta de la imagen comprimida de la base de datos que se restaura al arrancar
+     * en lugar de ejecutar los scripts. Vacía si no se usa.
+     * @return ruta de la imagen o cadena vacía
+     */
+    public String getDatabaseSnapshotPath() {
+        return properties.getProperty("database.snapshot.path", "").trim();
+    }
 }
\ No newline at end of file
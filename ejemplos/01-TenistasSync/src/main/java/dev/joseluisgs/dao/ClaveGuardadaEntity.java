@@ -0,0 +1,18 @@
+package dev.joseluisgs.dao;
+
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
+
+/**
+ * Id y versión que devuelve la base de datos para cada fila de un MERGE de TenistasDao.
+ * Sirve para que el llamador conozca la versión real de las filas que se actualizaron.
+ *
+ * Autor: JoseLuisGS
+ *
+ * @param id      Identificador de la fila insertada o actualizada
+ * @param version Versión de la fila tras el MERGE
+ * @see dev.joseluisgs.dao.TenistasDao
+ */
+public record ClaveGuardadaEntity(
+        @ColumnName("id") long id,
+        @ColumnName("version") long version) {
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package dev.joseluisgs.dao;
+
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
+
+/**
+ * Fila de resultado de las consultas agregadas por mano hábil de TenistasDao.
+ *
+ * Autor: JoseLuisGS
+ *
+ * @param mano        Mano hábil como texto (DIESTRO, ZURDO, OTRO)
+ * @param total       Número de tenistas del grupo
+ * @param mediaPuntos Media de puntos del grupo
+ * @see dev.joseluisgs.dao.TenistasDao
+ * @see dev.joseluisgs.models.ManoStats
+ */
+public record ManoStatsEntity(
+        @ColumnName("mano") String mano,
+        @ColumnName("total") int total,
+        @ColumnName("media_puntos") double mediaPuntos) {
+}
\ No newline at end of file
@@ -40,6 +40,8 @@ public class TenistaEntity {
     @ColumnName("fecha_nacimiento")
     private LocalDate fechaNacimiento;
 
+    private long version; // Bloqueo optimista
+
     /**
      * Constructor explícito para JDBI que permite mapear resultados de consultas a la entidad.
      *
@@ -51,6 +53,7 @@ public class TenistaEntity {
      * @param puntos           Puntos del ranking
      * @param mano             Mano hábil como texto (DIESTRO, ZURDO, OTRO)
      * @param fechaNacimiento  Fecha de nacimiento
+     * @param version          Versión de la fila (bloqueo optimista)
      */
     @JdbiConstructor
     public TenistaEntity(
@@ -61,7 +64,8 @@ public class TenistaEntity {
             @ColumnName("peso") int peso,
             @ColumnName("puntos") int puntos,
             @ColumnName("mano") String mano,
-            @ColumnName("fecha_nacimiento") LocalDate fechaNacimiento
+            @ColumnName("fecha_nacimiento") LocalDate fechaNacimiento,
+            @ColumnName("version") long version
     ) {
         this.id = id;
         this.nombre = nombre;
@@ -71,5 +75,6 @@ public class TenistaEntity {
         this.puntos = puntos;
         this.mano = mano;
         this.fechaNacimiento = fechaNacimiento;
+        this.version = version;
     }
 }
\ No newline at end of file
@@ -1,19 +1,31 @@
 package dev.joseluisgs.dao;
 
-
+import dev.joseluisgs.mappers.TenistaRowMapper;
+import dev.joseluisgs.models.Tenista;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.sqlobject.SqlObject;
 import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.customizer.BindBean;
+import org.jdbi.v3.sqlobject.customizer.BindList;
+import org.jdbi.v3.sqlobject.customizer.FetchSize;
 import org.jdbi.v3.sqlobject.statement.GetGeneratedKeys;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * DAO para la entidad TenistaEntity.
  * Define las operaciones CRUD y consultas auxiliares sobre la tabla tenistas mediante JDBI.
+ * Las lecturas masivas que usa el repositorio devuelven directamente Tenista con {@link TenistaRowMapper},
+ * que lee por posición las columnas de {@link TenistaRowMapper#COLUMNAS}.
  *
  * Autor: JoseLuisGS
  *
@@ -21,14 +33,67 @@ import java.util.Optional;
  * @see dev.joseluisgs.database.JdbiManager
  */
 @RegisterConstructorMapper(TenistaEntity.class) //si quieres mapear por constructor
-public interface TenistasDao {
+@RegisterRowMapper(TenistaRowMapper.class)
+public interface TenistasDao extends SqlObject {
 
     /**
      * Obtiene todos los registros de la tabla tenistas.
-     * @return Lista completa de TenistaEntity
+     * @return Lista completa de tenistas
+     */
+    @SqlQuery("SELECT " + TenistaRowMapper.COLUMNAS + " FROM tenistas")
+    List<Tenista> findAll();
+
+    /**
+     * Consulta cursor sobre todos los registros de la tabla tenistas, ordenados por id.
+     * Solo es válida en un DAO asociado a un Handle abierto; usa {@link #streamAll(int)}.
+     * @param fetchSize Número de filas que se piden al driver en cada viaje
+     * @return Stream de tenistas
      */
-    @SqlQuery("SELECT * FROM tenistas")
-    List<TenistaEntity> findAll();
+    @SqlQuery("SELECT " + TenistaRowMapper.COLUMNAS + " FROM tenistas ORDER BY id")
+    Stream<Tenista> cursorAll(@FetchSize int fetchSize);
+
+    /**
+     * Recorre todos los registros de la tabla tenistas mediante un cursor, ordenados por id.
+     * Las filas se leen de la base de datos a medida que se consumen, en bloques de fetchSize.
+     * Un DAO onDemand cierra su conexión al terminar cada llamada, así que el cursor se abre
+     * en un Handle propio que se cierra al cerrar el Stream, que por tanto debe cerrarse tras su uso.
+     * @param fetchSize Número de filas que se piden al driver en cada viaje
+     * @return Stream de tenistas
+     */
+    default Stream<Tenista> streamAll(int fetchSize) {
+        Handle handle = getHandle().getJdbi().open();
+        try {
+            return handle.attach(TenistasDao.class).cursorAll(fetchSize).onClose(handle::close);
+        } catch (RuntimeException e) {
+            handle.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Consulta cursor sobre los ids de la tabla tenistas.
+     * Solo es válida en un DAO asociado a un Handle abierto; usa {@link #streamIds(int)}.
+     * @param fetchSize Número de filas que se piden al driver en cada viaje
+     * @return Stream de ids
+     */
+    @SqlQuery("SELECT id FROM tenistas")
+    Stream<Long> cursorIds(@FetchSize int fetchSize);
+
+    /**
+     * Recorre los ids de todos los registros mediante un cursor, sin orden garantizado.
+     * Como {@link #streamAll(int)}, abre un Handle propio que se cierra al cerrar el Stream.
+     * @param fetchSize Número de filas que se piden al driver en cada viaje
+     * @return Stream de ids
+     */
+    default Stream<Long> streamIds(int fetchSize) {
+        Handle handle = getHandle().getJdbi().open();
+        try {
+            return handle.attach(TenistasDao.class).cursorIds(fetchSize).onClose(handle::close);
+        } catch (RuntimeException e) {
+            handle.close();
+            throw e;
+        }
+    }
 
     /**
      * Busca un tenista por su identificador.
@@ -38,6 +103,15 @@ public interface TenistasDao {
     @SqlQuery("SELECT * FROM tenistas WHERE id = :id")
     Optional<TenistaEntity> findById(@Bind("id") long id);
 
+    /**
+     * Busca varios tenistas por sus identificadores en una única consulta.
+     * La colección no puede estar vacía; los ids que no existen no aparecen en el resultado.
+     * @param ids Identificadores de los tenistas
+     * @return Lista de tenistas encontrados, sin orden garantizado
+     */
+    @SqlQuery("SELECT " + TenistaRowMapper.COLUMNAS + " FROM tenistas WHERE id IN (<ids>)")
+    List<Tenista> findAllById(@BindList("ids") Collection<Long> ids);
+
     /**
      * Inserta un nuevo tenista.
      * @param tenista Entidad a insertar
@@ -49,14 +123,65 @@ public interface TenistasDao {
     long save(@BindBean TenistaEntity tenista);
 
     /**
-     * Actualiza un tenista existente.
-     * @param tenista Entidad con los nuevos valores (debe incluir id)
-     * @return Número de filas actualizadas
+     * Inserta un lote de tenistas en una única transacción usando JDBC batch.
+     * Todo el lote viaja en un solo round trip y se confirma con un único commit.
+     * @param tenistas Entidades a insertar
+     * @return IDs generados por la base de datos, en el mismo orden que las entidades
+     */
+    @SqlBatch("INSERT INTO tenistas (nombre, pais, altura, peso, puntos, mano, fecha_nacimiento) " +
+            "VALUES (:nombre, :pais, :altura, :peso, :puntos, :mano, :fechaNacimiento)")
+    @GetGeneratedKeys("id")
+    List<Long> saveAll(@BindBean List<TenistaEntity> tenistas);
+
+    /**
+     * Inserta o actualiza un lote de tenistas según su clave natural (nombre, fecha de nacimiento)
+     * en una única transacción usando JDBC batch. Si ya existe un tenista con la misma clave se
+     * actualizan sus datos e incrementa su versión; si no, se inserta con versión 0.
+     * Repetir el mismo lote no crea filas nuevas: la clave natural tiene un índice único.
+     * @param tenistas Entidades a insertar o actualizar
+     * @return Id y versión de las filas insertadas o actualizadas, en el mismo orden que las entidades
+     */
+    @SqlBatch("MERGE INTO tenistas t USING (VALUES (CAST(:nombre AS VARCHAR(255)), CAST(:pais AS VARCHAR(255)), " +
+            "CAST(:altura AS INT), CAST(:peso AS INT), CAST(:puntos AS INT), CAST(:mano AS VARCHAR(50)), CAST(:fechaNacimiento AS DATE))) " +
+            "AS s (nombre, pais, altura, peso, puntos, mano, fecha_nacimiento) " +
+            "ON t.nombre = s.nombre AND t.fecha_nacimiento = s.fecha_nacimiento " +
+            "WHEN MATCHED THEN UPDATE SET pais = s.pais, altura = s.altura, peso = s.peso, puntos = s.puntos, mano = s.mano, " +
+            "version = t.version + 1 " +
+            "WHEN NOT MATCHED THEN INSERT (nombre, pais, altura, peso, puntos, mano, fecha_nacimiento) " +
+            "VALUES (s.nombre, s.pais, s.altura, s.peso, s.puntos, s.mano, s.fecha_nacimiento)")
+    @GetGeneratedKeys({"id", "version"})
+    @RegisterConstructorMapper(ClaveGuardadaEntity.class)
+    List<ClaveGuardadaEntity> upsertAll(@BindBean List<TenistaEntity> tenistas);
+
+    /**
+     * Actualiza un tenista existente si su versión no ha cambiado (bloqueo optimista) e incrementa la versión.
+     * @param tenista Entidad con los nuevos valores (debe incluir id y la versión que se leyó)
+     * @return Número de filas actualizadas: 0 si no existe o si otra actualización cambió antes la versión
      */
     @SqlUpdate("UPDATE tenistas SET nombre = :nombre, pais = :pais, altura = :altura, peso = :peso, " +
-            "puntos = :puntos, mano = :mano, fecha_nacimiento = :fechaNacimiento WHERE id = :id")
+            "puntos = :puntos, mano = :mano, fecha_nacimiento = :fechaNacimiento, version = version + 1 " +
+            "WHERE id = :id AND version = :version")
     int update(@BindBean TenistaEntity tenista);
 
+    /**
+     * Actualiza un lote de tenistas en una única transacción usando JDBC batch, con la misma comprobación de
+     * versión que {@link #update(TenistaEntity)} e incrementándola. Lo usa la escritura diferida, que agrupa varias actualizaciones.
+     * @param tenistas Entidades con los nuevos valores (deben incluir id y la versión de la que parten)
+     * @return Filas actualizadas por cada entidad, en el mismo orden (0 si ya no existe o tiene otra versión)
+     */
+    @SqlBatch("UPDATE tenistas SET nombre = :nombre, pais = :pais, altura = :altura, peso = :peso, " +
+            "puntos = :puntos, mano = :mano, fecha_nacimiento = :fechaNacimiento, version = version + 1 " +
+            "WHERE id = :id AND version = :version")
+    int[] updateAll(@BindBean List<TenistaEntity> tenistas);
+
+    /**
+     * Obtiene la versión actual de un tenista, para distinguir un conflicto de versión de un tenista que no existe.
+     * @param id Identificador del tenista
+     * @return Optional con la versión o vacío si no existe
+     */
+    @SqlQuery("SELECT version FROM tenistas WHERE id = :id")
+    Optional<Long> findVersion(@Bind("id") long id);
+
     /**
      * Elimina un tenista por su id.
      * @param id Identificador del tenista
@@ -69,27 +194,111 @@ public interface TenistasDao {
      * Obtiene un subconjunto paginado de tenistas.
      * @param limit Límite de filas a devolver
      * @param offset Desplazamiento inicial
-     * @return Lista de entidades
+     * @return Lista de tenistas
+     */
+    @SqlQuery("SELECT " + TenistaRowMapper.COLUMNAS + " FROM tenistas ORDER BY id LIMIT :limit OFFSET :offset")
+    List<Tenista> findAll(@Bind("limit") int limit, @Bind("offset") int offset);
+
+    /**
+     * Obtiene la página de tenistas siguiente a un id (paginación por clave), ordenada por id.
+     * El coste no depende de la profundidad de la página: se salta directamente por la clave primaria.
+     * @param afterId Último id de la página anterior (Long.MIN_VALUE para la primera)
+     * @param limit Límite de filas a devolver
+     * @return Lista de tenistas
+     */
+    @SqlQuery("SELECT " + TenistaRowMapper.COLUMNAS + " FROM tenistas WHERE id > :afterId ORDER BY id LIMIT :limit")
+    List<Tenista> findPageById(@Bind("afterId") long afterId, @Bind("limit") int limit);
+
+    /**
+     * Obtiene la página de tenistas siguiente a una clave (puntos, id), ordenada por puntos
+     * descendente e id ascendente (paginación por clave). Usa el índice (puntos DESC, id).
+     * @param afterPuntos Puntos de la última fila de la página anterior (Integer.MAX_VALUE para la primera)
+     * @param afterId Id de la última fila de la página anterior (Long.MIN_VALUE para la primera)
+     * @param limit Límite de filas a devolver
+     * @return Lista de tenistas
      */
-    @SqlQuery("SELECT * FROM tenistas LIMIT :limit OFFSET :offset")
-    List<TenistaEntity> findAll(@Bind("limit") int limit, @Bind("offset") int offset);
+    @SqlQuery("SELECT " + TenistaRowMapper.COLUMNAS + " FROM tenistas " +
+            "WHERE puntos <= :afterPuntos AND (puntos < :afterPuntos OR id > :afterId) " +
+            "ORDER BY puntos DESC, id LIMIT :limit")
+    List<Tenista> findPageByPuntos(@Bind("afterPuntos") int afterPuntos, @Bind("afterId") long afterId, @Bind("limit") int limit);
 
     /**
      * Busca tenistas por nombre (LIKE, case-insensitive).
+     * Compara con la columna generada nombre_lower; si el patrón empieza por un comodín
+     * no puede usar índice, para buscar por el principio del nombre usa {@link #findByNombrePrefix(String, int)}.
      * @param nombre Patrón de nombre
      * @return Lista de coincidencias
      */
-    @SqlQuery("SELECT * FROM tenistas WHERE LOWER(nombre) LIKE LOWER(:nombre)")
+    @SqlQuery("SELECT * FROM tenistas WHERE nombre_lower LIKE LOWER(:nombre)")
     List<TenistaEntity> findByName(@Bind("nombre") String nombre);
 
     /**
-     * Busca tenistas por país exacto.
+     * Busca tenistas cuyo nombre empieza por un prefijo, sin distinguir mayúsculas, ordenados por nombre.
+     * Se expresa como un rango sobre nombre_lower para que use el índice idx_tenistas_nombre_lower.
+     * @param desde Prefijo en minúsculas (límite inferior incluido)
+     * @param hasta Prefijo en minúsculas seguido de Character.MAX_VALUE (límite superior excluido)
+     * @param limit Límite de filas a devolver
+     * @return Lista de coincidencias
+     */
+    @SqlQuery("SELECT " + TenistaRowMapper.COLUMNAS + " FROM tenistas " +
+            "WHERE nombre_lower >= :desde AND nombre_lower < :hasta ORDER BY nombre_lower, id LIMIT :limit")
+    List<Tenista> findByNombreRange(@Bind("desde") String desde, @Bind("hasta") String hasta, @Bind("limit") int limit);
+
+    /**
+     * Busca tenistas cuyo nombre empieza por un prefijo, sin distinguir mayúsculas, ordenados por nombre.
+     * Usa el índice sobre nombre_lower en lugar de recorrer la tabla.
+     * @param prefijo Prefijo del nombre
+     * @param limit Límite de filas a devolver
+     * @return Lista de coincidencias
+     */
+    default List<Tenista> findByNombrePrefix(String prefijo, int limit) {
+        String desde = prefijo.toLowerCase(Locale.ROOT);
+        return findByNombreRange(desde, desde + Character.MAX_VALUE, limit);
+    }
+
+    /**
+     * Busca tenistas por país sin distinguir mayúsculas, como el ranking por país.
+     * El filtro sobre la columna generada pais_lower usa el índice que empieza por ella.
      * @param pais País
      * @return Lista de coincidencias
      */
-    @SqlQuery("SELECT * FROM tenistas WHERE pais = :pais")
+    @SqlQuery("SELECT * FROM tenistas WHERE pais_lower = LOWER(:pais)")
     List<TenistaEntity> findByPais(@Bind("pais") String pais);
 
+    /**
+     * Obtiene los n tenistas de un país con más puntos (desempate por id).
+     * Usa el índice (pais_lower, puntos DESC, id): solo se leen las n filas del resultado.
+     * El ORDER BY incluye pais_lower (constante por el filtro) para que H2 reconozca que el índice
+     * ya devuelve las filas ordenadas y no ordene todas las del país.
+     * @param pais País, sin distinguir mayúsculas
+     * @param limit Número de tenistas a devolver
+     * @return Lista de tenistas ordenados por puntos descendente
+     */
+    @SqlQuery("SELECT " + TenistaRowMapper.COLUMNAS + " FROM tenistas WHERE pais_lower = LOWER(:pais) ORDER BY pais_lower, puntos DESC, id LIMIT :limit")
+    List<Tenista> topByPuntos(@Bind("pais") String pais, @Bind("limit") int limit);
+
+    /**
+     * Agrupa los tenistas de un país por mano hábil con su número y media de puntos.
+     * @param pais País, sin distinguir mayúsculas
+     * @return Una fila por mano, ordenadas por mano
+     */
+    @SqlQuery("SELECT mano, COUNT(*) AS total, AVG(CAST(puntos AS DOUBLE)) AS media_puntos " +
+            "FROM tenistas WHERE pais_lower = LOWER(:pais) GROUP BY mano ORDER BY mano")
+    @RegisterConstructorMapper(ManoStatsEntity.class)
+    List<ManoStatsEntity> statsByMano(@Bind("pais") String pais);
+
+    /**
+     * Agrupa por mano hábil los n tenistas de un país con más puntos, con su número y media de puntos.
+     * @param pais País, sin distinguir mayúsculas
+     * @param limit Número de tenistas del ranking que se agrupan
+     * @return Una fila por mano, ordenadas por mano
+     */
+    @SqlQuery("SELECT mano, COUNT(*) AS total, AVG(CAST(puntos AS DOUBLE)) AS media_puntos FROM (" +
+            "SELECT mano, puntos FROM tenistas WHERE pais_lower = LOWER(:pais) ORDER BY pais_lower, puntos DESC, id LIMIT :limit" +
+            ") AS top GROUP BY mano ORDER BY mano")
+    @RegisterConstructorMapper(ManoStatsEntity.class)
+    List<ManoStatsEntity> statsByManoTop(@Bind("pais") String pais, @Bind("limit") int limit);
+
     /**
      * Calcula la media de puntos.
      * @return Media de puntos
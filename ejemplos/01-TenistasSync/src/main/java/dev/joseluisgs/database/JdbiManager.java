@@ -1,5 +1,8 @@
 package dev.joseluisgs.database;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import dev.joseluisgs.config.Config;
 import dev.joseluisgs.dao.TenistasDao;
 import org.jdbi.v3.core.Jdbi;
@@ -11,11 +14,20 @@ import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * Gestor singleton para la configuración y acceso a JDBI.
- * Inicializa la conexión, plugins y, opcionalmente, crea tablas y datos desde scripts SQL.
+ * Inicializa el pool de conexiones, plugins y, opcionalmente, crea tablas y datos desde scripts SQL
+ * o restaurando una imagen comprimida de la base de datos, que es mucho más rápido en arranques en frío.
+ * Las conexiones se toman de un pool HikariCP, así que cada llamada de un DAO onDemand reutiliza
+ * una conexión física abierta en lugar de abrir una nueva con DriverManager.
  * <p>
  * Autor: JoseLuisGS
  *
@@ -24,6 +36,7 @@ import java.util.stream.Collectors;
  */
 public class JdbiManager {
     private static JdbiManager instance;
+    private final HikariDataSource dataSource;
     private final Jdbi jdbi;
     private final Logger logger = LoggerFactory.getLogger(JdbiManager.class); // Logger
 
@@ -32,11 +45,13 @@ public class JdbiManager {
      */
     private JdbiManager() {
         logger.info("Creando instancia de JdbiManager y configurando JDBI.");
+        long inicio = System.nanoTime(); // Tiempo de arranque, crítico en arranques en frío
         String url = Config.getInstance().getDatabaseUrl(); // Obtener la URL de la configuración
         boolean initTables = Config.getInstance().isDatabaseInitTables(); // ¿Debe inicializar las tablas en la base de datos?
         boolean initData = Config.getInstance().isDatabaseInitData(); // ¿Debe inicializar los datos en la base de datos?
 
-        this.jdbi = Jdbi.create(url); // Crear la instancia de JDBI
+        this.dataSource = createDataSource(url); // Pool de conexiones
+        this.jdbi = Jdbi.create(dataSource); // Crear la instancia de JDBI sobre el pool
 
         // Se instalan los plugins, necesarios para usar SqlObject
         jdbi.installPlugin(new SqlObjectPlugin());
@@ -44,6 +59,46 @@ public class JdbiManager {
 
         // La URL de H2 en memoria permite crear tablas y cargar datos en tiempo de ejecución
         // Se asume que los archivos tables.sql y data.sql están en src/main/resources
+        String origen = initializeDatabase(initTables, initData, Config.getInstance().getDatabaseSnapshotPath());
+        logger.info("JdbiManager listo en {} ms (base de datos inicializada desde {})", (System.nanoTime() - inicio) / 1_000_000, origen);
+    }
+
+    /**
+     * Crea las tablas y datos iniciales. Si hay una imagen de la base de datos configurada y existe,
+     * se restaura con RUNSCRIPT en lugar de ejecutar los scripts. Si no existe, se ejecutan los scripts
+     * y se genera la imagen para que los siguientes arranques la usen.
+     * Junto a la imagen se guarda una huella de los scripts que la generaron: si tables.sql o data.sql cambian,
+     * la imagen se descarta y se regenera. Con la inicialización desactivada la imagen no se restaura.
+     * La imagen solo se restaura (y se genera) si la tabla tenistas todavía no existe: en una base de datos
+     * en archivo que ya tiene filas se ejecutan los scripts, que no borran nada, y sus datos se conservan.
+     *
+     * @param initTables   ¿Debe inicializar las tablas?
+     * @param initData     ¿Debe inicializar los datos?
+     * @param snapshotPath Ruta de la imagen o cadena vacía si no se usa
+     * @return Origen de la inicialización, para el log
+     */
+    private String initializeDatabase(boolean initTables, boolean initData, String snapshotPath) {
+        if (!initTables && !initData) {
+            return "ninguna fuente (inicialización desactivada)";
+        }
+        Path snapshot = snapshotPath.isEmpty() ? null : Path.of(snapshotPath);
+        String huella = snapshot == null ? null : huellaScripts(initTables, initData);
+        boolean vacia = snapshot != null && !existeTablaTenistas();
+        if (snapshot != null && !vacia) {
+            logger.info("La base de datos ya tiene la tabla tenistas: no se usa la imagen {} para no perder sus filas.", snapshot);
+        } else if (snapshot != null && Files.exists(snapshot)) {
+            if (huella != null && huella.equals(leerHuella(snapshot))) {
+                try {
+                    logger.info("Restaurando la base de datos desde la imagen: {}", snapshot);
+                    jdbi.useHandle(handle -> handle.execute("RUNSCRIPT FROM " + sqlLiteral(snapshot) + " COMPRESSION ZIP"));
+                    return "la imagen " + snapshot;
+                } catch (Exception e) {
+                    logger.warn("No se pudo restaurar la imagen {}. Se usarán los scripts SQL.", snapshot, e);
+                }
+            } else {
+                logger.info("La imagen {} no corresponde a los scripts actuales. Se usarán los scripts SQL y se regenerará.", snapshot);
+            }
+        }
 
         // ¿Creamos tablas y datos?
         if (initTables) {
@@ -54,15 +109,145 @@ public class JdbiManager {
             logger.info("Inicializando datos en la base de datos.");
             executeSqlScriptFromResources("data.sql");
         }
+        if (vacia && huella != null) {
+            createSnapshot(snapshot, huella);
+        }
+        return "los scripts SQL";
+    }
+
+    /**
+     * Comprueba si la tabla tenistas ya existe en el esquema actual.
+     *
+     * @return true si existe, false si la base de datos está por inicializar
+     */
+    private boolean existeTablaTenistas() {
+        return jdbi.withHandle(handle -> handle
+                .createQuery("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES " +
+                        "WHERE TABLE_SCHEMA = CURRENT_SCHEMA AND TABLE_NAME = 'TENISTAS'")
+                .mapTo(Long.class)
+                .one()) > 0;
+    }
+
+    /**
+     * Calcula la huella SHA-256 de los scripts que se ejecutan en la inicialización.
+     *
+     * @param initTables ¿Se ejecuta tables.sql?
+     * @param initData   ¿Se ejecuta data.sql?
+     * @return Huella en hexadecimal o null si no se pueden leer los scripts
+     */
+    private String huellaScripts(boolean initTables, boolean initData) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String script : List.of("tables.sql", "data.sql")) {
+                boolean ejecutado = script.equals("tables.sql") ? initTables : initData;
+                digest.update((script + "=" + ejecutado + "\n").getBytes(StandardCharsets.UTF_8));
+                if (ejecutado) {
+                    try (InputStream is = getClass().getClassLoader().getResourceAsStream(script)) {
+                        digest.update(is.readAllBytes());
+                    }
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (Exception e) {
+            logger.error("Error al calcular la huella de los scripts SQL: no se usará la imagen", e);
+            return null;
+        }
+    }
+
+    /**
+     * Ruta del archivo con la huella de los scripts, junto a la imagen.
+     */
+    private static Path archivoHuella(Path snapshot) {
+        return snapshot.resolveSibling(snapshot.getFileName() + ".sha256");
+    }
+
+    /**
+     * Lee la huella guardada junto a la imagen.
+     *
+     * @param snapshot Ruta de la imagen
+     * @return Huella o null si no hay
+     */
+    private String leerHuella(Path snapshot) {
+        try {
+            return Files.readString(archivoHuella(snapshot), StandardCharsets.UTF_8).trim();
+        } catch (Exception e) {
+            logger.debug("La imagen {} no tiene huella de los scripts", snapshot);
+            return null;
+        }
+    }
+
+    /**
+     * Guarda una imagen comprimida de la base de datos con SCRIPT. Se escribe en un archivo temporal
+     * y se mueve después, así otra instancia que arranque a la vez nunca lee una imagen a medias.
+     * La huella se escribe después de la imagen: si el proceso cae entre ambos pasos, la imagen se regenera.
+     * Si falla solo se registra el error: el arranque ya se ha completado con los scripts.
+     *
+     * @param snapshot Ruta de la imagen
+     * @param huella   Huella de los scripts que la han generado
+     */
+    private void createSnapshot(Path snapshot, String huella) {
+        try {
+            Path directorio = snapshot.toAbsolutePath().getParent();
+            Files.createDirectories(directorio);
+            Path temporal = Files.createTempFile(directorio, snapshot.getFileName().toString(), ".tmp");
+            try {
+                // Sin DROP: la imagen solo se restaura en una base de datos sin la tabla y nunca borra filas
+                jdbi.useHandle(handle -> handle.execute("SCRIPT TO " + sqlLiteral(temporal) + " COMPRESSION ZIP"));
+                Files.deleteIfExists(archivoHuella(snapshot));
+                Files.move(temporal, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                Files.writeString(temporal, huella, StandardCharsets.UTF_8);
+                Files.move(temporal, archivoHuella(snapshot), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporal);
+            }
+            logger.info("Imagen de la base de datos guardada en: {}", snapshot);
+        } catch (Exception e) {
+            logger.error("Error al guardar la imagen de la base de datos: {}", snapshot, e);
+        }
+    }
+
+    /**
+     * Ruta como literal SQL (SCRIPT y RUNSCRIPT no admiten parámetros en el nombre del archivo).
+     */
+    private static String sqlLiteral(Path path) {
+        return "'" + path.toString().replace("'", "''") + "'";
     }
 
     /**
      * Solo para tests: reinicia el singleton para forzar nueva configuración.
      */
     static synchronized void resetForTests() {
+        if (instance != null) {
+            instance.dataSource.close();
+        }
         instance = null;
     }
 
+    /**
+     * Crea el pool de conexiones con los valores de la configuración.
+     * La caché de sentencias se delega en H2 (QUERY_CACHE_SIZE), que guarda los planes de las
+     * consultas ya preparadas. Es una caché por sesión: cada conexión del pool tiene la suya, así que
+     * una consulta se prepara una vez por conexión y el tamaño se reserva tantas veces como conexiones haya.
+     *
+     * @param url URL JDBC de la base de datos
+     * @return DataSource con pool
+     */
+    private HikariDataSource createDataSource(String url) {
+        Config config = Config.getInstance();
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setPoolName("tenistas-pool");
+        hikariConfig.setJdbcUrl(url);
+        hikariConfig.setMaximumPoolSize(config.getDatabasePoolSize());
+        hikariConfig.setMinimumIdle(Math.min(config.getDatabasePoolMinIdle(), config.getDatabasePoolSize()));
+        hikariConfig.setConnectionTimeout(config.getDatabasePoolConnectionTimeout());
+        hikariConfig.setIdleTimeout(config.getDatabasePoolIdleTimeout());
+        hikariConfig.setMaxLifetime(config.getDatabasePoolMaxLifetime());
+        hikariConfig.addDataSourceProperty("QUERY_CACHE_SIZE", config.getDatabaseStatementCacheSize());
+        logger.info("Creando pool de conexiones: tamaño máximo {}, mínimo ocioso {}",
+                hikariConfig.getMaximumPoolSize(), hikariConfig.getMinimumIdle());
+        return new HikariDataSource(hikariConfig);
+    }
+
     /**
      * Devuelve la única instancia de JdbiManager (patrón Singleton).
      *
@@ -91,6 +276,22 @@ public class JdbiManager {
         return jdbi.onDemand(TenistasDao.class);
     }
 
+    /**
+     * Obtiene el estado actual del pool de conexiones: conexiones activas, ociosas, totales
+     * y hilos esperando a obtener una.
+     *
+     * @return Métricas del pool
+     */
+    public PoolMetrics getPoolMetrics() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return new PoolMetrics(
+                pool.getActiveConnections(),
+                pool.getIdleConnections(),
+                pool.getTotalConnections(),
+                pool.getThreadsAwaitingConnection()
+        );
+    }
+
     /**
      * Ejecuta un script SQL desde un recurso.
      *
@@ -0,0 +1,15 @@
+package dev.joseluisgs.database;
+
+/**
+ * Instantánea del estado del pool de conexiones.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @param active  Conexiones prestadas en este momento
+ * @param idle    Conexiones abiertas y disponibles
+ * @param total   Conexiones abiertas en total (activas + ociosas)
+ * @param pending Hilos esperando a obtener una conexión
+ * @see dev.joseluisgs.database.JdbiManager#getPoolMetrics()
+ */
+public record PoolMetrics(int active, int idle, int total, int pending) {
+}
\ No newline at end of file
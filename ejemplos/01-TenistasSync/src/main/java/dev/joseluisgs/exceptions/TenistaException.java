@@ -10,7 +10,8 @@ package dev.joseluisgs.exceptions;
  * @author joseluisgs
  */
 public sealed class TenistaException extends Exception
-        permits TenistaException.NotFoundException, TenistaException.StorageException, TenistaException.ValidationException {
+        permits TenistaException.ConflictException, TenistaException.NotFoundException, TenistaException.StorageException,
+        TenistaException.ValidationException {
     /**
      * Crea una excepción de dominio de tenistas.
      *
@@ -20,6 +21,17 @@ public sealed class TenistaException extends Exception
         super(message);
     }
 
+    public static final class ConflictException extends TenistaException {
+        /**
+         * Crea la excepción de conflicto: otra actualización modificó el tenista antes.
+         *
+         * @param message Mensaje descriptivo
+         */
+        public ConflictException(String message) {
+            super(message);
+        }
+    }
+
     public static final class NotFoundException extends TenistaException {
         /**
          * Crea la excepción de tenista no encontrado.
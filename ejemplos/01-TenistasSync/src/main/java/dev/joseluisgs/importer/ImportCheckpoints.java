@@ -0,0 +1,101 @@
+package dev.joseluisgs.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Posiciones de importación (checkpoints) de cada archivo CSV: hasta qué byte se ha importado ya.
+ * Se guardan en un archivo de propiedades ({@code nombre-del-csv=offset}) que se reescribe entero en
+ * un temporal y se mueve de forma atómica, así una caída a mitad de escritura nunca lo deja corrupto.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.importer.TenistasImportWatcher
+ */
+final class ImportCheckpoints {
+    private final Path file;
+    private final Map<String, Long> offsets = new ConcurrentHashMap<>();
+
+    private ImportCheckpoints(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Carga los checkpoints del archivo, o ninguno si todavía no existe.
+     *
+     * @param file Archivo de checkpoints
+     * @return Checkpoints cargados
+     * @throws IOException              si no se puede leer el archivo
+     * @throws IllegalArgumentException si algún offset no es un número válido
+     */
+    static ImportCheckpoints load(Path file) throws IOException {
+        ImportCheckpoints checkpoints = new ImportCheckpoints(file);
+        if (Files.exists(file)) {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            for (String archivo : properties.stringPropertyNames()) {
+                long offset = Long.parseLong(properties.getProperty(archivo).trim());
+                if (offset < 0) {
+                    throw new IllegalArgumentException("Checkpoint negativo para " + archivo + ": " + offset);
+                }
+                checkpoints.offsets.put(archivo, offset);
+            }
+        }
+        return checkpoints;
+    }
+
+    /**
+     * Obtiene la posición hasta la que se ha importado un archivo.
+     *
+     * @param archivo Nombre del archivo
+     * @return Offset en bytes, 0 si nunca se ha importado
+     */
+    long get(String archivo) {
+        return offsets.getOrDefault(archivo, 0L);
+    }
+
+    /**
+     * Actualiza la posición importada de un archivo y guarda todos los checkpoints.
+     *
+     * @param archivo Nombre del archivo
+     * @param offset  Offset en bytes hasta el que se ha importado
+     * @throws IOException si no se puede escribir el archivo de checkpoints
+     */
+    synchronized void put(String archivo, long offset) throws IOException {
+        offsets.put(archivo, offset);
+        Properties properties = new Properties();
+        offsets.forEach((nombre, valor) -> properties.setProperty(nombre, Long.toString(valor)));
+
+        Path directorio = file.toAbsolutePath().getParent();
+        Files.createDirectories(directorio);
+        Path temporal = Files.createTempFile(directorio, file.getFileName().toString(), ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temporal, StandardCharsets.UTF_8)) {
+                properties.store(writer, "Checkpoints de importación de tenistas");
+            }
+            Files.move(temporal, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporal);
+        }
+    }
+
+    /**
+     * Copia de los checkpoints actuales, ordenada por nombre de archivo.
+     *
+     * @return Mapa de archivo a offset
+     */
+    Map<String, Long> snapshot() {
+        return new TreeMap<>(offsets);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,328 @@
+package dev.joseluisgs.importer;
+
+import dev.joseluisgs.config.Config;
+import dev.joseluisgs.exceptions.TenistaException;
+import dev.joseluisgs.models.Tenista;
+import dev.joseluisgs.service.TenistasService;
+import dev.joseluisgs.storage.TenistasCsvMappedParser;
+import dev.joseluisgs.validator.TenistaValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Importador incremental de CSV de tenistas que vigila un directorio con {@link WatchService}.
+ * Cuando se crea o se amplía un archivo .csv importa solo los bytes nuevos: recuerda por cada archivo
+ * la posición hasta la que ha importado (checkpoint) en un archivo de propiedades que sobrevive a reinicios.
+ * <p>
+ * Las líneas se leen con {@link TenistasCsvMappedParser} desde el checkpoint, sin releer lo ya importado,
+ * y se guardan por lotes con {@link TenistasService#upsertAll(List)}. El checkpoint avanza después de
+ * guardar cada lote; si el proceso cae entre ambos pasos, el lote se vuelve a importar al arrancar y el
+ * MERGE por clave natural evita duplicados. Una línea a medio escribir no se importa hasta que se completa.
+ * Las líneas mal formadas o con tenistas no válidos se registran, se cuentan y se saltan, de modo que
+ * no bloquean el checkpoint del archivo.
+ * Si un archivo es más pequeño que su checkpoint se considera reemplazado y se importa desde el principio.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.service.TenistasService#upsertAll(List)
+ * @see dev.joseluisgs.storage.TenistasCsvMappedParser#openFrom(Path, long)
+ * @see dev.joseluisgs.importer.ImportCheckpoints
+ */
+public class TenistasImportWatcher implements Closeable {
+    private static final String EXTENSION = ".csv";
+
+    private final Logger logger = LoggerFactory.getLogger(TenistasImportWatcher.class); // Logger
+    private final TenistasService service;
+    private final Path directorio;
+    private final ImportCheckpoints checkpoints;
+    private final int batchSize;
+    private final LongAdder lineasRechazadas = new LongAdder();
+    private WatchService watchService;
+    private Thread hilo;
+
+    /**
+     * Crea el importador con el tamaño de lote de la configuración ({@code database.batch.size}).
+     *
+     * @param service        Servicio con el que se guardan los tenistas
+     * @param directorio     Directorio que se vigila
+     * @param checkpointFile Archivo donde se guardan los checkpoints
+     * @throws TenistaException.StorageException si no se pueden leer los checkpoints
+     */
+    public TenistasImportWatcher(TenistasService service, Path directorio, Path checkpointFile) throws TenistaException.StorageException {
+        this(service, directorio, checkpointFile, Config.getInstance().getDatabaseBatchSize());
+    }
+
+    /**
+     * Crea el importador con un tamaño de lote concreto.
+     *
+     * @param service        Servicio con el que se guardan los tenistas
+     * @param directorio     Directorio que se vigila
+     * @param checkpointFile Archivo donde se guardan los checkpoints
+     * @param batchSize      Número máximo de tenistas por lote
+     * @throws TenistaException.StorageException si no se pueden leer los checkpoints
+     */
+    public TenistasImportWatcher(TenistasService service, Path directorio, Path checkpointFile, int batchSize) throws TenistaException.StorageException {
+        logger.info("Inicializando TenistasImportWatcher sobre el directorio: {}", directorio);
+        this.service = service;
+        this.directorio = directorio;
+        this.batchSize = Math.max(1, batchSize);
+        try {
+            this.checkpoints = ImportCheckpoints.load(checkpointFile);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.error("Error al leer los checkpoints de importación: {}", checkpointFile, e);
+            throw new TenistaException.StorageException("Error al leer los checkpoints de importación: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Empieza a vigilar el directorio en un hilo en segundo plano. Primero importa lo pendiente
+     * de todos los archivos y después cada archivo que se crea o se modifica.
+     * Los errores de un archivo se registran y no detienen la vigilancia.
+     *
+     * @throws TenistaException.StorageException si no se puede vigilar el directorio
+     */
+    public synchronized void start() throws TenistaException.StorageException {
+        if (hilo != null) {
+            throw new IllegalStateException("El importador ya está en marcha");
+        }
+        try {
+            // Se registra antes del primer escaneo para no perder cambios que ocurran mientras tanto
+            watchService = directorio.getFileSystem().newWatchService();
+            directorio.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            logger.error("Error al vigilar el directorio: {}", directorio, e);
+            throw new TenistaException.StorageException("Error al vigilar el directorio: " + e.getMessage());
+        }
+        hilo = Thread.ofPlatform().name("tenistas-import-watcher").daemon().start(this::vigilar);
+        logger.info("Vigilando el directorio {} para importar tenistas", directorio);
+    }
+
+    /**
+     * Deja de vigilar el directorio y espera a que termine el lote en curso.
+     */
+    @Override
+    public void close() {
+        Thread actual;
+        synchronized (this) {
+            actual = hilo;
+            hilo = null;
+            if (watchService != null) {
+                try {
+                    watchService.close();
+                } catch (IOException e) {
+                    logger.warn("Error al cerrar la vigilancia del directorio {}", directorio, e);
+                }
+                watchService = null;
+            }
+        }
+        if (actual != null) {
+            try {
+                actual.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        logger.info("Importador del directorio {} detenido", directorio);
+    }
+
+    /**
+     * Importa lo pendiente de todos los archivos .csv del directorio, por orden de nombre.
+     *
+     * @return Número de tenistas importados
+     * @throws TenistaException.StorageException    si hay errores de lectura, de formato o al guardar checkpoints
+     * @throws TenistaException.ValidationException si el servicio rechaza un lote
+     */
+    public int scan() throws TenistaException.StorageException, TenistaException.ValidationException {
+        List<Path> archivos = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directorio, "*" + EXTENSION)) {
+            stream.forEach(archivos::add);
+        } catch (IOException e) {
+            logger.error("Error al listar el directorio: {}", directorio, e);
+            throw new TenistaException.StorageException("Error al listar el directorio: " + e.getMessage());
+        }
+        archivos.sort(null);
+
+        int importados = 0;
+        for (Path archivo : archivos) {
+            importados += importFile(archivo);
+        }
+        return importados;
+    }
+
+    /**
+     * Importa las líneas completas de un archivo añadidas desde su checkpoint.
+     * Las líneas mal formadas o con tenistas no válidos se saltan y se cuentan en {@link #getLineasRechazadas()}.
+     *
+     * @param archivo Archivo CSV del directorio vigilado
+     * @return Número de tenistas importados
+     * @throws TenistaException.StorageException    si hay errores de lectura, de formato o al guardar checkpoints
+     * @throws TenistaException.ValidationException si el servicio rechaza un lote
+     */
+    public synchronized int importFile(Path archivo) throws TenistaException.StorageException, TenistaException.ValidationException {
+        String nombre = archivo.getFileName().toString();
+        long desde = checkpoints.get(nombre);
+        long tamano;
+        try {
+            tamano = Files.size(archivo);
+        } catch (NoSuchFileException e) {
+            logger.debug("El archivo {} ya no existe", archivo);
+            return 0;
+        } catch (IOException e) {
+            logger.error("Error al leer el archivo: {}", archivo, e);
+            throw new TenistaException.StorageException("Error al leer el archivo: " + e.getMessage());
+        }
+        if (tamano < desde) {
+            logger.warn("El archivo {} ocupa menos que su checkpoint ({} < {}): se importa desde el principio", archivo, tamano, desde);
+            desde = 0;
+        }
+        if (tamano == desde) {
+            return 0;
+        }
+
+        int importados = 0;
+        try (TenistasCsvMappedParser parser = TenistasCsvMappedParser.openFrom(archivo, desde)) {
+            List<Tenista> lote = new ArrayList<>(batchSize);
+            while (parser.hasNext()) {
+                Tenista tenista;
+                try {
+                    tenista = parser.next();
+                    TenistaValidator.validate(tenista);
+                } catch (IllegalArgumentException | TenistaException.ValidationException e) {
+                    // Si se relanzara, el checkpoint no pasaría nunca de esta línea
+                    lineasRechazadas.increment();
+                    logger.warn("Línea descartada del archivo {}: {}", archivo, e.getMessage());
+                    continue;
+                }
+                lote.add(tenista);
+                if (lote.size() == batchSize) {
+                    importados += guardarLote(nombre, lote, parser.position());
+                }
+            }
+            importados += guardarLote(nombre, lote, parser.position());
+        } catch (IOException e) {
+            logger.error("Error al leer el archivo: {}", archivo, e);
+            throw new TenistaException.StorageException("Error al leer el archivo: " + e.getMessage());
+        } catch (UncheckedIOException e) {
+            logger.error("Error al leer el archivo: {}", archivo, e);
+            throw new TenistaException.StorageException("Error al leer el archivo: " + e.getCause().getMessage());
+        } catch (IllegalArgumentException e) {
+            logger.error("Error al parsear los datos del archivo {} desde el byte {}", archivo, checkpoints.get(nombre), e);
+            throw new TenistaException.StorageException("Error al parsear los datos: " + e.getMessage());
+        }
+
+        if (importados > 0) {
+            logger.info("Importados {} tenistas nuevos del archivo {}", importados, archivo);
+        }
+        return importados;
+    }
+
+    /**
+     * Copia de los checkpoints actuales: archivo y byte hasta el que se ha importado.
+     *
+     * @return Mapa de nombre de archivo a offset, ordenado por nombre
+     */
+    public Map<String, Long> getCheckpoints() {
+        return checkpoints.snapshot();
+    }
+
+    /**
+     * Número de líneas descartadas desde que se creó el importador por estar mal formadas o no ser válidas.
+     *
+     * @return Líneas rechazadas
+     */
+    public long getLineasRechazadas() {
+        return lineasRechazadas.sum();
+    }
+
+    /**
+     * Guarda un lote y después avanza el checkpoint del archivo, y vacía el lote para reutilizarlo.
+     *
+     * @param nombre   Nombre del archivo
+     * @param lote     Tenistas leídos
+     * @param posicion Byte hasta el que llegan las líneas leídas
+     * @return Número de tenistas guardados
+     */
+    private int guardarLote(String nombre, List<Tenista> lote, long posicion)
+            throws TenistaException.StorageException, TenistaException.ValidationException {
+        int size = lote.size();
+        if (size > 0) {
+            service.upsertAll(List.copyOf(lote));
+            lote.clear();
+        }
+        if (posicion != checkpoints.get(nombre)) {
+            try {
+                checkpoints.put(nombre, posicion);
+            } catch (IOException e) {
+                logger.error("Error al guardar el checkpoint de {}", nombre, e);
+                throw new TenistaException.StorageException("Error al guardar el checkpoint de " + nombre + ": " + e.getMessage());
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Bucle del hilo de vigilancia.
+     */
+    private void vigilar() {
+        importarSinLanzar(null);
+        try {
+            WatchService watcher;
+            synchronized (this) {
+                watcher = watchService;
+            }
+            while (watcher != null) {
+                WatchKey key = watcher.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        // Se han perdido eventos: se revisan todos los archivos
+                        importarSinLanzar(null);
+                    } else if (event.context() instanceof Path nombre && nombre.toString().endsWith(EXTENSION)) {
+                        importarSinLanzar(directorio.resolve(nombre));
+                    }
+                }
+                if (!key.reset()) {
+                    logger.error("El directorio {} ya no se puede vigilar", directorio);
+                    return;
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // close(): fin normal
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Importa un archivo, o todos si es null, registrando los errores en lugar de lanzarlos.
+     */
+    private void importarSinLanzar(Path archivo) {
+        try {
+            if (archivo == null) {
+                scan();
+            } else {
+                importFile(archivo);
+            }
+        } catch (TenistaException e) {
+            logger.error("Error en la importación incremental de {}: {}", archivo == null ? directorio : archivo, e.getMessage());
+        } catch (RuntimeException e) {
+            logger.error("Error inesperado en la importación incremental de {}", archivo == null ? directorio : archivo, e);
+        }
+    }
+}
\ No newline at end of file
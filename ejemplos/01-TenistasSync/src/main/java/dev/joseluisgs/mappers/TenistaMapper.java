@@ -1,6 +1,8 @@
 package dev.joseluisgs.mappers;
 
+import dev.joseluisgs.dao.ManoStatsEntity;
 import dev.joseluisgs.dao.TenistaEntity;
+import dev.joseluisgs.models.ManoStats;
 import dev.joseluisgs.models.Tenista;
 
 /**
@@ -38,6 +40,7 @@ public class TenistaMapper {
                 .puntos(tenista.getPuntos())
                 .mano(tenista.getMano().name()) // enum -> String
                 .fechaNacimiento(tenista.getFechaNacimiento())
+                .version(tenista.getVersion())
                 .build();
     }
 
@@ -59,6 +62,23 @@ public class TenistaMapper {
                 .puntos(entity.getPuntos())
                 .mano(Tenista.Mano.valueOf(entity.getMano().toUpperCase())) // String -> enum
                 .fechaNacimiento(entity.getFechaNacimiento())
+                .version(entity.getVersion())
                 .build();
     }
+
+    /**
+     * Convierte una fila agregada por mano (BD) a ManoStats (modelo de dominio).
+     *
+     * @param entity Fila agregada recuperada de la base de datos; si es null devuelve null
+     * @return Estadísticas equivalentes o null si el parámetro es null
+     */
+    public static ManoStats toManoStats(ManoStatsEntity entity) {
+        if (entity == null) return null;
+
+        return new ManoStats(
+                Tenista.Mano.valueOf(entity.mano().toUpperCase()), // String -> enum
+                entity.total(),
+                entity.mediaPuntos()
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package dev.joseluisgs.mappers;
+
+import dev.joseluisgs.models.Tenista;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Mapper de JDBI que convierte cada fila de la tabla tenistas directamente en un Tenista.
+ * Lee las columnas por posición, así que la consulta debe seleccionar exactamente {@link #COLUMNAS}
+ * y en ese orden. Evita el TenistaEntity intermedio, el builder y el toUpperCase de la mano:
+ * por cada fila solo se crean el Tenista y los valores de sus columnas.
+ *
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.dao.TenistasDao
+ * @see dev.joseluisgs.mappers.TenistaMapper#fromEntity(dev.joseluisgs.dao.TenistaEntity)
+ */
+public class TenistaRowMapper implements RowMapper<Tenista> {
+    /**
+     * Columnas, en el orden en que las lee el mapper, que deben seleccionar las consultas que lo usan.
+     */
+    public static final String COLUMNAS = "id, nombre, pais, altura, peso, puntos, mano, fecha_nacimiento, version";
+
+    // La mano se guarda como el nombre del enum; también se aceptan las minúsculas
+    private static final Map<String, Tenista.Mano> MANOS = new HashMap<>();
+
+    static {
+        for (Tenista.Mano mano : Tenista.Mano.values()) {
+            MANOS.put(mano.name(), mano);
+            MANOS.put(mano.name().toLowerCase(Locale.ROOT), mano);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Tenista map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return new Tenista(
+                rs.getLong(1),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getInt(4),
+                rs.getInt(5),
+                rs.getInt(6),
+                toMano(rs.getString(7)),
+                rs.getObject(8, LocalDate.class),
+                rs.getLong(9)
+        );
+    }
+
+    /**
+     * Convierte el texto de la columna mano en el enum sin crear cadenas intermedias.
+     *
+     * @param mano Texto de la base de datos
+     * @return Mano hábil o null si la columna es null
+     * @throws IllegalArgumentException si el texto no corresponde a ninguna mano
+     */
+    static Tenista.Mano toMano(String mano) {
+        if (mano == null) {
+            return null;
+        }
+        Tenista.Mano res = MANOS.get(mano);
+        // Mayúsculas y minúsculas mezcladas: caso raro, se resuelve como antes
+        return res != null ? res : Tenista.Mano.valueOf(mano.toUpperCase(Locale.ROOT));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package dev.joseluisgs.models;
+
+/**
+ * Estadísticas de un grupo de tenistas con la misma mano hábil.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @param mano        Mano hábil del grupo
+ * @param total       Número de tenistas del grupo
+ * @param mediaPuntos Media de puntos del grupo
+ * @see dev.joseluisgs.service.TenistasService#statsByMano(String)
+ */
+public record ManoStats(Tenista.Mano mano, int total, double mediaPuntos) {
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package dev.joseluisgs.models;
+
+import java.util.List;
+
+/**
+ * Página de resultados obtenida con paginación por clave (keyset / seek).
+ * Incluye un token opaco de continuación para pedir la página siguiente.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @param items     Elementos de la página, en el orden solicitado
+ * @param nextToken Token para pedir la página siguiente, o null si no hay más
+ * @param <T>       Tipo de los elementos
+ * @see dev.joseluisgs.models.TenistasOrden
+ * @see dev.joseluisgs.repository.TenistasRepository
+ */
+public record Page<T>(List<T> items, String nextToken) {
+
+    /**
+     * Indica si hay más páginas después de esta.
+     *
+     * @return true si existe página siguiente
+     */
+    public boolean hasNext() {
+        return nextToken != null;
+    }
+}
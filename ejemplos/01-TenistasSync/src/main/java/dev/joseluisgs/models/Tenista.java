@@ -1,5 +1,6 @@
 package dev.joseluisgs.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.AllArgsConstructor;
@@ -42,6 +43,13 @@ public class Tenista {
     @JsonProperty("fecha_nacimiento") // Mapea la propiedad JSON "fecha_nacimiento" al campo fechaNacimiento
     private LocalDate fechaNacimiento;
 
+    /**
+     * Versión de la fila para el bloqueo optimista: una actualización solo se aplica si la versión
+     * coincide con la de la base de datos. No forma parte de los datos que se importan o exportan.
+     */
+    @JsonIgnore
+    private long version;
+
     /**
      * Mano hábil del tenista.
      */
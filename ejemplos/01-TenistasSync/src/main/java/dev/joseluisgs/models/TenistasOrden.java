@@ -0,0 +1,20 @@
+package dev.joseluisgs.models;
+
+/**
+ * Órdenes soportados por la paginación por clave de tenistas.
+ * Cada orden es total (el id desempata), lo que permite continuar desde la última fila vista.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.models.Page
+ */
+public enum TenistasOrden {
+    /**
+     * Por id ascendente.
+     */
+    ID,
+    /**
+     * Por puntos descendente y, a igualdad de puntos, por id ascendente.
+     */
+    PUNTOS_DESC
+}
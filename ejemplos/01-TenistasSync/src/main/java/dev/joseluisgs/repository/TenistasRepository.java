@@ -1,9 +1,15 @@
 package dev.joseluisgs.repository;
 
+import dev.joseluisgs.models.ManoStats;
+import dev.joseluisgs.models.Page;
 import dev.joseluisgs.models.Tenista;
+import dev.joseluisgs.models.TenistasOrden;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 /**
  * Contrato del repositorio para gestionar Tenista en la capa de acceso a datos.
@@ -21,6 +27,37 @@ public interface TenistasRepository {
      */
     List<Tenista> findAll();
 
+    /**
+     * Recorre todos los tenistas, ordenados por id, sin cargarlos a la vez en memoria.
+     * El Stream mantiene abierto un cursor en la base de datos y debe cerrarse tras su uso.
+     * @return Stream de tenistas
+     */
+    Stream<Tenista> streamAll();
+
+    /**
+     * Recorre los ids de todos los tenistas, sin orden garantizado y sin cargarlos a la vez en memoria.
+     * El Stream mantiene abierto un cursor en la base de datos y debe cerrarse tras su uso.
+     * @return Stream de ids
+     */
+    LongStream streamIds();
+
+    /**
+     * Cuenta los tenistas del repositorio.
+     * @return Número de tenistas
+     */
+    int count();
+
+    /**
+     * Obtiene una página de tenistas usando paginación por clave (keyset).
+     * El coste de cada página es constante, independientemente de su profundidad.
+     * @param orden Orden de recorrido
+     * @param pageToken Token devuelto por la página anterior, o null para la primera
+     * @param size Número máximo de tenistas de la página
+     * @return Página con los tenistas y el token de la siguiente
+     * @throws IllegalArgumentException si el token no es válido o no corresponde al orden
+     */
+    Page<Tenista> findPage(TenistasOrden orden, String pageToken, int size);
+
     /**
      * Busca un tenista por su id.
      * @param id Identificador del tenista
@@ -28,6 +65,44 @@ public interface TenistasRepository {
      */
     Optional<Tenista> findById(long id);
 
+    /**
+     * Busca varios tenistas por sus ids con una única consulta.
+     * @param ids Identificadores de los tenistas
+     * @return Lista con los tenistas que existen (los ids inexistentes se omiten)
+     */
+    List<Tenista> findAllById(Collection<Long> ids);
+
+    /**
+     * Busca tenistas cuyo nombre empieza por un prefijo, sin distinguir mayúsculas.
+     * @param prefijo Prefijo del nombre
+     * @param limit Número máximo de tenistas
+     * @return Tenistas ordenados por nombre
+     */
+    List<Tenista> findByNombrePrefix(String prefijo, int limit);
+
+    /**
+     * Obtiene los n tenistas de un país con más puntos, calculado en la base de datos.
+     * @param pais País, sin distinguir mayúsculas
+     * @param n Número de tenistas
+     * @return Tenistas ordenados por puntos descendente (desempate por id)
+     */
+    List<Tenista> topByPuntos(String pais, int n);
+
+    /**
+     * Obtiene el número de tenistas y la media de puntos por mano de un país, calculado en la base de datos.
+     * @param pais País, sin distinguir mayúsculas
+     * @return Estadísticas por mano, ordenadas por mano
+     */
+    List<ManoStats> statsByMano(String pais);
+
+    /**
+     * Obtiene el número de tenistas y la media de puntos por mano de los n mejores de un país.
+     * @param pais País, sin distinguir mayúsculas
+     * @param n Número de tenistas del ranking que se agrupan
+     * @return Estadísticas por mano, ordenadas por mano
+     */
+    List<ManoStats> statsByMano(String pais, int n);
+
     /**
      * Guarda un nuevo tenista.
      * @param tenista Tenista a guardar
@@ -36,11 +111,36 @@ public interface TenistasRepository {
     Tenista save(Tenista tenista);
 
     /**
-     * Actualiza un tenista existente.
-     * @param tenista Tenista con cambios
-     * @return Optional con el tenista actualizado o vacío si no existe
+     * Guarda una colección de tenistas nuevos mediante inserciones por lotes.
+     * Cada lote se ejecuta en su propia transacción.
+     * @param tenistas Tenistas a guardar
+     * @return Los mismos tenistas con el id asignado por la base de datos
+     */
+    List<Tenista> saveAll(List<Tenista> tenistas);
+
+    /**
+     * Inserta o actualiza tenistas por su clave natural (nombre y fecha de nacimiento), en lotes.
+     * Cada lote se guarda en una única transacción; repetir la operación no duplica filas.
+     * @param tenistas Tenistas a insertar o actualizar
+     * @return Los mismos tenistas con el id y la versión de su fila, nueva o existente
+     */
+    List<Tenista> upsertAll(List<Tenista> tenistas);
+
+    /**
+     * Actualiza un tenista existente con bloqueo optimista: solo se aplica si la versión del tenista
+     * coincide con la de la base de datos.
+     * @param tenista Tenista con cambios y la versión que se leyó
+     * @return Tenista actualizado con la nueva versión, no encontrado o conflicto con la versión actual
+     */
+    UpdateResult update(Tenista tenista);
+
+    /**
+     * Actualiza varios tenistas por lotes con bloqueo optimista: cada uno solo se aplica si su versión
+     * coincide con la de la base de datos. Los tenistas recibidos no se modifican.
+     * @param tenistas Tenistas con cambios y la versión de la que parten
+     * @return Ids de los tenistas actualizados (los que ya no existen o tienen otra versión no aparecen)
      */
-    Optional<Tenista> update(Tenista tenista);
+    List<Long> updateAll(List<Tenista> tenistas);
 
     /**
      * Elimina un tenista por su id.
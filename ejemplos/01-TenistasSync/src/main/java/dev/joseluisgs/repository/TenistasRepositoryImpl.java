@@ -1,18 +1,30 @@
 package dev.joseluisgs.repository;
 
+import dev.joseluisgs.config.Config;
+import dev.joseluisgs.dao.ClaveGuardadaEntity;
 import dev.joseluisgs.dao.TenistaEntity;
 import dev.joseluisgs.dao.TenistasDao;
 import dev.joseluisgs.mappers.TenistaMapper;
+import dev.joseluisgs.models.ManoStats;
+import dev.joseluisgs.models.Page;
 import dev.joseluisgs.models.Tenista;
+import dev.joseluisgs.models.TenistasOrden;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 /**
  * Implementación del repositorio de Tenista basada en JDBI y el DAO TenistasDao.
- * Se encarga de mapear entre entidades y modelo de dominio.
+ * Se encarga de mapear entre entidades y modelo de dominio; las lecturas masivas ya llegan del DAO como
+ * modelo de dominio.
  * <p>
  * Autor: JoseLuisGS
  *
@@ -23,15 +35,20 @@ import java.util.Optional;
 public class TenistasRepositoryImpl implements TenistasRepository {
     private final Logger logger = LoggerFactory.getLogger(TenistasRepositoryImpl.class);
     private final TenistasDao tenistasDao;
+    private final int batchSize;
+    private final int fetchSize;
 
     /**
      * Crea el repositorio inyectando el DAO de tenistas.
+     * El tamaño de lote para inserciones masivas y el de fetch de los cursores se leen de la configuración.
      *
      * @param tenistasDao DAO utilizado para acceder a la base de datos
      */
     public TenistasRepositoryImpl(TenistasDao tenistasDao) {
         logger.info("Inicializando TenistasRepositoryImpl con TenistasDao");
         this.tenistasDao = tenistasDao;
+        this.batchSize = Math.max(1, Config.getInstance().getDatabaseBatchSize());
+        this.fetchSize = Math.max(1, Config.getInstance().getDatabaseFetchSize());
     }
 
     /**
@@ -40,9 +57,100 @@ public class TenistasRepositoryImpl implements TenistasRepository {
     @Override
     public List<Tenista> findAll() {
         logger.info("Buscando todos los tenistas en el repositorio");
-        return tenistasDao.findAll().stream()
-                .map(TenistaMapper::fromEntity)
-                .toList();
+        return tenistasDao.findAll();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<Tenista> streamAll() {
+        logger.info("Recorriendo todos los tenistas del repositorio con un cursor (fetch size {})", fetchSize);
+        return tenistasDao.streamAll(fetchSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LongStream streamIds() {
+        logger.info("Recorriendo los ids del repositorio con un cursor (fetch size {})", fetchSize);
+        Stream<Long> ids = tenistasDao.streamIds(fetchSize);
+        return ids.mapToLong(Long::longValue).onClose(ids::close);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int count() {
+        logger.info("Contando los tenistas del repositorio");
+        return tenistasDao.count();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Se pide una fila más de las solicitadas para saber si existe página siguiente sin contar filas.
+     * El token codifica el orden y la clave de la última fila devuelta.
+     */
+    @Override
+    public Page<Tenista> findPage(TenistasOrden orden, String pageToken, int size) {
+        logger.info("Buscando página de {} tenistas ordenados por {}", size, orden);
+        String[] clave = decodeToken(orden, pageToken);
+
+        List<Tenista> filas = switch (orden) {
+            case ID -> tenistasDao.findPageById(
+                    clave == null ? Long.MIN_VALUE : Long.parseLong(clave[1]),
+                    size + 1);
+            case PUNTOS_DESC -> tenistasDao.findPageByPuntos(
+                    clave == null ? Integer.MAX_VALUE : Integer.parseInt(clave[1]),
+                    clave == null ? Long.MIN_VALUE : Long.parseLong(clave[2]),
+                    size + 1);
+        };
+
+        boolean hayMas = filas.size() > size;
+        List<Tenista> items = hayMas ? filas.subList(0, size) : filas;
+
+        String nextToken = hayMas ? encodeToken(orden, items.get(items.size() - 1)) : null;
+        return new Page<>(items, nextToken);
+    }
+
+    /**
+     * Codifica en un token opaco la clave de la última fila de una página.
+     */
+    private static String encodeToken(TenistasOrden orden, Tenista ultimo) {
+        String clave = switch (orden) {
+            case ID -> orden.name() + "|" + ultimo.getId();
+            case PUNTOS_DESC -> orden.name() + "|" + ultimo.getPuntos() + "|" + ultimo.getId();
+        };
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(clave.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un token de página comprobando que corresponde al orden pedido.
+     *
+     * @return Partes de la clave (orden, valores...) o null si el token es null (primera página)
+     */
+    private static String[] decodeToken(TenistasOrden orden, String pageToken) {
+        if (pageToken == null) {
+            return null;
+        }
+        try {
+            String[] clave = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8).split("\\|");
+            int partes = orden == TenistasOrden.ID ? 2 : 3;
+            if (clave.length != partes || !clave[0].equals(orden.name())) {
+                throw new IllegalArgumentException("El token de página no corresponde al orden " + orden);
+            }
+            // Validamos que los valores sean numéricos: (id) o (puntos, id)
+            if (orden == TenistasOrden.PUNTOS_DESC) {
+                Integer.parseInt(clave[1]);
+            }
+            Long.parseLong(clave[clave.length - 1]);
+            return clave;
+        } catch (IllegalArgumentException e) { // Incluye NumberFormatException y Base64 no válido
+            throw new IllegalArgumentException("Token de página no válido: " + e.getMessage(), e);
+        }
     }
 
     /**
@@ -54,6 +162,59 @@ public class TenistasRepositoryImpl implements TenistasRepository {
         return tenistasDao.findById(id).map(TenistaMapper::fromEntity);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Tenista> findAllById(Collection<Long> ids) {
+        logger.info("Buscando {} tenistas por id", ids.size());
+        // Un IN vacío no es SQL válido: no hay nada que consultar
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return tenistasDao.findAllById(ids);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Tenista> findByNombrePrefix(String prefijo, int limit) {
+        logger.info("Buscando tenistas cuyo nombre empieza por: {}", prefijo);
+        return tenistasDao.findByNombrePrefix(prefijo, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Tenista> topByPuntos(String pais, int n) {
+        logger.info("Buscando los {} tenistas de {} con más puntos", n, pais);
+        return tenistasDao.topByPuntos(pais, n);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ManoStats> statsByMano(String pais) {
+        logger.info("Calculando estadísticas por mano de los tenistas de {}", pais);
+        return tenistasDao.statsByMano(pais).stream()
+                .map(TenistaMapper::toManoStats)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ManoStats> statsByMano(String pais, int n) {
+        logger.info("Calculando estadísticas por mano de los {} tenistas de {} con más puntos", n, pais);
+        return tenistasDao.statsByManoTop(pais, n).stream()
+                .map(TenistaMapper::toManoStats)
+                .toList();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -74,13 +235,104 @@ public class TenistasRepositoryImpl implements TenistasRepository {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Divide la lista en trozos de {@code database.batch.size} filas: cada trozo es un único
+     * batch JDBC en su propia transacción, y los ids generados se asignan en orden.
      */
     @Override
-    public Optional<Tenista> update(Tenista tenista) {
-        logger.info("Actualizando tenista con id: {}", tenista.getId());
+    public List<Tenista> saveAll(List<Tenista> tenistas) {
+        logger.info("Guardando {} tenistas en lotes de {}", tenistas.size(), batchSize);
+
+        for (int from = 0; from < tenistas.size(); from += batchSize) {
+            List<Tenista> chunk = tenistas.subList(from, Math.min(from + batchSize, tenistas.size()));
+            List<TenistaEntity> entities = chunk.stream()
+                    .map(tenista -> {
+                        TenistaEntity entity = TenistaMapper.toEntity(tenista);
+                        entity.setId(Tenista.NEW_TENISTA_ID);
+                        return entity;
+                    })
+                    .toList();
+
+            List<Long> ids = tenistasDao.saveAll(entities);
+
+            // Asignamos los IDs generados en el mismo orden del lote
+            for (int i = 0; i < chunk.size(); i++) {
+                chunk.get(i).setId(ids.get(i));
+            }
+        }
+        return tenistas;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * H2 devuelve el id y la versión de cada fila del MERGE, tanto si se inserta como si se actualiza,
+     * en el orden del lote. Los tenistas devueltos llevan la versión de la base de datos, no la del origen.
+     */
+    @Override
+    public List<Tenista> upsertAll(List<Tenista> tenistas) {
+        logger.info("Insertando o actualizando {} tenistas en lotes de {}", tenistas.size(), batchSize);
+        for (int from = 0; from < tenistas.size(); from += batchSize) {
+            List<Tenista> chunk = tenistas.subList(from, Math.min(from + batchSize, tenistas.size()));
+            List<TenistaEntity> entities = chunk.stream()
+                    .map(TenistaMapper::toEntity)
+                    .toList();
+
+            List<ClaveGuardadaEntity> claves = tenistasDao.upsertAll(entities);
+
+            for (int i = 0; i < chunk.size(); i++) {
+                chunk.get(i).setId(claves.get(i).id());
+                chunk.get(i).setVersion(claves.get(i).version());
+            }
+        }
+        return tenistas;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Si no se actualiza ninguna fila se consulta la versión para distinguir el conflicto del tenista inexistente.
+     */
+    @Override
+    public UpdateResult update(Tenista tenista) {
+        logger.info("Actualizando tenista con id: {} y versión {}", tenista.getId(), tenista.getVersion());
         TenistaEntity entityToUpdate = TenistaMapper.toEntity(tenista);
         int updatedRows = tenistasDao.update(entityToUpdate);
-        return updatedRows > 0 ? Optional.of(tenista) : Optional.empty();
+        if (updatedRows > 0) {
+            tenista.setVersion(tenista.getVersion() + 1);
+            return new UpdateResult.Updated(tenista);
+        }
+        return tenistasDao.findVersion(tenista.getId())
+                .<UpdateResult>map(version -> {
+                    logger.warn("Conflicto de versión al actualizar el tenista con id {}: esperada {}, actual {}",
+                            tenista.getId(), tenista.getVersion(), version);
+                    return new UpdateResult.Conflict(version);
+                })
+                .orElseGet(UpdateResult.NotFound::new);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Cada trozo de {@code database.batch.size} filas es un único batch JDBC en su propia transacción.
+     */
+    @Override
+    public List<Long> updateAll(List<Tenista> tenistas) {
+        logger.info("Actualizando {} tenistas en lotes de {}", tenistas.size(), batchSize);
+        List<Long> actualizados = new ArrayList<>(tenistas.size());
+        for (int from = 0; from < tenistas.size(); from += batchSize) {
+            List<TenistaEntity> entities = tenistas.subList(from, Math.min(from + batchSize, tenistas.size())).stream()
+                    .map(TenistaMapper::toEntity)
+                    .toList();
+            int[] filas = tenistasDao.updateAll(entities);
+            // El batch devuelve las filas de cada sentencia en el orden del lote
+            for (int i = 0; i < filas.length; i++) {
+                if (filas[i] > 0) {
+                    actualizados.add(entities.get(i).getId());
+                }
+            }
+        }
+        return actualizados;
     }
 
     /**
@@ -0,0 +1,35 @@
+package dev.joseluisgs.repository;
+
+import dev.joseluisgs.models.Tenista;
+
+/**
+ * Resultado de una actualización con bloqueo optimista en el repositorio.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.repository.TenistasRepository#update(Tenista)
+ */
+public sealed interface UpdateResult {
+
+    /**
+     * La fila tenía la versión esperada y se ha actualizado.
+     *
+     * @param tenista Tenista actualizado, con la nueva versión
+     */
+    record Updated(Tenista tenista) implements UpdateResult {
+    }
+
+    /**
+     * No existe ningún tenista con ese id.
+     */
+    record NotFound() implements UpdateResult {
+    }
+
+    /**
+     * Otra actualización cambió la fila después de leerla: no se ha modificado nada.
+     *
+     * @param versionActual Versión que tiene ahora la fila en la base de datos
+     */
+    record Conflict(long versionActual) implements UpdateResult {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package dev.joseluisgs.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom de ids de tenistas, seguro para hilos.
+ * Responde "puede existir" o "seguro que no existe": nunca da falsos negativos, y los falsos positivos
+ * se mantienen cerca de la probabilidad objetivo mientras no se superen los ids previstos.
+ * Los bits solo se encienden, así que un id borrado sigue dando positivo hasta que el filtro se reconstruye.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.service.TenistasServiceImpl
+ */
+final class IdBloomFilter {
+    private final AtomicLongArray bits;
+    private final long numBits;
+    private final int numHashes;
+
+    /**
+     * Crea un filtro dimensionado para un número de ids y una probabilidad de falso positivo.
+     *
+     * @param idsPrevistos Número de ids que se espera añadir
+     * @param fpp          Probabilidad de falso positivo objetivo (entre 0 y 1, exclusivos)
+     */
+    IdBloomFilter(long idsPrevistos, double fpp) {
+        if (idsPrevistos < 1) {
+            throw new IllegalArgumentException("El número de ids previstos debe ser mayor que 0");
+        }
+        if (!(fpp > 0 && fpp < 1)) {
+            throw new IllegalArgumentException("La probabilidad de falso positivo debe estar entre 0 y 1");
+        }
+        // m = -n ln(p) / ln(2)^2 y k = m/n ln(2), redondeando m a múltiplo de 64
+        long m = (long) Math.ceil(-idsPrevistos * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int palabras = Math.toIntExact(Math.max(1, (m + 63) / 64));
+        this.bits = new AtomicLongArray(palabras);
+        this.numBits = palabras * 64L;
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / idsPrevistos * Math.log(2)));
+    }
+
+    /**
+     * Añade un id al filtro.
+     *
+     * @param id Identificador
+     */
+    void add(long id) {
+        long h1 = mezclar(id);
+        long h2 = mezclar(h1) | 1; // Impar para recorrer posiciones distintas
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            int palabra = (int) (bit >>> 6);
+            long mascara = 1L << bit;
+            if ((bits.get(palabra) & mascara) == 0) {
+                bits.getAndAccumulate(palabra, mascara, (actual, m) -> actual | m);
+            }
+        }
+    }
+
+    /**
+     * Indica si el id puede estar en el filtro.
+     *
+     * @param id Identificador
+     * @return false si seguro que no se ha añadido, true si puede haberse añadido
+     */
+    boolean mightContain(long id) {
+        long h1 = mezclar(id);
+        long h2 = mezclar(h1) | 1;
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Función de mezcla de 64 bits (finalizador de MurmurHash3): los ids consecutivos quedan bien repartidos.
+     */
+    private static long mezclar(long x) {
+        x ^= x >>> 33;
+        x *= 0xff51afd7ed558ccdL;
+        x ^= x >>> 33;
+        x *= 0xc4ceb9fe1a85ec53L;
+        x ^= x >>> 33;
+        return x;
+    }
+}
\ No newline at end of file
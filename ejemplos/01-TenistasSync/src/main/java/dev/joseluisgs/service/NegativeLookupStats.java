@@ -0,0 +1,15 @@
+package dev.joseluisgs.service;
+
+/**
+ * Contadores de las búsquedas por id de tenistas que no existen.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @param filtroActivo      El filtro de Bloom de ids está construido y se consulta
+ * @param atajosFiltro      Búsquedas descartadas por el filtro de Bloom sin consultar la base de datos
+ * @param falsosPositivos   Búsquedas en las que el filtro indicó que el id podía existir y no existía
+ * @param aciertosNegativos Búsquedas respondidas por la caché negativa sin consultar la base de datos
+ * @see dev.joseluisgs.service.TenistasService#getNegativeLookupStats()
+ */
+public record NegativeLookupStats(boolean filtroActivo, long atajosFiltro, long falsosPositivos, long aciertosNegativos) {
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package dev.joseluisgs.service;
+
+/**
+ * Métricas de la instantánea de tenistas con la que se responde findAll.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @param activa                    La instantánea está activada en la configuración
+ * @param tenistas                  Tenistas de la instantánea publicada (0 si aún no se ha construido)
+ * @param lecturas                  Llamadas a findAll respondidas desde la instantánea
+ * @param reconstrucciones          Veces que se ha construido la instantánea completa desde la base de datos
+ * @param parches                   Veces que se ha publicado una copia con los cambios de una escritura
+ * @param ultimaReconstruccionMillis Duración de la última reconstrucción completa
+ * @param parcheMedioMillis         Duración media de la copia y publicación de un parche
+ * @param retrasoMaximoMillis       Mayor tiempo entre el commit de una escritura y la publicación de la instantánea
+ *                                  que la incluye: el máximo tiempo que un lector ha podido ver datos antiguos
+ * @see dev.joseluisgs.service.TenistasService#getSnapshotStats()
+ */
+public record SnapshotStats(boolean activa, int tenistas, long lecturas, long reconstrucciones, long parches,
+                            double ultimaReconstruccionMillis, double parcheMedioMillis, double retrasoMaximoMillis) {
+}
\ No newline at end of file
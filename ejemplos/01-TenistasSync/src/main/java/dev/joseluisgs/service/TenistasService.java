@@ -1,9 +1,17 @@
 package dev.joseluisgs.service;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import dev.joseluisgs.exceptions.TenistaException;
+import dev.joseluisgs.models.ManoStats;
+import dev.joseluisgs.models.Page;
 import dev.joseluisgs.models.Tenista;
+import dev.joseluisgs.models.TenistasOrden;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * Servicio de dominio para gestionar operaciones de Tenista, incluyendo caché,
@@ -15,14 +23,34 @@ import java.util.List;
  * @see dev.joseluisgs.repository.TenistasRepository
  * @see dev.joseluisgs.storage.TenistasStorage
  */
-public interface TenistasService {
+public interface TenistasService extends AutoCloseable {
+    /**
+     * Tamaño máximo de página admitido por {@link #findPage(TenistasOrden, String, int)}.
+     */
+    int MAX_PAGE_SIZE = 1000;
+
     /**
      * Obtiene todos los tenistas.
+     * Si la instantánea está activada la lista es inmutable, está ordenada por id y no consulta la base de datos;
+     * sus tenistas son copias, así que modificarlos no altera la instantánea.
      *
      * @return Lista completa
      */
     List<Tenista> findAll();
 
+    /**
+     * Obtiene una página de tenistas con paginación por clave (keyset).
+     * Para recorrer la tabla completa se pasa null en la primera llamada y después
+     * el token devuelto por cada página, hasta que no haya siguiente.
+     *
+     * @param orden     Orden de recorrido
+     * @param pageToken Token de continuación de la página anterior, o null para la primera
+     * @param size      Tamaño de página (entre 1 y {@value #MAX_PAGE_SIZE})
+     * @return Página de tenistas con el token de la siguiente
+     * @throws TenistaException.ValidationException si el tamaño o el token no son válidos
+     */
+    Page<Tenista> findPage(TenistasOrden orden, String pageToken, int size) throws TenistaException.ValidationException;
+
     /**
      * Obtiene un tenista por id, consultando la caché si es posible.
      *
@@ -32,6 +60,107 @@ public interface TenistasService {
      */
     Tenista findById(long id) throws TenistaException.NotFoundException;
 
+    /**
+     * Obtiene varios tenistas por id. Los que no están en caché se cargan con una única consulta.
+     *
+     * @param ids Identificadores
+     * @return Tenistas encontrados, en el orden de los ids (los inexistentes se omiten)
+     */
+    List<Tenista> findAllById(Collection<Long> ids);
+
+    /**
+     * Busca tenistas cuyo nombre empieza por un prefijo, sin distinguir mayúsculas.
+     * La búsqueda usa un índice sobre el nombre en minúsculas en lugar de recorrer la tabla.
+     *
+     * @param prefijo Prefijo del nombre
+     * @param limit   Número máximo de tenistas (entre 1 y {@value #MAX_PAGE_SIZE})
+     * @return Tenistas ordenados por nombre
+     * @throws TenistaException.ValidationException si el prefijo está vacío o el límite no es válido
+     */
+    List<Tenista> findByNombrePrefix(String prefijo, int limit) throws TenistaException.ValidationException;
+
+    /**
+     * Obtiene los n tenistas de un país con más puntos. La ordenación y el límite se hacen
+     * en la base de datos, así que solo viajan las filas del resultado.
+     *
+     * @param pais País, sin distinguir mayúsculas
+     * @param n    Número de tenistas (mayor que 0)
+     * @return Tenistas ordenados por puntos descendente
+     * @throws TenistaException.ValidationException si el país está vacío o n no es positivo
+     */
+    List<Tenista> topByPuntos(String pais, int n) throws TenistaException.ValidationException;
+
+    /**
+     * Obtiene el número de tenistas y la media de puntos por mano de un país, agrupado en la base de datos.
+     *
+     * @param pais País, sin distinguir mayúsculas
+     * @return Estadísticas por mano
+     * @throws TenistaException.ValidationException si el país está vacío
+     */
+    List<ManoStats> statsByMano(String pais) throws TenistaException.ValidationException;
+
+    /**
+     * Obtiene el número de tenistas y la media de puntos por mano de los n mejores de un país.
+     *
+     * @param pais País, sin distinguir mayúsculas
+     * @param n    Número de tenistas del ranking que se agrupan (mayor que 0)
+     * @return Estadísticas por mano
+     * @throws TenistaException.ValidationException si el país está vacío o n no es positivo
+     */
+    List<ManoStats> statsByMano(String pais, int n) throws TenistaException.ValidationException;
+
+    /**
+     * Obtiene los k primeros tenistas según un orden cualquiera entre los que cumplen un filtro,
+     * como {@code sorted(comparator).limit(k)} pero recorriendo la tabla con un cursor y guardando
+     * en memoria solo k tenistas. Para ordenar por puntos dentro de un país es mejor
+     * {@link #topByPuntos(String, int)}, que resuelve la base de datos con un índice.
+     *
+     * @param comparator Orden; los primeros son los menores según el comparador
+     * @param k          Número de tenistas (entre 1 y {@link #MAX_PAGE_SIZE})
+     * @param filtro     Condición que deben cumplir, o null para todos
+     * @return Como mucho k tenistas, ordenados; en un empate va antes el de menor id
+     * @throws TenistaException.ValidationException si el comparador es nulo o k está fuera de rango
+     */
+    List<Tenista> topK(Comparator<? super Tenista> comparator, int k, Predicate<? super Tenista> filtro)
+            throws TenistaException.ValidationException;
+
+    /**
+     * Obtiene las estadísticas de la caché de tenistas: aciertos, fallos, expulsiones y tiempo de carga.
+     *
+     * @return Estadísticas acumuladas desde la creación del servicio
+     */
+    CacheStats getCacheStats();
+
+    /**
+     * Obtiene los contadores de búsquedas de ids inexistentes: las descartadas por el filtro de Bloom,
+     * los falsos positivos del filtro y las respondidas por la caché negativa.
+     *
+     * @return Contadores acumulados desde la creación del servicio
+     */
+    NegativeLookupStats getNegativeLookupStats();
+
+    /**
+     * Obtiene las métricas de la instantánea de findAll: lecturas, coste de reconstrucciones y parches
+     * y el mayor retraso entre una escritura y su publicación.
+     *
+     * @return Métricas acumuladas desde la creación del servicio
+     */
+    SnapshotStats getSnapshotStats();
+
+    /**
+     * Obtiene las métricas de la escritura diferida: tamaño de los volcados, agrupación de actualizaciones
+     * por tenista y retraso de los cambios en llegar a la base de datos.
+     *
+     * @return Métricas acumuladas desde la creación del servicio
+     */
+    WriteBehindStats getWriteBehindStats();
+
+    /**
+     * Libera los recursos del servicio; con la escritura diferida activada vuelca antes los cambios pendientes.
+     */
+    @Override
+    void close();
+
     /**
      * Valida y guarda un nuevo tenista.
      *
@@ -42,14 +171,51 @@ public interface TenistasService {
     Tenista save(Tenista tenista) throws TenistaException.ValidationException;
 
     /**
-     * Valida y actualiza un tenista existente.
+     * Valida e inserta o actualiza un lote de tenistas por su clave natural (nombre y fecha de nacimiento).
+     * Repetir el mismo lote no duplica filas. Si algún tenista no es válido no se guarda ninguno.
+     *
+     * @param tenistas Tenistas a guardar
+     * @return Los mismos tenistas con el id y la versión de su fila, listos para actualizarlos después
+     * @throws TenistaException.ValidationException si algún tenista no es válido
+     */
+    List<Tenista> upsertAll(List<Tenista> tenistas) throws TenistaException.ValidationException;
+
+    /**
+     * Valida y actualiza un tenista existente con bloqueo optimista: la versión del tenista debe ser
+     * la que tiene la base de datos, es decir, nadie lo ha actualizado desde que se leyó.
+     * <p>
+     * Con la escritura diferida activada ({@code database.write.behind.enabled}) el cambio se aplica en la caché
+     * al momento y se escribe en el siguiente volcado. La versión se comprueba contra el último valor aceptado y
+     * el tenista devuelto ya lleva la que tendrá la fila tras el volcado. El volcado vuelve a comprobarla: si otro
+     * proceso ha modificado o borrado la fila entretanto, o el volcado falla {@code database.write.behind.max.attempts}
+     * veces seguidas, el cambio se descarta. Tras {@link #close()} el cambio se escribe al momento.
      *
-     * @param tenista Tenista con cambios
-     * @return Tenista actualizado
+     * @param tenista Tenista con cambios y la versión que se leyó
+     * @return Tenista actualizado con la nueva versión
      * @throws TenistaException.NotFoundException   si no existe
      * @throws TenistaException.ValidationException si los datos no son válidos
+     * @throws TenistaException.ConflictException   si otra actualización lo modificó antes
      */
-    Tenista update(Tenista tenista) throws TenistaException.NotFoundException, TenistaException.ValidationException;
+    Tenista update(Tenista tenista) throws TenistaException.NotFoundException, TenistaException.ValidationException,
+            TenistaException.ConflictException;
+
+    /**
+     * Actualiza un tenista aplicando un cambio sobre su versión más reciente. Si otra actualización se adelanta
+     * (conflicto de versión) se vuelve a leer el tenista y a aplicar el cambio, hasta
+     * {@code database.update.max.attempts} intentos. El cambio puede ejecutarse varias veces, así que
+     * solo debe depender del tenista que recibe.
+     * <p>
+     * Con la escritura diferida activada el cambio parte del último valor aceptado (pendiente o no).
+     *
+     * @param id     Identificador del tenista
+     * @param cambio Función que recibe el tenista leído y devuelve el tenista con los cambios
+     * @return Tenista actualizado con la nueva versión
+     * @throws TenistaException.NotFoundException   si no existe
+     * @throws TenistaException.ValidationException si el resultado del cambio no es válido
+     * @throws TenistaException.ConflictException   si se agotan los intentos
+     */
+    Tenista updateWithRetry(long id, UnaryOperator<Tenista> cambio) throws TenistaException.NotFoundException,
+            TenistaException.ValidationException, TenistaException.ConflictException;
 
     /**
      * Elimina un tenista por su id.
@@ -61,7 +227,7 @@ public interface TenistasService {
     boolean deleteById(long id) throws TenistaException.NotFoundException;
 
     /**
-     * Importa tenistas desde un CSV y los guarda tras validarlos.
+     * Importa tenistas desde un CSV y los guarda en lotes tras validarlos todos.
      *
      * @param filePath Ruta al archivo CSV
      * @throws TenistaException.StorageException    si hay problemas de E/S
@@ -69,6 +235,19 @@ public interface TenistasService {
      */
     void importFromCsv(String filePath) throws TenistaException.StorageException, TenistaException.ValidationException;
 
+    /**
+     * Importa varios CSV a la vez: los archivos se leen en paralelo, los tenistas se deduplican por
+     * su clave natural (nombre y fecha de nacimiento) y el resultado se inserta o actualiza por lotes.
+     * Si un tenista aparece varias veces gana la última aparición según el orden de la lista de archivos.
+     * Repetir la importación con los mismos archivos no duplica filas.
+     *
+     * @param filePaths Rutas de los archivos CSV, de más antiguo a más reciente
+     * @return Número de tenistas distintos importados
+     * @throws TenistaException.StorageException    si hay problemas de E/S o de formato en algún archivo
+     * @throws TenistaException.ValidationException si algún tenista no es válido
+     */
+    int importFromCsvFiles(List<String> filePaths) throws TenistaException.StorageException, TenistaException.ValidationException;
+
     /**
      * Exporta los tenistas actuales a un archivo JSON.
      *
@@ -1,22 +1,71 @@
 package dev.joseluisgs.service;
 
 import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.joseluisgs.analytics.TopK;
 import dev.joseluisgs.config.Config;
 import dev.joseluisgs.exceptions.TenistaException;
+import dev.joseluisgs.models.ManoStats;
+import dev.joseluisgs.models.Page;
 import dev.joseluisgs.models.Tenista;
+import dev.joseluisgs.models.TenistasOrden;
 import dev.joseluisgs.repository.TenistasRepository;
+import dev.joseluisgs.repository.UpdateResult;
 import dev.joseluisgs.storage.TenistasStorage;
 import dev.joseluisgs.validator.TenistaValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 /**
  * Implementación del servicio de tenistas que encapsula lógica de negocio,
  * validaciones y uso de caché, coordinando repositorio y almacenamiento externo.
+ * Las búsquedas de ids inexistentes se resuelven sin la base de datos cuando es posible:
+ * un filtro de Bloom de ids, construido en cada importación, descarta los que seguro que no existen
+ * y una caché negativa de vida corta recuerda los que se han buscado sin éxito.
+ * <p>
+ * Opcionalmente findAll se responde desde una instantánea inmutable (copy-on-write) publicada en una
+ * referencia volátil: los lectores no consultan la base de datos ni toman bloqueos, y cada escritura publica
+ * una copia con sus cambios. Las escrituras se serializan con la publicación para publicarse en orden de commit.
+ * <p>
+ * Opcionalmente las actualizaciones se escriben de forma diferida (write-behind): la caché se actualiza al momento
+ * y {@link WriteBehindBuffer} agrupa los cambios por id y los vuelca en un batch por intervalo. Las lecturas
+ * consultan antes los cambios pendientes, así que nunca ven un valor más antiguo que el último aceptado.
+ * El bloqueo optimista se mantiene: la versión se comprueba al aceptar el cambio y otra vez en el volcado.
  * <p>
  * Autor: JoseLuisGS
  *
@@ -30,7 +79,33 @@ public class TenistasServiceImpl implements TenistasService {
     private final Logger logger = LoggerFactory.getLogger(TenistasServiceImpl.class);
     private final TenistasRepository repository;
     private final TenistasStorage storage;
-    private final Cache<Long, Tenista> tenistaCache;
+    private final LoadingCache<Long, Tenista> tenistaCache;
+    // Ids que no existen, recordados poco tiempo; null si la caché negativa está desactivada
+    private final Cache<Long, Boolean> ausentesCache;
+    private final boolean bloomEnabled;
+    private final double bloomFpp;
+    // Filtro de ids existentes; null hasta la primera importación o si está desactivado
+    private volatile IdBloomFilter idFilter;
+    // Filtro que se está reconstruyendo: los ids guardados mientras tanto se añaden también a él
+    private volatile IdBloomFilter idFilterEnConstruccion;
+    private final LongAdder atajosFiltro = new LongAdder();
+    private final LongAdder falsosPositivos = new LongAdder();
+    private final LongAdder aciertosNegativos = new LongAdder();
+    private final boolean snapshotEnabled;
+    // Instantánea de findAll; null si está desactivada o aún no se ha construido
+    private volatile Instantanea snapshot;
+    // Solo se usa con la instantánea activada: una escritura y la publicación de su parche van juntas
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final LongAdder lecturasSnapshot = new LongAdder();
+    private final LongAdder reconstruccionesSnapshot = new LongAdder();
+    private final LongAdder parchesSnapshot = new LongAdder();
+    private final LongAdder nanosParchesSnapshot = new LongAdder();
+    private final LongAccumulator retrasoMaximoNanos = new LongAccumulator(Math::max, 0);
+    private volatile long nanosUltimaReconstruccion;
+    private final int batchSize;
+    private final int maxIntentosUpdate;
+    // Escritura diferida de las actualizaciones; null si está desactivada
+    private final WriteBehindBuffer writeBehind;
 
     /**
      * Crea el servicio inyectando repositorio y almacenamiento.
@@ -43,9 +118,115 @@ public class TenistasServiceImpl implements TenistasService {
         this.repository = repository;
         logger.info("Inicializando TenistasServiceImpl con TenistasRepository y configuración de caché");
 
-        this.tenistaCache = Caffeine.newBuilder()
-                .expireAfterWrite(10, TimeUnit.MINUTES)
-                .maximumSize(Config.getInstance().getCacheSize())
+        this.tenistaCache = createCache(Config.getInstance());
+        this.ausentesCache = createNegativeCache(Config.getInstance());
+        this.bloomEnabled = Config.getInstance().isCacheBloomEnabled();
+        this.bloomFpp = Config.getInstance().getCacheBloomFpp();
+        this.snapshotEnabled = Config.getInstance().isCacheSnapshotEnabled();
+
+        this.batchSize = Math.max(1, Config.getInstance().getDatabaseBatchSize());
+        this.maxIntentosUpdate = Math.max(1, Config.getInstance().getDatabaseUpdateMaxAttempts());
+        this.writeBehind = Config.getInstance().isDatabaseWriteBehindEnabled()
+                ? new WriteBehindBuffer(repository, Duration.ofMillis(Config.getInstance().getDatabaseWriteBehindInterval()),
+                Config.getInstance().getDatabaseWriteBehindMaxAttempts(), this::olvidarCambiosDescartados, this::confirmarVolcados)
+                : null;
+    }
+
+    /**
+     * Refresca la caché y la instantánea con los tenistas que acaba de escribir la escritura diferida,
+     * para que tengan la versión de la base de datos y la siguiente actualización no dé un conflicto falso.
+     *
+     * @param vigentes Valor vigente de cada tenista escrito
+     */
+    private void confirmarVolcados(List<Tenista> vigentes) {
+        bloquearEscrituras();
+        try {
+            parchearSnapshot(vigentes, System.nanoTime());
+        } finally {
+            desbloquearEscrituras();
+        }
+        // La siguiente lectura carga el cambio pendiente, si ha llegado otro, o la fila escrita
+        tenistaCache.invalidateAll(vigentes.stream().map(Tenista::getId).toList());
+    }
+
+    /**
+     * Olvida los cambios que la escritura diferida no ha podido escribir: se quitan de la caché y se vuelve
+     * a leer la instantánea, para que las lecturas vuelvan a ver lo que hay en la base de datos.
+     *
+     * @param ids Ids de los tenistas con cambios descartados
+     */
+    private void olvidarCambiosDescartados(Collection<Long> ids) {
+        tenistaCache.invalidateAll(ids);
+        reconstruirSnapshotTrasImportar(System.nanoTime());
+    }
+
+    /**
+     * Crea la caché de lectura (read-through): los fallos se cargan desde el repositorio y
+     * varias peticiones simultáneas del mismo id comparten una única carga.
+     *
+     * @param config Configuración con tamaño, expiración y refresco de la caché
+     * @return Caché de tenistas por id
+     */
+    private LoadingCache<Long, Tenista> createCache(Config config) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(config.getCacheSize())
+                .expireAfterWrite(Duration.ofSeconds(config.getCacheExpireAfterWrite()))
+                .recordStats();
+        if (config.getCacheRefreshAfterWrite() > 0) {
+            builder.refreshAfterWrite(Duration.ofSeconds(config.getCacheRefreshAfterWrite()));
+        }
+        return builder.build(new CacheLoader<>() {
+            @Override
+            public Tenista load(Long id) {
+                Tenista pendiente = pendienteDeEscribir(id);
+                if (pendiente != null) {
+                    return pendiente;
+                }
+                logger.info("Cargando tenista con id {} en caché desde el repositorio", id);
+                // null indica que no existe: Caffeine no guarda la entrada
+                return repository.findById(id).orElse(null);
+            }
+
+            @Override
+            public Map<Long, Tenista> loadAll(Set<? extends Long> ids) {
+                logger.info("Cargando {} tenistas en caché desde el repositorio", ids.size());
+                Map<Long, Tenista> cargados = repository.findAllById(List.copyOf(ids)).stream()
+                        .collect(Collectors.toMap(Tenista::getId, Function.identity()));
+                for (Long id : ids) {
+                    Tenista pendiente = pendienteDeEscribir(id);
+                    if (pendiente != null) {
+                        cargados.put(id, pendiente);
+                    }
+                }
+                return cargados;
+            }
+        });
+    }
+
+    /**
+     * Obtiene el cambio de un tenista que la escritura diferida aún no ha escrito en la base de datos.
+     *
+     * @param id Identificador
+     * @return Último valor pendiente o null si no hay (o si la escritura diferida está desactivada)
+     */
+    private Tenista pendienteDeEscribir(long id) {
+        return writeBehind == null ? null : writeBehind.pendiente(id);
+    }
+
+    /**
+     * Crea la caché negativa, que recuerda durante poco tiempo los ids que no existen para que
+     * las búsquedas repetidas de un id inexistente no lleguen a la base de datos.
+     *
+     * @param config Configuración con tamaño y expiración de la caché negativa
+     * @return Caché de ids inexistentes o null si está desactivada
+     */
+    private Cache<Long, Boolean> createNegativeCache(Config config) {
+        if (config.getCacheNegativeExpireAfterWrite() <= 0) {
+            return null;
+        }
+        return Caffeine.newBuilder()
+                .maximumSize(config.getCacheNegativeSize())
+                .expireAfterWrite(Duration.ofSeconds(config.getCacheNegativeExpireAfterWrite()))
                 .build();
     }
 
@@ -55,7 +236,195 @@ public class TenistasServiceImpl implements TenistasService {
     @Override
     public List<Tenista> findAll() {
         logger.info("Buscando todos los tenistas en el servicio");
-        return repository.findAll();
+        if (!snapshotEnabled) {
+            return repository.findAll();
+        }
+        Instantanea actual = snapshot;
+        if (actual == null) {
+            actual = construirSnapshot();
+        }
+        lecturasSnapshot.increment();
+        // Tenista es mutable: cada lector recibe sus copias y no puede alterar la instantánea compartida
+        return Arrays.stream(actual.porId()).map(TenistasServiceImpl::copia).toList();
+    }
+
+    /**
+     * Instantánea inmutable de todos los tenistas, ordenados por id.
+     * Sus tenistas no salen del servicio: los lectores reciben copias.
+     *
+     * @param porId Tenistas ordenados por id (nunca se modifica una vez publicado)
+     */
+    private record Instantanea(Tenista[] porId) {
+    }
+
+    /**
+     * Construye la primera instantánea si ningún otro hilo lo ha hecho ya.
+     *
+     * @return Instantánea publicada
+     */
+    private Instantanea construirSnapshot() {
+        snapshotLock.lock();
+        try {
+            Instantanea actual = snapshot;
+            return actual != null ? actual : reconstruirSnapshot();
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * Lee todos los tenistas de la base de datos y publica una instantánea nueva.
+     * Debe llamarse con snapshotLock tomado.
+     *
+     * @return Instantánea publicada
+     */
+    private Instantanea reconstruirSnapshot() {
+        long inicio = System.nanoTime();
+        Tenista[] tenistas = repository.findAll().stream()
+                .sorted(Comparator.comparingLong(Tenista::getId))
+                .toArray(Tenista[]::new);
+        Instantanea nueva = new Instantanea(tenistas);
+        snapshot = nueva;
+        nanosUltimaReconstruccion = System.nanoTime() - inicio;
+        reconstruccionesSnapshot.increment();
+        logger.info("Instantánea de tenistas reconstruida con {} tenistas en {} ms", tenistas.length, nanosUltimaReconstruccion / 1_000_000);
+        return nueva;
+    }
+
+    /**
+     * Reconstruye la instantánea tras una escritura masiva, si ya se había construido.
+     *
+     * @param commit Instante (System.nanoTime) en que terminó la escritura
+     */
+    private void reconstruirSnapshotTrasImportar(long commit) {
+        if (!snapshotEnabled) {
+            return;
+        }
+        snapshotLock.lock();
+        try {
+            if (snapshot != null) {
+                reconstruirSnapshot();
+                retrasoMaximoNanos.accumulate(System.nanoTime() - commit);
+            }
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * Publica una copia de la instantánea con los tenistas creados o actualizados.
+     * Debe llamarse con snapshotLock tomado. Si aún no hay instantánea no hace nada: la primera lectura la construirá.
+     *
+     * @param cambios Tenistas guardados (si un id se repite gana el último)
+     * @param commit  Instante (System.nanoTime) en que terminó la escritura
+     */
+    private void parchearSnapshot(List<Tenista> cambios, long commit) {
+        Instantanea actual = snapshot;
+        if (actual == null) {
+            return;
+        }
+        // Copias propias: el llamante conserva y puede modificar los objetos que ha guardado
+        TreeMap<Long, Tenista> porId = new TreeMap<>();
+        for (Tenista cambio : cambios) {
+            porId.put(cambio.getId(), copia(cambio));
+        }
+        // Mezcla de dos secuencias ordenadas por id: los cambios sustituyen a los existentes
+        Tenista[] anterior = actual.porId();
+        Tenista[] nuevo = new Tenista[anterior.length + porId.size()];
+        int i = 0;
+        int n = 0;
+        for (Tenista cambio : porId.values()) {
+            while (i < anterior.length && anterior[i].getId() < cambio.getId()) {
+                nuevo[n++] = anterior[i++];
+            }
+            if (i < anterior.length && anterior[i].getId() == cambio.getId()) {
+                i++;
+            }
+            nuevo[n++] = cambio;
+        }
+        System.arraycopy(anterior, i, nuevo, n, anterior.length - i);
+        n += anterior.length - i;
+        publicarParche(n == nuevo.length ? nuevo : Arrays.copyOf(nuevo, n), commit);
+    }
+
+    /**
+     * Publica una copia de la instantánea sin el tenista borrado.
+     * Debe llamarse con snapshotLock tomado.
+     *
+     * @param id     Identificador del tenista borrado
+     * @param commit Instante (System.nanoTime) en que terminó el borrado
+     */
+    private void quitarDeSnapshot(long id, long commit) {
+        Instantanea actual = snapshot;
+        if (actual == null) {
+            return;
+        }
+        Tenista[] anterior = actual.porId();
+        int posicion = Arrays.binarySearch(anterior, Tenista.builder().id(id).build(), Comparator.comparingLong(Tenista::getId));
+        if (posicion < 0) {
+            return;
+        }
+        Tenista[] nuevo = new Tenista[anterior.length - 1];
+        System.arraycopy(anterior, 0, nuevo, 0, posicion);
+        System.arraycopy(anterior, posicion + 1, nuevo, posicion, nuevo.length - posicion);
+        publicarParche(nuevo, commit);
+    }
+
+    private void publicarParche(Tenista[] tenistas, long commit) {
+        snapshot = new Instantanea(tenistas);
+        long ahora = System.nanoTime();
+        parchesSnapshot.increment();
+        nanosParchesSnapshot.add(ahora - commit);
+        retrasoMaximoNanos.accumulate(ahora - commit);
+    }
+
+    private static Tenista copia(Tenista tenista) {
+        return Tenista.builder()
+                .id(tenista.getId())
+                .nombre(tenista.getNombre())
+                .pais(tenista.getPais())
+                .altura(tenista.getAltura())
+                .peso(tenista.getPeso())
+                .puntos(tenista.getPuntos())
+                .mano(tenista.getMano())
+                .fechaNacimiento(tenista.getFechaNacimiento())
+                .version(tenista.getVersion())
+                .build();
+    }
+
+    /**
+     * Con la instantánea activada, impide que otra escritura se publique entre el commit de esta y su parche.
+     */
+    private void bloquearEscrituras() {
+        if (snapshotEnabled) {
+            snapshotLock.lock();
+        }
+    }
+
+    private void desbloquearEscrituras() {
+        if (snapshotEnabled) {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<Tenista> findPage(TenistasOrden orden, String pageToken, int size) throws TenistaException.ValidationException {
+        logger.info("Buscando página de tenistas ordenada por {} en el servicio", orden);
+        if (orden == null) {
+            throw new TenistaException.ValidationException("El orden de la página no puede ser nulo");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new TenistaException.ValidationException("El tamaño de página debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        try {
+            return repository.findPage(orden, pageToken, size);
+        } catch (IllegalArgumentException e) {
+            logger.error("Token de página no válido: {}", e.getMessage());
+            throw new TenistaException.ValidationException(e.getMessage());
+        }
     }
 
     /**
@@ -64,20 +433,253 @@ public class TenistasServiceImpl implements TenistasService {
     @Override
     public Tenista findById(long id) throws TenistaException.NotFoundException {
         logger.info("Buscando tenista con id: {} en caché", id);
-        Tenista cached = tenistaCache.getIfPresent(id);
-        if (cached != null) {
-            logger.info("Tenista con id {} encontrado en caché", id);
-            return cached;
+        // Los ids que seguro que no existen o que se sabe que no existen no llegan a la base de datos
+        if (descartadoPorFiltro(id)) {
+            atajosFiltro.increment();
+            logger.debug("Tenista con id {} descartado por el filtro de ids", id);
+            throw notFound(id);
+        }
+        if (ausentesCache != null && ausentesCache.getIfPresent(id) != null) {
+            aciertosNegativos.increment();
+            logger.debug("Tenista con id {} no encontrado según la caché negativa", id);
+            throw notFound(id);
+        }
+        Tenista tenista = tenistaCache.get(id);
+        if (tenista == null) {
+            logger.error("Tenista con id {} no encontrado", id);
+            if (idFilter != null) {
+                falsosPositivos.increment();
+            }
+            if (ausentesCache != null) {
+                ausentesCache.put(id, Boolean.TRUE);
+            }
+            throw notFound(id);
         }
+        return tenista;
+    }
 
-        Tenista tenista = repository.findById(id)
-                .orElseThrow(() -> {
-                    logger.error("Tenista con id {} no encontrado", id);
-                    return new TenistaException.NotFoundException("Tenista con ID " + id + " no encontrado.");
-                });
+    private TenistaException.NotFoundException notFound(long id) {
+        return new TenistaException.NotFoundException("Tenista con ID " + id + " no encontrado.");
+    }
 
-        tenistaCache.put(tenista.getId(), tenista);
-        return tenista;
+    /**
+     * Indica si el filtro de ids asegura que el id no existe.
+     *
+     * @param id Identificador
+     * @return true si el filtro está activo y el id seguro que no existe
+     */
+    private boolean descartadoPorFiltro(long id) {
+        IdBloomFilter filtro = idFilter;
+        return filtro != null && !filtro.mightContain(id);
+    }
+
+    /**
+     * Registra un id que acaba de crearse: se añade al filtro de ids y se olvida de la caché negativa.
+     *
+     * @param id Identificador
+     */
+    private void registrarId(long id) {
+        // Primero el filtro en construcción: si ya no hay, la reconstrucción terminó y idFilter es el nuevo
+        IdBloomFilter enConstruccion = idFilterEnConstruccion;
+        if (enConstruccion != null) {
+            enConstruccion.add(id);
+        }
+        IdBloomFilter filtro = idFilter;
+        if (filtro != null) {
+            filtro.add(id);
+        }
+        if (ausentesCache != null) {
+            ausentesCache.invalidate(id);
+        }
+    }
+
+    /**
+     * Reconstruye el filtro de ids con los ids de la base de datos y vacía la caché negativa.
+     * Se dimensiona para el doble de los ids actuales y así admitir altas hasta la siguiente reconstrucción.
+     * Mientras se construye se sigue usando el filtro anterior.
+     * <p>
+     * El filtro nuevo se publica antes de abrir el cursor: un alta que el cursor no llegue a ver
+     * se registra igualmente en él con {@link #registrarId(long)}.
+     */
+    private synchronized void reconstruirFiltro() {
+        if (ausentesCache != null) {
+            ausentesCache.invalidateAll();
+        }
+        if (!bloomEnabled) {
+            return;
+        }
+        IdBloomFilter nuevo = new IdBloomFilter(Math.max(1024, repository.count() * 2L), bloomFpp);
+        idFilterEnConstruccion = nuevo;
+        long total = 0;
+        try (LongStream stream = repository.streamIds()) {
+            PrimitiveIterator.OfLong ids = stream.iterator();
+            while (ids.hasNext()) {
+                nuevo.add(ids.nextLong());
+                total++;
+            }
+            idFilter = nuevo;
+        } finally {
+            idFilterEnConstruccion = null;
+        }
+        logger.info("Filtro de ids reconstruido con {} tenistas", total);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Tenista> findAllById(Collection<Long> ids) {
+        logger.info("Buscando {} tenistas por id en caché", ids.size());
+        List<Long> candidatos = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            if (descartadoPorFiltro(id)) {
+                atajosFiltro.increment();
+            } else {
+                candidatos.add(id);
+            }
+        }
+        Map<Long, Tenista> encontrados = tenistaCache.getAll(candidatos);
+        return ids.stream()
+                .map(encontrados::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Tenista> findByNombrePrefix(String prefijo, int limit) throws TenistaException.ValidationException {
+        logger.info("Buscando tenistas cuyo nombre empieza por {} en el servicio", prefijo);
+        if (prefijo == null || prefijo.isBlank()) {
+            throw new TenistaException.ValidationException("El prefijo del nombre no puede estar vacío");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new TenistaException.ValidationException("El límite debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        return repository.findByNombrePrefix(prefijo, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Tenista> topByPuntos(String pais, int n) throws TenistaException.ValidationException {
+        logger.info("Buscando los {} tenistas de {} con más puntos en el servicio", n, pais);
+        validateRanking(pais, n);
+        return repository.topByPuntos(pais, n);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ManoStats> statsByMano(String pais) throws TenistaException.ValidationException {
+        logger.info("Calculando estadísticas por mano de {} en el servicio", pais);
+        validateRanking(pais, 1);
+        return repository.statsByMano(pais);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ManoStats> statsByMano(String pais, int n) throws TenistaException.ValidationException {
+        logger.info("Calculando estadísticas por mano de los {} mejores de {} en el servicio", n, pais);
+        validateRanking(pais, n);
+        return repository.statsByMano(pais, n);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * El cursor recorre la tabla ordenada por id, de ahí el desempate por id.
+     */
+    @Override
+    public List<Tenista> topK(Comparator<? super Tenista> comparator, int k, Predicate<? super Tenista> filtro)
+            throws TenistaException.ValidationException {
+        logger.info("Buscando los {} primeros tenistas con un orden propio en el servicio", k);
+        if (comparator == null) {
+            throw new TenistaException.ValidationException("El orden no puede ser nulo");
+        }
+        if (k < 1 || k > MAX_PAGE_SIZE) {
+            throw new TenistaException.ValidationException("El número de tenistas debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        try (Stream<Tenista> tenistas = repository.streamAll()) {
+            return (filtro == null ? tenistas : tenistas.filter(filtro))
+                    .collect(TopK.topK(k, comparator));
+        }
+    }
+
+    /**
+     * Valida los parámetros de las consultas de ranking por país.
+     *
+     * @param pais País
+     * @param n    Número de tenistas
+     * @throws TenistaException.ValidationException si el país está vacío o n no es positivo
+     */
+    private void validateRanking(String pais, int n) throws TenistaException.ValidationException {
+        if (pais == null || pais.isBlank()) {
+            throw new TenistaException.ValidationException("El país no puede estar vacío");
+        }
+        if (n < 1) {
+            throw new TenistaException.ValidationException("El número de tenistas debe ser mayor que 0");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CacheStats getCacheStats() {
+        return tenistaCache.stats();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NegativeLookupStats getNegativeLookupStats() {
+        return new NegativeLookupStats(idFilter != null, atajosFiltro.sum(), falsosPositivos.sum(), aciertosNegativos.sum());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SnapshotStats getSnapshotStats() {
+        Instantanea actual = snapshot;
+        long parches = parchesSnapshot.sum();
+        return new SnapshotStats(
+                snapshotEnabled,
+                actual == null ? 0 : actual.porId().length,
+                lecturasSnapshot.sum(),
+                reconstruccionesSnapshot.sum(),
+                parches,
+                nanosUltimaReconstruccion / 1e6,
+                parches == 0 ? 0 : nanosParchesSnapshot.sum() / 1e6 / parches,
+                retrasoMaximoNanos.get() / 1e6
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public WriteBehindStats getWriteBehindStats() {
+        return writeBehind == null
+                ? new WriteBehindStats(false, 0, 0, 0, 0, 0, 0, 1, 0, 0)
+                : writeBehind.stats();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (writeBehind != null) {
+            writeBehind.close();
+        }
     }
 
     /**
@@ -90,31 +692,177 @@ public class TenistasServiceImpl implements TenistasService {
         // Validar antes de guardar
         TenistaValidator.validate(tenista);
 
-        Tenista saved = repository.save(tenista);
+        Tenista saved;
+        bloquearEscrituras();
+        try {
+            saved = repository.save(tenista);
+            parchearSnapshot(List.of(saved), System.nanoTime());
+        } finally {
+            desbloquearEscrituras();
+        }
+        registrarId(saved.getId());
         tenistaCache.put(saved.getId(), saved);
         return saved;
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Las filas actualizadas pueden estar en caché, así que se invalidan; los ids se registran en el filtro.
+     */
+    @Override
+    public List<Tenista> upsertAll(List<Tenista> tenistas) throws TenistaException.ValidationException {
+        logger.info("Insertando o actualizando {} tenistas en el servicio", tenistas.size());
+        for (Tenista tenista : tenistas) {
+            TenistaValidator.validate(tenista);
+        }
+
+        List<Tenista> guardados;
+        bloquearEscrituras();
+        try {
+            guardados = repository.upsertAll(tenistas);
+            parchearSnapshot(guardados, System.nanoTime());
+        } finally {
+            desbloquearEscrituras();
+        }
+        for (Tenista guardado : guardados) {
+            registrarId(guardado.getId());
+            tenistaCache.invalidate(guardado.getId());
+        }
+        return guardados;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * La caché solo se sustituye por una versión más reciente, así que dos actualizaciones concurrentes
+     * no pueden dejar en caché la más antigua.
      */
     @Override
-    public Tenista update(Tenista tenista) throws TenistaException.NotFoundException, TenistaException.ValidationException {
-        logger.info("Actualizando tenista con id: {} en el servicio", tenista.getId());
+    public Tenista update(Tenista tenista) throws TenistaException.NotFoundException, TenistaException.ValidationException,
+            TenistaException.ConflictException {
+        logger.info("Actualizando tenista con id: {} y versión {} en el servicio", tenista.getId(), tenista.getVersion());
 
         // Validar antes de actualizar
         TenistaValidator.validate(tenista);
 
-        tenistaCache.invalidate(tenista.getId());
+        if (writeBehind != null) {
+            return updateDiferido(tenista);
+        }
+
+        UpdateResult resultado;
+        bloquearEscrituras();
+        try {
+            resultado = repository.update(tenista);
+            if (resultado instanceof UpdateResult.Updated(Tenista updated)) {
+                parchearSnapshot(List.of(updated), System.nanoTime());
+            }
+        } finally {
+            desbloquearEscrituras();
+        }
+
+        switch (resultado) {
+            case UpdateResult.Updated(Tenista updated) -> {
+                tenistaCache.asMap().merge(updated.getId(), updated,
+                        (enCache, nuevo) -> nuevo.getVersion() >= enCache.getVersion() ? nuevo : enCache);
+                return updated;
+            }
+            case UpdateResult.NotFound() -> {
+                tenistaCache.invalidate(tenista.getId());
+                logger.error("Tenista con id {} no encontrado para actualizar", tenista.getId());
+                throw new TenistaException.NotFoundException("Tenista con ID " + tenista.getId() + " no encontrado para actualizar.");
+            }
+            case UpdateResult.Conflict(long versionActual) -> {
+                // Lo que haya en caché puede ser la versión antigua
+                tenistaCache.invalidate(tenista.getId());
+                throw new TenistaException.ConflictException("Tenista con ID " + tenista.getId() +
+                        " modificado por otra operación (versión " + tenista.getVersion() + ", actual " + versionActual + ").");
+            }
+        }
+    }
 
-        Tenista updated = repository.update(tenista)
-                .orElseThrow(() -> {
-                    logger.error("Tenista con id {} no encontrado para actualizar", tenista.getId());
-                    return new TenistaException.NotFoundException("Tenista con ID " + tenista.getId() + " no encontrado para actualizar.");
-                });
+    /**
+     * Aplica una actualización en la caché y la deja pendiente de escribir en el siguiente volcado.
+     * La caché y los pendientes se actualizan dentro del compute de la caché, así que dos actualizaciones
+     * concurrentes del mismo tenista quedan en el mismo orden en ambos. La versión del tenista debe ser la del
+     * último valor aceptado; el cambio recibe la que tendrá la fila tras el volcado, que vuelve a comprobarla.
+     *
+     * @param tenista Tenista validado con los cambios
+     * @return El tenista recibido, con la nueva versión
+     * @throws TenistaException.NotFoundException si no existe
+     * @throws TenistaException.ConflictException si otra actualización lo modificó antes
+     */
+    private Tenista updateDiferido(Tenista tenista) throws TenistaException.NotFoundException, TenistaException.ConflictException {
+        long id = tenista.getId();
+        // Los tenistas que se actualizan a menudo están en caché, así que comprobar que existen no suele costar una consulta
+        Tenista leido = descartadoPorFiltro(id) ? null : tenistaCache.get(id);
+        if (leido == null) {
+            logger.error("Tenista con id {} no encontrado para actualizar", id);
+            throw new TenistaException.NotFoundException("Tenista con ID " + id + " no encontrado para actualizar.");
+        }
+        Tenista pendiente = copia(tenista);
+        long[] versionActual = {-1};
+        bloquearEscrituras();
+        try {
+            tenistaCache.asMap().compute(id, (clave, enCache) -> {
+                Tenista actual = enCache != null ? enCache : leido;
+                if (actual.getVersion() != tenista.getVersion()) {
+                    versionActual[0] = actual.getVersion();
+                    return enCache;
+                }
+                writeBehind.encolar(pendiente, actual.getVersion());
+                return pendiente;
+            });
+            if (versionActual[0] < 0) {
+                parchearSnapshot(List.of(pendiente), System.nanoTime());
+            }
+        } finally {
+            desbloquearEscrituras();
+        }
+        if (versionActual[0] >= 0) {
+            throw new TenistaException.ConflictException("Tenista con ID " + id +
+                    " modificado por otra operación (versión " + tenista.getVersion() + ", actual " + versionActual[0] + ").");
+        }
+        tenista.setVersion(pendiente.getVersion());
+        if (writeBehind.cerrado()) {
+            // Tras close() no hay más volcados: el cambio se escribe ya
+            writeBehind.volcar();
+        }
+        return tenista;
+    }
 
-        tenistaCache.put(updated.getId(), updated);
-        return updated;
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Se lee del repositorio y no de la caché para partir siempre de la última versión. Entre intentos se espera
+     * un tiempo aleatorio que crece con el número de intento, para que los que compiten no vuelvan a chocar a la vez.
+     */
+    @Override
+    public Tenista updateWithRetry(long id, UnaryOperator<Tenista> cambio) throws TenistaException.NotFoundException,
+            TenistaException.ValidationException, TenistaException.ConflictException {
+        logger.info("Actualizando tenista con id: {} con reintentos en el servicio", id);
+        for (int intento = 1; ; intento++) {
+            Tenista pendiente = pendienteDeEscribir(id);
+            Tenista leido = (pendiente != null ? Optional.of(copia(pendiente)) : repository.findById(id))
+                    .orElseThrow(() -> {
+                        logger.error("Tenista con id {} no encontrado para actualizar", id);
+                        return new TenistaException.NotFoundException("Tenista con ID " + id + " no encontrado para actualizar.");
+                    });
+            Tenista cambiado = cambio.apply(leido);
+            // El cambio no puede elegir otra fila ni saltarse la comprobación de versión
+            cambiado.setId(id);
+            cambiado.setVersion(leido.getVersion());
+            try {
+                return update(cambiado);
+            } catch (TenistaException.ConflictException e) {
+                if (intento >= maxIntentosUpdate) {
+                    logger.error("Tenista con id {} sin actualizar tras {} conflictos de versión", id, intento);
+                    throw e;
+                }
+                logger.debug("Conflicto de versión actualizando el tenista con id {}, intento {} de {}", id, intento, maxIntentosUpdate);
+                LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(1, intento * 100_000L + 1));
+            }
+        }
     }
 
     /**
@@ -123,13 +871,29 @@ public class TenistasServiceImpl implements TenistasService {
     @Override
     public boolean deleteById(long id) throws TenistaException.NotFoundException {
         logger.info("Borrando tenista con id: {} en el servicio", id);
+        if (writeBehind != null) {
+            writeBehind.descartar(id);
+        }
         tenistaCache.invalidate(id);
 
-        boolean deleted = repository.deleteById(id);
+        boolean deleted;
+        bloquearEscrituras();
+        try {
+            deleted = repository.deleteById(id);
+            if (deleted) {
+                quitarDeSnapshot(id, System.nanoTime());
+            }
+        } finally {
+            desbloquearEscrituras();
+        }
         if (!deleted) {
             logger.error("Tenista con id {} no encontrado para borrar", id);
             throw new TenistaException.NotFoundException("Tenista con ID " + id + " no encontrado para borrar.");
         }
+        // El filtro de ids no puede olvidar el id, pero la caché negativa sí puede recordar que ya no existe
+        if (ausentesCache != null) {
+            ausentesCache.put(id, Boolean.TRUE);
+        }
         return true;
     }
 
@@ -139,20 +903,185 @@ public class TenistasServiceImpl implements TenistasService {
     @Override
     public void importFromCsv(String filePath) throws TenistaException.StorageException, TenistaException.ValidationException {
         logger.info("Cargando datos desde archivo: {}", filePath);
-        List<Tenista> tenistas = storage.loadData(filePath);
+        int total = 0;
 
-        // Validar todos los tenistas antes de guardarlos
-        for (Tenista tenista : tenistas) {
-            try {
-                TenistaValidator.validate(tenista);
-                repository.save(tenista);
-            } catch (TenistaException.ValidationException e) {
-                logger.error("Error de validación para el tenista {}: {}", tenista, e.getMessage());
-                throw e; // Re-lanzar la excepción para que el proceso de importación falle
+        // Recorremos el CSV en streaming dos veces: la memoria no depende del tamaño del fichero.
+        // La primera pasada solo valida, así una fila errónea al final no deja la importación a medias;
+        // la segunda guarda por lotes.
+        try {
+            try (Stream<Tenista> tenistas = storage.loadDataStream(filePath)) {
+                Iterator<Tenista> iterator = tenistas.iterator();
+                while (iterator.hasNext()) {
+                    Tenista tenista = iterator.next();
+                    try {
+                        TenistaValidator.validate(tenista);
+                    } catch (TenistaException.ValidationException e) {
+                        logger.error("Error de validación para el tenista {}: {}", tenista, e.getMessage());
+                        throw e; // Re-lanzar la excepción para que el proceso de importación falle
+                    }
+                }
+            }
+            try (Stream<Tenista> tenistas = storage.loadDataStream(filePath)) {
+                Iterator<Tenista> iterator = tenistas.iterator();
+                List<Tenista> lote = new ArrayList<>(batchSize);
+                while (iterator.hasNext()) {
+                    lote.add(iterator.next());
+                    if (lote.size() == batchSize) {
+                        total += saveLote(lote);
+                    }
+                }
+                total += saveLote(lote);
+            }
+        } catch (UncheckedIOException e) {
+            logger.error("Error al leer el archivo: {}", filePath, e);
+            throw new TenistaException.StorageException("Error al leer el archivo: " + e.getCause().getMessage());
+        } catch (IllegalArgumentException e) {
+            logger.error("Error al parsear los datos del archivo: {}", filePath, e);
+            throw new TenistaException.StorageException("Error al parsear los datos: " + e.getMessage());
+        }
+        reconstruirSnapshotTrasImportar(System.nanoTime());
+        reconstruirFiltro();
+
+        logger.info("Datos cargados y guardados en el repositorio desde el archivo: {}. Total: {}", filePath, total);
+    }
+
+    /**
+     * Guarda un lote validado (un round trip y un commit por lote) y lo vacía para reutilizarlo.
+     * Los ids generados se registran en el filtro al confirmar el lote, sin esperar al final de la importación.
+     *
+     * @param lote Tenistas a guardar
+     * @return Número de tenistas guardados
+     */
+    private int saveLote(List<Tenista> lote) {
+        int size = lote.size();
+        if (size > 0) {
+            repository.saveAll(List.copyOf(lote)).forEach(guardado -> registrarId(guardado.getId()));
+            lote.clear();
+        }
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Cada archivo se lee en su propio hilo (hasta uno por núcleo). Los tenistas leídos se registran en un
+     * mapa concurrente por clave natural, así que los duplicados entre archivos se eliminan mientras se leen.
+     * Después se guardan con MERGE por lotes y se vacía la caché, porque pueden haber cambiado tenistas cacheados.
+     */
+    @Override
+    public int importFromCsvFiles(List<String> filePaths) throws TenistaException.StorageException, TenistaException.ValidationException {
+        logger.info("Importando {} archivos CSV en paralelo", filePaths.size());
+        Map<ClaveNatural, Aparicion> unicos = new ConcurrentHashMap<>();
+        int leidos = 0;
+
+        int hilos = Math.max(1, Math.min(filePaths.size(), Runtime.getRuntime().availableProcessors()));
+        try (ExecutorService executor = Executors.newFixedThreadPool(hilos)) {
+            List<Future<Integer>> tareas = new ArrayList<>(filePaths.size());
+            for (int i = 0; i < filePaths.size(); i++) {
+                int orden = i;
+                String filePath = filePaths.get(i);
+                tareas.add(executor.submit(() -> leerArchivo(filePath, orden, unicos)));
+            }
+            for (Future<Integer> tarea : tareas) {
+                try {
+                    leidos += tarea.get();
+                } catch (ExecutionException e) {
+                    // Si falla un archivo no tiene sentido seguir con el resto
+                    tareas.forEach(t -> t.cancel(true));
+                    relanzarErrorDeImportacion(e.getCause());
+                } catch (InterruptedException e) {
+                    tareas.forEach(t -> t.cancel(true));
+                    Thread.currentThread().interrupt();
+                    throw new TenistaException.StorageException("Importación interrumpida");
+                }
             }
         }
 
-        logger.info("Datos cargados y guardados en el repositorio desde el archivo: {}. Total: {}", filePath, tenistas.size());
+        // Orden estable (archivo y línea) para que el resultado no dependa del reparto entre hilos
+        List<Tenista> tenistas = unicos.values().stream()
+                .sorted(Comparator.comparingInt(Aparicion::orden).thenComparingLong(Aparicion::linea))
+                .map(Aparicion::tenista)
+                .toList();
+        repository.upsertAll(tenistas);
+        long commit = System.nanoTime();
+        tenistaCache.invalidateAll();
+        reconstruirSnapshotTrasImportar(commit);
+        reconstruirFiltro();
+
+        logger.info("Importados {} tenistas distintos de {} leídos en {} archivos", tenistas.size(), leidos, filePaths.size());
+        return tenistas.size();
+    }
+
+    /**
+     * Lee y valida un archivo CSV registrando cada tenista en el mapa de tenistas únicos.
+     *
+     * @param filePath Ruta del archivo
+     * @param orden    Posición del archivo en la lista (los posteriores ganan a los anteriores)
+     * @param unicos   Mapa concurrente de tenistas por clave natural
+     * @return Número de tenistas leídos del archivo
+     */
+    private int leerArchivo(String filePath, int orden, Map<ClaveNatural, Aparicion> unicos)
+            throws TenistaException.StorageException, TenistaException.ValidationException {
+        int leidos = 0;
+        try (Stream<Tenista> tenistas = storage.loadDataStream(filePath)) {
+            Iterator<Tenista> iterator = tenistas.iterator();
+            while (iterator.hasNext()) {
+                Tenista tenista = iterator.next();
+                try {
+                    TenistaValidator.validate(tenista);
+                } catch (TenistaException.ValidationException e) {
+                    logger.error("Error de validación para el tenista {} en {}: {}", tenista, filePath, e.getMessage());
+                    throw e;
+                }
+                unicos.merge(new ClaveNatural(tenista.getNombre(), tenista.getFechaNacimiento()),
+                        new Aparicion(orden, leidos++, tenista), Aparicion::masReciente);
+            }
+        }
+        logger.info("Archivo {} leído con {} tenistas", filePath, leidos);
+        return leidos;
+    }
+
+    /**
+     * Relanza como excepción de dominio el error de la lectura de un archivo.
+     *
+     * @param causa Error producido en el hilo de lectura
+     */
+    private void relanzarErrorDeImportacion(Throwable causa) throws TenistaException.StorageException, TenistaException.ValidationException {
+        switch (causa) {
+            case TenistaException.StorageException e -> throw e;
+            case TenistaException.ValidationException e -> throw e;
+            case UncheckedIOException e -> {
+                logger.error("Error al leer un archivo de la importación", e);
+                throw new TenistaException.StorageException("Error al leer el archivo: " + e.getCause().getMessage());
+            }
+            case IllegalArgumentException e -> {
+                logger.error("Error al parsear un archivo de la importación", e);
+                throw new TenistaException.StorageException("Error al parsear los datos: " + e.getMessage());
+            }
+            case RuntimeException e -> throw e;
+            default -> throw new IllegalStateException(causa);
+        }
+    }
+
+    /**
+     * Clave natural de un tenista: nombre y fecha de nacimiento.
+     */
+    private record ClaveNatural(String nombre, LocalDate fechaNacimiento) {
+    }
+
+    /**
+     * Aparición de un tenista en la importación: archivo, línea dentro del archivo y datos.
+     */
+    private record Aparicion(int orden, long linea, Tenista tenista) {
+        /**
+         * Entre dos apariciones del mismo tenista se queda la del archivo posterior o, en el mismo, la línea posterior.
+         */
+        static Aparicion masReciente(Aparicion a, Aparicion b) {
+            if (a.orden != b.orden) {
+                return a.orden > b.orden ? a : b;
+            }
+            return a.linea > b.linea ? a : b;
+        }
     }
 
     /**
@@ -160,8 +1089,11 @@ public class TenistasServiceImpl implements TenistasService {
      */
     @Override
     public void exportToJson(String filePath) throws TenistaException.StorageException {
-        List<Tenista> tenistas = repository.findAll();
-        int savedCount = storage.saveData(tenistas, filePath);
+        int savedCount;
+        // Cursor de la base de datos -> JSON, fila a fila: la memoria no depende del tamaño de la tabla
+        try (Stream<Tenista> tenistas = repository.streamAll()) {
+            savedCount = storage.saveDataStream(tenistas, filePath);
+        }
         logger.info("Datos guardados desde el repositorio en el archivo: {} con {} tenistas", filePath, savedCount);
     }
 }
\ No newline at end of file
@@ -0,0 +1,294 @@
+package dev.joseluisgs.service;
+
+import dev.joseluisgs.models.Tenista;
+import dev.joseluisgs.repository.TenistasRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Búfer de escritura diferida (write-behind) de las actualizaciones de tenistas.
+ * Las actualizaciones se agrupan por id en un mapa concurrente, de modo que varias actualizaciones del mismo
+ * tenista entre dos volcados se quedan en una sola fila con el último valor. Un hilo programado vuelca
+ * lo pendiente en un único batch por intervalo, y al cerrar se vuelca lo que quede.
+ * <p>
+ * Un cambio solo sale del mapa después de escribirse y si no ha llegado otro más reciente mientras tanto,
+ * así que quien consulte el mapa antes que la base de datos ve siempre el último valor. Si el volcado falla
+ * los cambios siguen pendientes y se reintentan en el siguiente intervalo; tras {@code maxIntentos} fallos
+ * seguidos se descartan, se cuentan y se avisa para que no queden en caché valores que no están en la base de datos.
+ * <p>
+ * El volcado mantiene el bloqueo optimista: cada cambio recuerda la versión de la fila sobre la que se hizo
+ * y solo se escribe si la base de datos sigue en esa versión. Los que otro proceso ha modificado o borrado
+ * entretanto se descartan igual que los que agotan los intentos. Tras cada volcado se avisa con los valores
+ * escritos, que ya llevan la versión de la base de datos, para que la caché no se quede con una anterior.
+ * <p>
+ * Tras {@link #close()} ya no hay volcados programados: quien encole un cambio debe volcarlo al momento.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.service.TenistasServiceImpl
+ * @see dev.joseluisgs.repository.TenistasRepository#updateAll(List)
+ */
+final class WriteBehindBuffer {
+    private final Logger logger = LoggerFactory.getLogger(WriteBehindBuffer.class);
+    private final TenistasRepository repository;
+    private final Map<Long, Pendiente> pendientes = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final int maxIntentos;
+    private final Consumer<Collection<Long>> alDescartar;
+    private final Consumer<List<Tenista>> alVolcar;
+    private final LongAdder actualizaciones = new LongAdder();
+    private final LongAdder filasEscritas = new LongAdder();
+    private final LongAdder descartadas = new LongAdder();
+    private final LongAdder volcados = new LongAdder();
+    private final LongAccumulator retrasoMaximoNanos = new LongAccumulator(Math::max, 0);
+    private volatile int filasUltimoVolcado;
+    private volatile long retrasoUltimoVolcadoNanos;
+    private volatile boolean cerrado;
+    private int volcadosFallidos; // Fallos seguidos; solo se usa dentro de volcar
+
+    /**
+     * Cambio pendiente de un tenista.
+     *
+     * @param tenista      Último valor recibido, con la versión que tendrá la fila tras el volcado
+     * @param versionBase  Versión de la fila en la base de datos sobre la que se hizo el cambio
+     * @param encolado     Instante (System.nanoTime) del primer cambio no escrito de este tenista
+     */
+    private record Pendiente(Tenista tenista, long versionBase, long encolado) {
+    }
+
+    /**
+     * Crea el búfer y arranca el volcado periódico en un hilo demonio.
+     *
+     * @param repository  Repositorio en el que se escriben los cambios
+     * @param intervalo   Tiempo entre volcados
+     * @param maxIntentos Volcados fallidos seguidos tras los que se descartan los cambios del lote
+     * @param alDescartar Recibe los ids de los cambios descartados
+     * @param alVolcar    Recibe tras cada volcado el valor vigente de los tenistas escritos
+     */
+    WriteBehindBuffer(TenistasRepository repository, Duration intervalo, int maxIntentos,
+                      Consumer<Collection<Long>> alDescartar, Consumer<List<Tenista>> alVolcar) {
+        this.repository = repository;
+        this.maxIntentos = Math.max(1, maxIntentos);
+        this.alDescartar = alDescartar;
+        this.alVolcar = alVolcar;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread hilo = new Thread(r, "tenistas-write-behind");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        long millis = Math.max(1, intervalo.toMillis());
+        scheduler.scheduleWithFixedDelay(this::volcadoProgramado, millis, millis, TimeUnit.MILLISECONDS);
+        logger.info("Escritura diferida de actualizaciones activada cada {} ms", millis);
+    }
+
+    /**
+     * Registra el último valor de un tenista para escribirlo en el siguiente volcado y le asigna la versión
+     * que tendrá la fila tras escribirlo. Si ya había un cambio pendiente, el nuevo parte de la misma fila.
+     * El tenista no debe modificarse después. Si después {@link #cerrado()} es true, hay que llamar a {@link #volcar()}.
+     *
+     * @param tenista      Tenista con id y cambios
+     * @param versionLeida Versión del último valor aceptado; sin cambios pendientes es la de la fila
+     */
+    void encolar(Tenista tenista, long versionLeida) {
+        actualizaciones.increment();
+        pendientes.compute(tenista.getId(), (id, anterior) -> {
+            long base = anterior == null ? versionLeida : anterior.versionBase();
+            tenista.setVersion(base + 1);
+            return new Pendiente(tenista, base, anterior == null ? System.nanoTime() : anterior.encolado());
+        });
+    }
+
+    /**
+     * Obtiene el cambio pendiente de un tenista.
+     *
+     * @param id Identificador
+     * @return Último valor aún no escrito o null si no hay cambios pendientes
+     */
+    Tenista pendiente(long id) {
+        Pendiente pendiente = pendientes.get(id);
+        return pendiente == null ? null : pendiente.tenista();
+    }
+
+    /**
+     * Olvida el cambio pendiente de un tenista, por ejemplo porque se va a borrar.
+     *
+     * @param id Identificador
+     */
+    void descartar(long id) {
+        pendientes.remove(id);
+    }
+
+    /**
+     * Indica si se ha llamado a {@link #close()}. Un cambio encolado antes de que esto sea true
+     * lo escribe el volcado final del cierre.
+     *
+     * @return true si ya no hay volcados programados
+     */
+    boolean cerrado() {
+        return cerrado;
+    }
+
+    private void volcadoProgramado() {
+        try {
+            volcar();
+        } catch (RuntimeException e) {
+            // Los cambios siguen pendientes: se reintentan en el siguiente intervalo
+            logger.error("Error en el volcado diferido de {} tenistas", pendientes.size(), e);
+        }
+    }
+
+    /**
+     * Escribe en un batch todos los cambios pendientes cuya fila sigue en la versión sobre la que se hicieron.
+     * Si falla, los cambios siguen pendientes y se relanza la excepción, salvo que sea el fallo
+     * número {@code maxIntentos} seguido: entonces se descartan.
+     *
+     * @return Número de tenistas escritos en la base de datos
+     */
+    int volcar() {
+        Volcado volcado = volcarOdescartar();
+        // Fuera del bloqueo del búfer: los avisos tocan la caché y la instantánea del servicio
+        if (!volcado.vigentes().isEmpty()) {
+            alVolcar.accept(volcado.vigentes());
+        }
+        if (!volcado.descartados().isEmpty()) {
+            alDescartar.accept(volcado.descartados());
+        }
+        return volcado.vigentes().size();
+    }
+
+    /**
+     * Resultado de un volcado.
+     *
+     * @param vigentes    Valor vigente de cada tenista escrito: el escrito o, si llegó otro cambio, el nuevo pendiente
+     * @param descartados Ids cuyos cambios se han descartado por agotar los intentos o por un conflicto de versión
+     */
+    private record Volcado(List<Tenista> vigentes, List<Long> descartados) {
+    }
+
+    private synchronized Volcado volcarOdescartar() {
+        if (pendientes.isEmpty()) {
+            return new Volcado(List.of(), List.of());
+        }
+        List<Map.Entry<Long, Pendiente>> lote = new ArrayList<>(pendientes.entrySet());
+        List<Tenista> tenistas = new ArrayList<>(lote.size());
+        long masAntiguo = Long.MAX_VALUE;
+        for (Map.Entry<Long, Pendiente> entrada : lote) {
+            // Se escribe con la versión de la fila de la que parte el cambio: es la que comprueba el UPDATE
+            tenistas.add(conVersion(entrada.getValue().tenista(), entrada.getValue().versionBase()));
+            masAntiguo = Math.min(masAntiguo, entrada.getValue().encolado());
+        }
+
+        Set<Long> actualizados;
+        try {
+            actualizados = new HashSet<>(repository.updateAll(tenistas));
+        } catch (RuntimeException e) {
+            if (++volcadosFallidos < maxIntentos) {
+                throw e;
+            }
+            // Un lote que falla siempre no se reintenta para siempre
+            volcadosFallidos = 0;
+            List<Long> ids = new ArrayList<>(lote.size());
+            for (Map.Entry<Long, Pendiente> entrada : lote) {
+                if (pendientes.remove(entrada.getKey(), entrada.getValue())) {
+                    ids.add(entrada.getKey());
+                }
+            }
+            descartadas.add(ids.size());
+            logger.error("Volcado diferido fallido {} veces seguidas: se descartan los cambios de los tenistas {}", maxIntentos, ids, e);
+            return new Volcado(List.of(), ids);
+        }
+        volcadosFallidos = 0;
+        long retraso = System.nanoTime() - masAntiguo;
+        List<Tenista> vigentes = new ArrayList<>(actualizados.size());
+        List<Long> enConflicto = new ArrayList<>();
+        for (Map.Entry<Long, Pendiente> entrada : lote) {
+            Pendiente escrito = entrada.getValue();
+            if (actualizados.contains(entrada.getKey())) {
+                // Si ha llegado un cambio más reciente se queda para el siguiente volcado, ya sobre la fila escrita
+                Pendiente siguiente = pendientes.computeIfPresent(entrada.getKey(), (id, actual) -> actual == escrito
+                        ? null
+                        : new Pendiente(conVersion(actual.tenista(), escrito.versionBase() + 2), escrito.versionBase() + 1, actual.encolado()));
+                vigentes.add(siguiente == null ? escrito.tenista() : siguiente.tenista());
+            } else {
+                // Otro proceso ha cambiado o borrado la fila: los cambios que parten de la versión antigua no se pueden escribir
+                pendientes.computeIfPresent(entrada.getKey(), (id, actual) -> actual.versionBase() == escrito.versionBase() ? null : actual);
+                enConflicto.add(entrada.getKey());
+            }
+        }
+        if (!enConflicto.isEmpty()) {
+            descartadas.add(enConflicto.size());
+            logger.warn("Se descartan los cambios diferidos de los tenistas {}: se han modificado o borrado en la base de datos", enConflicto);
+        }
+        if (!vigentes.isEmpty()) {
+            filasEscritas.add(vigentes.size());
+            volcados.increment();
+            filasUltimoVolcado = vigentes.size();
+            retrasoUltimoVolcadoNanos = retraso;
+            retrasoMaximoNanos.accumulate(retraso);
+        }
+        logger.debug("Volcado diferido de {} tenistas con un retraso máximo de {} ms", vigentes.size(), retraso / 1_000_000);
+        return new Volcado(vigentes, enConflicto);
+    }
+
+    /**
+     * Copia de un tenista con otra versión. Los tenistas encolados se comparten con la caché y no se modifican.
+     */
+    private static Tenista conVersion(Tenista tenista, long version) {
+        return new Tenista(tenista.getId(), tenista.getNombre(), tenista.getPais(), tenista.getAltura(), tenista.getPeso(),
+                tenista.getPuntos(), tenista.getMano(), tenista.getFechaNacimiento(), version);
+    }
+
+    /**
+     * Detiene el volcado periódico y escribe lo que quede pendiente.
+     */
+    void close() {
+        cerrado = true;
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.warn("El volcado diferido en curso no ha terminado a tiempo");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int escritos = volcar();
+        logger.info("Escritura diferida detenida; volcados {} tenistas pendientes al cerrar", escritos);
+    }
+
+    /**
+     * Obtiene las métricas acumuladas del búfer.
+     *
+     * @return Métricas de la escritura diferida
+     */
+    WriteBehindStats stats() {
+        long recibidas = actualizaciones.sum();
+        long escritas = filasEscritas.sum();
+        return new WriteBehindStats(
+                true,
+                pendientes.size(),
+                recibidas,
+                escritas,
+                descartadas.sum(),
+                volcados.sum(),
+                filasUltimoVolcado,
+                escritas == 0 ? 1 : (double) recibidas / escritas,
+                retrasoUltimoVolcadoNanos / 1e6,
+                retrasoMaximoNanos.get() / 1e6
+        );
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package dev.joseluisgs.service;
+
+/**
+ * Métricas de la escritura diferida (write-behind) de las actualizaciones de tenistas.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @param activa                   La escritura diferida está activada en la configuración
+ * @param pendientes               Tenistas con cambios aún no escritos en la base de datos
+ * @param actualizaciones          Actualizaciones recibidas
+ * @param filasEscritas            Filas escritas en la base de datos por los volcados
+ * @param descartadas              Cambios descartados sin escribir porque su volcado falló todos los intentos
+ * @param volcados                 Volcados que han escrito al menos una fila
+ * @param filasUltimoVolcado       Filas del último volcado
+ * @param ratioCoalescencia        Actualizaciones recibidas por cada fila escrita (1 si no se ha agrupado nada)
+ * @param retrasoUltimoVolcadoMillis Mayor tiempo que ha esperado en memoria un cambio del último volcado
+ * @param retrasoMaximoMillis      Mayor tiempo que ha esperado en memoria un cambio antes de escribirse
+ * @see dev.joseluisgs.service.TenistasService#getWriteBehindStats()
+ */
+public record WriteBehindStats(boolean activa, int pendientes, long actualizaciones, long filasEscritas, long descartadas, long volcados,
+                               int filasUltimoVolcado, double ratioCoalescencia, double retrasoUltimoVolcadoMillis,
+                               double retrasoMaximoMillis) {
+}
\ No newline at end of file
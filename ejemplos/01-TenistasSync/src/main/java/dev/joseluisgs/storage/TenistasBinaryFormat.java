@@ -0,0 +1,48 @@
+package dev.joseluisgs.storage;
+
+/**
+ * Constantes del formato binario de instantáneas de tenistas (versión 1).
+ * <p>
+ * Estructura del archivo (enteros en big-endian):
+ * <pre>
+ * Cabecera:  MAGIA (4 bytes, "TNSB") | VERSION (1 byte)
+ * Registros: TIPO (1 byte) | LONGITUD (2 bytes sin signo) | CUERPO (LONGITUD bytes)
+ *   PAIS    cuerpo = país en UTF-8. Recibe el siguiente código del diccionario (0, 1, 2...)
+ *           y se escribe justo antes del primer tenista que lo usa.
+ *   TENISTA cuerpo = id (8) | código de país (4, -1 si es null) | altura (4) | peso (4) | puntos (4)
+ *           | mano (1, ordinal, -1 si es null) | fecha de nacimiento (4, días desde 1970-01-01, Integer.MIN_VALUE si es null)
+ *           | longitud del nombre (2 bytes sin signo, 0xFFFF si es null) | nombre en UTF-8
+ *   FIN     cuerpo = número total de tenistas (8). Marca el final: sin él el archivo está truncado.
+ * </pre>
+ * Los lectores saltan los registros de tipo desconocido y los bytes finales que no conocen de un cuerpo
+ * gracias a la longitud, de modo que versiones posteriores pueden añadir campos o registros.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.storage.TenistasBinaryStorage
+ * @see dev.joseluisgs.storage.TenistasBinaryReader
+ */
+final class TenistasBinaryFormat {
+    static final int MAGIA = 0x544E5342; // "TNSB"
+    static final byte VERSION = 1;
+    static final int CABECERA = 5;
+
+    static final byte TIPO_FIN = 0;
+    static final byte TIPO_PAIS = 1;
+    static final byte TIPO_TENISTA = 2;
+
+    static final int CABECERA_REGISTRO = 3; // Tipo + longitud
+    static final int MAX_CUERPO = 0xFFFF;
+    // Campos fijos del cuerpo de un tenista, antes del nombre
+    static final int CAMPOS_FIJOS_TENISTA = 8 + 4 + 4 + 4 + 4 + 1 + 4;
+    static final int SIN_PAIS = -1;
+    static final byte SIN_MANO = -1;
+    static final int SIN_FECHA = Integer.MIN_VALUE;
+    static final int SIN_NOMBRE = 0xFFFF;
+    // Longitud máxima en bytes de un nombre o país, para que su registro quepa en un cuerpo
+    static final int MAX_TEXTO = MAX_CUERPO - CAMPOS_FIJOS_TENISTA - 2 - 1;
+
+    private TenistasBinaryFormat() {
+        // Evitar instanciación
+    }
+}
\ No newline at end of file
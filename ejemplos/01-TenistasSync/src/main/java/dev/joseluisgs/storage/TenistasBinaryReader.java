@@ -0,0 +1,256 @@
+package dev.joseluisgs.storage;
+
+import dev.joseluisgs.models.Tenista;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static dev.joseluisgs.storage.TenistasBinaryFormat.*;
+
+/**
+ * Lector de instantáneas binarias de tenistas sobre un {@link MappedByteBuffer}.
+ * Lee los campos numéricos directamente del fichero mapeado y solo crea un String por nombre;
+ * los países se leen una vez del diccionario y se comparten entre todos los tenistas.
+ * <p>
+ * Expone los tenistas de uno en uno como {@link Iterator} o {@link Stream}. Los ficheros grandes
+ * se mapean por ventanas. Los errores de formato (cabecera, archivo truncado) se lanzan como
+ * {@link IllegalArgumentException} y los de E/S durante la lectura como {@link UncheckedIOException}.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.storage.TenistasBinaryFormat
+ * @see dev.joseluisgs.storage.TenistasBinaryStorage
+ */
+public final class TenistasBinaryReader implements Iterator<Tenista>, Closeable {
+    static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024; // 64 MiB mapeados cada vez
+    private static final Tenista.Mano[] MANOS = Tenista.Mano.values();
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int windowSize;
+    private final List<String> paises = new ArrayList<>();
+    private byte[] scratch = new byte[256];
+
+    private MappedByteBuffer buffer;
+    private long bufferOffset; // Posición en el fichero del byte 0 del buffer
+    private int position; // Posición de lectura dentro del buffer
+    private long leidos;
+    private boolean terminado;
+
+    // Tenista preparado por hasNext() y pendiente de consumir por next()
+    private Tenista siguiente;
+
+    private TenistasBinaryReader(Path path, int windowSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            this.fileSize = channel.size();
+            this.windowSize = windowSize;
+            map(0, CABECERA);
+            if (fileSize < CABECERA || buffer.getInt(0) != MAGIA) {
+                throw new IllegalArgumentException("No es una instantánea binaria de tenistas");
+            }
+            byte version = buffer.get(4);
+            if (version < 1 || version > VERSION) {
+                throw new IllegalArgumentException("Versión de instantánea no soportada: " + version);
+            }
+            position = CABECERA;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Abre una instantánea binaria de tenistas comprobando su cabecera.
+     *
+     * @param path Ruta del archivo
+     * @return Lector posicionado en el primer registro
+     * @throws IOException              si no se puede abrir o mapear el fichero
+     * @throws IllegalArgumentException si el archivo no es una instantánea o su versión no está soportada
+     */
+    public static TenistasBinaryReader open(Path path) throws IOException {
+        return new TenistasBinaryReader(path, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Abre una instantánea con un tamaño de ventana concreto (solo pruebas).
+     */
+    static TenistasBinaryReader open(Path path, int windowSize) throws IOException {
+        return new TenistasBinaryReader(path, windowSize);
+    }
+
+    /**
+     * Devuelve los tenistas del fichero como un Stream secuencial y perezoso.
+     * Al cerrar el Stream se cierra el fichero.
+     *
+     * @return Stream de tenistas
+     */
+    public Stream<Tenista> stream() {
+        Spliterator<Tenista> spliterator = Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+        return StreamSupport.stream(spliterator, false).onClose(this::closeQuietly);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        if (siguiente == null && !terminado) {
+            siguiente = leerSiguiente();
+        }
+        return siguiente != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Tenista next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Tenista tenista = siguiente;
+        siguiente = null;
+        return tenista;
+    }
+
+    /**
+     * Cierra el fichero.
+     *
+     * @throws IOException si falla el cierre
+     */
+    @Override
+    public void close() throws IOException {
+        buffer = null;
+        channel.close();
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Lectura de registros
+
+    /**
+     * Lee registros hasta encontrar un tenista o el registro de fin.
+     *
+     * @return Siguiente tenista o null si se ha llegado al final
+     */
+    private Tenista leerSiguiente() {
+        while (true) {
+            asegurar(CABECERA_REGISTRO);
+            byte tipo = buffer.get(position);
+            int longitud = Short.toUnsignedInt(buffer.getShort(position + 1));
+            position += CABECERA_REGISTRO;
+            asegurar(longitud);
+            int inicio = position;
+            position += longitud; // El siguiente registro empieza tras el cuerpo, se lea entero o no
+            switch (tipo) {
+                case TIPO_TENISTA -> {
+                    leidos++;
+                    return leerTenista(inicio, longitud);
+                }
+                case TIPO_PAIS -> paises.add(leerTexto(inicio, longitud));
+                case TIPO_FIN -> {
+                    if (longitud < Long.BYTES) {
+                        throw new IllegalArgumentException("Instantánea corrupta: registro de fin incompleto");
+                    }
+                    long total = buffer.getLong(inicio);
+                    if (total != leidos) {
+                        throw new IllegalArgumentException("Instantánea corrupta: se esperaban " + total + " tenistas y hay " + leidos);
+                    }
+                    terminado = true;
+                    return null;
+                }
+                default -> {
+                    // Registro de una versión posterior: se salta
+                }
+            }
+        }
+    }
+
+    private Tenista leerTenista(int inicio, int longitud) {
+        if (longitud < CAMPOS_FIJOS_TENISTA + 2) {
+            throw new IllegalArgumentException("Instantánea corrupta en el tenista " + leidos);
+        }
+        int p = inicio;
+        long id = buffer.getLong(p);
+        int pais = buffer.getInt(p + 8);
+        int altura = buffer.getInt(p + 12);
+        int peso = buffer.getInt(p + 16);
+        int puntos = buffer.getInt(p + 20);
+        byte mano = buffer.get(p + 24);
+        int fecha = buffer.getInt(p + 25);
+        // El nombre lleva su longitud en 2 bytes para que versiones posteriores puedan añadir campos detrás
+        int longitudNombre = Short.toUnsignedInt(buffer.getShort(p + CAMPOS_FIJOS_TENISTA));
+        boolean sinNombre = longitudNombre == SIN_NOMBRE;
+        if (CAMPOS_FIJOS_TENISTA + 2 + (sinNombre ? 0 : longitudNombre) > longitud || mano < SIN_MANO || mano >= MANOS.length
+                || pais < SIN_PAIS || pais >= paises.size()) {
+            throw new IllegalArgumentException("Instantánea corrupta en el tenista " + leidos);
+        }
+        return Tenista.builder()
+                .id(id)
+                .nombre(sinNombre ? null : leerTexto(p + CAMPOS_FIJOS_TENISTA + 2, longitudNombre))
+                .pais(pais == SIN_PAIS ? null : paises.get(pais))
+                .altura(altura)
+                .peso(peso)
+                .puntos(puntos)
+                .mano(mano == SIN_MANO ? null : MANOS[mano])
+                .fechaNacimiento(fecha == SIN_FECHA ? null : LocalDate.ofEpochDay(fecha))
+                .build();
+    }
+
+    private String leerTexto(int inicio, int longitud) {
+        if (scratch.length < longitud) {
+            scratch = new byte[Math.max(longitud, scratch.length * 2)];
+        }
+        buffer.get(inicio, scratch, 0, longitud);
+        return new String(scratch, 0, longitud, StandardCharsets.UTF_8);
+    }
+
+    // Ventanas del fichero mapeado
+
+    /**
+     * Garantiza que hay al menos n bytes mapeados desde la posición actual, remapeando si hace falta.
+     */
+    private void asegurar(int n) {
+        long absoluta = bufferOffset + position;
+        if (absoluta + n > fileSize) {
+            throw new IllegalArgumentException("Instantánea truncada: falta el registro de fin");
+        }
+        if (position + n > buffer.limit()) {
+            try {
+                map(absoluta, n);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void map(long offset, int minimo) throws IOException {
+        long size = Math.min(Math.max(windowSize, minimo), fileSize - offset);
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+        bufferOffset = offset;
+        position = 0;
+    }
+}
\ No newline at end of file
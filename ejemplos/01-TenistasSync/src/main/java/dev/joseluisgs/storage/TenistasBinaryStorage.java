@@ -0,0 +1,219 @@
+package dev.joseluisgs.storage;
+
+import dev.joseluisgs.exceptions.TenistaException;
+import dev.joseluisgs.models.Tenista;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static dev.joseluisgs.storage.TenistasBinaryFormat.*;
+
+/**
+ * Implementación de TenistasStorage que guarda y carga instantáneas de tenistas en un formato
+ * binario compacto (extensión .tbin), pensado para exportar e importar tablas completas.
+ * <p>
+ * Frente al JSON, los números se guardan en binario de tamaño fijo, la fecha como número de días
+ * y cada país una sola vez en un diccionario, por lo que el archivo ocupa menos y la carga
+ * no tiene que analizar texto. La escritura va por bloques a través de un {@link FileChannel}
+ * y la lectura sobre el fichero mapeado en memoria con {@link TenistasBinaryReader}.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.storage.TenistasStorage
+ * @see dev.joseluisgs.storage.TenistasBinaryFormat
+ * @see dev.joseluisgs.storage.TenistasBinaryReader
+ */
+public class TenistasBinaryStorage implements TenistasStorage {
+    /**
+     * Extensión de las instantáneas binarias.
+     */
+    public static final String EXTENSION = ".tbin";
+    private static final int BUFFER_SIZE = 64 * 1024; // Bloques de 64 KiB por escritura
+
+    private final Logger logger = LoggerFactory.getLogger(TenistasBinaryStorage.class); // Logger
+
+    /**
+     * Crea el servicio de almacenamiento binario e inicializa el logger.
+     */
+    public TenistasBinaryStorage() {
+        logger.info("Inicializando TenistasBinaryStorage");
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Carga una instantánea binaria (.tbin) completa.
+     */
+    @Override
+    public List<Tenista> loadData(String filePath) throws TenistaException.StorageException {
+        try (var tenistasStream = loadDataStream(filePath)) {
+            var tenistas = tenistasStream.toList();
+            logger.info("Datos cargados correctamente desde el archivo: {} con un total {}", filePath, tenistas.size());
+            return tenistas;
+        } catch (UncheckedIOException e) {
+            logger.error("Error al leer el archivo: {}", filePath, e);
+            throw new TenistaException.StorageException("Error al leer el archivo: " + e.getCause().getMessage());
+        } catch (IllegalArgumentException e) {
+            logger.error("Error al leer la instantánea binaria: {}", filePath, e);
+            throw new TenistaException.StorageException("Error al leer la instantánea binaria: " + e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Lee una instantánea binaria (.tbin). La cabecera se comprueba al abrir.
+     */
+    @Override
+    public Stream<Tenista> loadDataStream(String filePath) throws TenistaException.StorageException {
+        validarRuta(filePath);
+
+        Path myPath = Paths.get(filePath);
+        if (!myPath.toFile().exists()) {
+            logger.error("El archivo no existe: {}", filePath);
+            throw new TenistaException.StorageException("El archivo no existe: " + filePath);
+        }
+
+        try {
+            return TenistasBinaryReader.open(myPath).stream();
+        } catch (IOException e) {
+            logger.error("Error al leer el archivo: {}", filePath, e);
+            throw new TenistaException.StorageException("Error al leer el archivo: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            logger.error("Error al leer la instantánea binaria: {}", filePath, e);
+            throw new TenistaException.StorageException("Error al leer la instantánea binaria: " + e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Guarda una instantánea binaria (.tbin).
+     */
+    @Override
+    public int saveData(List<Tenista> tenistas, String filePath) throws TenistaException.StorageException {
+        return saveDataStream(tenistas.stream(), filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Guarda una instantánea binaria (.tbin). Cada tenista se codifica en un buffer directo
+     * que se vuelca al fichero al llenarse, por lo que la memoria usada no depende del número de registros.
+     */
+    @Override
+    public int saveDataStream(Stream<Tenista> tenistas, String filePath) throws TenistaException.StorageException {
+        validarRuta(filePath);
+
+        var myPath = Path.of(filePath);
+        try (FileChannel channel = FileChannel.open(myPath,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            Map<String, Integer> paises = new HashMap<>();
+            buffer.putInt(MAGIA).put(VERSION);
+            int count = 0;
+            for (Iterator<Tenista> it = tenistas.iterator(); it.hasNext(); count++) {
+                Tenista tenista = it.next();
+                int pais = codigoPais(channel, buffer, paises, tenista.getPais());
+                byte[] nombre = codificar(tenista.getNombre());
+                int longitudNombre = nombre == null ? 0 : nombre.length;
+                abrirRegistro(channel, buffer, TIPO_TENISTA, CAMPOS_FIJOS_TENISTA + 2 + longitudNombre);
+                buffer.putLong(tenista.getId())
+                        .putInt(pais)
+                        .putInt(tenista.getAltura())
+                        .putInt(tenista.getPeso())
+                        .putInt(tenista.getPuntos())
+                        .put(tenista.getMano() == null ? SIN_MANO : (byte) tenista.getMano().ordinal())
+                        .putInt(tenista.getFechaNacimiento() == null
+                                ? SIN_FECHA : Math.toIntExact(tenista.getFechaNacimiento().toEpochDay()))
+                        .putShort((short) (nombre == null ? SIN_NOMBRE : longitudNombre));
+                if (nombre != null) {
+                    buffer.put(nombre);
+                }
+            }
+            abrirRegistro(channel, buffer, TIPO_FIN, Long.BYTES);
+            buffer.putLong(count);
+            volcar(channel, buffer);
+            logger.info("Datos guardados correctamente en el archivo: {} con un total {}", filePath, count);
+            return count;
+        } catch (IOException e) {
+            logger.error("Error al escribir el archivo: {}", filePath, e);
+            throw new TenistaException.StorageException("Error al escribir el archivo: " + e.getMessage());
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            logger.error("Tenista no representable en la instantánea binaria: {}", filePath, e);
+            throw new TenistaException.StorageException("Tenista no representable en la instantánea binaria: " + e.getMessage());
+        }
+    }
+
+    private void validarRuta(String filePath) throws TenistaException.StorageException {
+        if (filePath == null || filePath.isEmpty()) {
+            logger.error("El path del archivo no puede ser nulo o vacío");
+            throw new TenistaException.StorageException("El path del archivo no puede ser nulo o vacío");
+        }
+
+        if (!filePath.endsWith(EXTENSION)) {
+            logger.error("El archivo no es una instantánea binaria: {}", filePath);
+            throw new TenistaException.StorageException("El archivo no es una instantánea binaria: " + filePath);
+        }
+    }
+
+    /**
+     * Devuelve el código del país en el diccionario, escribiendo su registro la primera vez que aparece.
+     */
+    private int codigoPais(FileChannel channel, ByteBuffer buffer, Map<String, Integer> paises, String pais) throws IOException {
+        if (pais == null) {
+            return SIN_PAIS;
+        }
+        Integer codigo = paises.get(pais);
+        if (codigo == null) {
+            byte[] bytes = codificar(pais);
+            abrirRegistro(channel, buffer, TIPO_PAIS, bytes.length);
+            buffer.put(bytes);
+            codigo = paises.size();
+            paises.put(pais, codigo);
+        }
+        return codigo;
+    }
+
+    private byte[] codificar(String texto) {
+        if (texto == null) {
+            return null;
+        }
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_TEXTO) {
+            throw new IllegalArgumentException("Texto demasiado largo (" + bytes.length + " bytes)");
+        }
+        return bytes;
+    }
+
+    /**
+     * Escribe la cabecera de un registro, volcando antes el buffer si el registro completo no cabe.
+     */
+    private void abrirRegistro(FileChannel channel, ByteBuffer buffer, byte tipo, int longitud) throws IOException {
+        if (buffer.remaining() < CABECERA_REGISTRO + longitud) {
+            volcar(channel, buffer);
+        }
+        buffer.put(tipo).putShort((short) longitud);
+    }
+
+    private void volcar(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,462 @@
+package dev.joseluisgs.storage;
+
+import dev.joseluisgs.models.Tenista;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Parser de CSV de tenistas que trabaja directamente sobre un {@link MappedByteBuffer}.
+ * Lee los enteros, la fecha ISO y la mano directamente de los bytes, sin crear substrings
+ * ni usar {@code String.split}. Solo se crean Strings para el nombre y el país (este último
+ * deduplicado mediante un pequeño diccionario).
+ * <p>
+ * Expone los tenistas de uno en uno como {@link Iterator} o {@link Stream}, de modo que la memoria
+ * usada no depende del tamaño del fichero. Los ficheros grandes se mapean por ventanas.
+ * <p>
+ * Formato esperado: {@code id,nombre,pais,altura,peso,puntos,mano,fecha_nacimiento}.
+ * Los errores de formato se lanzan como {@link IllegalArgumentException} indicando la línea,
+ * y los de E/S durante la lectura como {@link UncheckedIOException}. La línea mal formada se consume
+ * igualmente, así que se puede seguir leyendo desde la siguiente.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.storage.TenistasStorageImpl
+ * @see dev.joseluisgs.models.Tenista
+ */
+public final class TenistasCsvMappedParser implements Iterator<Tenista>, Closeable {
+    static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024; // 64 MiB mapeados cada vez
+    private static final int NUM_FIELDS = 8;
+    private static final Tenista.Mano[] MANOS = Tenista.Mano.values();
+    private static final byte[][] MANO_NAMES = new byte[MANOS.length][];
+    private static final int MAX_PAISES_DICCIONARIO = 256;
+
+    static {
+        for (int i = 0; i < MANOS.length; i++) {
+            MANO_NAMES[i] = MANOS[i].name().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int windowSize;
+    private final int[] fieldStarts = new int[NUM_FIELDS];
+    private final int[] fieldEnds = new int[NUM_FIELDS];
+    private byte[] scratch = new byte[256];
+
+    // Diccionario de países: evita crear un String por fila para valores repetidos
+    private final byte[][] paisKeys = new byte[MAX_PAISES_DICCIONARIO][];
+    private final String[] paisValues = new String[MAX_PAISES_DICCIONARIO];
+    private int paisCount = 0;
+
+    private MappedByteBuffer buffer;
+    private long bufferOffset; // Posición en el fichero del byte 0 del buffer
+    private int position; // Posición de lectura dentro del buffer
+    private long lineNumber;
+
+    // Línea preparada por hasNext() y pendiente de consumir por next()
+    private int lineStart = -1;
+    private int lineEnd = -1;
+
+    private TenistasCsvMappedParser(Path path, long startOffset, boolean skipHeader, boolean completeLinesOnly,
+                                    int windowSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            this.fileSize = completeLinesOnly ? endOfLastLine(startOffset) : channel.size();
+            this.windowSize = windowSize;
+            map(Math.min(startOffset, fileSize));
+            if (startOffset == 0) {
+                skipBom();
+            }
+            if (skipHeader && advance()) {
+                consumeLine(); // Ignorar cabecera
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Abre un CSV de tenistas ignorando la cabecera.
+     *
+     * @param path Ruta del CSV
+     * @return Parser posicionado en la primera fila de datos
+     * @throws IOException si no se puede abrir o mapear el fichero
+     */
+    public static TenistasCsvMappedParser open(Path path) throws IOException {
+        return new TenistasCsvMappedParser(path, 0, true, false, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Abre un CSV con un tamaño de ventana concreto (solo pruebas).
+     */
+    static TenistasCsvMappedParser open(Path path, int windowSize) throws IOException {
+        return new TenistasCsvMappedParser(path, 0, true, false, windowSize);
+    }
+
+    /**
+     * Abre un CSV de tenistas para leerlo de forma incremental desde una posición en bytes,
+     * normalmente la devuelta por {@link #position()} en una lectura anterior.
+     * Solo se leen líneas completas (terminadas en salto de línea), así que una línea que otro proceso
+     * está escribiendo no se lee hasta que se termina. La cabecera solo se ignora si se empieza en 0.
+     *
+     * @param path        Ruta del CSV
+     * @param startOffset Posición en bytes del inicio de una línea
+     * @return Parser posicionado en startOffset
+     * @throws IOException              si no se puede abrir o mapear el fichero
+     * @throws IllegalArgumentException si startOffset supera el tamaño del fichero
+     */
+    public static TenistasCsvMappedParser openFrom(Path path, long startOffset) throws IOException {
+        return new TenistasCsvMappedParser(path, startOffset, startOffset == 0, true, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Devuelve los tenistas del fichero como un Stream secuencial y perezoso.
+     * Al cerrar el Stream se cierra el fichero.
+     *
+     * @return Stream de tenistas
+     */
+    public Stream<Tenista> stream() {
+        Spliterator<Tenista> spliterator = Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+        return StreamSupport.stream(spliterator, false).onClose(this::closeQuietly);
+    }
+
+    /**
+     * Posición en bytes, dentro del fichero, hasta la que se han consumido líneas completas.
+     *
+     * @return offset en bytes
+     */
+    public long position() {
+        return bufferOffset + position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        return lineStart >= 0 || advance();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Tenista next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No hay más tenistas en el fichero");
+        }
+        int start = lineStart;
+        int end = lineEnd;
+        try {
+            return parseLine(start, end);
+        } finally {
+            consumeLine();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        buffer = null;
+        channel.close();
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Lectura de líneas
+
+    /**
+     * Busca la siguiente línea no vacía y guarda sus límites en lineStart/lineEnd.
+     *
+     * @return true si hay línea disponible
+     */
+    private boolean advance() {
+        while (true) {
+            int newline = indexOfNewline(position);
+            if (newline < 0) {
+                if (bufferOffset + buffer.limit() < fileSize) {
+                    // La línea continúa fuera de la ventana: remapeamos desde el inicio de la línea
+                    if (position == 0) {
+                        throw new IllegalArgumentException("Línea " + (lineNumber + 1) + " demasiado larga");
+                    }
+                    remap(bufferOffset + position);
+                    continue;
+                }
+                if (position >= buffer.limit()) {
+                    return false; // Fin de fichero
+                }
+                newline = buffer.limit(); // Última línea sin salto de línea
+            }
+
+            int end = newline;
+            if (end > position && buffer.get(end - 1) == '\r') {
+                end--;
+            }
+            if (end == position) {
+                // Línea vacía: la saltamos
+                lineNumber++;
+                position = Math.min(newline + 1, buffer.limit());
+                continue;
+            }
+            lineStart = position;
+            lineEnd = end;
+            return true;
+        }
+    }
+
+    private void consumeLine() {
+        int newline = indexOfNewline(lineEnd);
+        position = newline < 0 ? buffer.limit() : newline + 1;
+        lineStart = -1;
+        lineEnd = -1;
+        lineNumber++;
+    }
+
+    private int indexOfNewline(int from) {
+        int limit = buffer.limit();
+        for (int i = from; i < limit; i++) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Busca el final de la última línea completa del fichero a partir de una posición.
+     *
+     * @param from Posición desde la que se busca
+     * @return Posición siguiente al último salto de línea, o from si no hay ninguno
+     */
+    private long endOfLastLine(long from) throws IOException {
+        long end = channel.size();
+        if (from > end) {
+            throw new IllegalArgumentException("La posición " + from + " supera el tamaño del fichero (" + end + ")");
+        }
+        ByteBuffer chunk = ByteBuffer.allocate(8192);
+        while (end > from) {
+            long start = Math.max(from, end - chunk.capacity());
+            chunk.clear().limit((int) (end - start));
+            while (chunk.hasRemaining() && channel.read(chunk, start + chunk.position()) >= 0) {
+                // Leer el bloque completo
+            }
+            for (int i = chunk.position() - 1; i >= 0; i--) {
+                if (chunk.get(i) == '\n') {
+                    return start + i + 1;
+                }
+            }
+            end = start;
+        }
+        return from;
+    }
+
+    private void skipBom() {
+        if (buffer.limit() >= 3
+                && (buffer.get(0) & 0xFF) == 0xEF
+                && (buffer.get(1) & 0xFF) == 0xBB
+                && (buffer.get(2) & 0xFF) == 0xBF) {
+            position = 3;
+        }
+    }
+
+    private void map(long offset) throws IOException {
+        long size = Math.min(windowSize, fileSize - offset);
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+        bufferOffset = offset;
+        position = 0;
+    }
+
+    private void remap(long offset) {
+        try {
+            map(offset);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Parseo de campos
+
+    private Tenista parseLine(int start, int end) {
+        int field = 0;
+        fieldStarts[0] = start;
+        for (int i = start; i < end && field < NUM_FIELDS; i++) {
+            if (buffer.get(i) == ',') {
+                fieldEnds[field++] = i;
+                if (field < NUM_FIELDS) {
+                    fieldStarts[field] = i + 1;
+                }
+            }
+        }
+        if (field < NUM_FIELDS) {
+            fieldEnds[field++] = end;
+        }
+        if (field < NUM_FIELDS) {
+            throw error("se esperaban " + NUM_FIELDS + " campos y hay " + field);
+        }
+
+        return Tenista.builder()
+                .id(parseInt(0))
+                .nombre(parseString(1))
+                .pais(parsePais(2))
+                .altura(parseInt(3))
+                .peso(parseInt(4))
+                .puntos(parseInt(5))
+                .mano(parseMano(6))
+                .fechaNacimiento(parseFecha(7))
+                .build();
+    }
+
+    private int parseInt(int field) {
+        int i = fieldStarts[field];
+        int end = fieldEnds[field];
+        boolean negative = false;
+        if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            negative = buffer.get(i) == '-';
+            i++;
+        }
+        if (i == end) {
+            throw error("número vacío en el campo " + (field + 1));
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw error("número no válido en el campo " + (field + 1));
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw error("número fuera de rango en el campo " + (field + 1));
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw error("número fuera de rango en el campo " + (field + 1));
+        }
+        return (int) value;
+    }
+
+    private String parseString(int field) {
+        int len = copyToScratch(field);
+        return new String(scratch, 0, len, StandardCharsets.UTF_8);
+    }
+
+    private String parsePais(int field) {
+        int start = fieldStarts[field];
+        int len = fieldEnds[field] - start;
+        for (int p = 0; p < paisCount; p++) {
+            byte[] key = paisKeys[p];
+            if (key.length == len && equalsBytes(start, key)) {
+                return paisValues[p];
+            }
+        }
+        String pais = parseString(field);
+        if (paisCount < MAX_PAISES_DICCIONARIO) {
+            byte[] key = new byte[len];
+            System.arraycopy(scratch, 0, key, 0, len);
+            paisKeys[paisCount] = key;
+            paisValues[paisCount++] = pais;
+        }
+        return pais;
+    }
+
+    private Tenista.Mano parseMano(int field) {
+        int start = fieldStarts[field];
+        int len = fieldEnds[field] - start;
+        for (int m = 0; m < MANOS.length; m++) {
+            byte[] name = MANO_NAMES[m];
+            if (name.length == len && equalsIgnoreCaseAscii(start, name)) {
+                return MANOS[m];
+            }
+        }
+        throw error("mano no válida: " + parseString(field));
+    }
+
+    private LocalDate parseFecha(int field) {
+        int s = fieldStarts[field];
+        if (fieldEnds[field] - s != 10 || buffer.get(s + 4) != '-' || buffer.get(s + 7) != '-') {
+            throw error("fecha no válida (se espera yyyy-MM-dd): " + parseString(field));
+        }
+        int year = digits(s, 4, field);
+        int month = digits(s + 5, 2, field);
+        int day = digits(s + 8, 2, field);
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            throw error("fecha no válida: " + e.getMessage());
+        }
+    }
+
+    private int digits(int from, int count, int field) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw error("fecha no válida (se espera yyyy-MM-dd): " + parseString(field));
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private int copyToScratch(int field) {
+        int start = fieldStarts[field];
+        int len = fieldEnds[field] - start;
+        if (scratch.length < len) {
+            scratch = new byte[Math.max(len, scratch.length * 2)];
+        }
+        buffer.get(start, scratch, 0, len);
+        return len;
+    }
+
+    private boolean equalsBytes(int start, byte[] key) {
+        for (int i = 0; i < key.length; i++) {
+            if (buffer.get(start + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean equalsIgnoreCaseAscii(int start, byte[] upperName) {
+        for (int i = 0; i < upperName.length; i++) {
+            byte b = buffer.get(start + i);
+            if (b >= 'a' && b <= 'z') {
+                b -= 'a' - 'A';
+            }
+            if (b != upperName[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("Línea " + (lineNumber + 1) + ": " + message);
+    }
+}
@@ -4,13 +4,17 @@ import dev.joseluisgs.exceptions.TenistaException;
 import dev.joseluisgs.models.Tenista;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Abstracción para cargar y guardar datos de tenistas desde/hacia distintos formatos.
+ * Los métodos describen el formato de {@link TenistasStorageImpl} (carga CSV y guardado JSON);
+ * {@link TenistasBinaryStorage} usa en ambos sentidos instantáneas binarias .tbin.
  * <p>
  * Autor: JoseLuisGS
  *
  * @see dev.joseluisgs.storage.TenistasStorageImpl
+ * @see dev.joseluisgs.storage.TenistasBinaryStorage
  * @see dev.joseluisgs.models.Tenista
  */
 public interface TenistasStorage {
@@ -23,6 +27,18 @@ public interface TenistasStorage {
      */
     List<Tenista> loadData(String filePath) throws TenistaException.StorageException;
 
+    /**
+     * Carga tenistas desde un archivo CSV de forma perezosa, fila a fila.
+     * La memoria usada no depende del tamaño del fichero. El Stream debe cerrarse tras su uso.
+     * Los errores de formato durante el recorrido se lanzan como {@link IllegalArgumentException}
+     * y los de lectura como {@link java.io.UncheckedIOException}.
+     *
+     * @param filePath Ruta del CSV
+     * @return Stream de tenistas
+     * @throws TenistaException.StorageException si la ruta no es válida o no se puede abrir
+     */
+    Stream<Tenista> loadDataStream(String filePath) throws TenistaException.StorageException;
+
     /**
      * Guarda tenistas en un archivo JSON.
      *
@@ -32,4 +48,15 @@ public interface TenistasStorage {
      * @throws TenistaException.StorageException si hay errores de escritura
      */
     int saveData(List<Tenista> tenistas, String filePath) throws TenistaException.StorageException;
+
+    /**
+     * Guarda en un archivo JSON los tenistas de un Stream, escribiendo cada uno según llega.
+     * No cierra el Stream recibido.
+     *
+     * @param tenistas Stream de tenistas a guardar
+     * @param filePath Ruta del JSON
+     * @return Número de registros escritos
+     * @throws TenistaException.StorageException si hay errores de escritura
+     */
+    int saveDataStream(Stream<Tenista> tenistas, String filePath) throws TenistaException.StorageException;
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package dev.joseluisgs.storage;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import dev.joseluisgs.exceptions.TenistaException;
@@ -9,26 +11,35 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
- * Implementación de TenistasStorage que carga datos desde CSV y guarda en JSON usando Jackson.
+ * Implementación de TenistasStorage que carga datos desde CSV (mediante un parser sobre fichero
+ * mapeado en memoria) y guarda en JSON usando Jackson.
  * Filtra registros inválidos mediante TenistaValidator.
  * <p>
  * Autor: JoseLuisGS
  *
  * @see dev.joseluisgs.storage.TenistasStorage
+ * @see dev.joseluisgs.storage.TenistasCsvMappedParser
  * @see dev.joseluisgs.validator.TenistaValidator
  * @see com.fasterxml.jackson.databind.ObjectMapper
  */
 public class TenistasStorageImpl implements TenistasStorage {
     private final Logger logger = LoggerFactory.getLogger(TenistasStorageImpl.class); // Logger
+    // ObjectMapper y ObjectWriter son thread-safe: se configuran una vez y se reutilizan en cada exportación
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE); // Volcamos por bloques, no por registro
+    private final ObjectWriter tenistaWriter = mapper.writerFor(Tenista.class);
 
     /**
      * Crea el servicio de almacenamiento e inicializa el logger.
@@ -39,9 +50,29 @@ public class TenistasStorageImpl implements TenistasStorage {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Se apoya en {@link TenistasCsvMappedParser}, que lee directamente del fichero mapeado en memoria.
      */
     @Override
     public List<Tenista> loadData(String filePath) throws TenistaException.StorageException {
+        try (var tenistasStream = loadDataStream(filePath)) {
+            var tenistas = tenistasStream.toList();
+            logger.info("Datos cargados correctamente desde el archivo: {} con un total {}", filePath, tenistas.size());
+            return tenistas;
+        } catch (UncheckedIOException e) {
+            logger.error("Error al leer el archivo: {}", filePath, e);
+            throw new TenistaException.StorageException("Error al leer el archivo: " + e.getCause().getMessage());
+        } catch (IllegalArgumentException e) {
+            logger.error("Error al parsear los datos del archivo: {}", filePath, e);
+            throw new TenistaException.StorageException("Error al parsear los datos: " + e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<Tenista> loadDataStream(String filePath) throws TenistaException.StorageException {
         if (filePath == null || filePath.isEmpty()) {
             logger.error("El path del archivo no puede ser nulo o vacío");
             throw new TenistaException.StorageException("El path del archivo no puede ser nulo o vacío");
@@ -58,49 +89,30 @@ public class TenistasStorageImpl implements TenistasStorage {
             throw new TenistaException.StorageException("El archivo no existe: " + filePath);
         }
 
-        try (var lines = Files.lines(myPath, StandardCharsets.UTF_8)) {
-            var tenistas = lines.skip(1) // Ignorar cabecera
-                    .map(line -> {
-                        String[] parts = line.split(",");
-                        int id = Integer.parseInt(parts[0]);
-                        String nombre = parts[1];
-                        String pais = parts[2];
-                        int altura = Integer.parseInt(parts[3]);
-                        int peso = Integer.parseInt(parts[4]);
-                        int puntos = Integer.parseInt(parts[5]);
-                        // Si la mano es nula, vacia o tiene otro valor que no sea DERECHO o ZURDO, almacenamos OTRO
-                        Tenista.Mano mano = Tenista.Mano.valueOf(parts[6].toUpperCase());
-                        LocalDate fechaNacimiento = LocalDate.parse(parts[7], DateTimeFormatter.ISO_LOCAL_DATE);
-
-                        // Crear el Tenista
-                        Tenista tenista = Tenista.builder()
-                                .id(id)
-                                .nombre(nombre)
-                                .pais(pais)
-                                .altura(altura)
-                                .peso(peso)
-                                .puntos(puntos)
-                                .mano(mano)
-                                .fechaNacimiento(fechaNacimiento)
-                                .build();
-
-                        return tenista;
-                    })
-                    .toList();
-
-            logger.info("Datos cargados correctamente desde el archivo: {} con un total {}", filePath, tenistas.size());
-            return tenistas;
+        try {
+            return TenistasCsvMappedParser.open(myPath).stream();
         } catch (IOException e) {
             logger.error("Error al leer el archivo: {}", filePath, e);
             throw new TenistaException.StorageException("Error al leer el archivo: " + e.getMessage());
-        } catch (Exception e) {
-            logger.error("Error al parsear los datos del archivo: {}", filePath, e);
-            throw new TenistaException.StorageException("Error al parsear los datos: " + e.getMessage());
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
     public int saveData(List<Tenista> tenistas, String filePath) throws TenistaException.StorageException {
+        return saveDataStream(tenistas.stream(), filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Cada tenista se serializa en cuanto llega a través de un único JsonGenerator,
+     * por lo que la memoria usada no depende del número de registros.
+     */
+    @Override
+    public int saveDataStream(Stream<Tenista> tenistas, String filePath) throws TenistaException.StorageException {
         if (filePath == null || filePath.isEmpty()) {
             logger.error("El path del archivo no puede ser nulo o vacío");
             throw new TenistaException.StorageException("El path del archivo no puede ser nulo o vacío");
@@ -112,14 +124,19 @@ public class TenistasStorageImpl implements TenistasStorage {
         }
 
         var myPath = Path.of(filePath);
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.enable(SerializationFeature.INDENT_OUTPUT); // Formateado bonito :)
-            mapper.registerModule(new JavaTimeModule());
-            mapper.writeValue(Files.newBufferedWriter(myPath, StandardCharsets.UTF_8), tenistas);
-            logger.info("Datos guardados correctamente en el archivo: {} con un total {}", filePath, tenistas.size());
-            return tenistas.size();
+        try (Writer writer = Files.newBufferedWriter(myPath, StandardCharsets.UTF_8);
+             JsonGenerator generator = mapper.createGenerator(writer)) {
+            generator.useDefaultPrettyPrinter(); // Formateado bonito :)
+            generator.writeStartArray();
+            int count = 0;
+            for (Iterator<Tenista> it = tenistas.iterator(); it.hasNext(); count++) {
+                tenistaWriter.writeValue(generator, it.next());
+            }
+            generator.writeEndArray();
+            logger.info("Datos guardados correctamente en el archivo: {} con un total {}", filePath, count);
+            return count;
         } catch (IOException e) {
+            logger.error("Error al escribir el archivo: {}", filePath, e);
             throw new TenistaException.StorageException("Error al escribir el archivo: " + e.getMessage());
         }
     }
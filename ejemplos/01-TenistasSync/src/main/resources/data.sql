@@ -1,4 +1,5 @@
 -- Ejemplo de datos (puedes generar más a partir de tu CSV) -- no pongas el id!!
-INSERT INTO tenistas (nombre, pais, altura, peso, puntos, mano, fecha_nacimiento)
+-- MERGE por la clave natural: volver a ejecutar el script sobre una base de datos existente no duplica filas
+MERGE INTO tenistas (nombre, pais, altura, peso, puntos, mano, fecha_nacimiento) KEY (nombre, fecha_nacimiento)
 VALUES ('JoseLuisGS', 'España', 188, 77, 2030, 'DIESTRO', '1990-05-22');
 -- Agrega más datos según sea necesario
\ No newline at end of file
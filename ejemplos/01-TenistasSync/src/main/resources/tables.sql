@@ -1,10 +1,31 @@
 CREATE TABLE IF NOT EXISTS tenistas (
     id BIGINT PRIMARY KEY AUTO_INCREMENT, -- BD genera el ID automáticamente
     nombre VARCHAR(255) NOT NULL,
+    nombre_lower VARCHAR(255) GENERATED ALWAYS AS (LOWER(nombre)), -- Para búsquedas sin distinguir mayúsculas con índice
     pais VARCHAR(255),
+    pais_lower VARCHAR(255) GENERATED ALWAYS AS (LOWER(pais)), -- El ranking por país no distingue mayúsculas
     altura INT,
     peso INT,
     puntos INT,
     mano VARCHAR(50),
-    fecha_nacimiento DATE
-);
\ No newline at end of file
+    fecha_nacimiento DATE,
+    version BIGINT NOT NULL DEFAULT 0 -- Bloqueo optimista: cada UPDATE comprueba e incrementa la versión
+);
+
+-- Índice para la paginación por clave ordenada por (puntos DESC, id)
+CREATE INDEX IF NOT EXISTS idx_tenistas_puntos_id ON tenistas (puntos DESC, id);
+
+-- Índice para el ranking por país: filtra por pais_lower y recorre ya ordenado por (puntos DESC, id)
+CREATE INDEX IF NOT EXISTS idx_tenistas_pais_puntos_id ON tenistas (pais_lower, puntos DESC, id);
+-- Las búsquedas por país (findByPais, sin distinguir mayúsculas) usan también este índice, ya que empieza por pais_lower
+
+-- Clave natural (nombre, fecha_nacimiento), única: las importaciones con MERGE la usan para no duplicar filas.
+-- Las bases de datos creadas cuando el índice no era único pueden tener duplicados: se conserva la fila más reciente
+DELETE FROM tenistas t WHERE EXISTS (
+    SELECT 1 FROM tenistas o WHERE o.nombre = t.nombre AND o.fecha_nacimiento = t.fecha_nacimiento AND o.id > t.id
+);
+DROP INDEX IF EXISTS idx_tenistas_nombre_fecha;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_tenistas_nombre_fecha ON tenistas (nombre, fecha_nacimiento);
+
+-- Índice para la búsqueda por prefijo de nombre sin distinguir mayúsculas
+CREATE INDEX IF NOT EXISTS idx_tenistas_nombre_lower ON tenistas (nombre_lower);
\ No newline at end of file
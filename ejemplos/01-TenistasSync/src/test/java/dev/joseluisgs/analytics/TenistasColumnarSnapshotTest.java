@@ -0,0 +1,186 @@
+package dev.joseluisgs.analytics;
+
+import dev.joseluisgs.fixtures.TenistasFixtures;
+import dev.joseluisgs.models.ManoStats;
+import dev.joseluisgs.models.Tenista;
+import dev.joseluisgs.repository.TenistasRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de pruebas para TenistasColumnarSnapshot.
+ * Comprueba que los operadores sobre columnas dan el mismo resultado que los mismos cálculos
+ * con streams sobre la lista de tenistas.
+ * Referencia: dev.joseluisgs.analytics.TenistasColumnarSnapshot
+ */
+@DisplayName("Tests de la instantánea columnar TenistasColumnarSnapshot")
+public class TenistasColumnarSnapshotTest {
+
+    private static final String[] PAISES = {"España", "Serbia", "Suiza", "Argentina"};
+
+    private List<Tenista> tenistas;
+
+    // Más filas que el umbral de paralelismo y que la capacidad inicial, con empates de puntos
+    private static List<Tenista> generarTenistas(int total) {
+        List<Tenista> res = TenistasFixtures.generarTenistasConId(total, PAISES);
+        for (int i = 0; i < total; i++) {
+            // Puntos desordenados respecto al id y las tres manos
+            res.get(i).setPuntos((int) ((i * 2_654_435_761L) % 5_000));
+            res.get(i).setMano(Tenista.Mano.values()[i % 3]);
+        }
+        return res;
+    }
+
+    @BeforeEach
+    void setUp() {
+        tenistas = generarTenistas(150_000);
+    }
+
+    @Nested
+    @DisplayName("Casos positivos")
+    class CasosPositivos {
+        @Test
+        @DisplayName("from recorre el cursor del repositorio y lo cierra")
+        void fromRecorreCursorYLoCierra() {
+            TenistasRepository repository = mock(TenistasRepository.class);
+            AtomicBoolean cerrado = new AtomicBoolean(false);
+            when(repository.streamAll()).thenReturn(tenistas.stream().onClose(() -> cerrado.set(true)));
+
+            TenistasColumnarSnapshot snapshot = TenistasColumnarSnapshot.from(repository);
+
+            assertAll("Construcción",
+                    () -> assertEquals(tenistas.size(), snapshot.size()),
+                    () -> assertEquals(java.util.Set.of(PAISES), java.util.Set.copyOf(snapshot.paises())),
+                    () -> assertTrue(cerrado.get(), "El cursor debe cerrarse")
+            );
+            verify(repository, never()).findAll();
+        }
+
+        @Test
+        @DisplayName("tenista reconstruye la fila original")
+        void tenistaReconstruyeLaFilaOriginal() {
+            TenistasColumnarSnapshot snapshot = TenistasColumnarSnapshot.of(tenistas.stream());
+
+            assertAll("Reconstrucción",
+                    () -> assertEquals(tenistas.get(0), snapshot.tenista(0)),
+                    () -> assertEquals(tenistas.get(123_456), snapshot.tenista(123_456)),
+                    () -> assertEquals(tenistas.subList(10, 13), snapshot.tenistas(new int[]{10, 11, 12}))
+            );
+        }
+
+        @Test
+        @DisplayName("filter con condiciones combinadas selecciona lo mismo que un filtro con streams")
+        void filterCoincideConStreams() {
+            TenistasColumnarSnapshot snapshot = TenistasColumnarSnapshot.of(tenistas.stream());
+            LocalDate desde = LocalDate.of(1990, 1, 1);
+            LocalDate hasta = LocalDate.of(1995, 12, 31);
+
+            int[] filas = snapshot.filter(snapshot.porPais("España")
+                    .and(snapshot.porMano(Tenista.Mano.ZURDO))
+                    .and(snapshot.puntosEntre(1_000, 3_000))
+                    .and(snapshot.nacidoEntre(desde, hasta)));
+
+            List<Tenista> esperado = tenistas.stream()
+                    .filter(t -> t.getPais().equals("España"))
+                    .filter(t -> t.getMano() == Tenista.Mano.ZURDO)
+                    .filter(t -> t.getPuntos() >= 1_000 && t.getPuntos() <= 3_000)
+                    .filter(t -> !t.getFechaNacimiento().isBefore(desde) && !t.getFechaNacimiento().isAfter(hasta))
+                    .toList();
+
+            assertAll("Filtro",
+                    () -> assertFalse(esperado.isEmpty()),
+                    () -> assertEquals(esperado, snapshot.tenistas(filas))
+            );
+        }
+
+        @Test
+        @DisplayName("topByPuntos coincide con ordenar por puntos descendente e id")
+        void topByPuntosCoincideConOrdenar() {
+            TenistasColumnarSnapshot snapshot = TenistasColumnarSnapshot.of(tenistas.stream());
+            Comparator<Tenista> ranking = Comparator.comparingInt(Tenista::getPuntos).reversed()
+                    .thenComparingLong(Tenista::getId);
+
+            int[] espana = snapshot.filter(snapshot.porPais("España"));
+
+            assertAll("Top N",
+                    () -> assertEquals(tenistas.stream().sorted(ranking).limit(25).toList(),
+                            snapshot.tenistas(snapshot.topByPuntos(25))),
+                    () -> assertEquals(tenistas.stream().filter(t -> t.getPais().equals("España")).sorted(ranking).limit(5).toList(),
+                            snapshot.tenistas(snapshot.topByPuntos(5, espana))),
+                    () -> assertEquals(3, snapshot.topByPuntos(10, new int[]{4, 8, 15}).length)
+            );
+        }
+
+        @Test
+        @DisplayName("statsByMano y statsByPais coinciden con agrupar con streams")
+        void agrupacionesCoincidenConStreams() {
+            TenistasColumnarSnapshot snapshot = TenistasColumnarSnapshot.of(tenistas.stream());
+            int[] espana = snapshot.filter(snapshot.porPais("España"));
+
+            Map<Tenista.Mano, ManoStats> porMano = snapshot.statsByMano(espana);
+            Map<Tenista.Mano, Double> mediasEsperadas = tenistas.stream()
+                    .filter(t -> t.getPais().equals("España"))
+                    .collect(Collectors.groupingBy(Tenista::getMano, Collectors.averagingInt(Tenista::getPuntos)));
+            Map<String, IntSummaryStatistics> alturas = snapshot.statsByPais(TenistasColumnarSnapshot.Columna.ALTURA, null);
+            IntSummaryStatistics alturaSerbia = tenistas.stream()
+                    .filter(t -> t.getPais().equals("Serbia"))
+                    .mapToInt(Tenista::getAltura)
+                    .summaryStatistics();
+
+            assertAll("Agrupaciones",
+                    () -> assertEquals(mediasEsperadas.keySet(), porMano.keySet()),
+                    () -> mediasEsperadas.forEach((mano, media) ->
+                            assertEquals(media, porMano.get(mano).mediaPuntos(), 1e-9)),
+                    () -> assertEquals(espana.length, porMano.values().stream().mapToInt(ManoStats::total).sum()),
+                    () -> assertEquals(alturaSerbia.toString(), alturas.get("Serbia").toString()),
+                    () -> assertEquals(tenistas.stream().mapToInt(Tenista::getPeso).summaryStatistics().toString(),
+                            snapshot.stats(TenistasColumnarSnapshot.Columna.PESO, null).toString())
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Casos negativos")
+    class CasosNegativos {
+        @Test
+        @DisplayName("país desconocido no selecciona filas y top con n no positivo devuelve vacío")
+        void paisDesconocidoYTopVacio() {
+            TenistasColumnarSnapshot snapshot = TenistasColumnarSnapshot.of(tenistas.stream());
+
+            assertAll("Sin resultados",
+                    () -> assertEquals(0, snapshot.filter(snapshot.porPais("Atlántida")).length),
+                    () -> assertEquals(0, snapshot.topByPuntos(0).length),
+                    () -> assertTrue(snapshot.statsByMano(new int[0]).isEmpty())
+            );
+        }
+
+        @Test
+        @DisplayName("instantánea vacía o con país y fecha nulos no falla")
+        void instantaneaVaciaOConNulosNoFalla() {
+            Tenista sinDatos = Tenista.builder().id(1).nombre("Sin datos").mano(Tenista.Mano.OTRO).build();
+
+            TenistasColumnarSnapshot vacia = TenistasColumnarSnapshot.of(java.util.stream.Stream.empty());
+            TenistasColumnarSnapshot conNulos = TenistasColumnarSnapshot.of(java.util.stream.Stream.of(sinDatos));
+
+            assertAll("Casos límite",
+                    () -> assertEquals(0, vacia.size()),
+                    () -> assertEquals(0, vacia.topByPuntos(5).length),
+                    () -> assertEquals(sinDatos, conNulos.tenista(0)),
+                    () -> assertEquals(0, conNulos.filter(conNulos.nacidoEntre(LocalDate.MIN.plusYears(1), LocalDate.of(3000, 1, 1))).length)
+            );
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+package dev.joseluisgs.analytics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para el collector TopK.
+ * Comprueba que devuelve exactamente lo mismo que sorted().limit(), con empates,
+ * en Streams secuenciales y paralelos.
+ * Referencia: dev.joseluisgs.analytics.TopK
+ */
+@DisplayName("Tests del collector TopK")
+public class TopKTest {
+
+    /**
+     * Elemento con una clave con muchos empates y un id para distinguir el orden de llegada.
+     */
+    private record Elemento(int clave, int id) {
+    }
+
+    private static final Comparator<Elemento> POR_CLAVE_DESC = Comparator.comparingInt(Elemento::clave).reversed();
+
+    private List<Elemento> generar(int total) {
+        Random random = new Random(42);
+        List<Elemento> elementos = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            elementos.add(new Elemento(random.nextInt(100), i));
+        }
+        return elementos;
+    }
+
+    @Nested
+    @DisplayName("Casos positivos")
+    class CasosPositivos {
+        @ParameterizedTest
+        @ValueSource(ints = {1, 10, 99, 1_000})
+        @DisplayName("secuencial y paralelo coinciden con sorted().limit(), también en los empates")
+        void coincideConSortedLimit(int k) {
+            List<Elemento> elementos = generar(50_000);
+
+            List<Elemento> esperado = elementos.stream().sorted(POR_CLAVE_DESC).limit(k).toList();
+            List<Elemento> secuencial = elementos.stream().collect(TopK.topK(k, POR_CLAVE_DESC));
+            List<Elemento> paralelo = elementos.parallelStream().collect(TopK.topK(k, POR_CLAVE_DESC));
+
+            assertAll("Top " + k,
+                    () -> assertEquals(esperado, secuencial),
+                    () -> assertEquals(esperado, paralelo)
+            );
+        }
+
+        @Test
+        @DisplayName("con k mayor que el número de elementos devuelve todos ordenados")
+        void kMayorQueElTotalDevuelveTodosOrdenados() {
+            List<Elemento> elementos = generar(20);
+
+            assertEquals(elementos.stream().sorted(POR_CLAVE_DESC).toList(),
+                    elementos.parallelStream().collect(TopK.topK(100, POR_CLAVE_DESC)));
+        }
+
+        @Test
+        @DisplayName("con k = 0 o un Stream vacío devuelve una lista vacía")
+        void kCeroOStreamVacioDevuelveListaVacia() {
+            assertAll("Vacíos",
+                    () -> assertTrue(generar(10).stream().collect(TopK.topK(0, POR_CLAVE_DESC)).isEmpty()),
+                    () -> assertTrue(Stream.<Elemento>empty().collect(TopK.topK(5, POR_CLAVE_DESC)).isEmpty())
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Casos negativos")
+    class CasosNegativos {
+        @Test
+        @DisplayName("k negativo lanza IllegalArgumentException y comparador nulo NullPointerException")
+        void parametrosNoValidosLanzanExcepcion() {
+            assertAll("Parámetros no válidos",
+                    () -> assertThrows(IllegalArgumentException.class, () -> TopK.topK(-1, POR_CLAVE_DESC)),
+                    () -> assertThrows(NullPointerException.class, () -> TopK.<Elemento>topK(1, null))
+            );
+        }
+    }
+}
\ No newline at end of file
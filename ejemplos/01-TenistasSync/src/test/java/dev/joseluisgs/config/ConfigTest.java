@@ -38,11 +38,33 @@ public class ConfigTest {
                     () -> assertNotNull(config.getDatabaseUrl()),
                     () -> assertEquals("jdbc:h2:mem:tenistas;DB_CLOSE_DELAY=-1", config.getDatabaseUrl()),
                     () -> assertEquals(5, config.getCacheSize()),
+                    () -> assertEquals(600, config.getCacheExpireAfterWrite()),
+                    () -> assertEquals(300, config.getCacheRefreshAfterWrite()),
+                    () -> assertEquals(10000, config.getCacheNegativeSize()),
+                    () -> assertEquals(5, config.getCacheNegativeExpireAfterWrite()),
+                    () -> assertTrue(config.isCacheBloomEnabled()),
+                    () -> assertEquals(0.01, config.getCacheBloomFpp()),
                     () -> assertTrue(config.isDatabaseInitTables()),
                     () -> assertTrue(config.isDatabaseInitData())
             );
         }
 
+        @Test
+        @DisplayName("Lee la configuración del pool de conexiones")
+        void leeConfiguracionDelPool() {
+            Config config = Config.getInstance();
+
+            assertAll("Pool de conexiones",
+                    () -> assertEquals(10, config.getDatabasePoolSize()),
+                    () -> assertEquals(2, config.getDatabasePoolMinIdle()),
+                    () -> assertEquals(30000, config.getDatabasePoolConnectionTimeout()),
+                    () -> assertEquals(600000, config.getDatabasePoolIdleTimeout()),
+                    () -> assertEquals(1800000, config.getDatabasePoolMaxLifetime()),
+                    () -> assertEquals(256, config.getDatabaseStatementCacheSize()),
+                    () -> assertEquals("", config.getDatabaseSnapshotPath(), "Sin imagen por defecto")
+            );
+        }
+
         @Test
         @DisplayName("setResourceNameForTests con recurso de test carga dicho archivo")
         void setResourceNameConRecursoDeTestCargaArchivo() {
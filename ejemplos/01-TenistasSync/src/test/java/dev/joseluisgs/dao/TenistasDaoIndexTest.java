@@ -0,0 +1,210 @@
+package dev.joseluisgs.dao;
+
+import dev.joseluisgs.fixtures.TenistasFixtures;
+import dev.joseluisgs.models.Tenista;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.Query;
+import org.jdbi.v3.core.statement.UnableToExecuteStatementException;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas de los índices de la tabla tenistas.
+ * Comprueba con EXPLAIN de H2 que las consultas de TenistasDao usan los índices de tables.sql
+ * en lugar de recorrer la tabla, para que ningún cambio en el SQL o en el esquema vuelva a un full scan.
+ * El SQL se lee de las anotaciones del DAO, así que la prueba sigue a las consultas reales.
+ * Referencia: dev.joseluisgs.dao.TenistasDao
+ */
+@DisplayName("Tests de uso de índices de TenistasDao")
+public class TenistasDaoIndexTest {
+
+    private static final int FILAS = 2_000;
+
+    private static Jdbi jdbi;
+    private static TenistasDao dao;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        // Base de datos propia para no interferir con el resto de pruebas
+        jdbi = TenistasFixtures.crearBaseDeDatos("tenistas-indices");
+        dao = jdbi.onDemand(TenistasDao.class);
+
+        List<TenistaEntity> tenistas = new ArrayList<>(FILAS);
+        for (int i = 0; i < FILAS; i++) {
+            tenistas.add(TenistaEntity.builder()
+                    .nombre((i % 2 == 0 ? "Ángel " : "Rafael ") + i)
+                    .pais(i % 4 == 0 ? "España" : "Serbia")
+                    .altura(180)
+                    .peso(75)
+                    .puntos(i % 500)
+                    .mano("DIESTRO")
+                    .fechaNacimiento(LocalDate.of(1990, 1, 1))
+                    .build());
+        }
+        dao.saveAll(tenistas);
+        // Estadísticas actualizadas para que el optimizador elija como en una tabla real
+        jdbi.useHandle(handle -> handle.execute("ANALYZE"));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        jdbi.useHandle(handle -> handle.execute("DROP TABLE IF EXISTS tenistas"));
+    }
+
+    /**
+     * Obtiene el plan de ejecución de la consulta de un método del DAO con los parámetros dados.
+     */
+    private static String explain(String metodo, Map<String, Object> params) {
+        String sql = java.util.Arrays.stream(TenistasDao.class.getMethods())
+                .filter(m -> m.getName().equals(metodo) && m.isAnnotationPresent(SqlQuery.class))
+                .findFirst()
+                .orElseThrow()
+                .getAnnotation(SqlQuery.class)
+                .value();
+        return jdbi.withHandle(handle -> {
+            Query query = handle.createQuery("EXPLAIN " + sql);
+            params.forEach(query::bind);
+            return query.mapTo(String.class).one();
+        });
+    }
+
+    @Nested
+    @DisplayName("Casos positivos")
+    class CasosPositivos {
+        @Test
+        @DisplayName("tables.sql deja una fila por clave natural en una tabla creada antes del índice único")
+        void scriptEliminaDuplicadosDeLaClaveNatural() throws IOException {
+            Jdbi antigua = TenistasFixtures.crearBaseDeDatos("tenistas-duplicados");
+            // Esquema antiguo: el índice de la clave natural no era único y se podían repetir filas
+            antigua.useHandle(handle -> {
+                handle.execute("DROP INDEX uk_tenistas_nombre_fecha");
+                handle.execute("INSERT INTO tenistas (nombre, pais, altura, peso, puntos, mano, fecha_nacimiento) " +
+                        "VALUES ('Repetido', 'España', 180, 75, 1, 'DIESTRO', DATE '1990-01-01')");
+                handle.execute("INSERT INTO tenistas (nombre, pais, altura, peso, puntos, mano, fecha_nacimiento) " +
+                        "VALUES ('Repetido', 'España', 180, 75, 2, 'DIESTRO', DATE '1990-01-01')");
+            });
+
+            TenistasFixtures.crearTablas(antigua);
+            TenistasDao daoAntiguo = antigua.onDemand(TenistasDao.class);
+            List<TenistaEntity> restantes = daoAntiguo.findByName("Repetido");
+            antigua.useHandle(handle -> handle.execute("DROP ALL OBJECTS"));
+
+            assertAll("Duplicados eliminados",
+                    () -> assertEquals(1, restantes.size()),
+                    () -> assertEquals(2, restantes.get(0).getPuntos(), "Se conserva la fila más reciente")
+            );
+        }
+
+        @Test
+        @DisplayName("findByPais busca por el prefijo pais_lower del índice sin distinguir mayúsculas")
+        void findByPaisUsaIndice() {
+            String plan = explain("findByPais", Map.of("pais", "España"));
+
+            assertAll("Plan findByPais",
+                    () -> assertTrue(plan.contains("IDX_TENISTAS_PAIS_PUNTOS_ID: PAIS_LOWER ="), plan),
+                    () -> assertFalse(plan.contains("\"PAIS\" ="), "Sin filtro residual sobre pais: " + plan),
+                    () -> assertFalse(plan.contains("tableScan"), plan),
+                    () -> assertEquals(FILAS / 4, dao.findByPais("ESPAÑA").size())
+            );
+        }
+
+        @Test
+        @DisplayName("findByNombreRange usa el índice sobre nombre_lower y devuelve ya ordenado")
+        void findByNombreRangeUsaIndice() {
+            String plan = explain("findByNombreRange", Map.of("desde", "áng", "hasta", "áng" + Character.MAX_VALUE, "limit", 10));
+
+            assertAll("Plan findByNombreRange",
+                    () -> assertTrue(plan.contains("IDX_TENISTAS_NOMBRE_LOWER"), plan),
+                    () -> assertTrue(plan.contains("index sorted"), plan),
+                    () -> assertFalse(plan.contains("tableScan"), plan)
+            );
+        }
+
+        @Test
+        @DisplayName("topByPuntos lee las n primeras filas del índice (pais_lower, puntos DESC, id) sin ordenar")
+        void topByPuntosUsaIndiceOrdenado() {
+            String plan = explain("topByPuntos", Map.of("pais", "España", "limit", 5));
+
+            assertAll("Plan topByPuntos",
+                    () -> assertTrue(plan.contains("IDX_TENISTAS_PAIS_PUNTOS_ID"), plan),
+                    () -> assertTrue(plan.contains("index sorted"), plan)
+            );
+        }
+
+        @Test
+        @DisplayName("findPageByPuntos y findPageById usan índices ordenados")
+        void paginacionPorClaveUsaIndicesOrdenados() {
+            String planPuntos = explain("findPageByPuntos", Map.of("afterPuntos", 250, "afterId", 10L, "limit", 20));
+            String planId = explain("findPageById", Map.of("afterId", 1000L, "limit", 20));
+
+            assertAll("Planes de paginación",
+                    () -> assertTrue(planPuntos.contains("IDX_TENISTAS_PUNTOS_ID"), planPuntos),
+                    () -> assertTrue(planPuntos.contains("index sorted"), planPuntos),
+                    () -> assertTrue(planId.contains("PRIMARY_KEY"), planId),
+                    () -> assertTrue(planId.contains("index sorted"), planId)
+            );
+        }
+
+        @Test
+        @DisplayName("findByNombrePrefix no distingue mayúsculas ni acentos en mayúscula")
+        void findByNombrePrefixNoDistingueMayusculas() {
+            List<Tenista> res = dao.findByNombrePrefix("ÁNGEL 10", 100);
+
+            assertAll("Prefijo",
+                    () -> assertFalse(res.isEmpty()),
+                    () -> assertTrue(res.stream().allMatch(e -> e.getNombre().startsWith("Ángel 10"))),
+                    () -> assertEquals(res.stream().map(Tenista::getNombre).sorted().toList(),
+                            res.stream().map(Tenista::getNombre).toList())
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Casos negativos")
+    class CasosNegativos {
+        @Test
+        @DisplayName("findByName con comodín inicial no puede usar índice (documenta el caso de full scan)")
+        void findByNameConComodinInicialRecorreLaTabla() {
+            String plan = explain("findByName", Map.of("nombre", "%fael%"));
+
+            assertTrue(plan.contains("tableScan"), plan);
+        }
+
+        @Test
+        @DisplayName("findByNombrePrefix sin coincidencias devuelve lista vacía")
+        void findByNombrePrefixSinCoincidenciasDevuelveVacia() {
+            assertTrue(dao.findByNombrePrefix("Zzz", 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("el índice único de la clave natural rechaza un tenista con el mismo nombre y fecha de nacimiento")
+        void claveNaturalDuplicadaSeRechaza() {
+            TenistaEntity duplicado = TenistaEntity.builder()
+                    .nombre("Ángel 0")
+                    .pais("Italia")
+                    .altura(190)
+                    .peso(80)
+                    .puntos(1)
+                    .mano("ZURDO")
+                    .fechaNacimiento(LocalDate.of(1990, 1, 1))
+                    .build();
+
+            assertAll("Clave natural duplicada",
+                    () -> assertThrows(UnableToExecuteStatementException.class, () -> dao.save(duplicado)),
+                    () -> assertEquals(FILAS, dao.count())
+            );
+        }
+    }
+}
\ No newline at end of file
@@ -1,15 +1,25 @@
 package dev.joseluisgs.database;
 
+import dev.joseluisgs.config.Config;
 import dev.joseluisgs.config.ConfigTestHelper;
+import dev.joseluisgs.dao.ClaveGuardadaEntity;
 import dev.joseluisgs.dao.TenistaEntity;
 import dev.joseluisgs.dao.TenistasDao;
+import dev.joseluisgs.models.Tenista;
+import org.jdbi.v3.core.Jdbi;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -38,6 +48,47 @@ public class JdbiManagerTest {
                 .build();
     }
 
+    /**
+     * Arranca JdbiManager con la configuración de imagen de pruebas (snapshot-config.properties).
+     */
+    private TenistasDao arrancarConImagen() {
+        return arrancarCon("snapshot-config.properties");
+    }
+
+    private TenistasDao arrancarCon(String configuracion) {
+        ConfigTestHelper.setResourceName(configuracion);
+        ConfigTestHelper.reset();
+        JdbiManager.resetForTests();
+        return JdbiManager.getInstance().getTenistasDao();
+    }
+
+    /**
+     * Vuelve a la configuración normal y borra la imagen de pruebas.
+     */
+    private void restaurarConfiguracion(Path imagen) throws Exception {
+        ConfigTestHelper.setResourceName("config.properties");
+        ConfigTestHelper.reset();
+        JdbiManager.resetForTests();
+        Files.deleteIfExists(imagen);
+        Files.deleteIfExists(HUELLA);
+        Jdbi.create(URL_IMAGEN).useHandle(handle -> handle.execute("DROP ALL OBJECTS"));
+    }
+
+    private static final String URL_IMAGEN = "jdbc:h2:mem:tenistas-snapshot;DB_CLOSE_DELAY=-1";
+    private static final Path IMAGEN = Path.of("build", "tmp", "tenistas-snapshot-test.zip");
+    private static final Path HUELLA = Path.of("build", "tmp", "tenistas-snapshot-test.zip.sha256");
+
+    /**
+     * Guarda en la imagen una fila que los scripts no crean y vacía la base de datos.
+     */
+    private void anadirFilaSoloEnImagen() {
+        Jdbi.create(URL_IMAGEN).useHandle(handle -> {
+            handle.execute("INSERT INTO tenistas (nombre, pais, puntos) VALUES ('Solo En Imagen', 'España', 1)");
+            handle.execute("SCRIPT TO '" + IMAGEN + "' COMPRESSION ZIP");
+            handle.execute("DROP ALL OBJECTS");
+        });
+    }
+
     @Nested
     @DisplayName("Casos positivos")
     class CasosPositivos {
@@ -59,7 +110,7 @@ public class JdbiManagerTest {
             TenistasDao dao = obtenerDao();
 
             int total = dao.count();
-            List<TenistaEntity> lista = dao.findAll();
+            List<Tenista> lista = dao.findAll();
 
             assertAll("DAO funcional",
                     () -> assertTrue(total >= 0),
@@ -92,6 +143,8 @@ public class JdbiManagerTest {
                     .fechaNacimiento(LocalDate.of(1991, 2, 2))
                     .build();
             int filas = dao.update(actualizar);
+            // Repetir con la versión ya usada no actualiza: otra actualización se ha adelantado
+            int filasVersionAntigua = dao.update(actualizar);
 
             TenistaEntity trasUpdate = dao.findById(idGenerado).orElse(null);
 
@@ -102,10 +155,252 @@ public class JdbiManagerTest {
                     () -> assertEquals(1, filas, "Debe actualizar 1 fila"),
                     () -> assertNotNull(trasUpdate),
                     () -> assertEquals("Jugador Actualizado", trasUpdate.getNombre()),
+                    () -> assertEquals(1, trasUpdate.getVersion(), "El update incrementa la versión"),
+                    () -> assertEquals(0, filasVersionAntigua, "Con una versión antigua no se actualiza"),
                     () -> assertEquals(1, borradas, "Debe borrar 1 fila"),
                     () -> assertTrue(dao.findById(idGenerado).isEmpty(), "Ya no debe existir")
             );
         }
+
+        @Test
+        @DisplayName("streamAll del DAO recorre la tabla con un cursor ordenado por id")
+        void streamAllRecorreTablaConCursor() {
+            TenistasDao dao = obtenerDao();
+            long id = dao.save(construirEntity("Jugador Cursor"));
+
+            List<Tenista> recorridos;
+            try (var stream = dao.streamAll(2)) {
+                recorridos = stream.toList();
+            }
+
+            assertAll("Cursor",
+                    () -> assertEquals(dao.count(), recorridos.size()),
+                    () -> assertTrue(recorridos.stream().anyMatch(e -> e.getId() == id)),
+                    () -> assertEquals(recorridos.stream().map(Tenista::getId).sorted().toList(),
+                            recorridos.stream().map(Tenista::getId).toList())
+            );
+            dao.delete(id);
+        }
+
+        @Test
+        @DisplayName("upsertAll es idempotente: repetirlo actualiza por nombre y fecha sin duplicar filas")
+        void upsertAllEsIdempotente() {
+            TenistasDao dao = obtenerDao();
+            int antes = dao.count();
+            TenistaEntity merge1 = construirEntity("Merge 1");
+            TenistaEntity merge2 = construirEntity("Merge 2");
+
+            List<ClaveGuardadaEntity> claves = dao.upsertAll(List.of(merge1, merge2));
+            merge2.setPuntos(4321);
+            List<ClaveGuardadaEntity> clavesRepetido = dao.upsertAll(List.of(merge2, merge1));
+
+            List<TenistaEntity> guardados = dao.findByName("Merge %");
+            guardados.forEach(e -> dao.delete(e.getId()));
+
+            assertAll("Upsert",
+                    () -> assertEquals(2, guardados.size()),
+                    () -> assertTrue(guardados.stream().allMatch(e -> e.getVersion() == 1), "Cada MERGE que actualiza incrementa la versión"),
+                    () -> assertEquals(List.of(claves.get(1).id(), claves.get(0).id()),
+                            clavesRepetido.stream().map(ClaveGuardadaEntity::id).toList(), "Las filas actualizadas devuelven su id"),
+                    () -> assertTrue(claves.stream().allMatch(c -> c.version() == 0)),
+                    () -> assertTrue(clavesRepetido.stream().allMatch(c -> c.version() == 1), "Y su versión tras el MERGE"),
+                    () -> assertTrue(guardados.stream().anyMatch(e -> e.getPuntos() == 4321)),
+                    () -> assertEquals(antes, dao.count())
+            );
+        }
+
+        @Test
+        @DisplayName("findAllById devuelve en una consulta los tenistas existentes de la lista")
+        void findAllByIdDevuelveLosExistentes() {
+            TenistasDao dao = obtenerDao();
+            List<Long> ids = dao.saveAll(List.of(construirEntity("Bloque 1"), construirEntity("Bloque 2")));
+
+            List<Tenista> encontrados = dao.findAllById(List.of(ids.get(0), ids.get(1), -5L));
+            ids.forEach(dao::delete);
+
+            assertEquals(java.util.Set.copyOf(ids),
+                    encontrados.stream().map(Tenista::getId).collect(java.util.stream.Collectors.toSet()));
+        }
+
+        @Test
+        @DisplayName("topByPuntos y statsByManoTop calculan en SQL lo mismo que con streams en memoria, sin distinguir mayúsculas en el país")
+        void rankingYAgregacionEnSqlCoincidenConStreams() {
+            TenistasDao dao = obtenerDao();
+            TenistaEntity zurdo = construirEntity("Ranking Zurdo");
+            zurdo.setPais("RANKING"); // Como equalsIgnoreCase: cuenta para el país "Ranking"
+            zurdo.setPuntos(500);
+            zurdo.setMano("ZURDO");
+            List<TenistaEntity> entities = new java.util.ArrayList<>(List.of(zurdo));
+            for (int i = 0; i < 6; i++) {
+                TenistaEntity e = construirEntity("Ranking " + i);
+                e.setPais("Ranking");
+                e.setPuntos(100 * i);
+                entities.add(e);
+            }
+            List<Long> ids = dao.saveAll(entities);
+
+            List<Tenista> top = dao.topByPuntos("ranking", 3);
+            List<dev.joseluisgs.dao.ManoStatsEntity> stats = dao.statsByManoTop("Ranking", 3);
+            List<dev.joseluisgs.dao.ManoStatsEntity> statsPais = dao.statsByMano("Ranking");
+            int porPais = dao.findByPais("ranking").size();
+            ids.forEach(dao::delete);
+
+            assertAll("Ranking y agregación",
+                    () -> assertEquals(List.of("Ranking Zurdo", "Ranking 5", "Ranking 4"),
+                            top.stream().map(Tenista::getNombre).toList(), "Empate a 500 resuelto por id"),
+                    () -> assertEquals(List.of(
+                            new dev.joseluisgs.dao.ManoStatsEntity("DIESTRO", 2, 450.0),
+                            new dev.joseluisgs.dao.ManoStatsEntity("ZURDO", 1, 500.0)), stats),
+                    () -> assertEquals(List.of(
+                            new dev.joseluisgs.dao.ManoStatsEntity("DIESTRO", 6, 250.0),
+                            new dev.joseluisgs.dao.ManoStatsEntity("ZURDO", 1, 500.0)), statsPais),
+                    () -> assertEquals(7, porPais, "findByPais tampoco distingue mayúsculas")
+            );
+        }
+
+        @Test
+        @DisplayName("findPageByPuntos recorre la tabla por (puntos DESC, id) sin huecos ni duplicados")
+        void findPageByPuntosRecorreSinHuecosNiDuplicados() {
+            TenistasDao dao = obtenerDao();
+            // Varios con los mismos puntos para comprobar el desempate por id
+            List<Long> ids = dao.saveAll(List.of(construirEntity("Empate 1"), construirEntity("Empate 2"), construirEntity("Empate 3")));
+
+            List<Tenista> recorridos = new java.util.ArrayList<>();
+            List<Tenista> pagina = dao.findPageByPuntos(Integer.MAX_VALUE, Long.MIN_VALUE, 2);
+            while (!pagina.isEmpty()) {
+                recorridos.addAll(pagina);
+                Tenista ultimo = pagina.get(pagina.size() - 1);
+                pagina = dao.findPageByPuntos(ultimo.getPuntos(), ultimo.getId(), 2);
+            }
+
+            List<Tenista> esperado = dao.findAll().stream()
+                    .sorted(java.util.Comparator.comparingInt(Tenista::getPuntos).reversed()
+                            .thenComparingLong(Tenista::getId))
+                    .toList();
+            ids.forEach(dao::delete);
+
+            assertEquals(esperado.stream().map(Tenista::getId).toList(),
+                    recorridos.stream().map(Tenista::getId).toList());
+        }
+
+        @Test
+        @DisplayName("Las llamadas concurrentes al DAO reutilizan las conexiones del pool")
+        void llamadasConcurrentesReutilizanConexionesDelPool() throws Exception {
+            TenistasDao dao = obtenerDao();
+            int tamanoPool = Config.getInstance().getDatabasePoolSize();
+
+            try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+                List<Future<Integer>> resultados = new java.util.ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                    resultados.add(executor.submit(dao::count));
+                }
+                for (Future<Integer> resultado : resultados) {
+                    resultado.get();
+                }
+            }
+            PoolMetrics metrics = JdbiManager.getInstance().getPoolMetrics();
+
+            assertAll("Métricas del pool",
+                    () -> assertEquals(0, metrics.active(), "Todas las conexiones se han devuelto"),
+                    () -> assertEquals(0, metrics.pending()),
+                    () -> assertEquals(metrics.total(), metrics.active() + metrics.idle()),
+                    () -> assertTrue(metrics.total() <= tamanoPool, "No se abren más conexiones que el tamaño del pool")
+            );
+        }
+
+        @Test
+        @DisplayName("Sin imagen usa los scripts y la genera; con imagen la restaura en lugar de los scripts")
+        void sinImagenUsaScriptsYConImagenLaRestaura() throws Exception {
+            Files.deleteIfExists(IMAGEN);
+            try {
+                // Primer arranque: scripts y se genera la imagen
+                TenistasDao dao = arrancarConImagen();
+                int totalScripts = dao.count();
+                boolean imagenGenerada = Files.exists(IMAGEN) && Files.exists(HUELLA);
+                anadirFilaSoloEnImagen();
+
+                // Segundo arranque: se restaura la imagen, con su índice y su columna generada
+                TenistasDao restaurado = arrancarConImagen();
+
+                assertAll("Arranque desde imagen",
+                        () -> assertTrue(imagenGenerada, "El primer arranque genera la imagen"),
+                        () -> assertEquals(totalScripts + 1, restaurado.count()),
+                        () -> assertEquals(1, restaurado.findByName("solo en%").size()),
+                        () -> assertEquals(1, restaurado.findByNombrePrefix("SOLO", 10).size())
+                );
+            } finally {
+                restaurarConfiguracion(IMAGEN);
+            }
+        }
+
+        @Test
+        @DisplayName("Si la huella de la imagen no es la de los scripts actuales se usan los scripts y se regenera")
+        void imagenDeOtrosScriptsSeRegenera() throws Exception {
+            Files.deleteIfExists(IMAGEN);
+            try {
+                int totalScripts = arrancarConImagen().count();
+                String huella = Files.readString(HUELLA);
+                anadirFilaSoloEnImagen();
+                // Como si tables.sql o data.sql hubieran cambiado desde que se generó la imagen
+                Files.writeString(HUELLA, "huella-de-otros-scripts");
+
+                TenistasDao regenerado = arrancarConImagen();
+
+                assertAll("Imagen obsoleta",
+                        () -> assertEquals(totalScripts, regenerado.count(), "No se restaura la imagen obsoleta"),
+                        () -> assertTrue(regenerado.findByName("solo en%").isEmpty()),
+                        () -> assertEquals(huella, Files.readString(HUELLA), "La imagen se regenera con la huella actual")
+                );
+            } finally {
+                restaurarConfiguracion(IMAGEN);
+            }
+        }
+
+        @Test
+        @DisplayName("Si la tabla ya existe no se restaura la imagen y se conservan las filas escritas después")
+        void tablaExistenteNoSeSobrescribeConLaImagen() throws Exception {
+            Files.deleteIfExists(IMAGEN);
+            try {
+                int totalScripts = arrancarConImagen().count();
+                byte[] imagen = Files.readAllBytes(IMAGEN);
+                // Como en una base de datos en archivo: la fila se escribe después de generar la imagen
+                Jdbi.create(URL_IMAGEN).useHandle(handle -> handle.execute(
+                        "INSERT INTO tenistas (nombre, pais, puntos) VALUES ('Escrito Despues', 'España', 1)"));
+
+                TenistasDao reiniciado = arrancarConImagen();
+
+                assertAll("Base de datos existente",
+                        () -> assertEquals(totalScripts + 1, reiniciado.count()),
+                        () -> assertEquals(1, reiniciado.findByName("Escrito Despues").size()),
+                        () -> assertArrayEquals(imagen, Files.readAllBytes(IMAGEN), "La imagen no se regenera con esas filas")
+                );
+            } finally {
+                restaurarConfiguracion(IMAGEN);
+            }
+        }
+
+        @Test
+        @DisplayName("Con la inicialización de tablas y datos desactivada no se restaura la imagen")
+        void sinInicializacionNoSeRestauraLaImagen() throws Exception {
+            Files.deleteIfExists(IMAGEN);
+            try {
+                arrancarConImagen();
+                anadirFilaSoloEnImagen();
+
+                arrancarCon("snapshot-noinit-config.properties");
+                long tablas = Jdbi.create(URL_IMAGEN).withHandle(handle -> handle
+                        .createQuery("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = 'TENISTAS'")
+                        .mapTo(Long.class)
+                        .one());
+
+                assertAll("Sin inicialización",
+                        () -> assertEquals(0, tablas, "La base de datos se deja como está"),
+                        () -> assertTrue(Files.exists(IMAGEN), "La imagen no se toca")
+                );
+            } finally {
+                restaurarConfiguracion(IMAGEN);
+            }
+        }
     }
 
     @Nested
@@ -130,6 +425,25 @@ public class JdbiManagerTest {
             });
         }
 
+        @Test
+        @DisplayName("Una imagen dañada no impide arrancar: se usan los scripts y se regenera")
+        void imagenDanadaSeIgnoraYSeRegenera() throws Exception {
+            Files.createDirectories(IMAGEN.getParent());
+            Files.writeString(IMAGEN, "no es una imagen");
+            try {
+                TenistasDao dao = arrancarConImagen();
+
+                assertAll("Imagen dañada",
+                        () -> assertEquals(1, dao.count(), "Datos de data.sql"),
+                        () -> assertNotEquals("no es una imagen", new String(Files.readAllBytes(IMAGEN), StandardCharsets.ISO_8859_1)),
+                        () -> assertEquals(List.of(), Files.list(IMAGEN.getParent())
+                                .filter(p -> p.toString().endsWith(".tmp")).toList(), "No quedan temporales")
+                );
+            } finally {
+                restaurarConfiguracion(IMAGEN);
+            }
+        }
+
         @Test
         @DisplayName("Con initTables=false e initData=false no se inicializa y las consultas fallan")
         void conFlagsEnFalseNoInicializaYConsultasFalla() {
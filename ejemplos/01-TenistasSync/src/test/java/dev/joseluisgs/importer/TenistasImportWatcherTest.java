@@ -0,0 +1,257 @@
+package dev.joseluisgs.importer;
+
+import dev.joseluisgs.exceptions.TenistaException;
+import dev.joseluisgs.models.Tenista;
+import dev.joseluisgs.service.TenistasService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de pruebas para TenistasImportWatcher.
+ * Comprueba que solo se importan los bytes nuevos de cada archivo, por lotes, y que los checkpoints
+ * se guardan y se retoman entre ejecuciones. El servicio es un mock que recoge los lotes guardados.
+ * Referencia: dev.joseluisgs.importer.TenistasImportWatcher
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests del importador incremental TenistasImportWatcher")
+public class TenistasImportWatcherTest {
+
+    private static final String CABECERA = "id,nombre,pais,altura,peso,puntos,mano,fecha_nacimiento\n";
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    TenistasService service;
+
+    private Path checkpointFile() {
+        return tempDir.resolve("checkpoints").resolve("import.properties");
+    }
+
+    private TenistasImportWatcher crearWatcher(int batchSize) throws Exception {
+        return new TenistasImportWatcher(service, tempDir, checkpointFile(), batchSize);
+    }
+
+    private String linea(int i) {
+        return i + ",Jugador " + i + ",España,180,75," + (1000 + i) + ",DIESTRO,1990-01-01\n";
+    }
+
+    private String lineas(int desde, int hasta) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = desde; i < hasta; i++) {
+            sb.append(linea(i));
+        }
+        return sb.toString();
+    }
+
+    private long bytes(String texto) {
+        return texto.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private void anadir(Path archivo, String contenido) throws IOException {
+        Files.writeString(archivo, contenido, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Nombres de los tenistas de todos los lotes enviados al servicio, en orden.
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> nombresGuardados() throws Exception {
+        List<String> nombres = new ArrayList<>();
+        for (var invocation : mockingDetails(service).getInvocations()) {
+            if (invocation.getMethod().getName().equals("upsertAll")) {
+                ((List<Tenista>) invocation.getArgument(0)).forEach(t -> nombres.add(t.getNombre()));
+            }
+        }
+        return nombres;
+    }
+
+    @Nested
+    @DisplayName("Casos positivos")
+    class CasosPositivos {
+        @Test
+        @DisplayName("scan importa todos los archivos y guarda el checkpoint al final de cada uno")
+        void scanImportaTodoYGuardaCheckpoints() throws Exception {
+            Path a = tempDir.resolve("a.csv");
+            Path b = tempDir.resolve("b.csv");
+            anadir(a, CABECERA + lineas(0, 3));
+            anadir(b, CABECERA + lineas(3, 5));
+            Files.writeString(tempDir.resolve("notas.txt"), "no es un csv");
+            TenistasImportWatcher watcher = crearWatcher(100);
+
+            int importados = watcher.scan();
+            int repetidos = watcher.scan();
+
+            assertAll("Primer escaneo",
+                    () -> assertEquals(5, importados),
+                    () -> assertEquals(0, repetidos, "Sin cambios no se importa nada"),
+                    () -> assertEquals(List.of("Jugador 0", "Jugador 1", "Jugador 2", "Jugador 3", "Jugador 4"), nombresGuardados()),
+                    () -> assertEquals(Map.of("a.csv", Files.size(a), "b.csv", Files.size(b)), watcher.getCheckpoints())
+            );
+        }
+
+        @Test
+        @DisplayName("al añadir líneas solo se importan las nuevas, en lotes del tamaño indicado")
+        void alAnadirLineasSoloSeImportanLasNuevas() throws Exception {
+            Path archivo = tempDir.resolve("ranking.csv");
+            anadir(archivo, CABECERA + lineas(0, 2));
+            TenistasImportWatcher watcher = crearWatcher(2);
+            watcher.scan();
+            clearInvocations(service);
+
+            anadir(archivo, lineas(2, 7));
+            int importados = watcher.importFile(archivo);
+
+            assertAll("Importación incremental",
+                    () -> assertEquals(5, importados),
+                    () -> assertEquals(List.of("Jugador 2", "Jugador 3", "Jugador 4", "Jugador 5", "Jugador 6"), nombresGuardados()),
+                    () -> assertEquals(Files.size(archivo), watcher.getCheckpoints().get("ranking.csv"))
+            );
+            verify(service, times(3)).upsertAll(anyList());
+        }
+
+        @Test
+        @DisplayName("una línea a medio escribir no se importa hasta que se completa")
+        void lineaAMedioEscribirNoSeImportaHastaCompletarse() throws Exception {
+            Path archivo = tempDir.resolve("parcial.csv");
+            String completa = linea(0);
+            anadir(archivo, CABECERA + completa + "1,Jugador 1,Esp");
+            TenistasImportWatcher watcher = crearWatcher(100);
+
+            int primera = watcher.importFile(archivo);
+            long checkpoint = watcher.getCheckpoints().get("parcial.csv");
+            anadir(archivo, "aña,180,75,1001,DIESTRO,1990-01-01\n");
+            int segunda = watcher.importFile(archivo);
+
+            assertAll("Línea parcial",
+                    () -> assertEquals(1, primera),
+                    () -> assertEquals(bytes(CABECERA + completa), checkpoint),
+                    () -> assertEquals(1, segunda),
+                    () -> assertEquals(List.of("Jugador 0", "Jugador 1"), nombresGuardados())
+            );
+        }
+
+        @Test
+        @DisplayName("las líneas mal formadas o no válidas se saltan, se cuentan y el checkpoint llega al final")
+        void lineasErroneasSeSaltanYElCheckpointAvanza() throws Exception {
+            Path archivo = tempDir.resolve("mal.csv");
+            anadir(archivo, CABECERA + lineas(0, 2)
+                    + "2,Jugador 2,España,18a,75,1000,DIESTRO,1990-01-01\n"
+                    + lineas(3, 4)
+                    + "4,Jugador 4,España,180,75,1000,DIESTRO,2999-01-01\n"
+                    + lineas(5, 6));
+            TenistasImportWatcher watcher = crearWatcher(2);
+
+            int importados = watcher.importFile(archivo);
+            anadir(archivo, lineas(6, 7));
+            int siguientes = watcher.importFile(archivo);
+
+            assertAll("Líneas rechazadas",
+                    () -> assertEquals(4, importados),
+                    () -> assertEquals(1, siguientes, "La línea errónea no bloquea las siguientes importaciones"),
+                    () -> assertEquals(2, watcher.getLineasRechazadas()),
+                    () -> assertEquals(Files.size(archivo), watcher.getCheckpoints().get("mal.csv")),
+                    () -> assertEquals(List.of("Jugador 0", "Jugador 1", "Jugador 3", "Jugador 5", "Jugador 6"), nombresGuardados())
+            );
+        }
+
+        @Test
+        @DisplayName("un nuevo importador retoma los checkpoints guardados por el anterior")
+        void nuevoImportadorRetomaLosCheckpoints() throws Exception {
+            Path archivo = tempDir.resolve("dia.csv");
+            anadir(archivo, CABECERA + lineas(0, 3));
+            crearWatcher(100).scan();
+            anadir(archivo, lineas(3, 4));
+            clearInvocations(service);
+
+            int importados = crearWatcher(100).scan();
+
+            assertAll("Reinicio",
+                    () -> assertEquals(1, importados),
+                    () -> assertEquals(List.of("Jugador 3"), nombresGuardados())
+            );
+        }
+
+        @Test
+        @DisplayName("un archivo más pequeño que su checkpoint se ha reemplazado y se importa desde el principio")
+        void archivoReemplazadoSeImportaDesdeElPrincipio() throws Exception {
+            Path archivo = tempDir.resolve("rotado.csv");
+            anadir(archivo, CABECERA + lineas(0, 5));
+            TenistasImportWatcher watcher = crearWatcher(100);
+            watcher.scan();
+            clearInvocations(service);
+
+            Files.writeString(archivo, CABECERA + lineas(10, 11), StandardCharsets.UTF_8);
+            int importados = watcher.scan();
+
+            assertAll("Archivo reemplazado",
+                    () -> assertEquals(1, importados),
+                    () -> assertEquals(List.of("Jugador 10"), nombresGuardados())
+            );
+        }
+
+        @Test
+        @DisplayName("start vigila el directorio e importa los archivos nuevos y ampliados")
+        void startVigilaElDirectorio() throws Exception {
+            Path existente = tempDir.resolve("existente.csv");
+            anadir(existente, CABECERA + lineas(0, 1));
+
+            try (TenistasImportWatcher watcher = crearWatcher(100)) {
+                watcher.start();
+                anadir(tempDir.resolve("nuevo.csv"), CABECERA + lineas(1, 3));
+                anadir(existente, lineas(3, 4));
+
+                // Esperamos a que el hilo de vigilancia procese los eventos
+                long limite = System.currentTimeMillis() + 10_000;
+                while (nombresGuardados().size() < 4 && System.currentTimeMillis() < limite) {
+                    Thread.sleep(50);
+                }
+            }
+
+            assertEquals(List.of("Jugador 0", "Jugador 1", "Jugador 2", "Jugador 3"),
+                    nombresGuardados().stream().sorted().toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Casos negativos")
+    class CasosNegativos {
+        @Test
+        @DisplayName("si el servicio rechaza un lote el checkpoint no avanza")
+        void loteRechazadoNoAvanzaElCheckpoint() throws Exception {
+            Path archivo = tempDir.resolve("invalido.csv");
+            anadir(archivo, CABECERA + lineas(0, 2));
+            when(service.upsertAll(anyList())).thenThrow(new TenistaException.ValidationException("no válido"));
+            TenistasImportWatcher watcher = crearWatcher(100);
+
+            assertThrows(TenistaException.ValidationException.class, () -> watcher.importFile(archivo));
+            assertNull(watcher.getCheckpoints().get("invalido.csv"));
+        }
+
+        @Test
+        @DisplayName("un archivo de checkpoints corrupto lanza StorageException")
+        void checkpointsCorruptosLanzanExcepcion() throws Exception {
+            Files.createDirectories(checkpointFile().getParent());
+            Files.writeString(checkpointFile(), "a.csv=mucho\n");
+
+            assertThrows(TenistaException.StorageException.class, () -> crearWatcher(100));
+        }
+    }
+}
\ No newline at end of file
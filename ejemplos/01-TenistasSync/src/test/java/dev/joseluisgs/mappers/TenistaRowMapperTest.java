@@ -0,0 +1,104 @@
+package dev.joseluisgs.mappers;
+
+import dev.joseluisgs.dao.TenistaEntity;
+import dev.joseluisgs.fixtures.TenistasFixtures;
+import dev.joseluisgs.models.Tenista;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.mapper.reflect.ConstructorMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para TenistaRowMapper sobre una base de datos H2 en memoria real.
+ * Comprueba que produce lo mismo que el camino anterior (TenistaEntity + TenistaMapper.fromEntity).
+ * Referencia: dev.joseluisgs.mappers.TenistaRowMapper
+ */
+@DisplayName("Tests del mapper de filas TenistaRowMapper")
+public class TenistaRowMapperTest {
+
+    private static final String SELECT = "SELECT " + TenistaRowMapper.COLUMNAS + " FROM tenistas ORDER BY id";
+
+    private Jdbi jdbi;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        jdbi = TenistasFixtures.crearBaseDeDatos("tenistas-row-mapper");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbi.useHandle(handle -> handle.execute("DROP TABLE IF EXISTS tenistas"));
+    }
+
+    private void insertar(String nombre, String mano) {
+        jdbi.useHandle(handle -> handle.createUpdate("INSERT INTO tenistas (nombre, pais, altura, peso, puntos, mano, fecha_nacimiento) " +
+                        "VALUES (:nombre, 'España', 183, 74, 9000, :mano, :fecha)")
+                .bind("nombre", nombre)
+                .bind("mano", mano)
+                .bind("fecha", LocalDate.of(2003, 5, 5))
+                .execute());
+    }
+
+    private List<Tenista> leer() {
+        return jdbi.withHandle(handle -> handle.createQuery(SELECT).map(new TenistaRowMapper()).list());
+    }
+
+    @Nested
+    @DisplayName("Casos positivos")
+    class CasosPositivos {
+        @Test
+        @DisplayName("produce los mismos tenistas que TenistaEntity + TenistaMapper.fromEntity")
+        void produceLoMismoQueElMapeoPorEntidad() {
+            insertar("Carlos Alcaraz", "DIESTRO");
+            insertar("Rafael Nadal", "zurdo");
+            insertar("Jugador Otro", "OTRO");
+
+            List<Tenista> antes = jdbi.withHandle(handle -> handle.createQuery("SELECT * FROM tenistas ORDER BY id")
+                    .registerRowMapper(ConstructorMapper.factory(TenistaEntity.class))
+                    .mapTo(TenistaEntity.class)
+                    .map(TenistaMapper::fromEntity)
+                    .list());
+            List<Tenista> ahora = leer();
+
+            assertAll("Mismo resultado",
+                    () -> assertEquals(3, ahora.size()),
+                    () -> assertEquals(antes, ahora),
+                    () -> assertEquals(Tenista.Mano.ZURDO, ahora.get(1).getMano()),
+                    () -> assertEquals(LocalDate.of(2003, 5, 5), ahora.get(0).getFechaNacimiento())
+            );
+        }
+
+        @Test
+        @DisplayName("mano nula o con mayúsculas mezcladas se resuelve")
+        void manoNulaOMezcladaSeResuelve() {
+            insertar("Sin Mano", null);
+            insertar("Mano Mezclada", "Zurdo");
+
+            List<Tenista> res = leer();
+
+            assertAll("Mano",
+                    () -> assertNull(res.get(0).getMano()),
+                    () -> assertEquals(Tenista.Mano.ZURDO, res.get(1).getMano())
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Casos negativos")
+    class CasosNegativos {
+        @Test
+        @DisplayName("mano desconocida lanza IllegalArgumentException")
+        void manoDesconocidaLanzaExcepcion() {
+            assertThrows(IllegalArgumentException.class, () -> TenistaRowMapper.toMano("AMBIDIESTRO"));
+        }
+    }
+}
\ No newline at end of file
@@ -1,8 +1,13 @@
 package dev.joseluisgs.repository;
 
+import dev.joseluisgs.dao.ClaveGuardadaEntity;
+import dev.joseluisgs.dao.ManoStatsEntity;
 import dev.joseluisgs.dao.TenistaEntity;
 import dev.joseluisgs.dao.TenistasDao;
+import dev.joseluisgs.models.ManoStats;
+import dev.joseluisgs.models.Page;
 import dev.joseluisgs.models.Tenista;
+import dev.joseluisgs.models.TenistasOrden;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -15,6 +20,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -47,6 +53,12 @@ public class TenistasRepositoryImplTest {
                 .build();
     }
 
+    private Tenista construirTenista(long id) {
+        Tenista tenista = construirTenistaDominio();
+        tenista.setId(id);
+        return tenista;
+    }
+
     private TenistaEntity construirEntity(long id) {
         return TenistaEntity.builder()
                 .id(id)
@@ -67,8 +79,8 @@ public class TenistasRepositoryImplTest {
         @DisplayName("findAll devuelve la lista mapeada correctamente")
         void findAllDevuelveListaMapeadaCorrectamente() {
             when(tenistasDao.findAll()).thenReturn(List.of(
-                    construirEntity(1),
-                    construirEntity(2)
+                    construirTenista(1),
+                    construirTenista(2)
             ));
 
             List<Tenista> res = repository.findAll();
@@ -83,6 +95,25 @@ public class TenistasRepositoryImplTest {
             verify(tenistasDao, times(1)).findAll();
         }
 
+        @Test
+        @DisplayName("streamAll recorre el cursor del DAO con el fetch size configurado y mapea")
+        void streamAllRecorreCursorDelDaoYMapea() {
+            when(tenistasDao.streamAll(anyInt())).thenReturn(Stream.of(construirTenista(1), construirTenista(2)));
+
+            List<Tenista> res;
+            try (Stream<Tenista> stream = repository.streamAll()) {
+                res = stream.toList();
+            }
+
+            assertAll("Cursor mapeado",
+                    () -> assertEquals(2, res.size()),
+                    () -> assertEquals(2, res.get(1).getId()),
+                    () -> assertEquals(Tenista.Mano.DIESTRO, res.get(0).getMano())
+            );
+            verify(tenistasDao).streamAll(500);
+            verify(tenistasDao, never()).findAll();
+        }
+
         @Test
         @DisplayName("findById existente devuelve Optional con tenista mapeado")
         void findByIdExistenteDevuelveOptionalConTenistaMapeado() {
@@ -98,6 +129,70 @@ public class TenistasRepositoryImplTest {
             verify(tenistasDao).findById(1L);
         }
 
+        @Test
+        @DisplayName("topByPuntos y statsByMano delegan en las consultas del DAO y mapean el resultado")
+        void topByPuntosYStatsByManoDeleganEnDao() {
+            when(tenistasDao.topByPuntos("España", 2)).thenReturn(List.of(construirTenista(1), construirTenista(2)));
+            when(tenistasDao.statsByMano("España")).thenReturn(List.of(new ManoStatsEntity("DIESTRO", 3, 1500.0)));
+            when(tenistasDao.statsByManoTop("España", 2)).thenReturn(List.of(new ManoStatsEntity("zurdo", 2, 900.5)));
+
+            List<Tenista> top = repository.topByPuntos("España", 2);
+            List<ManoStats> stats = repository.statsByMano("España");
+            List<ManoStats> statsTop = repository.statsByMano("España", 2);
+
+            assertAll("Ranking y agregación",
+                    () -> assertEquals(List.of(1L, 2L), top.stream().map(Tenista::getId).toList()),
+                    () -> assertEquals(List.of(new ManoStats(Tenista.Mano.DIESTRO, 3, 1500.0)), stats),
+                    () -> assertEquals(List.of(new ManoStats(Tenista.Mano.ZURDO, 2, 900.5)), statsTop)
+            );
+            verify(tenistasDao, never()).findAll();
+        }
+
+        @Test
+        @DisplayName("findByNombrePrefix delega en la búsqueda por prefijo del DAO")
+        void findByNombrePrefixDelegaEnDao() {
+            when(tenistasDao.findByNombrePrefix("raf", 10)).thenReturn(List.of(construirTenista(4)));
+
+            List<Tenista> res = repository.findByNombrePrefix("raf", 10);
+
+            assertAll("Búsqueda por prefijo",
+                    () -> assertEquals(1, res.size()),
+                    () -> assertEquals(4L, res.get(0).getId())
+            );
+            verify(tenistasDao, never()).findByName(anyString());
+        }
+
+        @Test
+        @DisplayName("upsertAll envía los tenistas al MERGE del DAO y asigna los ids y versiones devueltos")
+        void upsertAllDelegaEnMergeDelDao() {
+            when(tenistasDao.upsertAll(anyList()))
+                    .thenReturn(List.of(new ClaveGuardadaEntity(7L, 2L), new ClaveGuardadaEntity(3L, 0L)));
+
+            List<Tenista> guardados = repository.upsertAll(List.of(construirTenistaDominio(), construirTenistaDominio()));
+
+            assertAll("Upsert",
+                    () -> assertEquals(List.of(7L, 3L), guardados.stream().map(Tenista::getId).toList()),
+                    () -> assertEquals(List.of(2L, 0L), guardados.stream().map(Tenista::getVersion).toList())
+            );
+            verify(tenistasDao, times(1)).upsertAll(argThat(entities -> entities.size() == 2));
+            verify(tenistasDao, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("findAllById delega en una única consulta del DAO y mapea los resultados")
+        void findAllByIdDelegaEnUnaConsulta() {
+            when(tenistasDao.findAllById(List.of(1L, 2L))).thenReturn(List.of(construirTenista(1), construirTenista(2)));
+
+            List<Tenista> res = repository.findAllById(List.of(1L, 2L));
+
+            assertAll("Búsqueda por ids",
+                    () -> assertEquals(2, res.size()),
+                    () -> assertEquals(1L, res.get(0).getId()),
+                    () -> assertEquals(2L, res.get(1).getId())
+            );
+            verify(tenistasDao, times(1)).findAllById(List.of(1L, 2L));
+        }
+
         @Test
         @DisplayName("save delega en el DAO y devuelve el tenista con id generado")
         void saveDelegayDevuelveTenistaConIdGenerado() {
@@ -122,18 +217,107 @@ public class TenistasRepositoryImplTest {
         }
 
         @Test
-        @DisplayName("update con filas actualizadas devuelve Optional con el mismo tenista")
-        void updateConFilasActualizadasDevuelveOptionalConTenista() {
+        @DisplayName("saveAll delega en el batch del DAO y asigna los ids generados en orden")
+        void saveAllDelegaEnBatchYAsignaIds() {
+            Tenista t1 = construirTenistaDominio();
+            Tenista t2 = construirTenistaDominio();
+            t2.setNombre("Rafael Nadal");
+            when(tenistasDao.saveAll(anyList())).thenReturn(List.of(10L, 11L));
+
+            List<Tenista> guardados = repository.saveAll(List.of(t1, t2));
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<TenistaEntity>> captor = ArgumentCaptor.forClass(List.class);
+            verify(tenistasDao, times(1)).saveAll(captor.capture());
+            List<TenistaEntity> enviados = captor.getValue();
+
+            assertAll("Guardado por lotes",
+                    () -> assertEquals(2, guardados.size()),
+                    () -> assertEquals(10L, guardados.get(0).getId()),
+                    () -> assertEquals(11L, guardados.get(1).getId()),
+                    () -> assertEquals(2, enviados.size()),
+                    () -> assertEquals(Tenista.NEW_TENISTA_ID, enviados.get(0).getId()),
+                    () -> assertEquals("Rafael Nadal", enviados.get(1).getNombre())
+            );
+            verify(tenistasDao, never()).save(any(TenistaEntity.class));
+        }
+
+        @Test
+        @DisplayName("updateAll envía los tenistas al batch del DAO y devuelve los ids de las filas actualizadas")
+        void updateAllDelegaEnBatchYDevuelveLosActualizados() {
+            Tenista t1 = construirTenistaDominio();
+            Tenista t2 = construirTenistaDominio();
+            t2.setId(2L);
+            t2.setPuntos(500);
+            when(tenistasDao.updateAll(anyList())).thenReturn(new int[]{0, 1});
+
+            List<Long> actualizados = repository.updateAll(List.of(t1, t2));
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<TenistaEntity>> captor = ArgumentCaptor.forClass(List.class);
+            verify(tenistasDao, times(1)).updateAll(captor.capture());
+            List<TenistaEntity> enviados = captor.getValue();
+
+            assertAll("Actualización por lotes",
+                    () -> assertEquals(List.of(2L), actualizados, "La fila con otra versión no cuenta"),
+                    () -> assertEquals(2, enviados.size()),
+                    () -> assertEquals(2L, enviados.get(1).getId()),
+                    () -> assertEquals(500, enviados.get(1).getPuntos())
+            );
+        }
+
+        @Test
+        @DisplayName("findPage por id pide una fila extra y devuelve token que continúa tras el último id")
+        void findPagePorIdDevuelveTokenQueContinua() {
+            when(tenistasDao.findPageById(Long.MIN_VALUE, 3)).thenReturn(List.of(construirTenista(1), construirTenista(2), construirTenista(3)));
+            when(tenistasDao.findPageById(2L, 3)).thenReturn(List.of(construirTenista(3)));
+
+            Page<Tenista> primera = repository.findPage(TenistasOrden.ID, null, 2);
+            Page<Tenista> segunda = repository.findPage(TenistasOrden.ID, primera.nextToken(), 2);
+
+            assertAll("Paginación por id",
+                    () -> assertEquals(2, primera.items().size()),
+                    () -> assertTrue(primera.hasNext()),
+                    () -> assertEquals(1, segunda.items().size()),
+                    () -> assertEquals(3, segunda.items().get(0).getId()),
+                    () -> assertFalse(segunda.hasNext())
+            );
+        }
+
+        @Test
+        @DisplayName("findPage por puntos continúa desde (puntos, id) de la última fila")
+        void findPagePorPuntosContinuaDesdeLaUltimaClave() {
+            Tenista e1 = construirTenista(7);
+            Tenista e2 = construirTenista(4);
+            e2.setPuntos(8000);
+            when(tenistasDao.findPageByPuntos(Integer.MAX_VALUE, Long.MIN_VALUE, 2)).thenReturn(List.of(e1, e2));
+            when(tenistasDao.findPageByPuntos(9000, 7L, 2)).thenReturn(List.of(e2));
+
+            Page<Tenista> primera = repository.findPage(TenistasOrden.PUNTOS_DESC, null, 1);
+            Page<Tenista> segunda = repository.findPage(TenistasOrden.PUNTOS_DESC, primera.nextToken(), 1);
+
+            assertAll("Paginación por puntos",
+                    () -> assertEquals(7, primera.items().get(0).getId()),
+                    () -> assertEquals(4, segunda.items().get(0).getId()),
+                    () -> assertFalse(segunda.hasNext())
+            );
+        }
+
+        @Test
+        @DisplayName("update con filas actualizadas devuelve el mismo tenista con la versión incrementada")
+        void updateConFilasActualizadasDevuelveTenistaConNuevaVersion() {
             when(tenistasDao.update(any(TenistaEntity.class))).thenReturn(1);
             Tenista tenista = construirTenistaDominio();
+            tenista.setVersion(4);
 
-            Optional<Tenista> res = repository.update(tenista);
+            UpdateResult res = repository.update(tenista);
 
             assertAll("Update con éxito",
-                    () -> assertTrue(res.isPresent()),
-                    () -> assertEquals(tenista, res.get())
+                    () -> assertEquals(new UpdateResult.Updated(tenista), res),
+                    () -> assertEquals(5, tenista.getVersion())
             );
-            verify(tenistasDao).update(any(TenistaEntity.class));
+            verify(tenistasDao).update(argThat(entity -> entity.getVersion() == 4));
+            verify(tenistasDao, never()).findVersion(anyLong());
         }
 
         @Test
@@ -175,14 +359,50 @@ public class TenistasRepositoryImplTest {
         }
 
         @Test
-        @DisplayName("update sin filas actualizadas devuelve Optional.empty")
-        void updateSinFilasActualizadasDevuelveEmpty() {
+        @DisplayName("findAllById con colección vacía no llama al DAO")
+        void findAllByIdConColeccionVaciaNoLlamaAlDao() {
+            List<Tenista> res = repository.findAllById(List.of());
+
+            assertTrue(res.isEmpty());
+            verify(tenistasDao, never()).findAllById(anyCollection());
+        }
+
+        @Test
+        @DisplayName("saveAll con lista vacía no llama al DAO")
+        void saveAllConListaVaciaNoLlamaAlDao() {
+            List<Tenista> res = repository.saveAll(List.of());
+
+            assertTrue(res.isEmpty());
+            verify(tenistasDao, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("findPage con token no válido o de otro orden lanza IllegalArgumentException")
+        void findPageConTokenNoValidoLanzaExcepcion() {
+            when(tenistasDao.findPageById(Long.MIN_VALUE, 2)).thenReturn(List.of(construirTenista(1), construirTenista(2)));
+            String tokenPorId = repository.findPage(TenistasOrden.ID, null, 1).nextToken();
+
+            assertAll("Tokens no válidos",
+                    () -> assertThrows(IllegalArgumentException.class, () -> repository.findPage(TenistasOrden.ID, "no-es-un-token!", 1)),
+                    () -> assertThrows(IllegalArgumentException.class, () -> repository.findPage(TenistasOrden.PUNTOS_DESC, tokenPorId, 1))
+            );
+        }
+
+        @Test
+        @DisplayName("update sin filas actualizadas devuelve NotFound si no existe y Conflict si cambió la versión")
+        void updateSinFilasActualizadasDevuelveNotFoundOConflict() {
             when(tenistasDao.update(any(TenistaEntity.class))).thenReturn(0);
+            when(tenistasDao.findVersion(1L)).thenReturn(Optional.empty()).thenReturn(Optional.of(2L));
             Tenista tenista = construirTenistaDominio();
 
-            Optional<Tenista> res = repository.update(tenista);
+            UpdateResult inexistente = repository.update(tenista);
+            UpdateResult conflicto = repository.update(tenista);
 
-            assertTrue(res.isEmpty());
+            assertAll("Update sin filas",
+                    () -> assertEquals(new UpdateResult.NotFound(), inexistente),
+                    () -> assertEquals(new UpdateResult.Conflict(2), conflicto),
+                    () -> assertEquals(0, tenista.getVersion(), "La versión no cambia si no se actualiza")
+            );
         }
 
         @Test
@@ -0,0 +1,93 @@
+package dev.joseluisgs.repository;
+
+import dev.joseluisgs.dao.TenistasDao;
+import dev.joseluisgs.fixtures.TenistasFixtures;
+import dev.joseluisgs.models.Tenista;
+import org.jdbi.v3.core.Jdbi;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de la importación por lotes (saveAll) frente a la importación fila a fila (save) sobre una base
+ * de datos H2 en memoria real: las dos deben insertar lo mismo. La comparación de tiempos está en InsertBenchmark.
+ * Referencia: dev.joseluisgs.repository.TenistasRepositoryImpl
+ */
+@DisplayName("Tests de inserción por lotes de TenistasRepositoryImpl")
+public class TenistasRepositorySaveAllTest {
+
+    private static final int FILAS = 2_000;
+
+    private Jdbi jdbi;
+    private TenistasDao dao;
+    private TenistasRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // Base de datos propia para no interferir con el resto de pruebas
+        jdbi = TenistasFixtures.crearBaseDeDatos("tenistas-save-all");
+        dao = jdbi.onDemand(TenistasDao.class);
+        repository = new TenistasRepositoryImpl(dao);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbi.useHandle(handle -> handle.execute("DROP TABLE IF EXISTS tenistas"));
+    }
+
+    @Test
+    @DisplayName("saveAll inserta lo mismo que el bucle fila a fila y devuelve los ids generados")
+    void saveAllComparadoConBuclePorFila() {
+        // Un INSERT y un commit por fila
+        for (Tenista tenista : TenistasFixtures.generarTenistas(FILAS)) {
+            repository.save(tenista);
+        }
+        int filasPorFila = dao.count();
+        // La clave natural (nombre, fecha_nacimiento) es única: se vacía la tabla antes de insertar los mismos tenistas
+        jdbi.useHandle(handle -> handle.execute("TRUNCATE TABLE tenistas"));
+
+        // Inserción por lotes: un batch y un commit por lote
+        List<Tenista> guardados = repository.saveAll(TenistasFixtures.generarTenistas(FILAS));
+
+        var ids = new HashSet<Long>();
+        guardados.forEach(t -> ids.add(t.getId()));
+
+        assertAll("Comparativa de inserción",
+                () -> assertEquals(FILAS, filasPorFila),
+                () -> assertEquals(FILAS, dao.count()),
+                () -> assertEquals(FILAS, guardados.size()),
+                () -> assertEquals(FILAS, ids.size(), "Todos los ids generados deben ser distintos"),
+                () -> assertTrue(guardados.stream().allMatch(t -> t.getId() > 0)),
+                () -> assertEquals("Jugador 0", dao.findById(guardados.get(0).getId()).orElseThrow().getNombre()),
+                () -> assertEquals("Jugador " + (FILAS - 1), dao.findById(guardados.get(FILAS - 1).getId()).orElseThrow().getNombre())
+        );
+    }
+
+    @Test
+    @DisplayName("upsertAll devuelve la versión de la base de datos y con ella se puede actualizar sin conflicto")
+    void upsertAllDevuelveLaVersionDeLaBaseDeDatos() {
+        List<Tenista> insertados = repository.upsertAll(TenistasFixtures.generarTenistas(3));
+        // El CSV siempre trae la versión 0: la fila actualizada por el MERGE pasa a la versión 1
+        List<Tenista> actualizados = repository.upsertAll(TenistasFixtures.generarTenistas(3));
+        List<Long> versiones = actualizados.stream().map(Tenista::getVersion).toList();
+        Tenista cambio = actualizados.get(0);
+        cambio.setPuntos(5000);
+
+        UpdateResult resultado = repository.update(cambio);
+
+        assertAll("Versiones tras el MERGE",
+                () -> assertEquals(List.of(0L, 0L, 0L), insertados.stream().map(Tenista::getVersion).toList()),
+                () -> assertEquals(List.of(1L, 1L, 1L), versiones),
+                () -> assertEquals(insertados.stream().map(Tenista::getId).toList(),
+                        actualizados.stream().map(Tenista::getId).toList()),
+                () -> assertInstanceOf(UpdateResult.Updated.class, resultado)
+        );
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package dev.joseluisgs.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para IdBloomFilter.
+ * Comprueba que no hay falsos negativos y que la tasa de falsos positivos se ajusta a la pedida.
+ * Referencia: dev.joseluisgs.service.IdBloomFilter
+ */
+@DisplayName("Tests del filtro de Bloom de ids IdBloomFilter")
+public class IdBloomFilterTest {
+
+    private static final int IDS = 100_000;
+
+    @Nested
+    @DisplayName("Casos positivos")
+    class CasosPositivos {
+        @Test
+        @DisplayName("todos los ids añadidos dan positivo (sin falsos negativos)")
+        void todosLosIdsAnadidosDanPositivo() {
+            IdBloomFilter filtro = new IdBloomFilter(IDS, 0.01);
+            LongStream.rangeClosed(1, IDS).forEach(filtro::add);
+
+            assertTrue(LongStream.rangeClosed(1, IDS).allMatch(filtro::mightContain));
+        }
+
+        @Test
+        @DisplayName("la tasa de falsos positivos está cerca de la pedida")
+        void tasaDeFalsosPositivosCercaDeLaPedida() {
+            IdBloomFilter filtro = new IdBloomFilter(IDS, 0.01);
+            LongStream.rangeClosed(1, IDS).forEach(filtro::add);
+
+            // Ids consecutivos que nunca se han añadido, como las sondas de ids futuros
+            long falsosPositivos = LongStream.rangeClosed(IDS + 1, 2L * IDS).filter(filtro::mightContain).count();
+            double tasa = (double) falsosPositivos / IDS;
+
+            assertTrue(tasa < 0.02, "Tasa de falsos positivos demasiado alta: " + tasa);
+        }
+
+        @Test
+        @DisplayName("un filtro vacío descarta cualquier id")
+        void filtroVacioDescartaCualquierId() {
+            IdBloomFilter filtro = new IdBloomFilter(1024, 0.01);
+
+            assertAll("Filtro vacío",
+                    () -> assertFalse(filtro.mightContain(1)),
+                    () -> assertFalse(filtro.mightContain(-1)),
+                    () -> assertFalse(filtro.mightContain(Long.MAX_VALUE))
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Casos negativos")
+    class CasosNegativos {
+        @Test
+        @DisplayName("tamaño o probabilidad no válidos lanzan IllegalArgumentException")
+        void parametrosNoValidosLanzanExcepcion() {
+            assertAll("Parámetros no válidos",
+                    () -> assertThrows(IllegalArgumentException.class, () -> new IdBloomFilter(0, 0.01)),
+                    () -> assertThrows(IllegalArgumentException.class, () -> new IdBloomFilter(100, 0)),
+                    () -> assertThrows(IllegalArgumentException.class, () -> new IdBloomFilter(100, 1)),
+                    () -> assertThrows(IllegalArgumentException.class, () -> new IdBloomFilter(100, Double.NaN))
+            );
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+package dev.joseluisgs.service;
+
+import dev.joseluisgs.dao.TenistasDao;
+import dev.joseluisgs.exceptions.TenistaException;
+import dev.joseluisgs.fixtures.TenistasFixtures;
+import dev.joseluisgs.models.Tenista;
+import dev.joseluisgs.repository.TenistasRepositoryImpl;
+import dev.joseluisgs.storage.TenistasStorageImpl;
+import org.jdbi.v3.core.Jdbi;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de concurrencia del bloqueo optimista sobre una base de datos H2 en memoria real:
+ * varios hilos actualizan a la vez la misma fila y no se pierde ninguna actualización.
+ * Referencia: dev.joseluisgs.service.TenistasServiceImpl#updateWithRetry
+ */
+@DisplayName("Tests de concurrencia de las actualizaciones de TenistasServiceImpl")
+public class TenistasServiceConcurrencyTest {
+
+    private static final int HILOS = 8;
+    private static final int INCREMENTOS_POR_HILO = 25;
+
+    private Jdbi jdbi;
+    private TenistasRepositoryImpl repository;
+    private TenistasServiceImpl service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // Base de datos propia para no interferir con el resto de pruebas
+        jdbi = TenistasFixtures.crearBaseDeDatos("tenistas-concurrency");
+        repository = new TenistasRepositoryImpl(jdbi.onDemand(TenistasDao.class));
+        service = new TenistasServiceImpl(repository, new TenistasStorageImpl());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbi.useHandle(handle -> handle.execute("DROP TABLE IF EXISTS tenistas"));
+    }
+
+    @Test
+    @DisplayName("Varios hilos incrementando los puntos de una fila no pierden ninguna actualización")
+    void actualizacionesConcurrentesNoSePierden() throws Exception {
+        Tenista tenista = service.save(Tenista.builder()
+                .id(Tenista.NEW_TENISTA_ID)
+                .nombre("Carlos Alcaraz")
+                .pais("España")
+                .altura(183)
+                .peso(74)
+                .puntos(0)
+                .mano(Tenista.Mano.DIESTRO)
+                .fechaNacimiento(LocalDate.of(2003, 5, 5))
+                .build());
+        long id = tenista.getId();
+
+        int exitos = 0;
+        int agotados = 0;
+        CountDownLatch salida = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(HILOS)) {
+            List<Future<int[]>> hilos = new ArrayList<>();
+            for (int h = 0; h < HILOS; h++) {
+                hilos.add(executor.submit(() -> {
+                    salida.await();
+                    int[] resultado = new int[2];
+                    for (int i = 0; i < INCREMENTOS_POR_HILO; i++) {
+                        try {
+                            service.updateWithRetry(id, t -> {
+                                t.setPuntos(t.getPuntos() + 1);
+                                return t;
+                            });
+                            resultado[0]++;
+                        } catch (TenistaException.ConflictException e) {
+                            resultado[1]++;
+                        }
+                    }
+                    return resultado;
+                }));
+            }
+            salida.countDown();
+            for (Future<int[]> hilo : hilos) {
+                int[] resultado = hilo.get();
+                exitos += resultado[0];
+                agotados += resultado[1];
+            }
+        }
+        // Se lee la fila directamente del repositorio, sin pasar por la caché ni escribir
+        Tenista finalEnBd = repository.findById(id).orElseThrow();
+        int totalExitos = exitos;
+        int totalAgotados = agotados;
+
+        assertAll("Sin actualizaciones perdidas",
+                () -> assertEquals(HILOS * INCREMENTOS_POR_HILO, totalExitos + totalAgotados),
+                () -> assertEquals(totalExitos, finalEnBd.getPuntos(), "Cada actualización confirmada suma exactamente 1"),
+                () -> assertEquals(totalExitos, finalEnBd.getVersion(), "Una versión por actualización confirmada")
+        );
+    }
+
+    @Test
+    @DisplayName("update con la versión ya usada por otro lanza ConflictException y no pisa su cambio")
+    void updateConVersionUsadaLanzaConflict() throws Exception {
+        Tenista tenista = service.save(Tenista.builder()
+                .id(Tenista.NEW_TENISTA_ID)
+                .nombre("Rafael Nadal")
+                .pais("España")
+                .altura(185)
+                .peso(85)
+                .puntos(100)
+                .mano(Tenista.Mano.ZURDO)
+                .fechaNacimiento(LocalDate.of(1986, 6, 3))
+                .build());
+        Tenista primero = service.findById(tenista.getId());
+        Tenista segundo = Tenista.builder().id(primero.getId()).nombre(primero.getNombre()).pais(primero.getPais())
+                .altura(primero.getAltura()).peso(primero.getPeso()).puntos(primero.getPuntos()).mano(primero.getMano())
+                .fechaNacimiento(primero.getFechaNacimiento()).version(primero.getVersion()).build();
+
+        primero.setPuntos(200);
+        service.update(primero);
+        segundo.setPuntos(300);
+
+        assertThrows(TenistaException.ConflictException.class, () -> service.update(segundo));
+        assertEquals(200, service.findById(tenista.getId()).getPuntos());
+    }
+}
\ No newline at end of file
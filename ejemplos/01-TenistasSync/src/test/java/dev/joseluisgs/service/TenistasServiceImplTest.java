@@ -1,8 +1,15 @@
 package dev.joseluisgs.service;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.joseluisgs.config.Config;
+import dev.joseluisgs.config.ConfigTestHelper;
 import dev.joseluisgs.exceptions.TenistaException;
+import dev.joseluisgs.models.ManoStats;
+import dev.joseluisgs.models.Page;
 import dev.joseluisgs.models.Tenista;
+import dev.joseluisgs.models.TenistasOrden;
 import dev.joseluisgs.repository.TenistasRepository;
+import dev.joseluisgs.repository.UpdateResult;
 import dev.joseluisgs.storage.TenistasStorage;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,8 +20,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -50,6 +66,20 @@ public class TenistasServiceImplTest {
                 .build();
     }
 
+    /**
+     * Crea un servicio con la instantánea de findAll activada y vuelve a la configuración normal.
+     */
+    private TenistasServiceImpl servicioConInstantanea() {
+        ConfigTestHelper.setResourceName("findall-snapshot-config.properties");
+        ConfigTestHelper.reset();
+        try {
+            return new TenistasServiceImpl(repository, storage);
+        } finally {
+            ConfigTestHelper.setResourceName("config.properties");
+            ConfigTestHelper.reset();
+        }
+    }
+
     private Tenista construirTenistaInvalido() {
         // Fecha futura -> inválido por el validador
         return Tenista.builder()
@@ -84,6 +114,34 @@ public class TenistasServiceImplTest {
             verify(repository, times(1)).findAll();
         }
 
+        @Test
+        @DisplayName("findPage delega en la paginación por clave del repositorio")
+        void findPageDelegaEnRepositorio() throws Exception {
+            Page<Tenista> pagina = new Page<>(List.of(construirTenistaValido(1)), "token");
+            when(repository.findPage(TenistasOrden.PUNTOS_DESC, null, 10)).thenReturn(pagina);
+
+            Page<Tenista> res = service.findPage(TenistasOrden.PUNTOS_DESC, null, 10);
+
+            assertSame(pagina, res);
+        }
+
+        @Test
+        @DisplayName("topByPuntos y statsByMano delegan en el repositorio sin cargar todos los tenistas")
+        void topByPuntosYStatsByManoDeleganEnRepositorio() throws Exception {
+            List<Tenista> top = List.of(construirTenistaValido(1), construirTenistaValido(2));
+            List<ManoStats> stats = List.of(new ManoStats(Tenista.Mano.DIESTRO, 2, 1000.0));
+            when(repository.topByPuntos("España", 2)).thenReturn(top);
+            when(repository.statsByMano("España")).thenReturn(stats);
+            when(repository.statsByMano("España", 2)).thenReturn(stats);
+
+            assertAll("Ranking y agregación",
+                    () -> assertSame(top, service.topByPuntos("España", 2)),
+                    () -> assertSame(stats, service.statsByMano("España")),
+                    () -> assertSame(stats, service.statsByMano("España", 2))
+            );
+            verify(repository, never()).findAll();
+        }
+
         @Test
         @DisplayName("findById usa la caché tras la primera consulta")
         void findByIdUsaCacheTrasPrimeraConsulta() throws Exception {
@@ -102,6 +160,344 @@ public class TenistasServiceImplTest {
             verify(repository, times(1)).findById(5L);
         }
 
+        @Test
+        @DisplayName("findById concurrentes del mismo id comparten una única carga")
+        void findByIdConcurrentesCompartenUnaCarga() throws Exception {
+            Tenista t = construirTenistaValido(8);
+            when(repository.findById(8L)).thenAnswer(inv -> {
+                Thread.sleep(100); // Consulta lenta: el resto de hilos llega mientras se carga
+                return Optional.of(t);
+            });
+
+            try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+                List<Future<Tenista>> resultados = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    resultados.add(executor.submit(() -> service.findById(8L)));
+                }
+                for (Future<Tenista> resultado : resultados) {
+                    assertSame(t, resultado.get());
+                }
+            }
+            verify(repository, times(1)).findById(8L);
+        }
+
+        @Test
+        @DisplayName("findAll con instantánea lee una vez la base de datos, devuelve copias y publica copias con save, update y deleteById")
+        void findAllConInstantaneaPublicaCopiasConLasEscrituras() throws Exception {
+            TenistasServiceImpl conInstantanea = servicioConInstantanea();
+            when(repository.findAll()).thenReturn(List.of(construirTenistaValido(3), construirTenistaValido(1)));
+            Tenista nuevo = construirTenistaValido(2);
+            when(repository.save(any(Tenista.class))).thenReturn(nuevo);
+            Tenista modificado = construirTenistaValido(1);
+            modificado.setPuntos(12000);
+            when(repository.update(any(Tenista.class))).thenReturn(new UpdateResult.Updated(modificado));
+            when(repository.deleteById(3L)).thenReturn(true);
+
+            List<Tenista> inicial = conInstantanea.findAll();
+            // Los tenistas devueltos son copias: modificarlos no altera la instantánea compartida
+            inicial.get(0).setPuntos(1);
+            List<Tenista> repetida = conInstantanea.findAll();
+            conInstantanea.save(nuevo);
+            // El llamante puede seguir modificando su objeto sin afectar a la instantánea
+            nuevo.setNombre("Modificado Fuera");
+            conInstantanea.update(modificado);
+            conInstantanea.deleteById(3L);
+            List<Tenista> despues = conInstantanea.findAll();
+            SnapshotStats stats = conInstantanea.getSnapshotStats();
+
+            assertAll("Instantánea de findAll",
+                    () -> assertEquals(List.of(1L, 3L), inicial.stream().map(Tenista::getId).toList(), "Ordenada por id y sin cambios posteriores"),
+                    () -> assertEquals(9000, repetida.get(0).getPuntos(), "La instantánea no ve el cambio del lector"),
+                    () -> assertEquals(List.of(1L, 2L), despues.stream().map(Tenista::getId).toList()),
+                    () -> assertEquals(12000, despues.get(0).getPuntos()),
+                    () -> assertEquals("Carlos Alcaraz", despues.get(1).getNombre()),
+                    () -> assertThrows(UnsupportedOperationException.class, () -> despues.add(nuevo)),
+                    () -> assertTrue(stats.activa()),
+                    () -> assertEquals(2, stats.tenistas()),
+                    () -> assertEquals(3, stats.lecturas()),
+                    () -> assertEquals(1, stats.reconstrucciones()),
+                    () -> assertEquals(3, stats.parches())
+            );
+            verify(repository, times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("Los lectores de la instantánea ven siempre una lista completa y ordenada mientras se escribe")
+        void lectoresDeLaInstantaneaVenListasConsistentes() throws Exception {
+            TenistasServiceImpl conInstantanea = servicioConInstantanea();
+            when(repository.findAll()).thenReturn(List.of(construirTenistaValido(1)));
+            AtomicLong siguienteId = new AtomicLong(1);
+            when(repository.save(any(Tenista.class))).thenAnswer(inv -> construirTenistaValido(siguienteId.incrementAndGet()));
+            conInstantanea.findAll();
+
+            int escrituras = 500;
+            try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+                List<Future<Boolean>> lectores = new ArrayList<>();
+                for (int i = 0; i < 3; i++) {
+                    lectores.add(executor.submit(() -> {
+                        int anterior = 0;
+                        while (anterior < escrituras + 1) {
+                            List<Tenista> lista = conInstantanea.findAll();
+                            for (int j = 0; j < lista.size(); j++) {
+                                if (lista.get(j).getId() != j + 1) {
+                                    return false;
+                                }
+                            }
+                            if (lista.size() < anterior) {
+                                return false;
+                            }
+                            anterior = lista.size();
+                        }
+                        return true;
+                    }));
+                }
+                Future<?> escritor = executor.submit(() -> {
+                    for (int i = 0; i < escrituras; i++) {
+                        conInstantanea.save(construirTenistaValido(Tenista.NEW_TENISTA_ID));
+                    }
+                    return null;
+                });
+                escritor.get();
+                for (Future<Boolean> lector : lectores) {
+                    assertTrue(lector.get(), "Cada lectura es una instantánea completa y no retrocede");
+                }
+            }
+            assertEquals(escrituras + 1, conInstantanea.findAll().size());
+        }
+
+        @Test
+        @DisplayName("findAllById carga los fallos con una sola consulta y respeta el orden de los ids")
+        void findAllByIdCargaFallosEnBloqueYRespetaOrden() throws Exception {
+            Tenista t1 = construirTenistaValido(1);
+            Tenista t2 = construirTenistaValido(2);
+            Tenista t3 = construirTenistaValido(3);
+            when(repository.findById(2L)).thenReturn(Optional.of(t2));
+            service.findById(2L); // Ya en caché
+            when(repository.findAllById(anyCollection())).thenReturn(List.of(t3, t1));
+
+            List<Tenista> res = service.findAllById(List.of(3L, 2L, 1L, 99L));
+
+            assertAll("Carga en bloque",
+                    () -> assertEquals(List.of(t3, t2, t1), res),
+                    () -> assertEquals(1, service.getCacheStats().hitCount()),
+                    () -> assertEquals(4, service.getCacheStats().missCount())
+            );
+            verify(repository, times(1)).findAllById(argThat(ids -> ids.size() == 3 && !ids.contains(2L)));
+        }
+
+        @Test
+        @DisplayName("getCacheStats registra aciertos, fallos y cargas")
+        void getCacheStatsRegistraAciertosYFallos() throws Exception {
+            when(repository.findById(5L)).thenReturn(Optional.of(construirTenistaValido(5)));
+            when(repository.findById(6L)).thenReturn(Optional.empty());
+
+            service.findById(5L);
+            service.findById(5L);
+            service.findById(5L);
+            assertThrows(TenistaException.NotFoundException.class, () -> service.findById(6L));
+            CacheStats stats = service.getCacheStats();
+
+            assertAll("Estadísticas de caché",
+                    () -> assertEquals(2, stats.hitCount()),
+                    () -> assertEquals(2, stats.missCount()),
+                    () -> assertEquals(1, stats.loadSuccessCount()),
+                    () -> assertEquals(1, stats.loadFailureCount(), "Un id inexistente cuenta como carga fallida"),
+                    () -> assertEquals(0.5, stats.hitRate())
+            );
+        }
+
+        @Test
+        @DisplayName("findById de un id inexistente consulta el repositorio una vez y después usa la caché negativa")
+        void findByIdInexistenteUsaLaCacheNegativa() {
+            when(repository.findById(404L)).thenReturn(Optional.empty());
+
+            for (int i = 0; i < 5; i++) {
+                assertThrows(TenistaException.NotFoundException.class, () -> service.findById(404L));
+            }
+            NegativeLookupStats stats = service.getNegativeLookupStats();
+
+            verify(repository, times(1)).findById(404L);
+            assertAll("Caché negativa",
+                    () -> assertEquals(4, stats.aciertosNegativos()),
+                    () -> assertFalse(stats.filtroActivo(), "Sin importación no hay filtro de ids"),
+                    () -> assertEquals(0, stats.falsosPositivos())
+            );
+        }
+
+        @Test
+        @DisplayName("tras importar, el filtro de ids descarta sin repositorio los ids que no existen")
+        void trasImportarElFiltroDescartaLosIdsInexistentes() throws Exception {
+            List<Tenista> lista = List.of(construirTenistaValido(1), construirTenistaValido(2));
+            when(storage.loadDataStream("ruta.csv")).thenAnswer(invocation -> lista.stream());
+            when(repository.saveAll(lista)).thenReturn(lista);
+            // El id 7 está en el filtro pero ya no existe (borrado fuera del servicio): falso positivo
+            when(repository.streamIds()).thenReturn(LongStream.of(1, 2, 7));
+            when(repository.findById(1L)).thenReturn(Optional.of(lista.get(0)));
+            when(repository.findById(7L)).thenReturn(Optional.empty());
+            service.importFromCsv("ruta.csv");
+
+            Tenista encontrado = service.findById(1L);
+            for (long id = 1_000; id < 1_100; id++) {
+                long inexistente = id;
+                assertThrows(TenistaException.NotFoundException.class, () -> service.findById(inexistente));
+            }
+            assertThrows(TenistaException.NotFoundException.class, () -> service.findById(7L));
+            NegativeLookupStats stats = service.getNegativeLookupStats();
+
+            verify(repository, never()).findById(longThat(id -> id >= 1_000));
+            assertAll("Filtro de ids",
+                    () -> assertEquals(1, encontrado.getId()),
+                    () -> assertTrue(stats.filtroActivo()),
+                    () -> assertTrue(stats.atajosFiltro() >= 95, "Casi todos se descartan (fpp del 1 %)"),
+                    () -> assertEquals(100, stats.atajosFiltro() + stats.falsosPositivos() - 1 + stats.aciertosNegativos()),
+                    () -> assertTrue(stats.falsosPositivos() >= 1, "El id 7 es un falso positivo")
+            );
+        }
+
+        @Test
+        @DisplayName("save añade el id al filtro y deleteById lo recuerda en la caché negativa")
+        void saveAnadeAlFiltroYDeleteLoRecuerdaComoAusente() throws Exception {
+            when(storage.loadDataStream("ruta.csv")).thenAnswer(invocation -> Stream.empty());
+            when(repository.streamIds()).thenReturn(LongStream.of(1, 2));
+            service.importFromCsv("ruta.csv");
+            Tenista guardado = construirTenistaValido(500);
+            when(repository.save(any(Tenista.class))).thenReturn(guardado);
+            when(repository.deleteById(500L)).thenReturn(true);
+
+            service.save(construirTenistaValido(Tenista.NEW_TENISTA_ID));
+            Tenista encontrado = service.findById(500L);
+            service.deleteById(500L);
+
+            assertAll("Altas y bajas",
+                    () -> assertEquals(guardado, encontrado),
+                    () -> assertThrows(TenistaException.NotFoundException.class, () -> service.findById(500L)),
+                    () -> assertEquals(1, service.getNegativeLookupStats().aciertosNegativos())
+            );
+            verify(repository, never()).findById(500L);
+        }
+
+        @Test
+        @DisplayName("un alta mientras se reconstruye el filtro, que el cursor ya no ve, queda en el filtro nuevo")
+        void altaDuranteLaReconstruccionQuedaEnElFiltroNuevo() throws Exception {
+            when(storage.loadDataStream("ruta.csv")).thenAnswer(invocation -> Stream.empty());
+            Tenista guardado = construirTenistaValido(500);
+            when(repository.save(any(Tenista.class))).thenReturn(guardado);
+            // El alta se confirma cuando el cursor ya está abierto y no la devuelve
+            when(repository.streamIds()).thenAnswer(invocation -> {
+                service.save(construirTenistaValido(Tenista.NEW_TENISTA_ID));
+                return LongStream.of(1, 2);
+            });
+
+            service.importFromCsv("ruta.csv");
+            Tenista encontrado = service.findById(500L);
+
+            assertAll("Alta durante la reconstrucción",
+                    () -> assertEquals(guardado, encontrado),
+                    () -> assertEquals(0, service.getNegativeLookupStats().atajosFiltro())
+            );
+        }
+
+        @Test
+        @DisplayName("los ids de los lotes ya guardados entran en el filtro aunque la importación falle después")
+        void idsDeLotesGuardadosEntranEnElFiltroAunqueFalleLaImportacion() throws Exception {
+            when(storage.loadDataStream("vacio.csv")).thenAnswer(invocation -> Stream.empty());
+            when(repository.streamIds()).thenReturn(LongStream.of(1, 2));
+            service.importFromCsv("vacio.csv");
+
+            // Un lote completo se guarda y el siguiente falla en la base de datos
+            List<Tenista> csv = new ArrayList<>();
+            List<Tenista> guardados = new ArrayList<>();
+            for (long id = 1_001; id <= 2_001; id++) {
+                csv.add(construirTenistaValido(Tenista.NEW_TENISTA_ID));
+                guardados.add(construirTenistaValido(id));
+            }
+            when(storage.loadDataStream("ruta.csv")).thenAnswer(invocation -> csv.stream());
+            when(repository.saveAll(anyList()))
+                    .thenReturn(guardados.subList(0, 1_000))
+                    .thenThrow(new RuntimeException("Conexión perdida"));
+            when(repository.findById(1_500L)).thenReturn(Optional.of(guardados.get(499)));
+
+            assertThrows(RuntimeException.class, () -> service.importFromCsv("ruta.csv"));
+            Tenista encontrado = service.findById(1_500L);
+
+            assertAll("Ids de los lotes confirmados",
+                    () -> assertEquals(1_500, encontrado.getId()),
+                    () -> assertEquals(0, service.getNegativeLookupStats().atajosFiltro())
+            );
+        }
+
+        @Test
+        @DisplayName("upsertAll valida, guarda por clave natural e invalida la caché de los ids afectados")
+        void upsertAllValidaGuardaEInvalidaCache() throws Exception {
+            Tenista antes = construirTenistaValido(1);
+            Tenista despues = construirTenistaValido(1);
+            despues.setPuntos(9999);
+            when(repository.findById(1L)).thenReturn(Optional.of(antes)).thenReturn(Optional.of(despues));
+            service.findById(1L);
+            List<Tenista> lote = List.of(construirTenistaValido(Tenista.NEW_TENISTA_ID));
+            when(repository.upsertAll(lote)).thenReturn(List.of(despues));
+
+            List<Tenista> guardados = service.upsertAll(lote);
+
+            assertAll("Upsert",
+                    () -> assertEquals(List.of(despues), guardados),
+                    () -> assertEquals(9999, service.findById(1L).getPuntos(), "La entrada en caché se ha invalidado")
+            );
+        }
+
+        @Test
+        @DisplayName("updateWithRetry vuelve a leer y a aplicar el cambio tras un conflicto de versión")
+        void updateWithRetryRecargaTrasConflicto() throws Exception {
+            Tenista v0 = construirTenistaValido(7);
+            Tenista v1 = construirTenistaValido(7);
+            v1.setVersion(1);
+            v1.setPuntos(9100);
+            when(repository.findById(7L)).thenReturn(Optional.of(v0)).thenReturn(Optional.of(v1));
+            when(repository.update(any(Tenista.class)))
+                    .thenReturn(new UpdateResult.Conflict(1))
+                    .thenAnswer(inv -> {
+                        Tenista t = inv.getArgument(0);
+                        t.setVersion(t.getVersion() + 1);
+                        return new UpdateResult.Updated(t);
+                    });
+
+            Tenista res = service.updateWithRetry(7L, t -> {
+                t.setPuntos(t.getPuntos() + 10);
+                return t;
+            });
+
+            assertAll("Reintento",
+                    () -> assertEquals(9110, res.getPuntos(), "El cambio se aplica sobre la versión releída"),
+                    () -> assertEquals(2, res.getVersion())
+            );
+            verify(repository, times(2)).findById(7L);
+            verify(repository, times(2)).update(any(Tenista.class));
+        }
+
+        @Test
+        @DisplayName("topK recorre el cursor del repositorio, filtra, devuelve los k primeros y lo cierra")
+        void topKRecorreElCursorYLoCierra() throws Exception {
+            List<Tenista> tenistas = new ArrayList<>();
+            for (int i = 1; i <= 20; i++) {
+                Tenista t = construirTenistaValido(i);
+                t.setAltura(170 + i % 7);
+                t.setMano(i % 2 == 0 ? Tenista.Mano.ZURDO : Tenista.Mano.DIESTRO);
+                tenistas.add(t);
+            }
+            AtomicBoolean cerrado = new AtomicBoolean(false);
+            when(repository.streamAll()).thenReturn(tenistas.stream().onClose(() -> cerrado.set(true)));
+            Comparator<Tenista> porAltura = Comparator.comparingInt(Tenista::getAltura).reversed();
+
+            List<Tenista> top = service.topK(porAltura, 3, t -> t.getMano() == Tenista.Mano.ZURDO);
+
+            assertAll("Top K",
+                    () -> assertEquals(tenistas.stream().filter(t -> t.getMano() == Tenista.Mano.ZURDO)
+                            .sorted(porAltura).limit(3).toList(), top),
+                    () -> assertEquals(List.of(6L, 20L, 12L), top.stream().map(Tenista::getId).toList(), "Empates por id"),
+                    () -> assertTrue(cerrado.get(), "El cursor se cierra")
+            );
+        }
+
         @Test
         @DisplayName("save con tenista válido guarda y lo mete en caché")
         void saveConTenistaValidoGuardaYCachea() throws Exception {
@@ -140,7 +536,7 @@ public class TenistasServiceImplTest {
             // Preparamos actualización
             Tenista actualizado = construirTenistaValido(7);
             actualizado.setPuntos(9500);
-            when(repository.update(any(Tenista.class))).thenReturn(Optional.of(actualizado));
+            when(repository.update(any(Tenista.class))).thenReturn(new UpdateResult.Updated(actualizado));
 
             Tenista res = service.update(actualizado);
             assertAll("Actualizado",
@@ -171,32 +567,89 @@ public class TenistasServiceImplTest {
         @DisplayName("importFromCsv carga, valida y guarda todos")
         void importFromCsvCargaValidaYGuardaTodos() throws Exception {
             List<Tenista> lista = List.of(construirTenistaValido(1), construirTenistaValido(2));
-            when(storage.loadData("ruta.csv")).thenReturn(lista);
-            when(repository.save(any(Tenista.class))).thenAnswer(inv -> inv.getArgument(0));
+            when(storage.loadDataStream("ruta.csv")).thenAnswer(invocation -> lista.stream());
+            when(repository.saveAll(lista)).thenReturn(lista);
 
             service.importFromCsv("ruta.csv");
 
-            verify(storage, times(1)).loadData("ruta.csv");
-            verify(repository, times(2)).save(any(Tenista.class));
+            // Una pasada para validar y otra para guardar
+            verify(storage, times(2)).loadDataStream("ruta.csv");
+            verify(repository, times(1)).saveAll(lista);
+            verify(repository, never()).save(any(Tenista.class));
         }
 
         @Test
-        @DisplayName("exportToJson obtiene todos y delega en storage")
-        void exportToJsonObtieneTodosYDelegarEnStorage() throws Exception {
-            List<Tenista> lista = List.of(construirTenistaValido(1), construirTenistaValido(2));
-            when(repository.findAll()).thenReturn(lista);
-            when(storage.saveData(eq(lista), eq("salida.json"))).thenReturn(lista.size());
+        @DisplayName("importFromCsvFiles deduplica por nombre y fecha, gana el último archivo y vacía la caché")
+        void importFromCsvFilesDeduplicaYGanaElUltimo() throws Exception {
+            Tenista alcaraz = construirTenistaValido(1);
+            Tenista nadal = construirTenistaValido(2);
+            nadal.setNombre("Rafael Nadal");
+            Tenista alcarazActualizado = construirTenistaValido(3);
+            alcarazActualizado.setPuntos(9900);
+            Tenista sinner = construirTenistaValido(4);
+            sinner.setNombre("Jannik Sinner");
+            when(storage.loadDataStream("dia1.csv")).thenReturn(Stream.of(alcaraz, nadal));
+            when(storage.loadDataStream("dia2.csv")).thenReturn(Stream.of(alcarazActualizado, sinner));
+            // Tenista en caché antes de importar
+            when(repository.findById(1L)).thenReturn(Optional.of(alcaraz));
+            when(repository.streamIds()).thenReturn(LongStream.of(1, 2, 3));
+            service.findById(1L);
+
+            int importados = service.importFromCsvFiles(List.of("dia1.csv", "dia2.csv"));
+            service.findById(1L);
+
+            assertEquals(3, importados);
+            verify(repository, times(1)).upsertAll(List.of(nadal, alcarazActualizado, sinner));
+            verify(repository, times(2)).findById(1L);
+            verify(repository, never()).saveAll(any());
+        }
+
+        @Test
+        @DisplayName("exportToJson recorre el cursor del repositorio, delega en storage y lo cierra")
+        void exportToJsonRecorreCursorYDelegarEnStorage() throws Exception {
+            var cerrado = new java.util.concurrent.atomic.AtomicBoolean(false);
+            Stream<Tenista> cursor = Stream.of(construirTenistaValido(1), construirTenistaValido(2))
+                    .onClose(() -> cerrado.set(true));
+            when(repository.streamAll()).thenReturn(cursor);
+            when(storage.saveDataStream(cursor, "salida.json")).thenReturn(2);
 
             service.exportToJson("salida.json");
 
-            verify(repository).findAll();
-            verify(storage).saveData(lista, "salida.json");
+            verify(repository).streamAll();
+            verify(repository, never()).findAll();
+            verify(storage).saveDataStream(cursor, "salida.json");
+            assertTrue(cerrado.get(), "El cursor debe cerrarse tras exportar");
         }
     }
 
     @Nested
     @DisplayName("Casos negativos")
     class CasosNegativos {
+        @Test
+        @DisplayName("topK con orden nulo o k fuera de rango lanza ValidationException")
+        void topKConParametrosNoValidosLanzaExcepcion() {
+            Comparator<Tenista> porPuntos = Comparator.comparingInt(Tenista::getPuntos);
+
+            assertAll("Parámetros no válidos",
+                    () -> assertThrows(TenistaException.ValidationException.class, () -> service.topK(null, 3, null)),
+                    () -> assertThrows(TenistaException.ValidationException.class, () -> service.topK(porPuntos, 0, null)),
+                    () -> assertThrows(TenistaException.ValidationException.class,
+                            () -> service.topK(porPuntos, TenistasService.MAX_PAGE_SIZE + 1, null))
+            );
+            verify(repository, never()).streamAll();
+        }
+
+        @Test
+        @DisplayName("upsertAll con un tenista no válido no guarda ninguno")
+        void upsertAllConTenistaNoValidoNoGuardaNinguno() {
+            Tenista invalido = construirTenistaValido(2);
+            invalido.setNombre("");
+
+            assertThrows(TenistaException.ValidationException.class,
+                    () -> service.upsertAll(List.of(construirTenistaValido(1), invalido)));
+            verify(repository, never()).upsertAll(any());
+        }
+
         @Test
         @DisplayName("findById inexistente lanza TenistaNotFoundException")
         void findByIdInexistenteLanzaExcepcion() {
@@ -204,6 +657,42 @@ public class TenistasServiceImplTest {
             assertThrows(TenistaException.NotFoundException.class, () -> service.findById(99L));
         }
 
+        @Test
+        @DisplayName("findByNombrePrefix con prefijo vacío o límite fuera de rango lanza TenistaValidationException")
+        void findByNombrePrefixConParametrosNoValidosLanzaValidation() {
+            assertAll("Parámetros de búsqueda",
+                    () -> assertThrows(TenistaException.ValidationException.class, () -> service.findByNombrePrefix("", 10)),
+                    () -> assertThrows(TenistaException.ValidationException.class, () -> service.findByNombrePrefix("Raf", 0)),
+                    () -> assertThrows(TenistaException.ValidationException.class, () -> service.findByNombrePrefix("Raf", TenistasService.MAX_PAGE_SIZE + 1))
+            );
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("topByPuntos y statsByMano con país vacío o n no positivo lanzan TenistaValidationException")
+        void rankingConParametrosNoValidosLanzaValidation() {
+            assertAll("Parámetros de ranking",
+                    () -> assertThrows(TenistaException.ValidationException.class, () -> service.topByPuntos(" ", 5)),
+                    () -> assertThrows(TenistaException.ValidationException.class, () -> service.topByPuntos("España", 0)),
+                    () -> assertThrows(TenistaException.ValidationException.class, () -> service.statsByMano(null)),
+                    () -> assertThrows(TenistaException.ValidationException.class, () -> service.statsByMano("España", -1))
+            );
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("findPage con tamaño fuera de rango o token no válido lanza TenistaValidationException")
+        void findPageConParametrosNoValidosLanzaValidation() {
+            when(repository.findPage(TenistasOrden.ID, "malo", 10)).thenThrow(new IllegalArgumentException("Token de página no válido"));
+
+            assertAll("Parámetros de página",
+                    () -> assertThrows(TenistaException.ValidationException.class, () -> service.findPage(TenistasOrden.ID, null, 0)),
+                    () -> assertThrows(TenistaException.ValidationException.class, () -> service.findPage(TenistasOrden.ID, null, TenistasService.MAX_PAGE_SIZE + 1)),
+                    () -> assertThrows(TenistaException.ValidationException.class, () -> service.findPage(null, null, 10)),
+                    () -> assertThrows(TenistaException.ValidationException.class, () -> service.findPage(TenistasOrden.ID, "malo", 10))
+            );
+        }
+
         @Test
         @DisplayName("save con tenista inválido lanza TenistaValidationException y no llama repo")
         void saveInvalidoLanzaValidationYNoLlamaRepo() {
@@ -224,10 +713,45 @@ public class TenistasServiceImplTest {
         @DisplayName("update inexistente lanza TenistaNotFoundException")
         void updateInexistenteLanzaNotFound() {
             Tenista t = construirTenistaValido(50);
-            when(repository.update(any(Tenista.class))).thenReturn(Optional.empty());
+            when(repository.update(any(Tenista.class))).thenReturn(new UpdateResult.NotFound());
             assertThrows(TenistaException.NotFoundException.class, () -> service.update(t));
         }
 
+        @Test
+        @DisplayName("update con versión antigua lanza ConflictException y saca al tenista de la caché")
+        void updateConVersionAntiguaLanzaConflictYLimpiaCache() throws Exception {
+            Tenista original = construirTenistaValido(7);
+            when(repository.findById(7L)).thenReturn(Optional.of(original));
+            service.findById(7L); // pobla caché
+            when(repository.update(any(Tenista.class))).thenReturn(new UpdateResult.Conflict(3));
+
+            TenistaException.ConflictException ex = assertThrows(TenistaException.ConflictException.class,
+                    () -> service.update(construirTenistaValido(7)));
+            service.findById(7L);
+
+            assertTrue(ex.getMessage().contains("actual 3"));
+            verify(repository, times(2)).findById(7L);
+        }
+
+        @Test
+        @DisplayName("updateWithRetry agota los intentos si siempre hay conflicto")
+        void updateWithRetryAgotaLosIntentos() {
+            when(repository.findById(7L)).thenAnswer(inv -> Optional.of(construirTenistaValido(7)));
+            when(repository.update(any(Tenista.class))).thenReturn(new UpdateResult.Conflict(1));
+
+            assertThrows(TenistaException.ConflictException.class, () -> service.updateWithRetry(7L, t -> t));
+            verify(repository, times(10)).update(any(Tenista.class));
+        }
+
+        @Test
+        @DisplayName("updateWithRetry de un tenista inexistente lanza NotFoundException sin actualizar")
+        void updateWithRetryInexistenteLanzaNotFound() {
+            when(repository.findById(50L)).thenReturn(Optional.empty());
+
+            assertThrows(TenistaException.NotFoundException.class, () -> service.updateWithRetry(50L, t -> t));
+            verify(repository, never()).update(any());
+        }
+
         @Test
         @DisplayName("deleteById que no borra lanza TenistaNotFoundException")
         void deleteByIdQueNoBorraLanzaNotFound() {
@@ -240,18 +764,65 @@ public class TenistasServiceImplTest {
         void importFromCsvConTenistaInvalidoLanzaValidation() throws Exception {
             // Lista con SOLO un tenista inválido para asegurar que no se guarda nada
             List<Tenista> lista = List.of(construirTenistaInvalido());
-            when(storage.loadData("datos.csv")).thenReturn(lista);
+            when(storage.loadDataStream("datos.csv")).thenReturn(lista.stream());
 
             assertThrows(TenistaException.ValidationException.class, () -> service.importFromCsv("datos.csv"));
             verify(repository, never()).save(any());
+            verify(repository, never()).saveAll(any());
+        }
+
+        @Test
+        @DisplayName("importFromCsv con un tenista inválido tras el primer lote no guarda ninguno")
+        void importFromCsvConInvalidoTrasElPrimerLoteNoGuardaNinguno() throws Exception {
+            List<Tenista> lista = new ArrayList<>();
+            for (int i = 0; i < Config.getInstance().getDatabaseBatchSize() + 1; i++) {
+                lista.add(construirTenistaValido(Tenista.NEW_TENISTA_ID));
+            }
+            lista.add(construirTenistaInvalido());
+            when(storage.loadDataStream("datos.csv")).thenAnswer(invocation -> lista.stream());
+
+            assertThrows(TenistaException.ValidationException.class, () -> service.importFromCsv("datos.csv"));
+            verify(repository, never()).saveAll(any());
+        }
+
+        @Test
+        @DisplayName("importFromCsv con fila mal formada lanza TenistaStorageException")
+        void importFromCsvConFilaMalFormadaLanzaStorage() throws Exception {
+            when(storage.loadDataStream("mal.csv")).thenReturn(Stream.of(construirTenistaValido(1)).<Tenista>map(t -> {
+                throw new IllegalArgumentException("Línea 2: mano no válida");
+            }));
+
+            assertThrows(TenistaException.StorageException.class, () -> service.importFromCsv("mal.csv"));
+            verify(repository, never()).saveAll(any());
+        }
+
+        @Test
+        @DisplayName("importFromCsvFiles con un archivo inválido o mal formado no guarda nada")
+        void importFromCsvFilesConArchivoErroneoNoGuarda() throws Exception {
+            when(storage.loadDataStream("bueno.csv")).thenAnswer(inv -> Stream.of(construirTenistaValido(1)));
+            when(storage.loadDataStream("invalido.csv")).thenReturn(Stream.of(construirTenistaInvalido()));
+            when(storage.loadDataStream("mal.csv")).thenReturn(Stream.of(construirTenistaValido(1)).<Tenista>map(t -> {
+                throw new IllegalArgumentException("Línea 2: mano no válida");
+            }));
+            when(storage.loadDataStream("no-existe.csv")).thenThrow(new TenistaException.StorageException("El archivo no existe"));
+
+            assertAll("Errores de importación",
+                    () -> assertThrows(TenistaException.ValidationException.class,
+                            () -> service.importFromCsvFiles(List.of("bueno.csv", "invalido.csv"))),
+                    () -> assertThrows(TenistaException.StorageException.class,
+                            () -> service.importFromCsvFiles(List.of("bueno.csv", "mal.csv"))),
+                    () -> assertThrows(TenistaException.StorageException.class,
+                            () -> service.importFromCsvFiles(List.of("no-existe.csv", "bueno.csv")))
+            );
+            verify(repository, never()).upsertAll(any());
         }
 
         @Test
         @DisplayName("exportToJson cuando storage falla propaga TenistaStorageException")
         void exportToJsonStorageFallaPropagaExcepcion() throws Exception {
-            List<Tenista> lista = List.of(construirTenistaValido(1));
-            when(repository.findAll()).thenReturn(lista);
-            when(storage.saveData(eq(lista), eq("salida.json"))).thenThrow(new TenistaException.StorageException("error"));
+            Stream<Tenista> cursor = Stream.of(construirTenistaValido(1));
+            when(repository.streamAll()).thenReturn(cursor);
+            when(storage.saveDataStream(cursor, "salida.json")).thenThrow(new TenistaException.StorageException("error"));
 
             assertThrows(TenistaException.StorageException.class, () -> service.exportToJson("salida.json"));
         }
@@ -0,0 +1,241 @@
+package dev.joseluisgs.service;
+
+import dev.joseluisgs.config.ConfigTestHelper;
+import dev.joseluisgs.dao.TenistasDao;
+import dev.joseluisgs.exceptions.TenistaException;
+import dev.joseluisgs.fixtures.TenistasFixtures;
+import dev.joseluisgs.models.Tenista;
+import dev.joseluisgs.repository.TenistasRepositoryImpl;
+import dev.joseluisgs.storage.TenistasStorageImpl;
+import org.jdbi.v3.core.Jdbi;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de la escritura diferida (write-behind) de las actualizaciones sobre una base de datos H2 en memoria real.
+ * El intervalo de la configuración de pruebas es muy largo, así que los cambios solo se escriben al cerrar el servicio.
+ * Referencia: dev.joseluisgs.service.TenistasServiceImpl, dev.joseluisgs.service.WriteBehindBuffer
+ */
+@DisplayName("Tests de la escritura diferida de TenistasServiceImpl")
+public class TenistasServiceWriteBehindTest {
+
+    private Jdbi jdbi;
+    private TenistasDao dao;
+    private TenistasServiceImpl service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // Base de datos propia para no interferir con el resto de pruebas
+        jdbi = TenistasFixtures.crearBaseDeDatos("tenistas-write-behind");
+        dao = jdbi.onDemand(TenistasDao.class);
+        ConfigTestHelper.setResourceName("write-behind-config.properties");
+        ConfigTestHelper.reset();
+        try {
+            service = new TenistasServiceImpl(new TenistasRepositoryImpl(dao), new TenistasStorageImpl());
+        } finally {
+            ConfigTestHelper.setResourceName("config.properties");
+            ConfigTestHelper.reset();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+        jdbi.useHandle(handle -> handle.execute("DROP TABLE IF EXISTS tenistas"));
+    }
+
+    private Tenista guardarTenista() throws Exception {
+        return guardarTenista("Carlos Alcaraz");
+    }
+
+    private Tenista guardarTenista(String nombre) throws Exception {
+        return service.save(Tenista.builder()
+                .id(Tenista.NEW_TENISTA_ID)
+                .nombre(nombre)
+                .pais("España")
+                .altura(183)
+                .peso(74)
+                .puntos(0)
+                .mano(Tenista.Mano.DIESTRO)
+                .fechaNacimiento(LocalDate.of(2003, 5, 5))
+                .build());
+    }
+
+    private Tenista conPuntos(Tenista tenista, int puntos) {
+        return new Tenista(tenista.getId(), tenista.getNombre(), tenista.getPais(), tenista.getAltura(),
+                tenista.getPeso(), puntos, tenista.getMano(), tenista.getFechaNacimiento(), tenista.getVersion());
+    }
+
+    @Nested
+    @DisplayName("Casos positivos")
+    class CasosPositivos {
+        @Test
+        @DisplayName("Varias actualizaciones del mismo tenista se escriben en una sola fila al volcar")
+        void actualizacionesDelMismoTenistaSeAgrupan() throws Exception {
+            Tenista tenista = guardarTenista();
+            for (int puntos = 1; puntos <= 5; puntos++) {
+                // Cada actualización parte de la versión devuelta por la anterior
+                tenista = service.update(conPuntos(tenista, puntos));
+            }
+            long id = tenista.getId();
+            long versionDevuelta = tenista.getVersion();
+
+            int puntosAntesDelVolcado = dao.findById(id).orElseThrow().getPuntos();
+            WriteBehindStats antes = service.getWriteBehindStats();
+            service.close();
+            WriteBehindStats despues = service.getWriteBehindStats();
+
+            assertAll("Coalescencia por id",
+                    () -> assertEquals(0, puntosAntesDelVolcado, "Antes del volcado la base de datos no cambia"),
+                    () -> assertTrue(antes.activa()),
+                    () -> assertEquals(1, antes.pendientes()),
+                    () -> assertEquals(5, despues.actualizaciones()),
+                    () -> assertEquals(1, despues.filasEscritas()),
+                    () -> assertEquals(0, despues.pendientes()),
+                    () -> assertEquals(5.0, despues.ratioCoalescencia()),
+                    () -> assertEquals(5, dao.findById(id).orElseThrow().getPuntos()),
+                    () -> assertEquals(versionDevuelta, dao.findById(id).orElseThrow().getVersion(),
+                            "La versión devuelta es la que tiene la fila tras el volcado")
+            );
+        }
+
+        @Test
+        @DisplayName("Las lecturas ven el último valor aunque aún no se haya escrito ni siga en caché")
+        void lecturasVenLosCambiosPendientes() throws Exception {
+            // Más tenistas que el tamaño de la caché (5): los primeros se desalojan y se vuelven a cargar
+            List<Tenista> tenistas = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                tenistas.add(service.save(TenistasFixtures.tenista(i)));
+            }
+            for (Tenista tenista : tenistas) {
+                service.update(conPuntos(tenista, 100));
+            }
+
+            List<Integer> leidos = new ArrayList<>();
+            for (Tenista tenista : tenistas) {
+                leidos.add(service.findById(tenista.getId()).getPuntos());
+            }
+
+            assertAll("Lectura de pendientes",
+                    () -> assertTrue(leidos.stream().allMatch(puntos -> puntos == 100)),
+                    () -> assertEquals(12, service.getWriteBehindStats().pendientes()),
+                    () -> assertEquals(0, dao.findById(tenistas.get(0).getId()).orElseThrow().getPuntos())
+            );
+        }
+
+        @Test
+        @DisplayName("updateWithRetry parte del valor pendiente y no del de la base de datos")
+        void updateWithRetryParteDelValorPendiente() throws Exception {
+            Tenista tenista = guardarTenista();
+            service.update(conPuntos(tenista, 10));
+
+            service.updateWithRetry(tenista.getId(), t -> conPuntos(t, t.getPuntos() + 1));
+            service.close();
+
+            assertEquals(11, dao.findById(tenista.getId()).orElseThrow().getPuntos());
+        }
+
+        @Test
+        @DisplayName("Una actualización después de close se escribe al momento y no se queda pendiente")
+        void actualizacionTrasCloseSeEscribeAlMomento() throws Exception {
+            Tenista tenista = guardarTenista();
+            service.close();
+
+            service.update(conPuntos(tenista, 9));
+
+            assertAll("Actualización tras cerrar",
+                    () -> assertEquals(9, dao.findById(tenista.getId()).orElseThrow().getPuntos()),
+                    () -> assertEquals(0, service.getWriteBehindStats().pendientes())
+            );
+        }
+
+        @Test
+        @DisplayName("Tras el volcado la caché tiene la versión de la base de datos y la siguiente actualización no da conflicto")
+        void trasElVolcadoLaSiguienteActualizacionNoDaConflicto() throws Exception {
+            Tenista tenista = guardarTenista();
+            service.update(conPuntos(tenista, 10));
+            service.close();
+
+            Tenista leido = service.findById(tenista.getId());
+            Tenista actualizado = service.update(conPuntos(leido, 20));
+
+            assertAll("Versión tras el volcado",
+                    () -> assertEquals(1, leido.getVersion()),
+                    () -> assertEquals(2, actualizado.getVersion()),
+                    () -> assertEquals(20, dao.findById(tenista.getId()).orElseThrow().getPuntos()),
+                    () -> assertEquals(2, dao.findById(tenista.getId()).orElseThrow().getVersion())
+            );
+        }
+
+        @Test
+        @DisplayName("Borrar un tenista descarta sus cambios pendientes")
+        void borrarDescartaLosCambiosPendientes() throws Exception {
+            Tenista tenista = guardarTenista();
+            service.update(conPuntos(tenista, 7));
+
+            service.deleteById(tenista.getId());
+            service.close();
+
+            assertAll("Borrado con pendientes",
+                    () -> assertEquals(0, service.getWriteBehindStats().pendientes()),
+                    () -> assertEquals(0, service.getWriteBehindStats().filasEscritas()),
+                    () -> assertTrue(dao.findById(tenista.getId()).isEmpty())
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Casos negativos")
+    class CasosNegativos {
+        @Test
+        @DisplayName("Actualizar un tenista que no existe lanza NotFoundException y no deja nada pendiente")
+        void actualizarInexistenteLanzaNotFound() throws Exception {
+            Tenista tenista = guardarTenista();
+
+            assertAll("Tenista inexistente",
+                    () -> assertThrows(TenistaException.NotFoundException.class,
+                            () -> service.update(new Tenista(999, tenista.getNombre(), tenista.getPais(), tenista.getAltura(),
+                                    tenista.getPeso(), 1, tenista.getMano(), tenista.getFechaNacimiento(), 0))),
+                    () -> assertEquals(0, service.getWriteBehindStats().pendientes())
+            );
+        }
+
+        @Test
+        @DisplayName("Actualizar con una versión anterior a la del último cambio aceptado lanza ConflictException")
+        void actualizarConVersionAntiguaLanzaConflicto() throws Exception {
+            Tenista tenista = guardarTenista();
+            service.update(conPuntos(tenista, 10));
+
+            assertAll("Versión antigua",
+                    () -> assertThrows(TenistaException.ConflictException.class, () -> service.update(conPuntos(tenista, 20))),
+                    () -> assertEquals(10, service.findById(tenista.getId()).getPuntos())
+            );
+        }
+
+        @Test
+        @DisplayName("Si otro proceso modifica la fila antes del volcado, el cambio diferido se descarta y no la pisa")
+        void cambioDiferidoNoPisaUnaFilaModificadaPorOtroProceso() throws Exception {
+            Tenista tenista = guardarTenista();
+            service.update(conPuntos(tenista, 10));
+            jdbi.useHandle(handle -> handle.execute("UPDATE tenistas SET puntos = 99, version = version + 1 WHERE id = ?", tenista.getId()));
+
+            service.close();
+
+            assertAll("Conflicto en el volcado",
+                    () -> assertEquals(99, dao.findById(tenista.getId()).orElseThrow().getPuntos()),
+                    () -> assertEquals(1, service.getWriteBehindStats().descartadas()),
+                    () -> assertEquals(99, service.findById(tenista.getId()).getPuntos(), "La caché vuelve a leer la fila")
+            );
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,200 @@
+package dev.joseluisgs.service;
+
+import dev.joseluisgs.fixtures.TenistasFixtures;
+import dev.joseluisgs.models.Tenista;
+import dev.joseluisgs.repository.TenistasRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de pruebas para WriteBehindBuffer.
+ * Comprueba que un volcado que falla se reintenta un número limitado de veces, que el volcado mantiene el
+ * bloqueo optimista y que tras cerrar el búfer se sabe que los cambios nuevos hay que volcarlos al momento.
+ * El repositorio es un mock.
+ * Referencia: dev.joseluisgs.service.WriteBehindBuffer
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests del búfer de escritura diferida WriteBehindBuffer")
+public class WriteBehindBufferTest {
+
+    private static final int MAX_INTENTOS = 3;
+
+    @Mock
+    TenistasRepository repository;
+
+    private final List<Long> descartados = new ArrayList<>();
+    private final List<Tenista> volcados = new ArrayList<>();
+    private WriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        // Intervalo largo: los volcados se fuerzan en cada prueba
+        buffer = new WriteBehindBuffer(repository, Duration.ofHours(1), MAX_INTENTOS, descartados::addAll, volcados::addAll);
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.close();
+    }
+
+    private Tenista tenista(long id, int puntos) {
+        Tenista tenista = TenistasFixtures.tenista((int) id);
+        tenista.setId(id);
+        tenista.setPuntos(puntos);
+        return tenista;
+    }
+
+    @Nested
+    @DisplayName("Casos positivos")
+    class CasosPositivos {
+        @Test
+        @DisplayName("un volcado fallido deja los cambios pendientes y el siguiente los escribe")
+        void volcadoFallidoSeReintentaEnElSiguiente() {
+            buffer.encolar(tenista(1, 10), 0);
+            when(repository.updateAll(anyList()))
+                    .thenThrow(new RuntimeException("Conexión perdida"))
+                    .thenReturn(List.of(1L));
+
+            assertThrows(RuntimeException.class, () -> buffer.volcar());
+            int pendientesTrasElFallo = buffer.stats().pendientes();
+            int escritos = buffer.volcar();
+
+            assertAll("Reintento",
+                    () -> assertEquals(1, pendientesTrasElFallo),
+                    () -> assertEquals(1, escritos),
+                    () -> assertEquals(0, buffer.stats().pendientes()),
+                    () -> assertEquals(0, buffer.stats().descartadas()),
+                    () -> assertTrue(descartados.isEmpty())
+            );
+        }
+
+        @Test
+        @DisplayName("tras close() el búfer indica que los cambios nuevos se vuelcan al momento")
+        void trasCloseLosCambiosSeVuelcanAlMomento() {
+            buffer.close();
+            buffer.encolar(tenista(1, 10), 0);
+            when(repository.updateAll(anyList())).thenReturn(List.of(1L));
+
+            int escritos = buffer.cerrado() ? buffer.volcar() : 0;
+
+            assertAll("Cambio tras cerrar",
+                    () -> assertTrue(buffer.cerrado()),
+                    () -> assertEquals(1, escritos),
+                    () -> assertEquals(0, buffer.stats().pendientes())
+            );
+        }
+
+        @Test
+        @DisplayName("el volcado escribe con la versión de la que parte el cambio y avisa con la versión nueva")
+        void volcadoCompruebaLaVersionYAvisaConLaNueva() {
+            Tenista primero = tenista(1, 10);
+            Tenista segundo = tenista(1, 20);
+            buffer.encolar(primero, 3);
+            buffer.encolar(segundo, 4);
+            when(repository.updateAll(anyList())).thenReturn(List.of(1L));
+
+            int escritos = buffer.volcar();
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Tenista>> captor = ArgumentCaptor.forClass(List.class);
+            verify(repository).updateAll(captor.capture());
+            assertAll("Versiones del volcado",
+                    () -> assertEquals(4, primero.getVersion(), "El cambio lleva la versión que tendrá la fila"),
+                    () -> assertEquals(4, segundo.getVersion(), "Los cambios agrupados parten de la misma fila"),
+                    () -> assertEquals(3, captor.getValue().get(0).getVersion(), "El UPDATE comprueba la versión de partida"),
+                    () -> assertEquals(20, captor.getValue().get(0).getPuntos()),
+                    () -> assertEquals(1, escritos),
+                    () -> assertEquals(List.of(segundo), volcados)
+            );
+        }
+
+        @Test
+        @DisplayName("un cambio que llega durante el volcado se queda pendiente sobre la versión recién escrita")
+        void cambioDuranteElVolcadoParteDeLaFilaEscrita() {
+            Tenista durante = tenista(1, 30);
+            buffer.encolar(tenista(1, 10), 0);
+            when(repository.updateAll(anyList()))
+                    .thenAnswer(inv -> {
+                        buffer.encolar(durante, 1);
+                        return List.of(1L);
+                    })
+                    .thenReturn(List.of(1L));
+
+            buffer.volcar();
+            Tenista pendiente = buffer.pendiente(1);
+            buffer.volcar();
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Tenista>> captor = ArgumentCaptor.forClass(List.class);
+            verify(repository, times(2)).updateAll(captor.capture());
+            assertAll("Cambio durante el volcado",
+                    () -> assertEquals(30, pendiente.getPuntos()),
+                    () -> assertEquals(2, pendiente.getVersion(), "Parte de la fila ya escrita en la versión 1"),
+                    () -> assertEquals(1, captor.getAllValues().get(1).get(0).getVersion()),
+                    () -> assertEquals(List.of(2L, 2L), volcados.stream().map(Tenista::getVersion).toList())
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Casos negativos")
+    class CasosNegativos {
+        @Test
+        @DisplayName("un lote que falla todos los intentos se descarta, se cuenta y se avisa con sus ids")
+        void loteQueFallaTodosLosIntentosSeDescarta() {
+            buffer.encolar(tenista(1, 10), 0);
+            buffer.encolar(tenista(2, 20), 0);
+            when(repository.updateAll(anyList())).thenThrow(new RuntimeException("Fila bloqueada"));
+
+            for (int intento = 1; intento < MAX_INTENTOS; intento++) {
+                assertThrows(RuntimeException.class, () -> buffer.volcar());
+            }
+            int escritos = buffer.volcar();
+            WriteBehindStats stats = buffer.stats();
+
+            assertAll("Lote descartado",
+                    () -> assertEquals(0, escritos),
+                    () -> assertEquals(0, stats.pendientes()),
+                    () -> assertEquals(2, stats.descartadas()),
+                    () -> assertEquals(0, stats.filasEscritas()),
+                    () -> assertEquals(List.of(1L, 2L), descartados.stream().sorted().toList())
+            );
+            verify(repository, times(MAX_INTENTOS)).updateAll(anyList());
+        }
+
+        @Test
+        @DisplayName("un cambio cuya fila ha cambiado de versión en la base de datos se descarta y se avisa")
+        void cambioConOtraVersionEnLaBaseDeDatosSeDescarta() {
+            buffer.encolar(tenista(1, 10), 0);
+            buffer.encolar(tenista(2, 20), 0);
+            // La fila 2 la ha modificado otro proceso: el UPDATE con la versión 0 no la encuentra
+            when(repository.updateAll(anyList())).thenReturn(List.of(1L));
+
+            int escritos = buffer.volcar();
+            WriteBehindStats stats = buffer.stats();
+
+            assertAll("Conflicto en el volcado",
+                    () -> assertEquals(1, escritos),
+                    () -> assertEquals(0, stats.pendientes()),
+                    () -> assertEquals(1, stats.descartadas()),
+                    () -> assertEquals(1, stats.filasEscritas()),
+                    () -> assertEquals(List.of(2L), descartados),
+                    () -> assertEquals(List.of(1L), volcados.stream().map(Tenista::getId).toList())
+            );
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,212 @@
+package dev.joseluisgs.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.joseluisgs.exceptions.TenistaException;
+import dev.joseluisgs.fixtures.TenistasFixtures;
+import dev.joseluisgs.models.Tenista;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para TenistasBinaryStorage y TenistasBinaryReader.
+ * Comprueba la ida y vuelta de las instantáneas binarias, la lectura por ventanas,
+ * los archivos dañados y compara su tamaño con el del JSON.
+ * Referencia: dev.joseluisgs.storage.TenistasBinaryStorage
+ */
+@DisplayName("Tests de almacenamiento binario de TenistasBinaryStorage")
+public class TenistasBinaryStorageTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final TenistasBinaryStorage storage = new TenistasBinaryStorage();
+
+    private String ruta(String nombre) {
+        return tempDir.resolve(nombre).toString();
+    }
+
+    private List<Tenista> generarTenistas(int total) {
+        return TenistasFixtures.generarTenistasConId(total, "España", "Serbia", "Italia", "Suiza", "Rusia");
+    }
+
+    private List<Tenista> leer(TenistasBinaryReader reader) throws IOException {
+        try (reader) {
+            List<Tenista> res = new ArrayList<>();
+            reader.forEachRemaining(res::add);
+            return res;
+        }
+    }
+
+    @Nested
+    @DisplayName("Casos positivos")
+    class CasosPositivos {
+        @Test
+        @DisplayName("guardar y cargar devuelve los mismos tenistas")
+        void guardarYCargarDevuelveLosMismosTenistas() throws Exception {
+            List<Tenista> tenistas = new TenistasStorageImpl().loadData(Path.of("data", "data01.csv").toString());
+            String ruta = ruta("data01.tbin");
+
+            int escritos = storage.saveData(tenistas, ruta);
+            List<Tenista> cargados = storage.loadData(ruta);
+
+            assertAll("Ida y vuelta",
+                    () -> assertEquals(tenistas.size(), escritos),
+                    () -> assertEquals(tenistas, cargados)
+            );
+        }
+
+        @Test
+        @DisplayName("con ventanas pequeñas remapea y produce la misma salida")
+        void conVentanasPequenasProduceLaMismaSalida() throws Exception {
+            List<Tenista> tenistas = generarTenistas(5_000);
+            String ruta = ruta("ventanas.tbin");
+            storage.saveDataStream(tenistas.stream(), ruta);
+
+            // Ventana de 64 bytes: obliga a remapear con registros partidos entre ventanas
+            List<Tenista> cargados = leer(TenistasBinaryReader.open(Path.of(ruta), 64));
+
+            assertEquals(tenistas, cargados);
+        }
+
+        @Test
+        @DisplayName("conserva los campos nulos, textos no ASCII y comparte los países")
+        void conservaCamposNulosYComparteLosPaises() throws Exception {
+            List<Tenista> tenistas = List.of(
+                    Tenista.builder().id(1).nombre("Stan Wawrinka").pais("Suiza").altura(183).peso(81).puntos(1000).mano(Tenista.Mano.DIESTRO).fechaNacimiento(LocalDate.of(1985, 3, 28)).build(),
+                    Tenista.builder().id(2).nombre(null).pais(null).mano(null).fechaNacimiento(null).build(),
+                    Tenista.builder().id(3).nombre("").pais("Suiza").mano(Tenista.Mano.OTRO).fechaNacimiento(LocalDate.of(1900, 1, 1)).build(),
+                    Tenista.builder().id(Long.MAX_VALUE).nombre("Jiří Lehečka ñ 錦織").pais("Chequia").puntos(-5).build()
+            );
+            String ruta = ruta("nulos.tbin");
+            storage.saveData(tenistas, ruta);
+
+            List<Tenista> cargados = storage.loadData(ruta);
+
+            assertAll("Campos nulos y especiales",
+                    () -> assertEquals(tenistas, cargados),
+                    () -> assertSame(cargados.get(0).getPais(), cargados.get(2).getPais(), "El país se reutiliza del diccionario")
+            );
+        }
+
+        @Test
+        @DisplayName("una instantánea vacía se carga como lista vacía")
+        void instantaneaVaciaSeCargaComoListaVacia() throws Exception {
+            String ruta = ruta("vacia.tbin");
+
+            assertAll("Instantánea vacía",
+                    () -> assertEquals(0, storage.saveData(List.of(), ruta)),
+                    () -> assertTrue(storage.loadData(ruta).isEmpty())
+            );
+        }
+
+        @Test
+        @DisplayName("stream es perezoso y cierra el fichero al cerrarse")
+        void streamEsPerezosoYCierraElFichero() throws Exception {
+            String ruta = ruta("perezoso.tbin");
+            storage.saveData(generarTenistas(100), ruta);
+
+            List<Tenista> primeros;
+            try (Stream<Tenista> stream = storage.loadDataStream(ruta)) {
+                primeros = stream.limit(2).toList();
+            }
+
+            assertAll("Stream perezoso",
+                    () -> assertEquals(2, primeros.size()),
+                    () -> assertEquals("Jugador 1", primeros.get(1).getNombre())
+            );
+        }
+
+        @Test
+        @DisplayName("ocupa menos que el JSON equivalente y carga los mismos tenistas")
+        void ocupaMenosQueElJsonYCargaLoMismo() throws Exception {
+            List<Tenista> tenistas = generarTenistas(10_000);
+            Path json = tempDir.resolve("comparativa.json");
+            Path binario = tempDir.resolve("comparativa.tbin");
+            new TenistasStorageImpl().saveData(tenistas, json.toString());
+            storage.saveData(tenistas, binario.toString());
+            var mapper = new ObjectMapper()
+                    .registerModule(new JavaTimeModule());
+            var tipoLista = mapper.getTypeFactory().constructCollectionType(List.class, Tenista.class);
+
+            // Los tiempos de carga se miden en SnapshotLoadBenchmark
+            List<Tenista> desdeJson = mapper.readValue(json.toFile(), tipoLista);
+            List<Tenista> desdeBinario = storage.loadData(binario.toString());
+
+            assertAll("Comparativa con JSON",
+                    () -> assertEquals(desdeJson, desdeBinario),
+                    () -> assertTrue(Files.size(binario) * 3 < Files.size(json), "El binario debe ocupar menos de un tercio")
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Casos negativos")
+    class CasosNegativos {
+        @Test
+        @DisplayName("ruta nula, vacía o sin extensión .tbin lanza StorageException")
+        void rutaNoValidaLanzaExcepcion() {
+            assertAll("Rutas no válidas",
+                    () -> assertThrows(TenistaException.StorageException.class, () -> storage.loadData(null)),
+                    () -> assertThrows(TenistaException.StorageException.class, () -> storage.loadData("")),
+                    () -> assertThrows(TenistaException.StorageException.class, () -> storage.loadData(ruta("datos.json"))),
+                    () -> assertThrows(TenistaException.StorageException.class, () -> storage.saveData(List.of(), ruta("datos.csv"))),
+                    () -> assertThrows(TenistaException.StorageException.class, () -> storage.loadData(ruta("no-existe.tbin")))
+            );
+        }
+
+        @Test
+        @DisplayName("archivo sin cabecera válida lanza StorageException")
+        void archivoSinCabeceraValidaLanzaExcepcion() throws Exception {
+            Path noBinario = tempDir.resolve("texto.tbin");
+            Files.writeString(noBinario, "id,nombre,pais\n");
+            Path corto = tempDir.resolve("corto.tbin");
+            Files.write(corto, new byte[]{'T', 'N'});
+
+            assertAll("Cabecera no válida",
+                    () -> assertThrows(TenistaException.StorageException.class, () -> storage.loadData(noBinario.toString())),
+                    () -> assertThrows(TenistaException.StorageException.class, () -> storage.loadData(corto.toString()))
+            );
+        }
+
+        @Test
+        @DisplayName("archivo truncado lanza StorageException")
+        void archivoTruncadoLanzaExcepcion() throws Exception {
+            Path path = tempDir.resolve("truncado.tbin");
+            storage.saveData(generarTenistas(100), path.toString());
+            byte[] completo = Files.readAllBytes(path);
+
+            // Sin el registro de fin y cortado a mitad de un tenista
+            Path sinFin = tempDir.resolve("sin-fin.tbin");
+            Files.write(sinFin, Arrays.copyOf(completo, completo.length - 11));
+            Path cortado = tempDir.resolve("cortado.tbin");
+            Files.write(cortado, Arrays.copyOf(completo, completo.length / 2));
+
+            assertAll("Archivos truncados",
+                    () -> assertThrows(TenistaException.StorageException.class, () -> storage.loadData(sinFin.toString())),
+                    () -> assertThrows(TenistaException.StorageException.class, () -> storage.loadData(cortado.toString()))
+            );
+        }
+
+        @Test
+        @DisplayName("nombre demasiado largo lanza StorageException al guardar")
+        void nombreDemasiadoLargoLanzaExcepcion() {
+            Tenista tenista = Tenista.builder().id(1).nombre("x".repeat(70_000)).build();
+
+            assertThrows(TenistaException.StorageException.class, () -> storage.saveData(List.of(tenista), ruta("largo.tbin")));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,242 @@
+package dev.joseluisgs.storage;
+
+import dev.joseluisgs.models.Tenista;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para TenistasCsvMappedParser.
+ * Comprueba que el parser sobre fichero mapeado produce exactamente lo mismo que el parser
+ * original basado en String.split, y los casos límite de la lectura por ventanas.
+ * Referencia: dev.joseluisgs.storage.TenistasCsvMappedParser
+ */
+@DisplayName("Tests del parser CSV mapeado en memoria TenistasCsvMappedParser")
+public class TenistasCsvMappedParserTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Parser original (Files.lines + split) que se usa como referencia.
+     */
+    private List<Tenista> parsearComoAntes(Path path) throws IOException {
+        try (var lines = Files.lines(path, StandardCharsets.UTF_8)) {
+            return lines.skip(1)
+                    .map(line -> {
+                        String[] parts = line.split(",");
+                        return Tenista.builder()
+                                .id(Integer.parseInt(parts[0]))
+                                .nombre(parts[1])
+                                .pais(parts[2])
+                                .altura(Integer.parseInt(parts[3]))
+                                .peso(Integer.parseInt(parts[4]))
+                                .puntos(Integer.parseInt(parts[5]))
+                                .mano(Tenista.Mano.valueOf(parts[6].toUpperCase()))
+                                .fechaNacimiento(LocalDate.parse(parts[7], DateTimeFormatter.ISO_LOCAL_DATE))
+                                .build();
+                    })
+                    .toList();
+        }
+    }
+
+    private List<Tenista> parsearMapeado(TenistasCsvMappedParser parser) throws IOException {
+        try (parser) {
+            List<Tenista> res = new ArrayList<>();
+            parser.forEachRemaining(res::add);
+            return res;
+        }
+    }
+
+    private Path crearCsv(String nombre, String contenido) throws IOException {
+        Path file = tempDir.resolve(nombre);
+        Files.writeString(file, contenido, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @Nested
+    @DisplayName("Casos positivos")
+    class CasosPositivos {
+        @ParameterizedTest
+        @ValueSource(strings = {"data01.csv", "data02.csv"})
+        @DisplayName("produce la misma salida que el parser original")
+        void produceLaMismaSalidaQueElParserOriginal(String fichero) throws Exception {
+            Path path = Path.of("data", fichero);
+
+            List<Tenista> esperado = parsearComoAntes(path);
+            List<Tenista> obtenido = parsearMapeado(TenistasCsvMappedParser.open(path));
+
+            assertAll("Misma salida en " + fichero,
+                    () -> assertFalse(esperado.isEmpty()),
+                    () -> assertEquals(esperado, obtenido)
+            );
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"data01.csv", "data02.csv"})
+        @DisplayName("con ventanas pequeñas remapea y produce la misma salida")
+        void conVentanasPequenasProduceLaMismaSalida(String fichero) throws Exception {
+            Path path = Path.of("data", fichero);
+
+            List<Tenista> esperado = parsearComoAntes(path);
+            // Ventana de 128 bytes: obliga a remapear muchas veces con líneas partidas entre ventanas
+            List<Tenista> obtenido = parsearMapeado(TenistasCsvMappedParser.open(path, 128));
+
+            assertEquals(esperado, obtenido);
+        }
+
+        @Test
+        @DisplayName("stream es perezoso y cierra el fichero al cerrarse")
+        void streamEsPerezosoYCierraElFichero() throws Exception {
+            Path path = Path.of("data", "data01.csv");
+            TenistasCsvMappedParser parser = TenistasCsvMappedParser.open(path);
+
+            List<Tenista> primeros;
+            try (Stream<Tenista> stream = parser.stream()) {
+                primeros = stream.limit(2).toList();
+            }
+
+            assertAll("Stream perezoso",
+                    () -> assertEquals(2, primeros.size()),
+                    () -> assertEquals("Novak Djokovic", primeros.get(0).getNombre()),
+                    () -> assertThrows(Exception.class, parser::hasNext)
+            );
+        }
+
+        @Test
+        @DisplayName("acepta CRLF, líneas vacías, mano en minúsculas y última línea sin salto")
+        void aceptaCrlfLineasVaciasYUltimaLineaSinSalto() throws Exception {
+            Path path = crearCsv("crlf.csv",
+                    "id,nombre,pais,altura,peso,puntos,mano,fecha_nacimiento\r\n" +
+                            "1,Carlos Alcaraz,España,183,74,9000,diestro,2003-05-05\r\n" +
+                            "\r\n" +
+                            "2,Rafael Nadal,España,185,85,10000,ZURDO,1986-06-03");
+
+            List<Tenista> res = parsearMapeado(TenistasCsvMappedParser.open(path));
+
+            assertAll("Formato tolerante",
+                    () -> assertEquals(2, res.size()),
+                    () -> assertEquals(Tenista.Mano.DIESTRO, res.get(0).getMano()),
+                    () -> assertEquals(LocalDate.of(2003, 5, 5), res.get(0).getFechaNacimiento()),
+                    () -> assertEquals("Rafael Nadal", res.get(1).getNombre()),
+                    () -> assertSame(res.get(0).getPais(), res.get(1).getPais(), "El país se reutiliza del diccionario")
+            );
+        }
+
+        @Test
+        @DisplayName("openFrom continúa desde una posición y solo lee líneas completas")
+        void openFromContinuaDesdePosicionYSoloLeeLineasCompletas() throws Exception {
+            String cabecera = "id,nombre,pais,altura,peso,puntos,mano,fecha_nacimiento\n";
+            String primera = "1,Carlos Alcaraz,España,183,74,9000,DIESTRO,2003-05-05\n";
+            Path path = crearCsv("incremental.csv", cabecera + primera + "2,Rafael Nadal,Esp");
+
+            List<Tenista> desdeCero;
+            long posicion;
+            try (TenistasCsvMappedParser parser = TenistasCsvMappedParser.openFrom(path, 0)) {
+                desdeCero = new ArrayList<>();
+                parser.forEachRemaining(desdeCero::add);
+                posicion = parser.position();
+            }
+            Files.writeString(path, cabecera + primera + "2,Rafael Nadal,España,185,85,10000,ZURDO,1986-06-03\n", StandardCharsets.UTF_8);
+            List<Tenista> desdePosicion = parsearMapeado(TenistasCsvMappedParser.openFrom(path, posicion));
+
+            assertAll("Lectura incremental",
+                    () -> assertEquals(List.of("Carlos Alcaraz"), desdeCero.stream().map(Tenista::getNombre).toList()),
+                    () -> assertEquals(cabecera.getBytes(StandardCharsets.UTF_8).length + primera.getBytes(StandardCharsets.UTF_8).length, posicion),
+                    () -> assertEquals(List.of("Rafael Nadal"), desdePosicion.stream().map(Tenista::getNombre).toList())
+            );
+        }
+
+        @Test
+        @DisplayName("fichero con solo cabecera no devuelve tenistas")
+        void ficheroConSoloCabeceraNoDevuelveTenistas() throws Exception {
+            Path path = crearCsv("vacio.csv", "id,nombre,pais,altura,peso,puntos,mano,fecha_nacimiento\n");
+
+            assertTrue(parsearMapeado(TenistasCsvMappedParser.open(path)).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Casos negativos")
+    class CasosNegativos {
+        @Test
+        @DisplayName("mano no válida lanza IllegalArgumentException con el número de línea")
+        void manoNoValidaLanzaExcepcionConLinea() throws Exception {
+            Path path = crearCsv("mano.csv",
+                    "id,nombre,pais,altura,peso,puntos,mano,fecha_nacimiento\n" +
+                            "1,Carlos Alcaraz,España,183,74,9000,DIESTRO,2003-05-05\n" +
+                            "2,Rafael Nadal,España,185,85,10000,AMBIDIESTRO,1986-06-03\n");
+
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                    () -> parsearMapeado(TenistasCsvMappedParser.open(path)));
+            assertTrue(ex.getMessage().contains("Línea 3"));
+        }
+
+        @Test
+        @DisplayName("tras una línea mal formada se puede seguir leyendo desde la siguiente")
+        void trasLineaMalFormadaSeSigueLeyendo() throws Exception {
+            Path path = crearCsv("saltar.csv",
+                    "id,nombre,pais,altura,peso,puntos,mano,fecha_nacimiento\n" +
+                            "2,Rafael Nadal,España,185,85,10000,AMBIDIESTRO,1986-06-03\n" +
+                            "1,Carlos Alcaraz,España,183,74,9000,DIESTRO,2003-05-05\n");
+
+            try (TenistasCsvMappedParser parser = TenistasCsvMappedParser.open(path)) {
+                assertThrows(IllegalArgumentException.class, parser::next);
+                Tenista siguiente = parser.next();
+
+                assertAll("Línea siguiente",
+                        () -> assertEquals("Carlos Alcaraz", siguiente.getNombre()),
+                        () -> assertFalse(parser.hasNext()),
+                        () -> assertEquals(Files.size(path), parser.position())
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("faltan campos lanza IllegalArgumentException")
+        void faltanCamposLanzaExcepcion() throws Exception {
+            Path path = crearCsv("campos.csv",
+                    "id,nombre,pais,altura,peso,puntos,mano,fecha_nacimiento\n" +
+                            "1,Jugador Malo,España,180,75,1000,1990-01-01\n");
+
+            assertThrows(IllegalArgumentException.class, () -> parsearMapeado(TenistasCsvMappedParser.open(path)));
+        }
+
+        @Test
+        @DisplayName("openFrom más allá del final del fichero lanza IllegalArgumentException")
+        void openFromMasAllaDelFinalLanzaExcepcion() throws Exception {
+            Path path = crearCsv("corto.csv", "cabecera\n");
+
+            assertThrows(IllegalArgumentException.class, () -> TenistasCsvMappedParser.openFrom(path, 100));
+        }
+
+        @Test
+        @DisplayName("número o fecha no válidos lanzan IllegalArgumentException")
+        void numeroOFechaNoValidosLanzanExcepcion() throws Exception {
+            Path numero = crearCsv("numero.csv",
+                    "cabecera\n1,Jugador,España,18a,75,1000,DIESTRO,1990-01-01\n");
+            Path fecha = crearCsv("fecha.csv",
+                    "cabecera\n1,Jugador,España,180,75,1000,DIESTRO,1990-02-30\n");
+
+            assertAll("Valores no válidos",
+                    () -> assertThrows(IllegalArgumentException.class, () -> parsearMapeado(TenistasCsvMappedParser.open(numero))),
+                    () -> assertThrows(IllegalArgumentException.class, () -> parsearMapeado(TenistasCsvMappedParser.open(fecha)))
+            );
+        }
+    }
+}
@@ -112,6 +112,37 @@ public class TenistasStorageImplTest {
             );
         }
 
+        @Test
+        @DisplayName("guardar json desde stream escribe lo mismo que desde lista")
+        void guardarJsonDesdeStreamEscribeLoMismoQueDesdeLista() throws Exception {
+            TenistasStorageImpl storage = crearStorage();
+            List<Tenista> datos = construirTenistasEjemplo();
+            Path desdeLista = tempDir.resolve("lista.json");
+            Path desdeStream = tempDir.resolve("stream.json");
+
+            storage.saveData(datos, desdeLista.toString());
+            int escritos = storage.saveDataStream(datos.stream(), desdeStream.toString());
+
+            assertAll("Guardado JSON en streaming",
+                    () -> assertEquals(datos.size(), escritos),
+                    () -> assertEquals(Files.readString(desdeLista, StandardCharsets.UTF_8), Files.readString(desdeStream, StandardCharsets.UTF_8)),
+                    () -> assertTrue(Files.readString(desdeStream, StandardCharsets.UTF_8).trim().endsWith("]"))
+            );
+        }
+
+        @Test
+        @DisplayName("guardar json desde stream vacío escribe un array vacío")
+        void guardarJsonDesdeStreamVacioEscribeArrayVacio() throws Exception {
+            TenistasStorageImpl storage = crearStorage();
+            Path destino = tempDir.resolve("vacio.json");
+
+            int escritos = storage.saveDataStream(java.util.stream.Stream.empty(), destino.toString());
+
+            assertAll("Array vacío",
+                    () -> assertEquals(0, escritos),
+                    () -> assertEquals("[ ]", Files.readString(destino, StandardCharsets.UTF_8).trim())
+            );
+        }
     }
 
     @Nested
@@ -0,0 +1,127 @@
+package dev.joseluisgs.fixtures;
+
+import dev.joseluisgs.dao.TenistaEntity;
+import dev.joseluisgs.mappers.TenistaMapper;
+import dev.joseluisgs.models.Tenista;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Datos de prueba compartidos por los tests y los benchmarks: tenistas generados a partir de su posición
+ * y bases de datos H2 en memoria con el esquema de tables.sql.
+ * Todos los tenistas generados son válidos y tienen una clave natural (nombre, fecha de nacimiento) distinta.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.models.Tenista
+ * @see dev.joseluisgs.database.JdbiManager
+ */
+public final class TenistasFixtures {
+
+    private static final String[] PAISES = {"España", "Serbia"};
+    private static final LocalDate PRIMER_NACIMIENTO = LocalDate.of(1980, 1, 1);
+
+    private TenistasFixtures() {
+    }
+
+    /**
+     * Crea el tenista número i, sin id. Si no se indican países alterna entre España y Serbia.
+     *
+     * @param i      Posición del tenista; determina su nombre y el resto de atributos
+     * @param paises Países entre los que se reparte, en orden
+     * @return Tenista nuevo con id Tenista.NEW_TENISTA_ID
+     */
+    public static Tenista tenista(int i, String... paises) {
+        String[] lista = paises.length == 0 ? PAISES : paises;
+        return Tenista.builder()
+                .id(Tenista.NEW_TENISTA_ID)
+                .nombre("Jugador " + i)
+                .pais(lista[i % lista.length])
+                .altura(170 + i % 30)
+                .peso(65 + i % 25)
+                .puntos(i % 10_000)
+                .mano(i % 3 == 0 ? Tenista.Mano.ZURDO : Tenista.Mano.DIESTRO)
+                .fechaNacimiento(PRIMER_NACIMIENTO.plusDays(i % 10_000))
+                .build();
+    }
+
+    /**
+     * Crea la entidad del tenista número i, lista para insertarla con TenistasDao.
+     *
+     * @param i      Posición del tenista
+     * @param paises Países entre los que se reparte, en orden
+     * @return Entidad equivalente a tenista(i, paises)
+     */
+    public static TenistaEntity entidad(int i, String... paises) {
+        return TenistaMapper.toEntity(tenista(i, paises));
+    }
+
+    /**
+     * Genera tenistas nuevos, sin id, para insertarlos.
+     *
+     * @param total  Número de tenistas
+     * @param paises Países entre los que se reparten, en orden
+     * @return Lista modificable con los tenistas 0 a total - 1
+     */
+    public static List<Tenista> generarTenistas(int total, String... paises) {
+        List<Tenista> tenistas = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            tenistas.add(tenista(i, paises));
+        }
+        return tenistas;
+    }
+
+    /**
+     * Genera tenistas con ids consecutivos desde 1, como si ya estuvieran guardados.
+     *
+     * @param total  Número de tenistas
+     * @param paises Países entre los que se reparten, en orden
+     * @return Lista modificable con los tenistas 0 a total - 1
+     */
+    public static List<Tenista> generarTenistasConId(int total, String... paises) {
+        List<Tenista> tenistas = generarTenistas(total, paises);
+        for (int i = 0; i < total; i++) {
+            tenistas.get(i).setId(i + 1);
+        }
+        return tenistas;
+    }
+
+    /**
+     * Crea una base de datos H2 en memoria propia, para no interferir con el resto de pruebas, con la tabla
+     * de tenistas vacía. Se mantiene viva hasta que se cierre la JVM.
+     *
+     * @param nombre Nombre de la base de datos en memoria
+     * @return Jdbi con el plugin de SQL Object instalado
+     * @throws IOException Si no se puede leer tables.sql
+     */
+    public static Jdbi crearBaseDeDatos(String nombre) throws IOException {
+        Jdbi jdbi = Jdbi.create("jdbc:h2:mem:" + nombre + ";DB_CLOSE_DELAY=-1");
+        jdbi.installPlugin(new SqlObjectPlugin());
+        crearTablas(jdbi);
+        return jdbi;
+    }
+
+    /**
+     * Ejecuta tables.sql sobre la base de datos. El script se puede repetir sobre una tabla existente.
+     *
+     * @param jdbi Base de datos
+     * @throws IOException Si no se puede leer tables.sql
+     */
+    public static void crearTablas(Jdbi jdbi) throws IOException {
+        String script;
+        try (InputStream is = TenistasFixtures.class.getClassLoader().getResourceAsStream("tables.sql")) {
+            if (is == null) {
+                throw new IOException("No se encuentra tables.sql en el classpath");
+            }
+            script = new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        jdbi.useHandle(handle -> handle.createScript(script).execute());
+    }
+}
\ No newline at end of file
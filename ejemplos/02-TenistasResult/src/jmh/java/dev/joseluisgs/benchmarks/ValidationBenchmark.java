@@ -0,0 +1,80 @@
+package dev.joseluisgs.benchmarks;
+
+import dev.joseluisgs.errors.TenistaError;
+import dev.joseluisgs.exceptions.TenistaException;
+import dev.joseluisgs.fixtures.TenistasFixtures;
+import dev.joseluisgs.models.Tenista;
+import dev.joseluisgs.validator.TenistaValidator;
+import io.vavr.control.Either;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark que compara la validación de una importación con la mitad de filas inválidas lanzando y capturando
+ * TenistaException.ValidationException para envolverla en Either.left (como hacía el servicio),
+ * frente a TenistaValidator.validar, que devuelve el Either directamente con errores precreados.
+ * Cada excepción captura la traza de la pila, y eso es lo que se paga por cada fila inválida.
+ *
+ * Ejecución: ./gradlew jmh -Pjmh.includes=ValidationBenchmark
+ *
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.validator.TenistaValidator#validar(Tenista)
+ * @see dev.joseluisgs.validator.TenistaValidator#validate(Tenista)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidationBenchmark {
+
+    @Param({"10000"})
+    private int filas;
+
+    private List<Tenista> tenistas;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Una fila válida y una inválida alternas; cada inválida incumple una regla distinta
+        tenistas = TenistasFixtures.generarTenistasConId(filas);
+        for (int i = 1; i < filas; i += 2) {
+            Tenista tenista = tenistas.get(i);
+            switch (i % 3) {
+                case 0 -> tenista.setAltura(0);
+                case 1 -> tenista.setPuntos(-1);
+                default -> tenista.setFechaNacimiento(LocalDate.now().plusYears(1));
+            }
+        }
+    }
+
+    @Benchmark
+    public int conExcepciones() {
+        int validos = 0;
+        for (Tenista tenista : tenistas) {
+            Either<TenistaError.ValidationError, Tenista> resultado;
+            try {
+                TenistaValidator.validate(tenista);
+                resultado = Either.right(tenista);
+            } catch (TenistaException.ValidationException e) {
+                resultado = Either.left(new TenistaError.ValidationError("Error de validación: " + e.getMessage()));
+            }
+            if (resultado.isRight()) {
+                validos++;
+            }
+        }
+        return validos;
+    }
+
+    @Benchmark
+    public int sinExcepciones() {
+        int validos = 0;
+        for (Tenista tenista : tenistas) {
+            if (TenistaValidator.validar(tenista).isRight()) {
+                validos++;
+            }
+        }
+        return validos;
+    }
+}
\ No newline at end of file
@@ -7,7 +7,10 @@ import dev.joseluisgs.models.Tenista;
 import dev.joseluisgs.repository.TenistasRepository;
 import dev.joseluisgs.repository.TenistasRepositoryImpl;
 import dev.joseluisgs.service.TenistasRailwayService;
+import dev.joseluisgs.service.TenistasRailwayServiceAsync;
+import dev.joseluisgs.service.TenistasRailwayServiceAsyncImpl;
 import dev.joseluisgs.service.TenistasRailwayServiceImpl;
+import dev.joseluisgs.service.TenistasRailwayServiceMetrics;
 import dev.joseluisgs.storage.TenistasStorage;
 import dev.joseluisgs.storage.TenistasStorageImpl;
 import io.vavr.control.Either;
@@ -17,6 +20,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -52,7 +56,9 @@ public class Main {
         TenistasDao dao = JdbiManager.getInstance().getTenistasDao();
         TenistasRepository repository = new TenistasRepositoryImpl(dao);
         TenistasStorage storage = new TenistasStorageImpl();
-        TenistasRailwayService service = new TenistasRailwayServiceImpl(repository, storage);
+        TenistasRailwayServiceImpl serviceImpl = new TenistasRailwayServiceImpl(repository, storage);
+        // Decorador que mide cada llamada: latencias, errores por tipo y aciertos de caché
+        TenistasRailwayServiceMetrics service = new TenistasRailwayServiceMetrics(serviceImpl, serviceImpl::getCacheStats);
 
         // 1️⃣ Cargar datos desde CSV
         System.out.println("1️⃣ Cargando datos del CSV...");
@@ -66,6 +72,21 @@ public class Main {
             tenistas.forEach(System.out::println);
         }
 
+        // Importación masiva: se procesan todas las filas y se informa de cada error con su línea
+        var csvPath2 = Paths.get("data", "data02.csv").toString();
+        service.importFromCsvReport(csvPath2).fold(
+                error -> {
+                    System.err.println("Error importando CSV: " + error.getMessage());
+                    return null;
+                },
+                report -> {
+                    System.out.println("Importación de " + report.fichero() + ": " + report.aceptadas() + " aceptadas, "
+                            + report.filasRechazadas() + " rechazadas en " + report.total().toMillis() + " ms");
+                    report.rechazadas().forEach((tipo, filas) -> filas.forEach(fila ->
+                            System.out.println("  " + tipo.getSimpleName() + " en la línea " + fila.linea() + ": " + fila.error().getMessage())));
+                    return null;
+                });
+
         // 2️⃣ Insertar, actualizar y borrar un tenista de prueba
         System.out.println("2️⃣ Manipulando un tenista de prueba...");
         Tenista nuevoTenista = Tenista.builder()
@@ -149,6 +170,31 @@ public class Main {
                         ", Media de puntos: " + stats.avgPoints)
         );
 
+        // 5️⃣ Consultas asíncronas con los mismos errores tipados
+        System.out.println("5️⃣ Consultas asíncronas:");
+        try (TenistasRailwayServiceAsync asyncService = new TenistasRailwayServiceAsyncImpl(service)) {
+            // Los ids se buscan por lotes que se ejecutan a la vez, con un resultado por id
+            asyncService.findAllByIdAsync(List.of(1L, 2L, 3L, 999L)).get().forEach((id, resultado) ->
+                    System.out.println("Tenista " + id + " (asíncrono): " + resultado.fold(TenistaError::getMessage, Tenista::getNombre))
+            );
+
+            // Encadenamiento: el borrado solo se lanza si la búsqueda encuentra el tenista
+            var borrado = TenistasRailwayServiceAsync.flatMapRight(
+                    asyncService.findByIdAsync(999L),
+                    tenista -> asyncService.deleteByIdAsync(tenista.getId())).get();
+            System.out.println("Borrado del tenista 999: " + (borrado.isLeft() ? borrado.getLeft().getMessage() : borrado.get()));
+        }
+
+        // 6️⃣ Búsqueda múltiple por id: caché + una sola consulta IN para los que faltan
+        System.out.println("6️⃣ Búsqueda múltiple por id:");
+        service.findAllById(List.of(1L, 2L, 3L, 4L, 999L)).forEach((id, resultado) ->
+                System.out.println("Tenista " + id + ": " + resultado.fold(TenistaError::getMessage, Tenista::getNombre))
+        );
+
+        // 7️⃣ Métricas del servicio
+        System.out.println("7️⃣ Métricas del servicio:");
+        System.out.println(service.snapshot().toJson());
+
         Instant end = Instant.now();
         System.out.println("Tiempo de ejecución: " + Duration.between(start, end).toMillis() + " ms");
 
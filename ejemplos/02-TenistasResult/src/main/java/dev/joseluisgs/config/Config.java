@@ -100,6 +100,9 @@ public class Config {
         properties.setProperty("cache.size", "5");
         properties.setProperty("database.init.tables", "true");
         properties.setProperty("database.init.data", "true");
+        properties.setProperty("database.batch.size", "1000");
+        properties.setProperty("async.executor", "virtual");
+        properties.setProperty("async.pool.size", "8");
     }
 
     /**
@@ -139,4 +142,33 @@ public class Config {
     public boolean isDatabaseInitData() {
         return Boolean.parseBoolean(properties.getProperty("database.init.data"));
     }
+
+    /**
+     * Obtiene el tamaño de lote para las inserciones masivas y las búsquedas por varios ids.
+     * Cada lote se inserta en una única transacción o se resuelve con una única consulta {@code IN (...)}.
+     *
+     * @return número de filas por lote
+     */
+    public int getDatabaseBatchSize() {
+        return Integer.parseInt(properties.getProperty("database.batch.size", "1000"));
+    }
+
+    /**
+     * Indica si el servicio asíncrono usa hilos virtuales ({@code async.executor=virtual})
+     * o un pool fijo de hilos de plataforma ({@code async.executor=fixed}).
+     *
+     * @return true si se usan hilos virtuales
+     */
+    public boolean isAsyncVirtualThreads() {
+        return !"fixed".equalsIgnoreCase(properties.getProperty("async.executor", "virtual").trim());
+    }
+
+    /**
+     * Obtiene el número de hilos del pool fijo del servicio asíncrono (solo con {@code async.executor=fixed}).
+     *
+     * @return número de hilos
+     */
+    public int getAsyncPoolSize() {
+        return Integer.parseInt(properties.getProperty("async.pool.size", "8"));
+    }
 }
\ No newline at end of file
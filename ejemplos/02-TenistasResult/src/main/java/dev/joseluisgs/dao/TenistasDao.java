@@ -4,10 +4,13 @@ package dev.joseluisgs.dao;
 import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.customizer.BindBean;
+import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.statement.GetGeneratedKeys;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,6 +41,15 @@ public interface TenistasDao {
     @SqlQuery("SELECT * FROM tenistas WHERE id = :id")
     Optional<TenistaEntity> findById(@Bind("id") long id);
 
+    /**
+     * Busca varios tenistas por sus identificadores en una sola consulta {@code IN (...)}.
+     * Los ids que no existen simplemente no aparecen en el resultado.
+     * @param ids Identificadores de los tenistas (no vacío)
+     * @return Lista de entidades encontradas, sin orden garantizado
+     */
+    @SqlQuery("SELECT * FROM tenistas WHERE id IN (<ids>)")
+    List<TenistaEntity> findAllById(@BindList("ids") Collection<Long> ids);
+
     /**
      * Inserta un nuevo tenista.
      * @param tenista Entidad a insertar
@@ -48,6 +60,17 @@ public interface TenistasDao {
     @GetGeneratedKeys
     long save(@BindBean TenistaEntity tenista);
 
+    /**
+     * Inserta un lote de tenistas en una única transacción usando JDBC batch.
+     * Todo el lote viaja en un solo round trip y se confirma con un único commit.
+     * @param tenistas Entidades a insertar
+     * @return IDs generados por la base de datos, en el mismo orden que las entidades
+     */
+    @SqlBatch("INSERT INTO tenistas (nombre, pais, altura, peso, puntos, mano, fecha_nacimiento) " +
+            "VALUES (:nombre, :pais, :altura, :peso, :puntos, :mano, :fechaNacimiento)")
+    @GetGeneratedKeys("id")
+    List<Long> saveAll(@BindBean List<TenistaEntity> tenistas);
+
     /**
      * Actualiza un tenista existente.
      * @param tenista Entidad con los nuevos valores (debe incluir id)
@@ -9,7 +9,8 @@ package dev.joseluisgs.errors;
  *
  * @author joseluisgs
  */
-public sealed class TenistaError permits TenistaError.NotFound, TenistaError.StorageError, TenistaError.ValidationError {
+public sealed class TenistaError permits TenistaError.NotFound, TenistaError.StorageError, TenistaError.ValidationError,
+        TenistaError.ParseError {
     private final String message;
 
     public TenistaError(String message) {
@@ -37,4 +38,13 @@ public sealed class TenistaError permits TenistaError.NotFound, TenistaError.Sto
             super(message);
         }
     }
+
+    /**
+     * Error de formato de una fila de CSV: faltan campos o un valor no se puede convertir.
+     */
+    public static final class ParseError extends TenistaError {
+        public ParseError(String message) {
+            super(message);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+package dev.joseluisgs.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latencias concurrente y de tamaño fijo.
+ * Cada potencia de dos se divide en 8 cubos lineales (error relativo máximo del 12,5 %), y cada cubo
+ * es un {@link LongAdder}: varios hilos pueden registrar a la vez sin contención y sin reservar memoria.
+ * Las lecturas no bloquean a los escritores, por lo que una instantánea tomada con carga es aproximada.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.metrics.MetricsSnapshot.OperacionSnapshot
+ * @see dev.joseluisgs.service.TenistasRailwayServiceMetrics
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder errores = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Registra una llamada.
+     *
+     * @param nanos Duración en nanosegundos (los negativos cuentan como 0)
+     * @param error true si la llamada terminó con un error
+     */
+    public void record(long nanos, boolean error) {
+        long valor = Math.max(0, nanos);
+        buckets[bucketIndex(valor)].increment();
+        totalNanos.add(valor);
+        maxNanos.accumulate(valor);
+        if (error) {
+            errores.increment();
+        }
+    }
+
+    /**
+     * Toma una instantánea con el número de llamadas, errores y percentiles en milisegundos.
+     *
+     * @return Instantánea del histograma
+     */
+    public MetricsSnapshot.OperacionSnapshot snapshot() {
+        long[] cuentas = new long[BUCKETS];
+        long llamadas = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cuentas[i] = buckets[i].sum();
+            llamadas += cuentas[i];
+        }
+        long max = maxNanos.get();
+        double media = llamadas == 0 ? 0 : totalNanos.sum() / (double) llamadas;
+        return new MetricsSnapshot.OperacionSnapshot(
+                llamadas,
+                errores.sum(),
+                aMillis(media),
+                aMillis(percentil(cuentas, llamadas, 50.0, max)),
+                aMillis(percentil(cuentas, llamadas, 99.0, max)),
+                aMillis(max)
+        );
+    }
+
+    static int bucketIndex(long valor) {
+        if (valor < SUB_BUCKETS) {
+            return (int) valor;
+        }
+        int exponente = 63 - Long.numberOfLeadingZeros(valor);
+        int subBucket = (int) (valor >>> (exponente - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponente - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int indice) {
+        if (indice < SUB_BUCKETS) {
+            return indice;
+        }
+        int desplazamiento = indice / SUB_BUCKETS - 1;
+        long inferior = (long) (SUB_BUCKETS + indice % SUB_BUCKETS) << desplazamiento;
+        return inferior + (1L << desplazamiento) - 1;
+    }
+
+    private static long percentil(long[] cuentas, long llamadas, double percentil, long max) {
+        if (llamadas == 0) {
+            return 0;
+        }
+        long rango = Math.max(1, (long) Math.ceil(percentil / 100.0 * llamadas));
+        long acumulado = 0;
+        for (int i = 0; i < cuentas.length; i++) {
+            acumulado += cuentas[i];
+            if (acumulado >= rango) {
+                // El límite superior del cubo nunca puede superar al máximo observado
+                return Math.min(bucketUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    private static double aMillis(double nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
\ No newline at end of file
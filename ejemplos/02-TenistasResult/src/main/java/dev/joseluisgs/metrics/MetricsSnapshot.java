@@ -0,0 +1,72 @@
+package dev.joseluisgs.metrics;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Instantánea de las métricas del servicio: latencia por operación, errores por tipo y aciertos de caché.
+ * Es inmutable y se puede volcar a JSON para exportarla o compararla entre ejecuciones.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @param operaciones    Métricas de cada operación, por nombre de método
+ * @param errores        Número de errores por tipo de TenistaError (NotFound, StorageError...)
+ * @param cacheAciertos  Consultas resueltas desde la caché
+ * @param cacheFallos    Consultas que no estaban en la caché
+ * @param cacheRatio     Proporción de aciertos de caché entre 0 y 1
+ * @see dev.joseluisgs.service.TenistasRailwayServiceMetrics#snapshot()
+ * @see dev.joseluisgs.metrics.LatencyHistogram
+ */
+public record MetricsSnapshot(Map<String, OperacionSnapshot> operaciones, Map<String, Long> errores,
+                              long cacheAciertos, long cacheFallos, double cacheRatio) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Métricas de una operación.
+     *
+     * @param llamadas Número de llamadas
+     * @param errores  Llamadas que terminaron con un error
+     * @param mediaMs  Latencia media en milisegundos
+     * @param p50Ms    Mediana de la latencia en milisegundos
+     * @param p99Ms    Percentil 99 de la latencia en milisegundos
+     * @param maxMs    Latencia máxima en milisegundos
+     */
+    public record OperacionSnapshot(long llamadas, long errores, double mediaMs, double p50Ms, double p99Ms,
+                                    double maxMs) {
+    }
+
+    public MetricsSnapshot {
+        // Copias que conservan el orden de inserción para que el JSON salga siempre igual
+        operaciones = Collections.unmodifiableMap(new LinkedHashMap<>(operaciones));
+        errores = Collections.unmodifiableMap(new LinkedHashMap<>(errores));
+    }
+
+    /**
+     * Obtiene el número de errores de un tipo.
+     *
+     * @param tipo Nombre simple del tipo de error (por ejemplo "NotFound")
+     * @return Número de errores, o 0 si no hay
+     */
+    public long errores(String tipo) {
+        return errores.getOrDefault(tipo, 0L);
+    }
+
+    /**
+     * Convierte la instantánea a JSON.
+     *
+     * @return JSON con todas las métricas
+     */
+    public String toJson() {
+        try {
+            return MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(this);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
\ No newline at end of file
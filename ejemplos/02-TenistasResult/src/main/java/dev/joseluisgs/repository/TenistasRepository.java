@@ -2,6 +2,7 @@ package dev.joseluisgs.repository;
 
 import dev.joseluisgs.models.Tenista;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +29,13 @@ public interface TenistasRepository {
      */
     Optional<Tenista> findById(long id);
 
+    /**
+     * Busca varios tenistas por sus ids con consultas {@code IN (...)} troceadas por el tamaño de lote.
+     * @param ids Identificadores de los tenistas
+     * @return Lista con los tenistas encontrados; los ids inexistentes no aparecen
+     */
+    List<Tenista> findAllById(Collection<Long> ids);
+
     /**
      * Guarda un nuevo tenista.
      * @param tenista Tenista a guardar
@@ -35,6 +43,14 @@ public interface TenistasRepository {
      */
     Tenista save(Tenista tenista);
 
+    /**
+     * Guarda una colección de tenistas nuevos mediante inserciones por lotes.
+     * Cada lote se ejecuta en su propia transacción.
+     * @param tenistas Tenistas a guardar
+     * @return Los mismos tenistas con el id asignado por la base de datos
+     */
+    List<Tenista> saveAll(List<Tenista> tenistas);
+
     /**
      * Actualiza un tenista existente.
      * @param tenista Tenista con cambios
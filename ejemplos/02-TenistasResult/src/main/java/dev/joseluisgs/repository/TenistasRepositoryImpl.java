@@ -1,5 +1,6 @@
 package dev.joseluisgs.repository;
 
+import dev.joseluisgs.config.Config;
 import dev.joseluisgs.dao.TenistaEntity;
 import dev.joseluisgs.dao.TenistasDao;
 import dev.joseluisgs.mappers.TenistaMapper;
@@ -7,6 +8,8 @@ import dev.joseluisgs.models.Tenista;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +26,7 @@ import java.util.Optional;
 public class TenistasRepositoryImpl implements TenistasRepository {
     private final Logger logger = LoggerFactory.getLogger(TenistasRepositoryImpl.class);
     private final TenistasDao tenistasDao;
+    private final int batchSize;
 
     /**
      * Crea el repositorio inyectando el DAO de tenistas.
@@ -31,6 +35,7 @@ public class TenistasRepositoryImpl implements TenistasRepository {
     public TenistasRepositoryImpl(TenistasDao tenistasDao) {
         logger.info("Inicializando TenistasRepositoryImpl con TenistasDao");
         this.tenistasDao = tenistasDao;
+        this.batchSize = Math.max(1, Config.getInstance().getDatabaseBatchSize());
     }
 
     /** {@inheritDoc} */
@@ -49,6 +54,23 @@ public class TenistasRepositoryImpl implements TenistasRepository {
         return tenistasDao.findById(id).map(TenistaMapper::fromEntity);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public List<Tenista> findAllById(Collection<Long> ids) {
+        logger.info("Buscando {} tenistas por id en lotes de {}", ids.size(), batchSize);
+        List<Long> pendientes = List.copyOf(ids);
+        List<Tenista> encontrados = new ArrayList<>(pendientes.size());
+
+        // Troceamos para no superar el límite de parámetros de la cláusula IN
+        for (int from = 0; from < pendientes.size(); from += batchSize) {
+            List<Long> chunk = pendientes.subList(from, Math.min(from + batchSize, pendientes.size()));
+            tenistasDao.findAllById(chunk).stream()
+                    .map(TenistaMapper::fromEntity)
+                    .forEach(encontrados::add);
+        }
+        return encontrados;
+    }
+
     /** {@inheritDoc} */
     @Override
     public Tenista save(Tenista tenista) {
@@ -83,6 +105,31 @@ public class TenistasRepositoryImpl implements TenistasRepository {
                 .build();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public List<Tenista> saveAll(List<Tenista> tenistas) {
+        logger.info("Guardando {} tenistas en lotes de {}", tenistas.size(), batchSize);
+
+        for (int from = 0; from < tenistas.size(); from += batchSize) {
+            List<Tenista> chunk = tenistas.subList(from, Math.min(from + batchSize, tenistas.size()));
+            List<TenistaEntity> entities = chunk.stream()
+                    .map(tenista -> {
+                        TenistaEntity entity = TenistaMapper.toEntity(tenista);
+                        entity.setId(Tenista.NEW_TENISTA_ID);
+                        return entity;
+                    })
+                    .toList();
+
+            List<Long> ids = tenistasDao.saveAll(entities);
+
+            // Asignamos los IDs generados en el mismo orden del lote
+            for (int i = 0; i < chunk.size(); i++) {
+                chunk.get(i).setId(ids.get(i));
+            }
+        }
+        return tenistas;
+    }
+
     /** {@inheritDoc} */
     @Override
     public Optional<Tenista> update(Tenista tenista) {
@@ -0,0 +1,64 @@
+package dev.joseluisgs.service;
+
+import dev.joseluisgs.errors.TenistaError;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado de una importación masiva de un CSV: filas aceptadas, errores de las filas rechazadas
+ * agrupados por tipo de error con su número de línea, y el tiempo de cada fase.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @param fichero    Ruta del CSV importado
+ * @param leidas     Filas de datos leídas (sin la cabecera)
+ * @param aceptadas  Filas válidas insertadas en la base de datos
+ * @param rechazadas Filas rechazadas, agrupadas por tipo de error; una fila con varios errores aparece una vez por error
+ * @param lectura    Tiempo de lectura del archivo
+ * @param validacion Tiempo de conversión y validación de todas las filas
+ * @param insercion  Tiempo de inserción por lotes de las filas válidas
+ * @see dev.joseluisgs.service.TenistasRailwayService#importFromCsvReport(String)
+ */
+public record ImportReport(String fichero, int leidas, int aceptadas,
+                           Map<Class<? extends TenistaError>, List<FilaRechazada>> rechazadas,
+                           Duration lectura, Duration validacion, Duration insercion) {
+
+    /**
+     * Error de una fila rechazada.
+     *
+     * @param linea Número de línea en el archivo (la cabecera es la línea 1)
+     * @param error Error de la fila
+     */
+    public record FilaRechazada(int linea, TenistaError error) {
+    }
+
+    public ImportReport {
+        rechazadas = Map.copyOf(rechazadas);
+    }
+
+    /**
+     * Obtiene los errores de un tipo.
+     *
+     * @param tipo Tipo de error (por ejemplo TenistaError.ParseError.class)
+     * @return Errores de ese tipo en orden de línea, o lista vacía si no hay
+     */
+    public List<FilaRechazada> rechazadas(Class<? extends TenistaError> tipo) {
+        return rechazadas.getOrDefault(tipo, List.of());
+    }
+
+    /**
+     * @return Número de filas rechazadas
+     */
+    public int filasRechazadas() {
+        return leidas - aceptadas;
+    }
+
+    /**
+     * @return Tiempo total de la importación
+     */
+    public Duration total() {
+        return lectura.plus(validacion).plus(insercion);
+    }
+}
\ No newline at end of file
@@ -4,7 +4,9 @@ import dev.joseluisgs.errors.TenistaError;
 import dev.joseluisgs.models.Tenista;
 import io.vavr.control.Either;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Servicio de dominio para gestionar operaciones de Tenista, incluyendo caché,
@@ -32,6 +34,16 @@ public interface TenistasRailwayService {
      */
     Either<TenistaError.NotFound, Tenista> findById(long id);
 
+    /**
+     * Obtiene varios tenistas por id de una sola vez.
+     * Los que están en caché se sirven desde ella y el resto se resuelven con consultas {@code IN (...)}
+     * troceadas, en lugar de una consulta por id.
+     *
+     * @param ids Identificadores (los repetidos se resuelven una sola vez)
+     * @return Mapa, en el orden de los ids recibidos, con el Tenista encontrado o un error de tipo NotFound para cada id.
+     */
+    Map<Long, Either<TenistaError.NotFound, Tenista>> findAllById(Collection<Long> ids);
+
     /**
      * Valida y guarda un nuevo tenista.
      *
@@ -64,6 +76,17 @@ public interface TenistasRailwayService {
      */
     Either<TenistaError, Void> importFromCsv(String filePath);
 
+    /**
+     * Importa tenistas desde un CSV procesando todas las filas aunque haya errores.
+     * Las filas se convierten y validan en paralelo acumulando todos sus errores, y las válidas
+     * se insertan por lotes. El archivo se lee una sola vez.
+     *
+     * @param filePath Ruta al archivo CSV
+     * @return Either con el informe de la importación o un error de tipo StorageError si no se puede leer el archivo o guardar
+     * los tenistas (los lotes ya confirmados se mantienen).
+     */
+    Either<TenistaError.StorageError, ImportReport> importFromCsvReport(String filePath);
+
     /**
      * Exporta los tenistas actuales a un archivo JSON.
      *
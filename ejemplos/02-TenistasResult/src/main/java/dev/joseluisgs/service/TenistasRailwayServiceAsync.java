@@ -0,0 +1,112 @@
+package dev.joseluisgs.service;
+
+import dev.joseluisgs.errors.TenistaError;
+import dev.joseluisgs.models.Tenista;
+import io.vavr.concurrent.Future;
+import io.vavr.control.Either;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Versión asíncrona de {@link TenistasRailwayService}: cada operación se ejecuta en un executor
+ * (hilos virtuales por defecto) y devuelve un Future de vavr con el mismo Either tipado.
+ * Los errores de dominio siguen llegando como {@link TenistaError} en la parte izquierda del Either;
+ * el Future solo falla si hay un error inesperado (por ejemplo, de la base de datos).
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see TenistasRailwayServiceAsyncImpl
+ * @see TenistasRailwayService
+ */
+public interface TenistasRailwayServiceAsync extends AutoCloseable {
+    /**
+     * Obtiene todos los tenistas.
+     *
+     * @return Future con la lista completa
+     */
+    Future<Either<TenistaError, List<Tenista>>> findAllAsync();
+
+    /**
+     * Obtiene un tenista por id, consultando la caché si es posible.
+     *
+     * @param id Identificador
+     * @return Future con el Tenista encontrado o un error de tipo NotFound.
+     */
+    Future<Either<TenistaError, Tenista>> findByIdAsync(long id);
+
+    /**
+     * Obtiene varios tenistas por id con {@link TenistasRailwayService#findAllById(Collection)}, en lotes
+     * que se ejecutan a la vez. Cada id tiene su propio resultado, como en la versión síncrona, y un error
+     * inesperado de un lote llega como StorageError en los ids de ese lote en lugar de hacer fallar el Future.
+     *
+     * @param ids Identificadores (los repetidos se buscan una vez)
+     * @return Future con un mapa, en el orden de los ids recibidos, con el Tenista encontrado o un error para cada id.
+     */
+    Future<Map<Long, Either<TenistaError, Tenista>>> findAllByIdAsync(Collection<Long> ids);
+
+    /**
+     * Valida y guarda un nuevo tenista.
+     *
+     * @param tenista Tenista a guardar
+     * @return Future con el Tenista guardado o un error de tipo ValidationError.
+     */
+    Future<Either<TenistaError, Tenista>> saveAsync(Tenista tenista);
+
+    /**
+     * Valida y actualiza un tenista existente.
+     *
+     * @param tenista Tenista con los cambios
+     * @return Future con el Tenista actualizado o un error de tipo ValidationError o NotFound.
+     */
+    Future<Either<TenistaError, Tenista>> updateAsync(Tenista tenista);
+
+    /**
+     * Elimina un tenista por id.
+     *
+     * @param id Identificador
+     * @return Future con true si se ha borrado o un error de tipo NotFound.
+     */
+    Future<Either<TenistaError, Boolean>> deleteByIdAsync(long id);
+
+    /**
+     * Importa tenistas desde un CSV procesando todas las filas aunque haya errores.
+     *
+     * @param filePath Ruta al archivo CSV
+     * @return Future con el informe de la importación o un error de tipo StorageError.
+     */
+    Future<Either<TenistaError, ImportReport>> importFromCsvReportAsync(String filePath);
+
+    /**
+     * Exporta todos los tenistas a un JSON.
+     *
+     * @param filePath Ruta al archivo JSON
+     * @return Future vacío si la operación fue exitosa o un error de tipo StorageError.
+     */
+    Future<Either<TenistaError, Void>> exportToJsonAsync(String filePath);
+
+    /**
+     * Detiene el executor si lo ha creado el servicio. Las operaciones ya lanzadas terminan.
+     */
+    @Override
+    void close();
+
+    /**
+     * Encadena una operación asíncrona que solo se ejecuta si la anterior ha ido bien.
+     * Si la anterior devuelve un error, se propaga tal cual sin ejecutar la siguiente.
+     *
+     * @param future    Operación anterior
+     * @param siguiente Operación que recibe el resultado de la anterior
+     * @param <T>       Tipo del resultado de la anterior
+     * @param <U>       Tipo del resultado de la siguiente
+     * @return Future con el resultado de la siguiente o el primer error
+     */
+    static <T, U> Future<Either<TenistaError, U>> flatMapRight(Future<Either<TenistaError, T>> future,
+                                                               Function<? super T, Future<Either<TenistaError, U>>> siguiente) {
+        return future.flatMap(resultado -> resultado.isRight()
+                ? siguiente.apply(resultado.get())
+                : Future.successful(Either.left(resultado.getLeft())));
+    }
+}
\ No newline at end of file
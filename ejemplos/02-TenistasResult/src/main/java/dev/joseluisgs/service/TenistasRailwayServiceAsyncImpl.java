@@ -0,0 +1,203 @@
+package dev.joseluisgs.service;
+
+import dev.joseluisgs.config.Config;
+import dev.joseluisgs.errors.TenistaError;
+import dev.joseluisgs.models.Tenista;
+import io.vavr.concurrent.Future;
+import io.vavr.control.Either;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Implementación de TenistasRailwayServiceAsync que delega en un TenistasRailwayService síncrono,
+ * así la caché, la validación y los errores tipados son los mismos en las dos versiones.
+ * Cada llamada se ejecuta en el executor configurado: con hilos virtuales ({@code async.executor=virtual},
+ * por defecto) cada operación bloqueante (JDBC, ficheros) ocupa un hilo barato y no un hilo del sistema.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see TenistasRailwayServiceAsync
+ * @see TenistasRailwayServiceImpl
+ * @see dev.joseluisgs.config.Config#isAsyncVirtualThreads()
+ */
+public class TenistasRailwayServiceAsyncImpl implements TenistasRailwayServiceAsync {
+    private final Logger logger = LoggerFactory.getLogger(TenistasRailwayServiceAsyncImpl.class);
+    private final TenistasRailwayService service;
+    private final ExecutorService executor;
+    private final boolean executorPropio;
+    private final int idsPorLote;
+
+    /**
+     * Crea el servicio con el executor de la configuración, que se detiene al cerrar el servicio.
+     *
+     * @param service Servicio síncrono en el que se delega
+     */
+    public TenistasRailwayServiceAsyncImpl(TenistasRailwayService service) {
+        this(service, crearExecutor(), true, Config.getInstance().getDatabaseBatchSize());
+    }
+
+    /**
+     * Crea el servicio con un executor externo, que no se detiene al cerrar el servicio.
+     *
+     * @param service  Servicio síncrono en el que se delega
+     * @param executor Executor en el que se ejecutan las operaciones
+     */
+    public TenistasRailwayServiceAsyncImpl(TenistasRailwayService service, ExecutorService executor) {
+        this(service, executor, Config.getInstance().getDatabaseBatchSize());
+    }
+
+    /**
+     * Crea el servicio con un executor externo, que no se detiene al cerrar el servicio, y el tamaño
+     * de los lotes en que se reparten las búsquedas por id.
+     *
+     * @param service    Servicio síncrono en el que se delega
+     * @param executor   Executor en el que se ejecutan las operaciones
+     * @param idsPorLote Ids de cada búsqueda de {@link #findAllByIdAsync(Collection)}
+     */
+    public TenistasRailwayServiceAsyncImpl(TenistasRailwayService service, ExecutorService executor, int idsPorLote) {
+        this(service, executor, false, idsPorLote);
+    }
+
+    private TenistasRailwayServiceAsyncImpl(TenistasRailwayService service, ExecutorService executor, boolean executorPropio,
+                                            int idsPorLote) {
+        logger.info("Inicializando TenistasRailwayServiceAsyncImpl");
+        this.service = service;
+        this.executor = executor;
+        this.executorPropio = executorPropio;
+        this.idsPorLote = Math.max(1, idsPorLote);
+    }
+
+    private static ExecutorService crearExecutor() {
+        Config config = Config.getInstance();
+        return config.isAsyncVirtualThreads()
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(Math.max(1, config.getAsyncPoolSize()));
+    }
+
+    /**
+     * Ejecuta una operación del servicio síncrono en el executor, ensanchando el tipo del error a TenistaError.
+     */
+    private <T> Future<Either<TenistaError, T>> async(Supplier<Either<? extends TenistaError, ? extends T>> operacion) {
+        return Future.of(executor, () -> Either.narrow(operacion.get()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Either<TenistaError, List<Tenista>>> findAllAsync() {
+        return async(() -> Either.right(service.findAll()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Either<TenistaError, Tenista>> findByIdAsync(long id) {
+        return async(() -> service.findById(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Cada lote es una llamada a findAllById del servicio síncrono, que sirve lo que está en caché y resuelve
+     * el resto con consultas {@code IN (...)}: nunca hay una tarea por id.
+     */
+    @Override
+    public Future<Map<Long, Either<TenistaError, Tenista>>> findAllByIdAsync(Collection<Long> ids) {
+        List<Long> distintos = List.copyOf(new LinkedHashSet<>(ids));
+        logger.info("Buscando {} tenistas por id en lotes de {} en paralelo", distintos.size(), idsPorLote);
+        // Se lanzan todos los lotes antes de esperar a ninguno
+        List<Future<Map<Long, Either<TenistaError, Tenista>>>> lotes = new ArrayList<>();
+        for (int from = 0; from < distintos.size(); from += idsPorLote) {
+            List<Long> lote = distintos.subList(from, Math.min(from + idsPorLote, distintos.size()));
+            lotes.add(Future.of(executor, () -> buscarLote(lote)));
+        }
+        return Future.sequence(executor, lotes)
+                .map(resultados -> {
+                    Map<Long, Either<TenistaError, Tenista>> resultado = new LinkedHashMap<>();
+                    resultados.forEach(resultado::putAll);
+                    return resultado;
+                });
+    }
+
+    /**
+     * Busca un lote de ids en el servicio síncrono. Si falla de forma inesperada, todos los ids del lote
+     * reciben un StorageError: el resto de lotes no se pierde.
+     *
+     * @param lote Ids sin repetir
+     * @return Resultado de cada id del lote, en su orden
+     */
+    private Map<Long, Either<TenistaError, Tenista>> buscarLote(List<Long> lote) {
+        Map<Long, Either<TenistaError, Tenista>> resultado = new LinkedHashMap<>();
+        try {
+            service.findAllById(lote).forEach((id, encontrado) -> resultado.put(id, Either.narrow(encontrado)));
+        } catch (RuntimeException e) {
+            logger.error("Error buscando un lote de {} tenistas por id", lote.size(), e);
+            TenistaError error = new TenistaError.StorageError("Error de almacenamiento: " + e.getMessage());
+            lote.forEach(id -> resultado.put(id, Either.left(error)));
+        }
+        return resultado;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Either<TenistaError, Tenista>> saveAsync(Tenista tenista) {
+        return async(() -> service.save(tenista));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Either<TenistaError, Tenista>> updateAsync(Tenista tenista) {
+        return async(() -> service.update(tenista));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Either<TenistaError, Boolean>> deleteByIdAsync(long id) {
+        return async(() -> service.deleteById(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Either<TenistaError, ImportReport>> importFromCsvReportAsync(String filePath) {
+        return async(() -> service.importFromCsvReport(filePath));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Either<TenistaError, Void>> exportToJsonAsync(String filePath) {
+        return async(() -> service.exportToJson(filePath));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (executorPropio) {
+            logger.info("Deteniendo el executor de TenistasRailwayServiceAsyncImpl");
+            executor.shutdown();
+        }
+    }
+}
\ No newline at end of file
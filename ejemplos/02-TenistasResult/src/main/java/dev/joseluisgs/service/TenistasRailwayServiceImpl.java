@@ -2,19 +2,32 @@ package dev.joseluisgs.service;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import dev.joseluisgs.config.Config;
 import dev.joseluisgs.errors.TenistaError;
+import dev.joseluisgs.exceptions.TenistaException;
 import dev.joseluisgs.models.Tenista;
 import dev.joseluisgs.repository.TenistasRepository;
+import dev.joseluisgs.storage.TenistaCsvParser;
 import dev.joseluisgs.storage.TenistasStorage;
 import dev.joseluisgs.validator.TenistaValidator;
+import io.vavr.collection.Seq;
 import io.vavr.control.Either;
+import io.vavr.control.Validation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 public class TenistasRailwayServiceImpl implements TenistasRailwayService {
     private final Logger logger = LoggerFactory.getLogger(TenistasRailwayServiceImpl.class);
@@ -36,6 +49,7 @@ public class TenistasRailwayServiceImpl implements TenistasRailwayService {
         this.tenistaCache = Caffeine.newBuilder()
                 .expireAfterWrite(10, TimeUnit.MINUTES)
                 .maximumSize(Config.getInstance().getCacheSize())
+                .recordStats()
                 .build();
     }
 
@@ -44,7 +58,7 @@ public class TenistasRailwayServiceImpl implements TenistasRailwayService {
      */
     @Override
     public List<Tenista> findAll() {
-        logger.info("Buscando todos los tenistas en el servicio");
+        logger.debug("Buscando todos los tenistas en el servicio");
         return repository.findAll();
     }
 
@@ -54,17 +68,24 @@ public class TenistasRailwayServiceImpl implements TenistasRailwayService {
      */
     @Override
     public Either<TenistaError.NotFound, Tenista> findById(long id) {
-        logger.info("Buscando tenista con id: {} en caché", id);
+        // Trazas en DEBUG y protegidas: sin el nivel activo no se crea ningún objeto para el log
+        if (logger.isDebugEnabled()) {
+            logger.debug("Buscando tenista con id: {} en caché", id);
+        }
         Tenista cached = tenistaCache.getIfPresent(id);
         if (cached != null) {
-            logger.info("Tenista con id {} encontrado en caché", id);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Tenista con id {} encontrado en caché", id);
+            }
             return Either.right(cached);
         }
 
         Optional<Tenista> tenistaOpt = repository.findById(id);
 
         if (tenistaOpt.isEmpty()) {
-            logger.error("Tenista con id {} no encontrado", id);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Tenista con id {} no encontrado", id);
+            }
             return Either.left(new TenistaError.NotFound("Tenista con ID " + id + " no encontrado."));
         }
 
@@ -73,24 +94,64 @@ public class TenistasRailwayServiceImpl implements TenistasRailwayService {
         return Either.right(tenista);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<Long, Either<TenistaError.NotFound, Tenista>> findAllById(Collection<Long> ids) {
+        Set<Long> distintos = new LinkedHashSet<>(ids);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Buscando {} tenistas por id en caché", distintos.size());
+        }
+        Map<Long, Tenista> encontrados = new LinkedHashMap<>(tenistaCache.getAllPresent(distintos));
+
+        List<Long> fallos = distintos.stream()
+                .filter(id -> !encontrados.containsKey(id))
+                .toList();
+        if (!fallos.isEmpty()) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("{} tenistas no están en caché, consultando el repositorio", fallos.size());
+            }
+            for (Tenista tenista : repository.findAllById(fallos)) {
+                encontrados.put(tenista.getId(), tenista);
+                tenistaCache.put(tenista.getId(), tenista);
+            }
+        }
+
+        Map<Long, Either<TenistaError.NotFound, Tenista>> resultado = new LinkedHashMap<>();
+        for (Long id : distintos) {
+            Tenista tenista = encontrados.get(id);
+            if (tenista == null) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Tenista con id {} no encontrado", id);
+                }
+                resultado.put(id, Either.left(new TenistaError.NotFound("Tenista con ID " + id + " no encontrado.")));
+            } else {
+                resultado.put(id, Either.right(tenista));
+            }
+        }
+        return resultado;
+    }
+
 
     /**
      * {@inheritDoc}
      */
     @Override
     public Either<TenistaError.ValidationError, Tenista> save(Tenista tenista) {
-        logger.info("Guardando tenista en el servicio");
+        logger.debug("Guardando tenista en el servicio");
 
-        try {
-            // Validar antes de guardar
-            TenistaValidator.validate(tenista);
-            Tenista saved = repository.save(tenista);
-            tenistaCache.put(saved.getId(), saved);
-            return Either.right(saved);
-        } catch (Exception e) { // Se asume que el validador lanza una excepción
-            logger.error("Error de validación al guardar tenista: {}", e.getMessage());
-            return Either.left(new TenistaError.ValidationError("Error de validación: " + e.getMessage()));
+        // Validar antes de guardar: si no es válido no se llega al repositorio
+        Either<TenistaError.ValidationError, Tenista> validacion = TenistaValidator.validar(tenista);
+        if (validacion.isLeft() && logger.isDebugEnabled()) {
+            logger.debug("Error al guardar tenista: {}", validacion.getLeft().getMessage());
         }
+        return validacion
+                .map(valido -> {
+                    Tenista saved = repository.save(valido);
+                    tenistaCache.put(saved.getId(), saved);
+                    return saved;
+                });
     }
 
 
@@ -99,14 +160,17 @@ public class TenistasRailwayServiceImpl implements TenistasRailwayService {
      */
     @Override
     public Either<TenistaError, Tenista> update(Tenista tenista) {
-        logger.info("Actualizando tenista con id: {} en el servicio", tenista.getId());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Actualizando tenista con id: {} en el servicio", tenista.getId());
+        }
 
-        try {
-            // Validar antes de actualizar
-            TenistaValidator.validate(tenista);
-        } catch (Exception e) {
-            logger.error("Error de validación al actualizar tenista: {}", e.getMessage());
-            return Either.left(new TenistaError.ValidationError("Error de validación: " + e.getMessage()));
+        // Validar antes de actualizar
+        Either<TenistaError.ValidationError, Tenista> validacion = TenistaValidator.validar(tenista);
+        if (validacion.isLeft()) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Error al actualizar tenista: {}", validacion.getLeft().getMessage());
+            }
+            return Either.left(validacion.getLeft());
         }
 
         tenistaCache.invalidate(tenista.getId());
@@ -114,7 +178,9 @@ public class TenistasRailwayServiceImpl implements TenistasRailwayService {
         Optional<Tenista> updatedOpt = repository.update(tenista);
 
         if (updatedOpt.isEmpty()) {
-            logger.error("Tenista con id {} no encontrado para actualizar", tenista.getId());
+            if (logger.isDebugEnabled()) {
+                logger.debug("Tenista con id {} no encontrado para actualizar", tenista.getId());
+            }
             return Either.left(new TenistaError.NotFound("Tenista con ID " + tenista.getId() + " no encontrado para actualizar."));
         }
 
@@ -129,12 +195,16 @@ public class TenistasRailwayServiceImpl implements TenistasRailwayService {
      */
     @Override
     public Either<TenistaError.NotFound, Boolean> deleteById(long id) {
-        logger.info("Borrando tenista con id: {} en el servicio", id);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Borrando tenista con id: {} en el servicio", id);
+        }
         tenistaCache.invalidate(id);
 
         boolean deleted = repository.deleteById(id);
         if (!deleted) {
-            logger.error("Tenista con id {} no encontrado para borrar", id);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Tenista con id {} no encontrado para borrar", id);
+            }
             return Either.left(new TenistaError.NotFound("Tenista con ID " + id + " no encontrado para borrar."));
         }
         return Either.right(true);
@@ -147,28 +217,100 @@ public class TenistasRailwayServiceImpl implements TenistasRailwayService {
     @Override
     public Either<TenistaError, Void> importFromCsv(String filePath) {
         logger.info("Cargando datos desde archivo: {}", filePath);
+        List<Tenista> tenistas;
         try {
-            List<Tenista> tenistas = storage.loadData(filePath);
+            tenistas = storage.loadData(filePath);
+        } catch (TenistaException.StorageException e) {
+            logger.error("Error al importar tenistas: {}", e.getMessage());
+            return Either.left(new TenistaError.StorageError("Error de almacenamiento: " + e.getMessage()));
+        }
 
-            // Validar y guardar todos los tenistas antes de guardarlos
-            for (Tenista tenista : tenistas) {
-                TenistaValidator.validate(tenista);
-                repository.save(tenista);
+        // Validar y guardar los tenistas uno a uno: el primero inválido detiene la importación
+        for (Tenista tenista : tenistas) {
+            Either<TenistaError.ValidationError, Tenista> validacion = TenistaValidator.validar(tenista);
+            if (validacion.isLeft()) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Error al importar tenistas: {}", validacion.getLeft().getMessage());
+                }
+                return Either.left(validacion.getLeft());
             }
+            repository.save(tenista);
+        }
+
+        logger.info("Datos cargados y guardados en el repositorio desde el archivo: {}. Total: {}", filePath, tenistas.size());
+        return Either.right(null); // Retorna nulo para indicar éxito
+    }
+
 
-            logger.info("Datos cargados y guardados en el repositorio desde el archivo: {}. Total: {}", filePath, tenistas.size());
-            return Either.right(null); // Retorna nulo para indicar éxito
-        } catch (Exception e) { // Se asume que storage.loadData o el validador pueden fallar
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Cada fila pasa una sola vez por el parser y el validador, que acumulan todos sus errores con Validation;
+     * las filas son independientes, así que se procesan en paralelo. Después se insertan las válidas por lotes.
+     */
+    @Override
+    public Either<TenistaError.StorageError, ImportReport> importFromCsvReport(String filePath) {
+        logger.info("Importando con informe desde archivo: {}", filePath);
+        long inicio = System.nanoTime();
+        List<String> lineas;
+        try {
+            lineas = storage.loadLines(filePath);
+        } catch (TenistaException.StorageException e) {
             logger.error("Error al importar tenistas: {}", e.getMessage());
-            // Si el error es de storage o validación, creamos el tipo de error apropiado
-            if (e.getMessage().contains("CSV")) { // Ejemplo de lógica simple de mapeo
-                return Either.left(new TenistaError.StorageError("Error de almacenamiento: " + e.getMessage()));
+            return Either.left(new TenistaError.StorageError("Error de almacenamiento: " + e.getMessage()));
+        }
+        long leido = System.nanoTime();
+
+        // El resultado conserva el orden de las líneas aunque se procesen en paralelo
+        List<Validation<Seq<TenistaError>, Tenista>> filas = IntStream.range(0, lineas.size()).parallel()
+                .mapToObj(i -> validarFila(lineas.get(i)))
+                .toList();
+
+        List<Tenista> validos = new ArrayList<>();
+        Map<Class<? extends TenistaError>, List<ImportReport.FilaRechazada>> rechazadas = new LinkedHashMap<>();
+        for (int i = 0; i < filas.size(); i++) {
+            Validation<Seq<TenistaError>, Tenista> fila = filas.get(i);
+            if (fila.isValid()) {
+                validos.add(fila.get());
             } else {
-                return Either.left(new TenistaError.ValidationError("Error de validación: " + e.getMessage()));
+                int linea = i + 2; // La línea 1 es la cabecera
+                for (TenistaError error : fila.getError()) {
+                    rechazadas.computeIfAbsent(error.getClass(), tipo -> new ArrayList<>())
+                            .add(new ImportReport.FilaRechazada(linea, error));
+                }
             }
         }
+        long validado = System.nanoTime();
+
+        if (!validos.isEmpty()) {
+            try {
+                repository.saveAll(validos);
+            } catch (RuntimeException e) { // Los fallos de la base de datos también viajan por el railway
+                logger.error("Error al guardar los tenistas importados: {}", e.getMessage());
+                return Either.left(new TenistaError.StorageError("Error de almacenamiento: " + e.getMessage()));
+            }
+        }
+        long insertado = System.nanoTime();
+
+        ImportReport report = new ImportReport(filePath, lineas.size(), validos.size(), rechazadas,
+                Duration.ofNanos(leido - inicio), Duration.ofNanos(validado - leido), Duration.ofNanos(insertado - validado));
+        logger.info("Importación desde {} terminada: {} filas aceptadas y {} rechazadas en {} ms",
+                filePath, report.aceptadas(), report.filasRechazadas(), report.total().toMillis());
+        return Either.right(report);
     }
 
+    /**
+     * Convierte y valida una línea del CSV acumulando todos sus errores.
+     * Las reglas de negocio solo se comprueban si el formato es correcto.
+     *
+     * @param linea Línea del CSV
+     * @return Validation con el tenista o con los errores de formato o de validación
+     */
+    private static Validation<Seq<TenistaError>, Tenista> validarFila(String linea) {
+        return TenistaCsvParser.parse(linea)
+                .<Seq<TenistaError>>mapError(Seq::narrow)
+                .flatMap(tenista -> TenistaValidator.validarTodo(tenista).<Seq<TenistaError>>mapError(Seq::narrow));
+    }
 
     /**
      * {@inheritDoc}
@@ -185,4 +327,14 @@ public class TenistasRailwayServiceImpl implements TenistasRailwayService {
             return Either.left(new TenistaError.StorageError("Error de almacenamiento: " + e.getMessage()));
         }
     }
+
+    /**
+     * Obtiene las estadísticas de la caché de tenistas (aciertos, fallos, expulsiones).
+     *
+     * @return Estadísticas acumuladas desde la creación del servicio
+     * @see TenistasRailwayServiceMetrics
+     */
+    public CacheStats getCacheStats() {
+        return tenistaCache.stats();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,229 @@
+package dev.joseluisgs.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.joseluisgs.errors.TenistaError;
+import dev.joseluisgs.metrics.LatencyHistogram;
+import dev.joseluisgs.metrics.MetricsSnapshot;
+import dev.joseluisgs.models.Tenista;
+import io.vavr.control.Either;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Decorador de TenistasRailwayService que mide cada operación sin cambiar su comportamiento.
+ * Registra un histograma de latencias por método, cuenta los errores por tipo de TenistaError y
+ * expone la tasa de aciertos de la caché. Todos los contadores son {@link LongAdder}, así que registrar
+ * una llamada no bloquea ni reserva memoria; las métricas se consultan con {@link #snapshot()}.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.metrics.LatencyHistogram
+ * @see dev.joseluisgs.metrics.MetricsSnapshot
+ * @see TenistasRailwayServiceImpl#getCacheStats()
+ */
+public class TenistasRailwayServiceMetrics implements TenistasRailwayService {
+
+    /**
+     * Operaciones medidas, con el nombre del método que aparece en la instantánea.
+     */
+    public enum Operacion {
+        FIND_ALL("findAll"),
+        FIND_BY_ID("findById"),
+        FIND_ALL_BY_ID("findAllById"),
+        SAVE("save"),
+        UPDATE("update"),
+        DELETE_BY_ID("deleteById"),
+        IMPORT_FROM_CSV("importFromCsv"),
+        IMPORT_FROM_CSV_REPORT("importFromCsvReport"),
+        EXPORT_TO_JSON("exportToJson");
+
+        private final String nombre;
+
+        Operacion(String nombre) {
+            this.nombre = nombre;
+        }
+
+        /**
+         * @return Nombre del método
+         */
+        public String getNombre() {
+            return nombre;
+        }
+    }
+
+    private final TenistasRailwayService delegate;
+    private final Supplier<CacheStats> cacheStats;
+    private final Map<Operacion, LatencyHistogram> latencias = new EnumMap<>(Operacion.class);
+    private final Map<Class<? extends TenistaError>, LongAdder> errores = crearContadoresDeErrores();
+
+    /**
+     * Crea el decorador sin métricas de caché.
+     *
+     * @param delegate Servicio a medir
+     */
+    public TenistasRailwayServiceMetrics(TenistasRailwayService delegate) {
+        this(delegate, CacheStats::empty);
+    }
+
+    /**
+     * Crea el decorador leyendo las estadísticas de caché del servicio.
+     *
+     * @param delegate   Servicio a medir
+     * @param cacheStats Proveedor de las estadísticas de la caché (por ejemplo {@code service::getCacheStats})
+     */
+    public TenistasRailwayServiceMetrics(TenistasRailwayService delegate, Supplier<CacheStats> cacheStats) {
+        this.delegate = delegate;
+        this.cacheStats = cacheStats;
+        for (Operacion operacion : Operacion.values()) {
+            latencias.put(operacion, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Tenista> findAll() {
+        long inicio = System.nanoTime();
+        List<Tenista> tenistas = delegate.findAll();
+        latencias.get(Operacion.FIND_ALL).record(System.nanoTime() - inicio, false);
+        return tenistas;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Either<TenistaError.NotFound, Tenista> findById(long id) {
+        long inicio = System.nanoTime();
+        return registrar(Operacion.FIND_BY_ID, inicio, delegate.findById(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Cada id no encontrado cuenta como un error NotFound; la llamada cuenta como errónea si falta alguno.
+     */
+    @Override
+    public Map<Long, Either<TenistaError.NotFound, Tenista>> findAllById(Collection<Long> ids) {
+        long inicio = System.nanoTime();
+        Map<Long, Either<TenistaError.NotFound, Tenista>> resultado = delegate.findAllById(ids);
+        long nanos = System.nanoTime() - inicio;
+        long noEncontrados = 0;
+        for (Either<TenistaError.NotFound, Tenista> either : resultado.values()) {
+            if (either.isLeft()) {
+                noEncontrados++;
+            }
+        }
+        errores.get(TenistaError.NotFound.class).add(noEncontrados);
+        latencias.get(Operacion.FIND_ALL_BY_ID).record(nanos, noEncontrados > 0);
+        return resultado;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Either<TenistaError.ValidationError, Tenista> save(Tenista tenista) {
+        long inicio = System.nanoTime();
+        return registrar(Operacion.SAVE, inicio, delegate.save(tenista));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Either<TenistaError, Tenista> update(Tenista tenista) {
+        long inicio = System.nanoTime();
+        return registrar(Operacion.UPDATE, inicio, delegate.update(tenista));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Either<TenistaError.NotFound, Boolean> deleteById(long id) {
+        long inicio = System.nanoTime();
+        return registrar(Operacion.DELETE_BY_ID, inicio, delegate.deleteById(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Either<TenistaError, Void> importFromCsv(String filePath) {
+        long inicio = System.nanoTime();
+        return registrar(Operacion.IMPORT_FROM_CSV, inicio, delegate.importFromCsv(filePath));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Los errores de las filas rechazadas se suman a los contadores de su tipo.
+     */
+    @Override
+    public Either<TenistaError.StorageError, ImportReport> importFromCsvReport(String filePath) {
+        long inicio = System.nanoTime();
+        Either<TenistaError.StorageError, ImportReport> resultado =
+                registrar(Operacion.IMPORT_FROM_CSV_REPORT, inicio, delegate.importFromCsvReport(filePath));
+        if (resultado.isRight()) {
+            resultado.get().rechazadas().forEach((tipo, filas) -> errores.get(tipo).add(filas.size()));
+        }
+        return resultado;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Either<TenistaError.StorageError, Void> exportToJson(String filePath) {
+        long inicio = System.nanoTime();
+        return registrar(Operacion.EXPORT_TO_JSON, inicio, delegate.exportToJson(filePath));
+    }
+
+    /**
+     * Toma una instantánea de todas las métricas acumuladas desde la creación del decorador.
+     *
+     * @return Instantánea de latencias, errores por tipo y aciertos de caché
+     */
+    public MetricsSnapshot snapshot() {
+        Map<String, MetricsSnapshot.OperacionSnapshot> operaciones = new LinkedHashMap<>();
+        latencias.forEach((operacion, histograma) -> operaciones.put(operacion.getNombre(), histograma.snapshot()));
+
+        Map<String, Long> erroresPorTipo = new LinkedHashMap<>();
+        errores.forEach((tipo, contador) -> erroresPorTipo.put(tipo.getSimpleName(), contador.sum()));
+
+        CacheStats stats = cacheStats.get();
+        return new MetricsSnapshot(operaciones, erroresPorTipo, stats.hitCount(), stats.missCount(), stats.hitRate());
+    }
+
+    /**
+     * TenistaError es sealed: se crea un contador por cada subtipo permitido, en el orden de su declaración.
+     * El mapa no cambia después, así que se consulta desde varios hilos sin sincronizar.
+     */
+    private static Map<Class<? extends TenistaError>, LongAdder> crearContadoresDeErrores() {
+        Map<Class<? extends TenistaError>, LongAdder> contadores = new LinkedHashMap<>();
+        for (Class<?> tipo : TenistaError.class.getPermittedSubclasses()) {
+            contadores.put(tipo.asSubclass(TenistaError.class), new LongAdder());
+        }
+        return Collections.unmodifiableMap(contadores);
+    }
+
+    /**
+     * Registra la latencia y, si es un Left, el tipo de error; devuelve el resultado tal cual.
+     * Las excepciones inesperadas del servicio no se miden: no forman parte del railway.
+     */
+    private <E extends TenistaError, T> Either<E, T> registrar(Operacion operacion, long inicio, Either<E, T> resultado) {
+        long nanos = System.nanoTime() - inicio;
+        if (resultado.isLeft()) {
+            errores.get(resultado.getLeft().getClass()).increment();
+        }
+        latencias.get(operacion).record(nanos, resultado.isLeft());
+        return resultado;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+package dev.joseluisgs.storage;
+
+import dev.joseluisgs.errors.TenistaError;
+import dev.joseluisgs.models.Tenista;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.control.Validation;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Locale;
+
+/**
+ * Utilidad para convertir una línea de CSV de tenistas ({@code id,nombre,pais,altura,peso,puntos,mano,fecha_nacimiento})
+ * en un Tenista sin lanzar excepciones.
+ * Cada campo se convierte por separado y los errores se acumulan con Validation, así una fila con varios campos
+ * mal escritos informa de todos a la vez. Los números y las fechas se leen a mano para no crear una excepción
+ * por cada valor incorrecto.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.errors.TenistaError.ParseError
+ * @see dev.joseluisgs.service.TenistasRailwayService#importFromCsvReport(String)
+ */
+public class TenistaCsvParser {
+    /**
+     * Número de campos de cada línea.
+     */
+    public static final int CAMPOS = 8;
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase de utilidades.
+     */
+    private TenistaCsvParser() {
+        // Evitar instanciación
+    }
+
+    /**
+     * Convierte una línea del CSV en un Tenista.
+     * Solo comprueba el formato; las reglas de negocio (altura positiva, fecha no futura...) son de TenistaValidator.
+     *
+     * @param linea Línea sin salto de línea
+     * @return Validation válida con el tenista, o inválida con los errores de formato de todos los campos
+     */
+    public static Validation<Seq<TenistaError.ParseError>, Tenista> parse(String linea) {
+        String[] parts = linea.split(",", -1);
+        if (parts.length != CAMPOS) {
+            return Validation.invalid(List.of(new TenistaError.ParseError(
+                    "Error de formato: se esperaban " + CAMPOS + " campos y hay " + parts.length)));
+        }
+        return Validation.combine(
+                entero(parts[0], "id"),
+                Validation.<TenistaError.ParseError, String>valid(parts[1]),
+                Validation.<TenistaError.ParseError, String>valid(parts[2]),
+                entero(parts[3], "altura"),
+                entero(parts[4], "peso"),
+                entero(parts[5], "puntos"),
+                mano(parts[6]),
+                fecha(parts[7])
+        ).ap((id, nombre, pais, altura, peso, puntos, mano, fechaNacimiento) -> Tenista.builder()
+                .id(id)
+                .nombre(nombre)
+                .pais(pais)
+                .altura(altura)
+                .peso(peso)
+                .puntos(puntos)
+                .mano(mano)
+                .fechaNacimiento(fechaNacimiento)
+                .build());
+    }
+
+    private static Validation<TenistaError.ParseError, Integer> entero(String valor, String campo) {
+        long numero = leerEntero(valor, 0, valor.length());
+        if (numero == Long.MIN_VALUE || numero > Integer.MAX_VALUE || numero < Integer.MIN_VALUE) {
+            return Validation.invalid(new TenistaError.ParseError(
+                    "Error de formato: " + campo + " no es un número entero: '" + valor + "'"));
+        }
+        return Validation.valid((int) numero);
+    }
+
+    private static Validation<TenistaError.ParseError, Tenista.Mano> mano(String valor) {
+        for (Tenista.Mano mano : Tenista.Mano.values()) {
+            if (mano.name().equals(valor.toUpperCase(Locale.ROOT))) {
+                return Validation.valid(mano);
+            }
+        }
+        return Validation.invalid(new TenistaError.ParseError("Error de formato: mano no válida: '" + valor + "'"));
+    }
+
+    private static Validation<TenistaError.ParseError, LocalDate> fecha(String valor) {
+        // Formato ISO yyyy-MM-dd
+        if (valor.length() == 10 && valor.charAt(4) == '-' && valor.charAt(7) == '-') {
+            long anio = leerEntero(valor, 0, 4);
+            long mes = leerEntero(valor, 5, 7);
+            long dia = leerEntero(valor, 8, 10);
+            if (anio >= 0 && mes >= 1 && mes <= 12 && dia >= 1 && YearMonth.of((int) anio, (int) mes).isValidDay((int) dia)) {
+                return Validation.valid(LocalDate.of((int) anio, (int) mes, (int) dia));
+            }
+        }
+        return Validation.invalid(new TenistaError.ParseError(
+                "Error de formato: fecha de nacimiento no válida (yyyy-MM-dd): '" + valor + "'"));
+    }
+
+    /**
+     * Lee un entero con signo opcional de una parte del texto.
+     *
+     * @return El número o Long.MIN_VALUE si no es un entero o tiene más de 18 cifras
+     */
+    private static long leerEntero(String texto, int desde, int hasta) {
+        int i = desde;
+        boolean negativo = i < hasta && texto.charAt(i) == '-';
+        if (negativo || (i < hasta && texto.charAt(i) == '+')) {
+            i++;
+        }
+        if (i == hasta || hasta - i > 18) {
+            return Long.MIN_VALUE;
+        }
+        long numero = 0;
+        for (; i < hasta; i++) {
+            char c = texto.charAt(i);
+            if (c < '0' || c > '9') {
+                return Long.MIN_VALUE;
+            }
+            numero = numero * 10 + (c - '0');
+        }
+        return negativo ? -numero : numero;
+    }
+}
\ No newline at end of file
@@ -23,6 +23,16 @@ public interface TenistasStorage {
      */
     List<Tenista> loadData(String filePath) throws TenistaException.StorageException;
 
+    /**
+     * Lee las líneas de datos de un archivo CSV sin convertirlas, en una sola lectura del archivo.
+     * La línea de índice i es la línea i + 2 del archivo (la primera es la cabecera).
+     *
+     * @param filePath Ruta del CSV
+     * @return Líneas sin la cabecera
+     * @throws TenistaException.StorageException si la ruta no es válida o hay errores de E/S
+     */
+    List<String> loadLines(String filePath) throws TenistaException.StorageException;
+
     /**
      * Guarda tenistas en un archivo JSON.
      *
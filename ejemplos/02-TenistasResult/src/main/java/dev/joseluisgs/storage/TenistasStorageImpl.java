@@ -3,21 +3,23 @@ package dev.joseluisgs.storage;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.joseluisgs.errors.TenistaError;
 import dev.joseluisgs.exceptions.TenistaException;
 import dev.joseluisgs.models.Tenista;
 import dev.joseluisgs.validator.TenistaValidator;
+import io.vavr.collection.Seq;
+import io.vavr.control.Validation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 
 /**
  * Implementación de TenistasStorage que carga datos desde CSV y guarda en JSON usando Jackson.
@@ -44,6 +46,60 @@ public class TenistasStorageImpl implements TenistasStorage {
      */
     @Override
     public List<Tenista> loadData(String filePath) throws TenistaException.StorageException {
+        Path myPath = comprobarCsv(filePath);
+
+        List<String> lineas;
+        try (var lines = Files.lines(myPath, StandardCharsets.UTF_8)) {
+            lineas = lines.skip(1).toList(); // Ignorar cabecera
+        } catch (IOException | UncheckedIOException e) { // Files.lines lanza UncheckedIOException al leer de forma perezosa
+            logger.error("Error al leer el archivo: {}", filePath, e);
+            throw new TenistaException.StorageException("Error al leer el archivo: " + e.getMessage());
+        }
+
+        // Mismo parser que la importación con informe, para que las dos lecturas del CSV no puedan discrepar
+        List<Tenista> tenistas = new ArrayList<>(lineas.size());
+        for (String line : lineas) {
+            Validation<Seq<TenistaError.ParseError>, Tenista> parseo = TenistaCsvParser.parse(line);
+            if (parseo.isInvalid()) {
+                String errores = parseo.getError().map(TenistaError::getMessage).mkString("; ");
+                logger.error("Error al parsear los datos del archivo: {}, línea: {}: {}", filePath, line, errores);
+                throw new TenistaException.StorageException("Error al parsear los datos: " + errores);
+            }
+            // Validación básica opcional, sin excepciones: las filas inválidas no pagan la traza
+            TenistaValidator.validar(parseo.get())
+                    .peekLeft(error -> logger.warn("Tenista inválido en CSV: {}, línea: {}", error.getMessage(), line))
+                    .forEach(tenistas::add); // O lanzar StorageException si prefieres fallar todo
+        }
+
+        logger.info("Datos cargados correctamente desde el archivo: {} con un total {}", filePath, tenistas.size());
+        return tenistas;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> loadLines(String filePath) throws TenistaException.StorageException {
+        Path myPath = comprobarCsv(filePath);
+
+        try {
+            List<String> lines = Files.readAllLines(myPath, StandardCharsets.UTF_8);
+            logger.info("Leídas {} líneas del archivo: {}", lines.size(), filePath);
+            return lines.isEmpty() ? List.of() : lines.subList(1, lines.size()); // Ignorar cabecera
+        } catch (IOException e) {
+            logger.error("Error al leer el archivo: {}", filePath, e);
+            throw new TenistaException.StorageException("Error al leer el archivo: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Comprueba que la ruta es la de un CSV existente.
+     *
+     * @param filePath Ruta del CSV
+     * @return Ruta del archivo
+     * @throws TenistaException.StorageException si la ruta está vacía, no es un CSV o no existe
+     */
+    private Path comprobarCsv(String filePath) throws TenistaException.StorageException {
         if (filePath == null || filePath.isEmpty()) {
             logger.error("El path del archivo no puede ser nulo o vacío");
             throw new TenistaException.StorageException("El path del archivo no puede ser nulo o vacío");
@@ -59,54 +115,7 @@ public class TenistasStorageImpl implements TenistasStorage {
             logger.error("El archivo no existe: {}", filePath);
             throw new TenistaException.StorageException("El archivo no existe: " + filePath);
         }
-
-        try (var lines = Files.lines(myPath, StandardCharsets.UTF_8)) {
-            var tenistas = lines.skip(1) // Ignorar cabecera
-                    .map(line -> {
-                        String[] parts = line.split(",");
-                        int id = Integer.parseInt(parts[0]);
-                        String nombre = parts[1];
-                        String pais = parts[2];
-                        int altura = Integer.parseInt(parts[3]);
-                        int peso = Integer.parseInt(parts[4]);
-                        int puntos = Integer.parseInt(parts[5]);
-                        Tenista.Mano mano = Tenista.Mano.valueOf(parts[6].toUpperCase());
-                        LocalDate fechaNacimiento = LocalDate.parse(parts[7], DateTimeFormatter.ISO_LOCAL_DATE);
-
-                        // Crear el Tenista
-                        Tenista tenista = Tenista.builder()
-                                .id(id)
-                                .nombre(nombre)
-                                .pais(pais)
-                                .altura(altura)
-                                .peso(peso)
-                                .puntos(puntos)
-                                .mano(mano)
-                                .fechaNacimiento(fechaNacimiento)
-                                .build();
-
-                        // Validación básica opcional
-                        try {
-                            TenistaValidator.validate(tenista); // Lanza TenistaException.ValidationException si hay error
-                        } catch (TenistaException.ValidationException e) {
-                            logger.warn("Tenista inválido en CSV: {}, línea: {}", e.getMessage(), line);
-                            return null; // O lanzar StorageException si prefieres fallar todo
-                        }
-
-                        return tenista;
-                    })
-                    .filter(Objects::nonNull) // Filtrar tenistas inválidos
-                    .toList();
-
-            logger.info("Datos cargados correctamente desde el archivo: {} con un total {}", filePath, tenistas.size());
-            return tenistas;
-        } catch (IOException e) {
-            logger.error("Error al leer el archivo: {}", filePath, e);
-            throw new TenistaException.StorageException("Error al leer el archivo: " + e.getMessage());
-        } catch (Exception e) {
-            logger.error("Error al parsear los datos del archivo: {}", filePath, e);
-            throw new TenistaException.StorageException("Error al parsear los datos: " + e.getMessage());
-        }
+        return myPath;
     }
 
     @Override
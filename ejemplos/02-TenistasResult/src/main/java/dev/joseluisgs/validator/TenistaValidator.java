@@ -1,20 +1,63 @@
 package dev.joseluisgs.validator;
 
+import dev.joseluisgs.errors.TenistaError;
 import dev.joseluisgs.exceptions.TenistaException;
 import dev.joseluisgs.models.Tenista;
+import io.vavr.collection.Seq;
+import io.vavr.control.Either;
+import io.vavr.control.Validation;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Utilidad para validar instancias de Tenista antes de su uso en la aplicación.
  * Proporciona validaciones de campos obligatorios, rangos y coherencia de datos.
  * <p>
+ * Hay varias formas de validar con las mismas reglas: {@link #validate(Tenista)} lanza una excepción,
+ * {@link #validar(Tenista)} devuelve un Either sin lanzar nunca y {@link #validarTodo(Tenista)} acumula
+ * los errores de todas las reglas en una Validation. Las dos últimas son las que usa el servicio:
+ * un tenista inválido no crea ninguna excepción (ni captura su traza) y los errores son instancias
+ * precreadas, una por regla, que se reutilizan en cada llamada.
+ * <p>
  * Autor: JoseLuisGS
  *
  * @see dev.joseluisgs.models.Tenista
  * @see dev.joseluisgs.exceptions.TenistaException.ValidationException
+ * @see dev.joseluisgs.errors.TenistaError.ValidationError
  */
 public class TenistaValidator {
+    private static final String NULO = "El tenista no puede ser nulo";
+
+    // Un error por regla: TenistaError es inmutable, así que se puede compartir entre llamadas e hilos
+    private static final TenistaError.ValidationError ERROR_NULO = new TenistaError.ValidationError("Error de validación: " + NULO);
+
+    // Reglas en el orden en que se comprueban; la fecha futura solo se evalúa si hay fecha
+    private static final List<Regla> REGLAS = List.of(
+            new Regla("El nombre del tenista no puede estar vacío", t -> t.getNombre() == null || t.getNombre().isBlank()),
+            new Regla("El país del tenista no puede estar vacío", t -> t.getPais() == null || t.getPais().isBlank()),
+            new Regla("La altura debe ser mayor que 0", t -> t.getAltura() <= 0),
+            new Regla("El peso debe ser mayor que 0", t -> t.getPeso() <= 0),
+            new Regla("Los puntos no pueden ser negativos", t -> t.getPuntos() < 0),
+            new Regla("La mano del tenista debe estar definida (DIESTRO, ZURDO, OTRO)", t -> t.getMano() == null),
+            new Regla("La fecha de nacimiento no puede ser nula", t -> t.getFechaNacimiento() == null),
+            new Regla("La fecha de nacimiento no puede ser futura",
+                    t -> t.getFechaNacimiento() != null && t.getFechaNacimiento().isAfter(LocalDate.now()))
+    );
+
+    /**
+     * Regla de validación con su error precreado.
+     *
+     * @param motivo   Mensaje de la regla
+     * @param incumple Condición que la incumple
+     * @param error    Error que se devuelve si se incumple
+     */
+    private record Regla(String motivo, Predicate<Tenista> incumple, TenistaError.ValidationError error) {
+        Regla(String motivo, Predicate<Tenista> incumple) {
+            this(motivo, incumple, new TenistaError.ValidationError("Error de validación: " + motivo));
+        }
+    }
 
     /**
      * Constructor privado para evitar la instanciación de la clase de utilidades.
@@ -31,39 +74,61 @@ public class TenistaValidator {
      */
     public static void validate(Tenista tenista) throws TenistaException.ValidationException {
         if (tenista == null) {
-            throw new TenistaException.ValidationException("El tenista no puede ser nulo");
+            throw new TenistaException.ValidationException(NULO);
         }
-
-        if (tenista.getNombre() == null || tenista.getNombre().isBlank()) {
-            throw new TenistaException.ValidationException("El nombre del tenista no puede estar vacío");
-        }
-
-        if (tenista.getPais() == null || tenista.getPais().isBlank()) {
-            throw new TenistaException.ValidationException("El país del tenista no puede estar vacío");
-        }
-
-        if (tenista.getAltura() <= 0) {
-            throw new TenistaException.ValidationException("La altura debe ser mayor que 0");
-        }
-
-        if (tenista.getPeso() <= 0) {
-            throw new TenistaException.ValidationException("El peso debe ser mayor que 0");
+        Regla regla = primeraIncumplida(tenista);
+        if (regla != null) {
+            throw new TenistaException.ValidationException(regla.motivo());
         }
+    }
 
-        if (tenista.getPuntos() < 0) {
-            throw new TenistaException.ValidationException("Los puntos no pueden ser negativos");
+    /**
+     * Valida un objeto Tenista sin lanzar excepciones.
+     *
+     * @param tenista Tenista a validar
+     * @return Either.right con el mismo tenista si es válido, o Either.left con el error de la primera regla que no cumple
+     */
+    public static Either<TenistaError.ValidationError, Tenista> validar(Tenista tenista) {
+        if (tenista == null) {
+            return Either.left(ERROR_NULO);
         }
+        Regla regla = primeraIncumplida(tenista);
+        return regla == null ? Either.right(tenista) : Either.left(regla.error());
+    }
 
-        if (tenista.getMano() == null) {
-            throw new TenistaException.ValidationException("La mano del tenista debe estar definida (DIESTRO, ZURDO, OTRO)");
+    /**
+     * Valida un objeto Tenista comprobando todas las reglas, sin lanzar excepciones.
+     * A diferencia de {@link #validar(Tenista)} no se detiene en la primera regla incumplida.
+     *
+     * @param tenista Tenista a validar
+     * @return Validation válida con el mismo tenista, o inválida con los errores de todas las reglas que no cumple
+     */
+    public static Validation<Seq<TenistaError.ValidationError>, Tenista> validarTodo(Tenista tenista) {
+        if (tenista == null) {
+            return Validation.invalid(io.vavr.collection.List.of(ERROR_NULO));
         }
-
-        if (tenista.getFechaNacimiento() == null) {
-            throw new TenistaException.ValidationException("La fecha de nacimiento no puede ser nula");
+        io.vavr.collection.List<TenistaError.ValidationError> errores = io.vavr.collection.List.empty();
+        for (int i = REGLAS.size() - 1; i >= 0; i--) {
+            Regla regla = REGLAS.get(i);
+            if (regla.incumple().test(tenista)) {
+                errores = errores.prepend(regla.error());
+            }
         }
+        return errores.isEmpty() ? Validation.valid(tenista) : Validation.invalid(errores);
+    }
 
-        if (tenista.getFechaNacimiento().isAfter(LocalDate.now())) {
-            throw new TenistaException.ValidationException("La fecha de nacimiento no puede ser futura");
+    /**
+     * Comprueba las reglas en orden y devuelve la primera que no se cumple.
+     *
+     * @param tenista Tenista a validar (no nulo)
+     * @return Regla incumplida o null si es válido
+     */
+    private static Regla primeraIncumplida(Tenista tenista) {
+        for (Regla regla : REGLAS) {
+            if (regla.incumple().test(tenista)) {
+                return regla;
+            }
         }
+        return null;
     }
 }
\ No newline at end of file
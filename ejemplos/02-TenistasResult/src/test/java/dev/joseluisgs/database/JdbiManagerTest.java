@@ -106,6 +106,23 @@ public class JdbiManagerTest {
                     () -> assertTrue(dao.findById(idGenerado).isEmpty(), "Ya no debe existir")
             );
         }
+
+        @Test
+        @DisplayName("findAllById resuelve varios ids con una consulta IN e ignora los inexistentes")
+        void findAllByIdResuelveVariosIds() {
+            TenistasDao dao = obtenerDao();
+            long id1 = dao.save(construirEntity("Jugador Lote 1"));
+            long id2 = dao.save(construirEntity("Jugador Lote 2"));
+
+            List<TenistaEntity> encontrados = dao.findAllById(List.of(id1, id2, -99L));
+
+            dao.delete(id1);
+            dao.delete(id2);
+            assertAll("Búsqueda IN",
+                    () -> assertEquals(2, encontrados.size()),
+                    () -> assertTrue(encontrados.stream().anyMatch(e -> e.getNombre().equals("Jugador Lote 2")))
+            );
+        }
     }
 
     @Nested
@@ -0,0 +1,115 @@
+package dev.joseluisgs.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para LatencyHistogram.
+ * Comprueba la precisión de los cubos, los percentiles y el registro concurrente.
+ * Referencia: dev.joseluisgs.metrics.LatencyHistogram
+ */
+@DisplayName("Tests del histograma de latencias LatencyHistogram")
+public class LatencyHistogramTest {
+
+    @Nested
+    @DisplayName("Casos positivos")
+    class CasosPositivos {
+        @ParameterizedTest
+        @ValueSource(longs = {0, 1, 7, 8, 15, 16, 17, 1_000, 123_456, 1_000_000_007L, Long.MAX_VALUE})
+        @DisplayName("el límite superior del cubo de un valor lo contiene con un error máximo del 12,5 %")
+        void limiteDelCuboContieneElValor(long valor) {
+            long limite = LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(valor));
+
+            assertAll("Precisión del cubo " + valor,
+                    () -> assertTrue(limite >= valor),
+                    () -> assertTrue(limite - valor <= valor / 8, () -> "Límite " + limite)
+            );
+        }
+
+        @Test
+        @DisplayName("los percentiles de una distribución uniforme quedan dentro de la precisión del histograma")
+        void percentilesDeDistribucionUniforme() {
+            LatencyHistogram histograma = new LatencyHistogram();
+            // De 1 µs a 1000 µs; una de cada diez llamadas con error
+            for (int i = 1; i <= 1_000; i++) {
+                histograma.record(i * 1_000L, i % 10 == 0);
+            }
+
+            MetricsSnapshot.OperacionSnapshot snapshot = histograma.snapshot();
+
+            assertAll("Percentiles",
+                    () -> assertEquals(1_000, snapshot.llamadas()),
+                    () -> assertEquals(100, snapshot.errores()),
+                    () -> assertEquals(0.5005, snapshot.mediaMs(), 1e-9),
+                    () -> assertEquals(0.5, snapshot.p50Ms(), 0.5 / 8),
+                    () -> assertEquals(0.99, snapshot.p99Ms(), 0.99 / 8),
+                    () -> assertEquals(1.0, snapshot.maxMs(), 1e-9)
+            );
+        }
+
+        @Test
+        @DisplayName("registrar desde varios hilos no pierde llamadas")
+        void registrarDesdeVariosHilosNoPierdeLlamadas() throws Exception {
+            LatencyHistogram histograma = new LatencyHistogram();
+            int hilos = 4;
+            int porHilo = 10_000;
+            try (ExecutorService executor = Executors.newFixedThreadPool(hilos)) {
+                List<Future<?>> tareas = new ArrayList<>();
+                for (int h = 0; h < hilos; h++) {
+                    tareas.add(executor.submit(() -> {
+                        for (int i = 0; i < porHilo; i++) {
+                            histograma.record(500, false);
+                        }
+                    }));
+                }
+                for (Future<?> tarea : tareas) {
+                    tarea.get();
+                }
+            }
+
+            assertEquals((long) hilos * porHilo, histograma.snapshot().llamadas());
+        }
+    }
+
+    @Nested
+    @DisplayName("Casos negativos")
+    class CasosNegativos {
+        @Test
+        @DisplayName("sin llamadas la instantánea está a cero")
+        void sinLlamadasInstantaneaACero() {
+            MetricsSnapshot.OperacionSnapshot snapshot = new LatencyHistogram().snapshot();
+
+            assertAll("Histograma vacío",
+                    () -> assertEquals(0, snapshot.llamadas()),
+                    () -> assertEquals(0.0, snapshot.mediaMs()),
+                    () -> assertEquals(0.0, snapshot.p99Ms()),
+                    () -> assertEquals(0.0, snapshot.maxMs())
+            );
+        }
+
+        @Test
+        @DisplayName("una duración negativa cuenta como 0")
+        void duracionNegativaCuentaComoCero() {
+            LatencyHistogram histograma = new LatencyHistogram();
+            histograma.record(-5, false);
+
+            MetricsSnapshot.OperacionSnapshot snapshot = histograma.snapshot();
+
+            assertAll("Duración negativa",
+                    () -> assertEquals(1, snapshot.llamadas()),
+                    () -> assertEquals(0.0, snapshot.maxMs())
+            );
+        }
+    }
+}
\ No newline at end of file
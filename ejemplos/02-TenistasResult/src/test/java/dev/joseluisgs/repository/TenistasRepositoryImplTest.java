@@ -14,6 +14,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.LongStream;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -121,6 +122,31 @@ public class TenistasRepositoryImplTest {
             );
         }
 
+        @Test
+        @DisplayName("saveAll delega en el batch del DAO y asigna los ids generados en orden")
+        void saveAllDelegaEnBatchYAsignaIds() {
+            Tenista t1 = construirTenistaDominio();
+            Tenista t2 = construirTenistaDominio();
+            t2.setNombre("Rafael Nadal");
+            when(tenistasDao.saveAll(anyList())).thenReturn(List.of(10L, 11L));
+
+            List<Tenista> guardados = repository.saveAll(List.of(t1, t2));
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<TenistaEntity>> captor = ArgumentCaptor.forClass(List.class);
+            verify(tenistasDao, times(1)).saveAll(captor.capture());
+            List<TenistaEntity> enviados = captor.getValue();
+
+            assertAll("Guardado por lotes",
+                    () -> assertEquals(2, guardados.size()),
+                    () -> assertEquals(10L, guardados.get(0).getId()),
+                    () -> assertEquals(11L, guardados.get(1).getId()),
+                    () -> assertEquals(Tenista.NEW_TENISTA_ID, enviados.get(0).getId()),
+                    () -> assertEquals("Rafael Nadal", enviados.get(1).getNombre())
+            );
+            verify(tenistasDao, never()).save(any(TenistaEntity.class));
+        }
+
         @Test
         @DisplayName("update con filas actualizadas devuelve Optional con el mismo tenista")
         void updateConFilasActualizadasDevuelveOptionalConTenista() {
@@ -146,6 +172,31 @@ public class TenistasRepositoryImplTest {
             assertTrue(ok);
             verify(tenistasDao).delete(5L);
         }
+
+        @Test
+        @DisplayName("findAllById trocea los ids en consultas IN del tamaño de lote y mapea las entidades")
+        void findAllByIdTroceaLasConsultasIn() {
+            // 2500 ids con lotes de 1000 -> tres consultas
+            List<Long> ids = LongStream.rangeClosed(1, 2500).boxed().toList();
+            when(tenistasDao.findAllById(anyList()))
+                    .thenReturn(List.of(construirEntity(1)))
+                    .thenReturn(List.of())
+                    .thenReturn(List.of(construirEntity(2500)));
+
+            List<Tenista> encontrados = repository.findAllById(ids);
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Long>> captor = ArgumentCaptor.forClass(List.class);
+            verify(tenistasDao, times(3)).findAllById(captor.capture());
+            List<List<Long>> lotes = captor.getAllValues();
+
+            assertAll("Búsqueda por lotes",
+                    () -> assertEquals(List.of(1000, 1000, 500), lotes.stream().map(List::size).toList()),
+                    () -> assertEquals(1001L, lotes.get(1).get(0)),
+                    () -> assertEquals(List.of(1L, 2500L), encontrados.stream().map(Tenista::getId).toList())
+            );
+            verify(tenistasDao, never()).findById(anyLong());
+        }
     }
 
     @Nested
@@ -0,0 +1,226 @@
+package dev.joseluisgs.service;
+
+import dev.joseluisgs.errors.TenistaError;
+import dev.joseluisgs.models.Tenista;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de pruebas para TenistasRailwayServiceAsyncImpl.
+ * Comprueba que delega en el servicio síncrono, conserva los errores tipados y lanza en paralelo los lotes de búsquedas por id.
+ * Referencia: dev.joseluisgs.service.TenistasRailwayServiceAsyncImpl
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests del servicio asíncrono TenistasRailwayServiceAsyncImpl")
+public class TenistasRailwayServiceAsyncImplTest {
+
+    @Mock
+    TenistasRailwayService service;
+
+    private static final int IDS_POR_LOTE = 2;
+
+    private ExecutorService executor;
+    private TenistasRailwayServiceAsyncImpl asyncService;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        asyncService = new TenistasRailwayServiceAsyncImpl(service, executor, IDS_POR_LOTE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncService.close();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Resultado de findAllById del servicio síncrono con todos los ids encontrados.
+     */
+    private Map<Long, Either<TenistaError.NotFound, Tenista>> encontrados(List<Long> ids) {
+        Map<Long, Either<TenistaError.NotFound, Tenista>> resultado = new LinkedHashMap<>();
+        ids.forEach(id -> resultado.put(id, Either.right(construirTenistaValido(id))));
+        return resultado;
+    }
+
+    private Tenista construirTenistaValido(long id) {
+        return Tenista.builder()
+                .id(id)
+                .nombre("Carlos Alcaraz")
+                .pais("España")
+                .altura(183)
+                .peso(74)
+                .puntos(9000)
+                .mano(Tenista.Mano.DIESTRO)
+                .fechaNacimiento(LocalDate.of(2003, 5, 5))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Casos positivos")
+    class CasosPositivos {
+        @Test
+        @DisplayName("findByIdAsync devuelve el tenista del servicio síncrono")
+        void findByIdAsyncDevuelveTenista() {
+            Tenista tenista = construirTenistaValido(1);
+            when(service.findById(1L)).thenReturn(Either.right(tenista));
+
+            Either<TenistaError, Tenista> result = asyncService.findByIdAsync(1L).get();
+
+            assertAll("Búsqueda asíncrona",
+                    () -> assertTrue(result.isRight()),
+                    () -> assertSame(tenista, result.get())
+            );
+        }
+
+        @Test
+        @DisplayName("findAllByIdAsync reparte los ids en lotes de findAllById que se ejecutan a la vez y conserva el orden")
+        void findAllByIdAsyncLanzaLotesEnParalelo() {
+            List<Long> ids = List.of(3L, 1L, 2L, 4L, 5L, 3L);
+            // Cada lote espera a que empiecen todos: en secuencial el primero nunca terminaría
+            CountDownLatch todosEmpezados = new CountDownLatch(3);
+            when(service.findAllById(anyCollection())).thenAnswer(inv -> {
+                List<Long> lote = List.copyOf(inv.<Collection<Long>>getArgument(0));
+                todosEmpezados.countDown();
+                if (!todosEmpezados.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Los lotes no se han lanzado en paralelo");
+                }
+                return encontrados(lote);
+            });
+
+            Map<Long, Either<TenistaError, Tenista>> result = asyncService.findAllByIdAsync(ids).get();
+
+            assertAll("Lotes en paralelo",
+                    () -> assertEquals(List.of(3L, 1L, 2L, 4L, 5L), List.copyOf(result.keySet())),
+                    () -> assertTrue(result.values().stream().allMatch(Either::isRight), result::toString),
+                    () -> assertEquals(5L, result.get(5L).get().getId())
+            );
+            verify(service, times(3)).findAllById(anyCollection());
+            verify(service, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("flatMapRight encadena operaciones cuando la anterior va bien")
+        void flatMapRightEncadenaOperaciones() {
+            Tenista nuevo = construirTenistaValido(Tenista.NEW_TENISTA_ID);
+            Tenista guardado = construirTenistaValido(10);
+            when(service.save(nuevo)).thenReturn(Either.right(guardado));
+            when(service.deleteById(10L)).thenReturn(Either.right(true));
+
+            Either<TenistaError, Boolean> result = TenistasRailwayServiceAsync.flatMapRight(
+                    asyncService.saveAsync(nuevo),
+                    creado -> asyncService.deleteByIdAsync(creado.getId())).get();
+
+            assertAll("Encadenamiento",
+                    () -> assertTrue(result.isRight()),
+                    () -> assertTrue(result.get())
+            );
+            verify(service).deleteById(10L);
+        }
+
+        @Test
+        @DisplayName("las operaciones se ejecutan en el executor indicado")
+        void operacionesSeEjecutanEnElExecutor() {
+            when(service.findAll()).thenAnswer(inv -> {
+                assertTrue(Thread.currentThread().isVirtual());
+                return List.of(construirTenistaValido(1));
+            });
+
+            Either<TenistaError, List<Tenista>> result = asyncService.findAllAsync().get();
+
+            assertAll("Executor",
+                    () -> assertTrue(result.isRight()),
+                    () -> assertEquals(1, result.get().size())
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Casos negativos")
+    class CasosNegativos {
+        @Test
+        @DisplayName("findAllByIdAsync devuelve TenistaError.NotFound solo para los ids inexistentes")
+        void findAllByIdAsyncConIdInexistenteDevuelveNotFound() {
+            Map<Long, Either<TenistaError.NotFound, Tenista>> sincrono = encontrados(List.of(1L));
+            sincrono.put(99L, Either.left(new TenistaError.NotFound("Tenista con ID 99 no encontrado.")));
+            when(service.findAllById(List.of(1L, 99L))).thenReturn(sincrono);
+
+            Map<Long, Either<TenistaError, Tenista>> result = asyncService.findAllByIdAsync(List.of(1L, 99L)).get();
+
+            assertAll("Id inexistente",
+                    () -> assertTrue(result.get(1L).isRight()),
+                    () -> assertInstanceOf(TenistaError.NotFound.class, result.get(99L).getLeft()),
+                    () -> assertTrue(result.get(99L).getLeft().getMessage().contains("99"))
+            );
+        }
+
+        @Test
+        @DisplayName("findAllByIdAsync convierte un error inesperado de un lote en StorageError solo para sus ids")
+        void findAllByIdAsyncConErrorEnUnLoteDevuelveStorageError() {
+            when(service.findAllById(List.of(1L, 2L))).thenReturn(encontrados(List.of(1L, 2L)));
+            when(service.findAllById(List.of(3L))).thenThrow(new IllegalStateException("Conexión perdida"));
+
+            var future = asyncService.findAllByIdAsync(List.of(1L, 2L, 3L)).await();
+
+            assertAll("Error en un lote",
+                    () -> assertTrue(future.isSuccess(), "El Future no falla"),
+                    () -> assertTrue(future.get().get(1L).isRight()),
+                    () -> assertTrue(future.get().get(2L).isRight()),
+                    () -> assertInstanceOf(TenistaError.StorageError.class, future.get().get(3L).getLeft()),
+                    () -> assertTrue(future.get().get(3L).getLeft().getMessage().contains("Conexión perdida"))
+            );
+        }
+
+        @Test
+        @DisplayName("flatMapRight propaga el error sin ejecutar la siguiente operación")
+        void flatMapRightPropagaElError() {
+            Tenista invalido = construirTenistaValido(Tenista.NEW_TENISTA_ID);
+            when(service.save(invalido)).thenReturn(Either.left(new TenistaError.ValidationError("Error de validación: nombre")));
+
+            Either<TenistaError, Boolean> result = TenistasRailwayServiceAsync.flatMapRight(
+                    asyncService.saveAsync(invalido),
+                    creado -> asyncService.deleteByIdAsync(creado.getId())).get();
+
+            assertAll("Error propagado",
+                    () -> assertTrue(result.isLeft()),
+                    () -> assertInstanceOf(TenistaError.ValidationError.class, result.getLeft())
+            );
+            verify(service, never()).deleteById(anyLong());
+        }
+
+        @Test
+        @DisplayName("un error inesperado del servicio hace fallar el Future")
+        void errorInesperadoHaceFallarElFuture() {
+            when(service.update(any(Tenista.class))).thenThrow(new IllegalStateException("base de datos caída"));
+
+            var future = asyncService.updateAsync(construirTenistaValido(1)).await();
+
+            assertAll("Future fallido",
+                    () -> assertTrue(future.isFailure()),
+                    () -> assertInstanceOf(IllegalStateException.class, future.getCause().get())
+            );
+        }
+    }
+}
\ No newline at end of file
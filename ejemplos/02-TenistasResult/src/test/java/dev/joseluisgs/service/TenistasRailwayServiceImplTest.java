@@ -1,6 +1,7 @@
 package dev.joseluisgs.service;
 
 import dev.joseluisgs.errors.TenistaError;
+import dev.joseluisgs.exceptions.TenistaException;
 import dev.joseluisgs.models.Tenista;
 import dev.joseluisgs.repository.TenistasRepository;
 import dev.joseluisgs.storage.TenistasStorage;
@@ -15,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -105,6 +107,55 @@ public class TenistasRailwayServiceImplTest {
             verify(repository, times(1)).findById(5L);
         }
 
+        @Test
+        @DisplayName("getCacheStats cuenta los aciertos y fallos de findById")
+        void getCacheStatsCuentaAciertosYFallos() {
+            when(repository.findById(5L)).thenReturn(Optional.of(construirTenistaValido(5)));
+
+            service.findById(5L);
+            service.findById(5L);
+            service.findById(5L);
+
+            assertAll("Estadísticas de caché",
+                    () -> assertEquals(2, service.getCacheStats().hitCount()),
+                    () -> assertEquals(1, service.getCacheStats().missCount())
+            );
+        }
+
+        @Test
+        @DisplayName("findAllById sirve los aciertos de caché y resuelve el resto con una sola consulta")
+        void findAllByIdUsaCacheYUnaSolaConsulta() {
+            Tenista enCache = construirTenistaValido(1);
+            when(repository.findById(1L)).thenReturn(Optional.of(enCache));
+            service.findById(1L);
+            when(repository.findAllById(List.of(3L, 2L))).thenReturn(List.of(construirTenistaValido(3), construirTenistaValido(2)));
+
+            Map<Long, Either<TenistaError.NotFound, Tenista>> result = service.findAllById(List.of(3L, 1L, 2L, 3L));
+
+            assertAll("Búsqueda múltiple",
+                    () -> assertEquals(List.of(3L, 1L, 2L), List.copyOf(result.keySet())),
+                    () -> assertTrue(result.values().stream().allMatch(Either::isRight)),
+                    () -> assertSame(enCache, result.get(1L).get()),
+                    () -> assertEquals(2L, result.get(2L).get().getId())
+            );
+            verify(repository, times(1)).findAllById(List.of(3L, 2L));
+            // Los encontrados quedan en caché: ya no se consulta el repositorio
+            assertTrue(service.findById(2L).isRight());
+            verify(repository, never()).findById(2L);
+        }
+
+        @Test
+        @DisplayName("findAllById con todos los ids en caché no consulta el repositorio")
+        void findAllByIdConTodoEnCacheNoConsultaRepositorio() {
+            when(repository.findById(5L)).thenReturn(Optional.of(construirTenistaValido(5)));
+            service.findById(5L);
+
+            Map<Long, Either<TenistaError.NotFound, Tenista>> result = service.findAllById(List.of(5L));
+
+            assertTrue(result.get(5L).isRight());
+            verify(repository, never()).findAllById(anyCollection());
+        }
+
         @Test
         @DisplayName("save con tenista válido guarda y lo mete en caché")
         void saveConTenistaValidoGuardaYCachea() throws Exception {
@@ -208,12 +259,59 @@ public class TenistasRailwayServiceImplTest {
             verify(repository).findAll();
             verify(storage).saveData(lista, "salida.json");
         }
+
+        @Test
+        @DisplayName("importFromCsvReport procesa todas las filas, inserta las válidas por lotes y agrupa los errores por tipo")
+        void importFromCsvReportAcumulaErroresEInsertaValidas() throws Exception {
+            when(storage.loadLines("ruta.csv")).thenReturn(List.of(
+                    "1,Carlos Alcaraz,España,183,74,9000,DIESTRO,2003-05-05",      // línea 2: válida
+                    "2,Jugador Malo,España,18a,75,1000,AMBIDIESTRO,1990-01-01",   // línea 3: dos errores de formato
+                    "3,Rafael Nadal,España,185,85,10000,ZURDO,1986-06-03",        // línea 4: válida
+                    "4, ,España,0,75,-1,DIESTRO,1990-01-01",                       // línea 5: tres errores de validación
+                    "5,Solo Tres,Campos"                                           // línea 6: faltan campos
+            ));
+            when(repository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+            Either<TenistaError.StorageError, ImportReport> result = service.importFromCsvReport("ruta.csv");
+
+            assertTrue(result.isRight());
+            ImportReport report = result.get();
+            assertAll("Informe de importación",
+                    () -> assertEquals(5, report.leidas()),
+                    () -> assertEquals(2, report.aceptadas()),
+                    () -> assertEquals(3, report.filasRechazadas()),
+                    () -> assertEquals(List.of(3, 3, 6), report.rechazadas(TenistaError.ParseError.class).stream()
+                            .map(ImportReport.FilaRechazada::linea).toList()),
+                    () -> assertEquals(List.of(5, 5, 5), report.rechazadas(TenistaError.ValidationError.class).stream()
+                            .map(ImportReport.FilaRechazada::linea).toList()),
+                    () -> assertTrue(report.rechazadas(TenistaError.StorageError.class).isEmpty()),
+                    () -> assertFalse(report.total().isNegative())
+            );
+            verify(repository, times(1)).saveAll(argThat(tenistas -> tenistas.size() == 2
+                    && tenistas.get(0).getNombre().equals("Carlos Alcaraz")
+                    && tenistas.get(1).getNombre().equals("Rafael Nadal")));
+            verify(repository, never()).save(any());
+        }
     }
 
 
     @Nested
     @DisplayName("Casos negativos")
     class CasosNegativos {
+        @Test
+        @DisplayName("importFromCsvReport con fallo de la base de datos devuelve TenistaError.StorageError")
+        void importFromCsvReportConFalloDeBaseDeDatosDevuelveStorageError() throws Exception {
+            when(storage.loadLines("ruta.csv")).thenReturn(List.of("1,Carlos Alcaraz,España,183,74,9000,DIESTRO,2003-05-05"));
+            when(repository.saveAll(anyList())).thenThrow(new IllegalStateException("conexión cerrada"));
+
+            Either<TenistaError.StorageError, ImportReport> result = service.importFromCsvReport("ruta.csv");
+
+            assertAll("Fallo al insertar",
+                    () -> assertTrue(result.isLeft()),
+                    () -> assertTrue(result.getLeft().getMessage().contains("conexión cerrada"))
+            );
+        }
+
         @Test
         @DisplayName("findById inexistente devuelve TenistaError.NotFound")
         void findByIdInexistenteDevuelveError() {
@@ -224,6 +322,21 @@ public class TenistasRailwayServiceImplTest {
             assertInstanceOf(TenistaError.NotFound.class, result.getLeft());
         }
 
+        @Test
+        @DisplayName("findAllById devuelve TenistaError.NotFound solo para los ids inexistentes")
+        void findAllByIdConIdsInexistentesDevuelveNotFound() {
+            when(repository.findAllById(List.of(1L, 99L))).thenReturn(List.of(construirTenistaValido(1)));
+
+            Map<Long, Either<TenistaError.NotFound, Tenista>> result = service.findAllById(List.of(1L, 99L));
+
+            assertAll("Ids inexistentes",
+                    () -> assertEquals(2, result.size()),
+                    () -> assertTrue(result.get(1L).isRight()),
+                    () -> assertTrue(result.get(99L).isLeft()),
+                    () -> assertTrue(result.get(99L).getLeft().getMessage().contains("99"))
+            );
+        }
+
         @Test
         @DisplayName("save con tenista inválido devuelve TenistaError.ValidationError y no llama repo")
         void saveInvalidoDevuelveValidationErrorYNoLlamaRepo() {
@@ -293,5 +406,34 @@ public class TenistasRailwayServiceImplTest {
             assertTrue(result.isLeft());
             assertInstanceOf(TenistaError.StorageError.class, result.getLeft());
         }
+
+        @Test
+        @DisplayName("importFromCsvReport cuando storage falla devuelve TenistaError.StorageError y no guarda")
+        void importFromCsvReportStorageFallaDevuelveError() throws Exception {
+            when(storage.loadLines("datos.csv")).thenThrow(new TenistaException.StorageException("El archivo no existe: datos.csv"));
+
+            Either<TenistaError.StorageError, ImportReport> result = service.importFromCsvReport("datos.csv");
+
+            assertAll("Error de almacenamiento",
+                    () -> assertTrue(result.isLeft()),
+                    () -> assertTrue(result.getLeft().getMessage().contains("no existe"))
+            );
+            verify(repository, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("importFromCsvReport sin filas válidas no llama al repositorio")
+        void importFromCsvReportSinFilasValidasNoGuarda() throws Exception {
+            when(storage.loadLines("datos.csv")).thenReturn(List.of("1,Jugador,España,180,75,1000,DIESTRO," + LocalDate.now().plusDays(1)));
+
+            Either<TenistaError.StorageError, ImportReport> result = service.importFromCsvReport("datos.csv");
+
+            assertAll("Todas rechazadas",
+                    () -> assertTrue(result.isRight()),
+                    () -> assertEquals(0, result.get().aceptadas()),
+                    () -> assertEquals(1, result.get().rechazadas(TenistaError.ValidationError.class).size())
+            );
+            verify(repository, never()).saveAll(anyList());
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,187 @@
+package dev.joseluisgs.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.joseluisgs.errors.TenistaError;
+import dev.joseluisgs.metrics.MetricsSnapshot;
+import dev.joseluisgs.models.Tenista;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de pruebas para TenistasRailwayServiceMetrics.
+ * Comprueba que el decorador devuelve los resultados sin tocarlos y cuenta llamadas, errores por tipo y caché.
+ * Referencia: dev.joseluisgs.service.TenistasRailwayServiceMetrics
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests del decorador de métricas TenistasRailwayServiceMetrics")
+public class TenistasRailwayServiceMetricsTest {
+
+    @Mock
+    TenistasRailwayService delegate;
+
+    private TenistasRailwayServiceMetrics service;
+
+    @BeforeEach
+    void setUp() {
+        // 3 aciertos y 1 fallo de caché
+        CacheStats stats = CacheStats.of(3, 1, 0, 0, 0, 0, 0);
+        service = new TenistasRailwayServiceMetrics(delegate, () -> stats);
+    }
+
+    private Tenista construirTenistaValido(long id) {
+        return Tenista.builder()
+                .id(id)
+                .nombre("Carlos Alcaraz")
+                .pais("España")
+                .altura(183)
+                .peso(74)
+                .puntos(9000)
+                .mano(Tenista.Mano.DIESTRO)
+                .fechaNacimiento(LocalDate.of(2003, 5, 5))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Casos positivos")
+    class CasosPositivos {
+        @Test
+        @DisplayName("devuelve el mismo resultado que el servicio y cuenta la llamada")
+        void devuelveElMismoResultadoYCuentaLaLlamada() {
+            Either<TenistaError.NotFound, Tenista> esperado = Either.right(construirTenistaValido(1));
+            when(delegate.findById(1L)).thenReturn(esperado);
+            when(delegate.findAll()).thenReturn(List.of());
+
+            Either<TenistaError.NotFound, Tenista> result = service.findById(1L);
+            service.findById(1L);
+            service.findAll();
+            MetricsSnapshot snapshot = service.snapshot();
+
+            assertAll("Resultado y llamadas",
+                    () -> assertSame(esperado, result),
+                    () -> assertEquals(2, snapshot.operaciones().get("findById").llamadas()),
+                    () -> assertEquals(0, snapshot.operaciones().get("findById").errores()),
+                    () -> assertEquals(1, snapshot.operaciones().get("findAll").llamadas()),
+                    () -> assertEquals(0, snapshot.operaciones().get("save").llamadas()),
+                    () -> assertTrue(snapshot.operaciones().get("findById").maxMs() >= 0)
+            );
+        }
+
+        @Test
+        @DisplayName("expone las estadísticas de caché del proveedor")
+        void exponeEstadisticasDeCache() {
+            MetricsSnapshot snapshot = service.snapshot();
+
+            assertAll("Caché",
+                    () -> assertEquals(3, snapshot.cacheAciertos()),
+                    () -> assertEquals(1, snapshot.cacheFallos()),
+                    () -> assertEquals(0.75, snapshot.cacheRatio(), 1e-9)
+            );
+        }
+
+        @Test
+        @DisplayName("importFromCsvReport suma las filas rechazadas a los contadores de su tipo")
+        void importFromCsvReportSumaFilasRechazadas() {
+            Map<Class<? extends TenistaError>, List<ImportReport.FilaRechazada>> rechazadas = new LinkedHashMap<>();
+            rechazadas.put(TenistaError.ParseError.class, List.of(
+                    new ImportReport.FilaRechazada(2, new TenistaError.ParseError("Error de conversión: id")),
+                    new ImportReport.FilaRechazada(5, new TenistaError.ParseError("Error de conversión: fecha"))));
+            rechazadas.put(TenistaError.ValidationError.class, List.of(
+                    new ImportReport.FilaRechazada(3, new TenistaError.ValidationError("Error de validación: nombre"))));
+            ImportReport report = new ImportReport("data.csv", 10, 7, rechazadas, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+            when(delegate.importFromCsvReport("data.csv")).thenReturn(Either.right(report));
+
+            service.importFromCsvReport("data.csv");
+            MetricsSnapshot snapshot = service.snapshot();
+
+            assertAll("Filas rechazadas",
+                    () -> assertEquals(2, snapshot.errores("ParseError")),
+                    () -> assertEquals(1, snapshot.errores("ValidationError")),
+                    () -> assertEquals(0, snapshot.operaciones().get("importFromCsvReport").errores())
+            );
+        }
+
+        @Test
+        @DisplayName("toJson vuelca todas las operaciones, errores y la caché")
+        void toJsonVuelcaTodasLasMetricas() {
+            String json = service.snapshot().toJson();
+
+            assertAll("JSON",
+                    () -> assertTrue(json.contains("\"findAllById\"")),
+                    () -> assertTrue(json.contains("\"p99Ms\"")),
+                    () -> assertTrue(json.contains("\"NotFound\" : 0")),
+                    () -> assertTrue(json.contains("\"cacheRatio\" : 0.75"))
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Casos negativos")
+    class CasosNegativos {
+        @Test
+        @DisplayName("cada Left cuenta como error de su tipo y de su operación")
+        void cadaLeftCuentaComoErrorDeSuTipo() {
+            when(delegate.findById(99L)).thenReturn(Either.left(new TenistaError.NotFound("Tenista con ID 99 no encontrado.")));
+            when(delegate.update(any(Tenista.class))).thenReturn(Either.left(new TenistaError.ValidationError("Error de validación: nombre")));
+            when(delegate.exportToJson("x.json")).thenReturn(Either.left(new TenistaError.StorageError("Error de almacenamiento")));
+
+            service.findById(99L);
+            Either<TenistaError, Tenista> update = service.update(construirTenistaValido(1));
+            service.exportToJson("x.json");
+            MetricsSnapshot snapshot = service.snapshot();
+
+            assertAll("Errores por tipo",
+                    () -> assertInstanceOf(TenistaError.ValidationError.class, update.getLeft()),
+                    () -> assertEquals(1, snapshot.errores("NotFound")),
+                    () -> assertEquals(1, snapshot.errores("ValidationError")),
+                    () -> assertEquals(1, snapshot.errores("StorageError")),
+                    () -> assertEquals(0, snapshot.errores("ParseError")),
+                    () -> assertEquals(1, snapshot.operaciones().get("update").errores())
+            );
+        }
+
+        @Test
+        @DisplayName("findAllById cuenta un NotFound por cada id que falta")
+        void findAllByIdCuentaUnNotFoundPorIdQueFalta() {
+            Map<Long, Either<TenistaError.NotFound, Tenista>> resultado = new LinkedHashMap<>();
+            resultado.put(1L, Either.right(construirTenistaValido(1)));
+            resultado.put(98L, Either.left(new TenistaError.NotFound("Tenista con ID 98 no encontrado.")));
+            resultado.put(99L, Either.left(new TenistaError.NotFound("Tenista con ID 99 no encontrado.")));
+            when(delegate.findAllById(List.of(1L, 98L, 99L))).thenReturn(resultado);
+
+            service.findAllById(List.of(1L, 98L, 99L));
+            MetricsSnapshot snapshot = service.snapshot();
+
+            assertAll("Ids que faltan",
+                    () -> assertEquals(2, snapshot.errores("NotFound")),
+                    () -> assertEquals(1, snapshot.operaciones().get("findAllById").llamadas()),
+                    () -> assertEquals(1, snapshot.operaciones().get("findAllById").errores())
+            );
+        }
+
+        @Test
+        @DisplayName("sin proveedor de caché la caché aparece vacía")
+        void sinProveedorDeCacheApareceVacia() {
+            MetricsSnapshot snapshot = new TenistasRailwayServiceMetrics(delegate).snapshot();
+
+            assertAll("Sin caché",
+                    () -> assertEquals(0, snapshot.cacheAciertos()),
+                    () -> assertEquals(0, snapshot.cacheFallos())
+            );
+        }
+    }
+}
\ No newline at end of file
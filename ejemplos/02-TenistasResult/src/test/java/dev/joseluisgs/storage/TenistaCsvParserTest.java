@@ -0,0 +1,100 @@
+package dev.joseluisgs.storage;
+
+import dev.joseluisgs.errors.TenistaError;
+import dev.joseluisgs.models.Tenista;
+import io.vavr.collection.Seq;
+import io.vavr.control.Validation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para TenistaCsvParser.
+ * Comprueba la conversión de líneas de CSV y la acumulación de los errores de formato.
+ * Referencia: dev.joseluisgs.storage.TenistaCsvParser
+ */
+@DisplayName("Tests del parser de líneas CSV TenistaCsvParser")
+public class TenistaCsvParserTest {
+
+    @Nested
+    @DisplayName("Casos positivos")
+    class CasosPositivos {
+        @Test
+        @DisplayName("línea correcta devuelve el tenista con todos los campos")
+        void lineaCorrectaDevuelveTenista() {
+            Validation<Seq<TenistaError.ParseError>, Tenista> resultado =
+                    TenistaCsvParser.parse("1,Rafael Nadal,España,185,85,10000,zurdo,1986-06-03");
+
+            assertTrue(resultado.isValid());
+            Tenista tenista = resultado.get();
+            assertAll("Campos convertidos",
+                    () -> assertEquals(1L, tenista.getId()),
+                    () -> assertEquals("Rafael Nadal", tenista.getNombre()),
+                    () -> assertEquals("España", tenista.getPais()),
+                    () -> assertEquals(185, tenista.getAltura()),
+                    () -> assertEquals(85, tenista.getPeso()),
+                    () -> assertEquals(10000, tenista.getPuntos()),
+                    () -> assertEquals(Tenista.Mano.ZURDO, tenista.getMano()),
+                    () -> assertEquals(LocalDate.of(1986, 6, 3), tenista.getFechaNacimiento())
+            );
+        }
+
+        @Test
+        @DisplayName("valores fuera de las reglas de negocio no son errores de formato")
+        void valoresFueraDeReglasNoSonErroresDeFormato() {
+            Validation<Seq<TenistaError.ParseError>, Tenista> resultado =
+                    TenistaCsvParser.parse("1, ,España,0,85,-5,DIESTRO,2999-01-01");
+
+            assertAll("Formato correcto",
+                    () -> assertTrue(resultado.isValid()),
+                    () -> assertEquals(-5, resultado.get().getPuntos())
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Casos negativos")
+    class CasosNegativos {
+        @Test
+        @DisplayName("acumula los errores de todos los campos mal escritos")
+        void acumulaErroresDeTodosLosCampos() {
+            Validation<Seq<TenistaError.ParseError>, Tenista> resultado =
+                    TenistaCsvParser.parse("x,Jugador,España,18a,75,1000,AMBIDIESTRO,1990-02-30");
+
+            assertAll("Errores acumulados",
+                    () -> assertTrue(resultado.isInvalid()),
+                    () -> assertEquals(4, resultado.getError().size()),
+                    () -> assertTrue(resultado.getError().get(0).getMessage().contains("id")),
+                    () -> assertTrue(resultado.getError().get(1).getMessage().contains("altura")),
+                    () -> assertTrue(resultado.getError().get(2).getMessage().contains("mano")),
+                    () -> assertTrue(resultado.getError().get(3).getMessage().contains("fecha"))
+            );
+        }
+
+        @Test
+        @DisplayName("número de campos distinto de 8 devuelve un único error")
+        void numeroDeCamposIncorrectoDevuelveUnError() {
+            Validation<Seq<TenistaError.ParseError>, Tenista> resultado = TenistaCsvParser.parse("1,Jugador,España");
+
+            assertAll("Campos que faltan",
+                    () -> assertTrue(resultado.isInvalid()),
+                    () -> assertEquals(1, resultado.getError().size()),
+                    () -> assertTrue(resultado.getError().head().getMessage().contains("campos"))
+            );
+        }
+
+        @Test
+        @DisplayName("números vacíos o demasiado grandes son errores de formato")
+        void numerosVaciosODemasiadoGrandesSonErrores() {
+            assertAll("Números no válidos",
+                    () -> assertTrue(TenistaCsvParser.parse("1,Jugador,España,,75,1000,DIESTRO,1990-01-01").isInvalid()),
+                    () -> assertTrue(TenistaCsvParser.parse("1,Jugador,España,180,75,99999999999,DIESTRO,1990-01-01").isInvalid()),
+                    () -> assertTrue(TenistaCsvParser.parse("1,Jugador,España,180,75,-,DIESTRO,1990-01-01").isInvalid())
+            );
+        }
+    }
+}
\ No newline at end of file
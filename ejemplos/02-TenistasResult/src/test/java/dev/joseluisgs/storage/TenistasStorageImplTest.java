@@ -94,6 +94,19 @@ public class TenistasStorageImplTest {
             );
         }
 
+        @Test
+        @DisplayName("cargar líneas devuelve las filas sin la cabecera y sin convertir")
+        void cargarLineasDevuelveFilasSinCabecera() throws Exception {
+            TenistasStorageImpl storage = crearStorage();
+            String lineaValida = "10,Jugador Valido,España,180,75,1000,DIESTRO,1990-01-01";
+            String lineaMala = "11,Jugador Malo,España,18a,75,1000,MANO_RARA,1990-01-01";
+            String ruta = crearCsvTemporal("lineas.csv", List.of(cabeceraCsv().get(0), lineaValida, lineaMala));
+
+            List<String> lineas = storage.loadLines(ruta);
+
+            assertEquals(List.of(lineaValida, lineaMala), lineas);
+        }
+
         @Test
         @DisplayName("guardar json válido devuelve el número y escribe contenido")
         void guardarJsonValidoDevuelveNumeroYEscribeContenido() throws Exception {
@@ -149,7 +162,7 @@ public class TenistasStorageImplTest {
         @DisplayName("cargar csv con formato inválido lanza TenistaException.StorageException")
         void cargarCsvConFormatoInvalidoLanzaExcepcion() throws Exception {
             TenistasStorageImpl storage = crearStorage();
-            // Mano inválida provoca IllegalArgumentException en valueOf -> capturado por catch(Exception)
+            // Mano inválida: TenistaCsvParser devuelve un ParseError
             String lineaMala = "1,Jugador Malo,España,180,75,1000,MANO_RARA,1990-01-01";
             String ruta = crearCsvTemporal("mal.csv", List.of(
                     cabeceraCsv().get(0),
@@ -158,6 +171,20 @@ public class TenistasStorageImplTest {
             assertThrows(TenistaException.StorageException.class, () -> storage.loadData(ruta));
         }
 
+        @Test
+        @DisplayName("cargar csv con un campo de más lanza la misma excepción que TenistaCsvParser")
+        void cargarCsvConCampoDeMasLanzaExcepcion() throws Exception {
+            TenistasStorageImpl storage = crearStorage();
+            // Con split(",") la coma final se ignoraba; el parser compartido la cuenta como noveno campo
+            String ruta = crearCsvTemporal("coma-final.csv", List.of(
+                    cabeceraCsv().get(0),
+                    "1,Carlos Alcaraz,España,183,74,9000,DIESTRO,2003-05-05,"
+            ));
+
+            TenistaException.StorageException ex = assertThrows(TenistaException.StorageException.class, () -> storage.loadData(ruta));
+            assertTrue(ex.getMessage().contains("se esperaban 8 campos y hay 9"));
+        }
+
         @Test
         @DisplayName("cargar csv que produce IOException lanza TenistaException.StorageException")
         void cargarCsvQueProduceIOExceptionLanzaExcepcion() throws Exception {
@@ -1,7 +1,11 @@
 package dev.joseluisgs.validator;
 
+import dev.joseluisgs.errors.TenistaError;
 import dev.joseluisgs.exceptions.TenistaException;
 import dev.joseluisgs.models.Tenista;
+import io.vavr.collection.Seq;
+import io.vavr.control.Either;
+import io.vavr.control.Validation;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -42,6 +46,32 @@ public class TenistaValidatorTest {
             Tenista tenista = construirTenistaValido();
             assertDoesNotThrow(() -> TenistaValidator.validate(tenista));
         }
+
+        @Test
+        @DisplayName("validarTodo con tenista válido devuelve Validation válida")
+        void validarTodoTenistaValidoDevuelveValid() {
+            Tenista tenista = construirTenistaValido();
+
+            Validation<Seq<TenistaError.ValidationError>, Tenista> resultado = TenistaValidator.validarTodo(tenista);
+
+            assertAll("Tenista válido",
+                    () -> assertTrue(resultado.isValid()),
+                    () -> assertSame(tenista, resultado.get())
+            );
+        }
+
+        @Test
+        @DisplayName("validar tenista válido devuelve Either.right con el mismo tenista")
+        void validarTenistaValidoDevuelveRight() {
+            Tenista tenista = construirTenistaValido();
+
+            Either<TenistaError.ValidationError, Tenista> resultado = TenistaValidator.validar(tenista);
+
+            assertAll("Tenista válido",
+                    () -> assertTrue(resultado.isRight()),
+                    () -> assertSame(tenista, resultado.get())
+            );
+        }
     }
 
     @Nested
@@ -172,5 +202,66 @@ public class TenistaValidatorTest {
                     () -> TenistaValidator.validate(tenista));
             assertTrue(ex.getMessage().contains("futura"));
         }
+
+        @Test
+        @DisplayName("validar tenista inválido devuelve Either.left con el mismo mensaje que validate")
+        void validarTenistaInvalidoDevuelveLeft() {
+            Tenista tenista = construirTenistaValido();
+            tenista.setPuntos(-5);
+
+            Either<TenistaError.ValidationError, Tenista> resultado = TenistaValidator.validar(tenista);
+            TenistaException.ValidationException ex = assertThrows(TenistaException.ValidationException.class,
+                    () -> TenistaValidator.validate(tenista));
+
+            assertAll("Tenista inválido",
+                    () -> assertTrue(resultado.isLeft()),
+                    () -> assertEquals("Error de validación: " + ex.getMessage(), resultado.getLeft().getMessage())
+            );
+        }
+
+        @Test
+        @DisplayName("validarTodo acumula los errores de todas las reglas incumplidas")
+        void validarTodoAcumulaErrores() {
+            Tenista tenista = construirTenistaValido();
+            tenista.setNombre("");
+            tenista.setAltura(0);
+            tenista.setFechaNacimiento(null);
+
+            Validation<Seq<TenistaError.ValidationError>, Tenista> resultado = TenistaValidator.validarTodo(tenista);
+
+            assertAll("Errores acumulados",
+                    () -> assertTrue(resultado.isInvalid()),
+                    () -> assertEquals(3, resultado.getError().size()),
+                    () -> assertSame(TenistaValidator.validar(tenista).getLeft(), resultado.getError().head()),
+                    () -> assertTrue(resultado.getError().last().getMessage().contains("fecha de nacimiento"))
+            );
+        }
+
+        @Test
+        @DisplayName("validar nulo devuelve Either.left sin lanzar")
+        void validarNuloDevuelveLeft() {
+            Either<TenistaError.ValidationError, Tenista> resultado = assertDoesNotThrow(() -> TenistaValidator.validar(null));
+
+            assertAll("Tenista nulo",
+                    () -> assertTrue(resultado.isLeft()),
+                    () -> assertTrue(resultado.getLeft().getMessage().contains("nulo"))
+            );
+        }
+
+        @Test
+        @DisplayName("validar reutiliza el mismo error para la misma regla")
+        void validarReutilizaElErrorDeCadaRegla() {
+            Tenista sinNombre = construirTenistaValido();
+            sinNombre.setNombre(" ");
+            Tenista otroSinNombre = construirTenistaValido();
+            otroSinNombre.setNombre(null);
+            Tenista sinPais = construirTenistaValido();
+            sinPais.setPais("");
+
+            assertAll("Errores precreados",
+                    () -> assertSame(TenistaValidator.validar(sinNombre).getLeft(), TenistaValidator.validar(otroSinNombre).getLeft()),
+                    () -> assertNotSame(TenistaValidator.validar(sinNombre).getLeft(), TenistaValidator.validar(sinPais).getLeft())
+            );
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package dev.joseluisgs.fixtures;
+
+import dev.joseluisgs.models.Tenista;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Datos de prueba compartidos por los tests y los benchmarks: tenistas generados a partir de su posición.
+ * Todos los tenistas generados son válidos y tienen una clave natural (nombre, fecha de nacimiento) distinta.
+ * <p>
+ * Autor: JoseLuisGS
+ *
+ * @see dev.joseluisgs.models.Tenista
+ * @see dev.joseluisgs.validator.TenistaValidator
+ */
+public final class TenistasFixtures {
+
+    private static final String[] PAISES = {"España", "Serbia"};
+    private static final LocalDate PRIMER_NACIMIENTO = LocalDate.of(1980, 1, 1);
+
+    private TenistasFixtures() {
+    }
+
+    /**
+     * Crea el tenista número i, sin id. Si no se indican países alterna entre España y Serbia.
+     *
+     * @param i      Posición del tenista; determina su nombre y el resto de atributos
+     * @param paises Países entre los que se reparte, en orden
+     * @return Tenista nuevo con id Tenista.NEW_TENISTA_ID
+     */
+    public static Tenista tenista(int i, String... paises) {
+        String[] lista = paises.length == 0 ? PAISES : paises;
+        return Tenista.builder()
+                .id(Tenista.NEW_TENISTA_ID)
+                .nombre("Jugador " + i)
+                .pais(lista[i % lista.length])
+                .altura(170 + i % 30)
+                .peso(65 + i % 25)
+                .puntos(i % 10_000)
+                .mano(i % 3 == 0 ? Tenista.Mano.ZURDO : Tenista.Mano.DIESTRO)
+                .fechaNacimiento(PRIMER_NACIMIENTO.plusDays(i % 10_000))
+                .build();
+    }
+
+    /**
+     * Genera tenistas con ids consecutivos desde 1, como si ya estuvieran guardados.
+     *
+     * @param total  Número de tenistas
+     * @param paises Países entre los que se reparten, en orden
+     * @return Lista modificable con los tenistas 0 a total - 1
+     */
+    public static List<Tenista> generarTenistasConId(int total, String... paises) {
+        List<Tenista> tenistas = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            Tenista tenista = tenista(i, paises);
+            tenista.setId(i + 1);
+            tenistas.add(tenista);
+        }
+        return tenistas;
+    }
+}
\ No newline at end of file